@@ -0,0 +1,128 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secondary index of the keys of an account cache, grouped by the service
+ * interface they belong to. Each group also keeps a generation counter which
+ * is increased on every invalidation, so a value loaded before an
+ * invalidation is never stored after it.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+class CacheGroupIndex {
+
+	private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, String> keyGroups = new ConcurrentHashMap<>();
+
+	private Group getGroup(String groupKey) {
+		Group group = groups.get(groupKey);
+		if (group == null) {
+			Group newGroup = new Group();
+			group = groups.putIfAbsent(groupKey, newGroup);
+			if (group == null) {
+				group = newGroup;
+			}
+		}
+		return group;
+	}
+
+	long getGeneration(String groupKey) {
+		return getGroup(groupKey).generation.get();
+	}
+
+	/**
+	 * 
+	 * @param groupKey
+	 * @param key
+	 * @param generation
+	 * @return false if the group was invalidated since
+	 *         <code>generation</code> was read
+	 */
+	boolean addKey(String groupKey, String key, long generation) {
+		Group group = getGroup(groupKey);
+		if (group.generation.get() != generation) {
+			return false;
+		}
+		group.keys.add(key);
+		keyGroups.put(key, groupKey);
+		return true;
+	}
+
+	boolean isValid(String groupKey, long generation) {
+		return getGroup(groupKey).generation.get() == generation;
+	}
+
+	/**
+	 * Increase the generation of the group and detach all of its keys.
+	 * 
+	 * @param groupKey
+	 * @return the keys must be removed from the cache
+	 */
+	Set<String> invalidate(String groupKey) {
+		Group group = groups.get(groupKey);
+		if (group == null) {
+			return Collections.emptySet();
+		}
+
+		group.generation.incrementAndGet();
+		Set<String> removedKeys = new HashSet<>();
+		for (String key : group.keys) {
+			if (group.keys.remove(key)) {
+				keyGroups.remove(key, groupKey);
+				removedKeys.add(key);
+			}
+		}
+		return removedKeys;
+	}
+
+	/**
+	 * Forget the key after the cache evicted or removed it.
+	 * 
+	 * @param key
+	 */
+	void removeKey(String key) {
+		String groupKey = keyGroups.remove(key);
+		if (groupKey != null) {
+			Group group = groups.get(groupKey);
+			if (group != null) {
+				group.keys.remove(key);
+			}
+		}
+	}
+
+	int size() {
+		return keyGroups.size();
+	}
+
+	private static class Group {
+		private final AtomicLong generation = new AtomicLong();
+
+		private final Set<String> keys = Collections
+				.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+	}
+}
@@ -0,0 +1,37 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+/**
+ * Broadcasts cache invalidations to the other MyCollab nodes sharing the same
+ * database. A node receiving an invalidation applies it with
+ * {@link CacheUtils#cleanLocalCache(Integer, String)}.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public interface CacheInvalidationTransport {
+
+	/**
+	 * 
+	 * @param accountId
+	 * @param groupKey
+	 *            the service interface name of the cached values
+	 */
+	void publish(Integer accountId, String groupKey);
+}
@@ -0,0 +1,71 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit, miss and eviction counters of a cached service method.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class CacheMetrics {
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	public void recordHit() {
+		hits.incrementAndGet();
+	}
+
+	public void recordMiss() {
+		misses.incrementAndGet();
+	}
+
+	public void recordEviction() {
+		evictions.incrementAndGet();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	public double getHitRatio() {
+		long hitCount = hits.get();
+		long total = hitCount + misses.get();
+		return (total == 0) ? 0 : (double) hitCount / total;
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + getHits() + ", misses=" + getMisses()
+				+ ", evictions=" + getEvictions();
+	}
+}
@@ -18,10 +18,11 @@ package com.esofthead.mycollab.cache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.esofthead.mycollab.core.persistence.service.IService;
 import com.esofthead.mycollab.core.utils.ClassUtils;
-import com.esofthead.mycollab.core.utils.JsonDeSerializer;
 
 /**
  * 
@@ -32,8 +33,27 @@ import com.esofthead.mycollab.core.utils.JsonDeSerializer;
 public class CacheUtils {
 	private static final Logger LOG = LoggerFactory.getLogger(CacheUtils.class);
 
-	public static String constructParamsKey(Object[] args) {
-		return JsonDeSerializer.toJson(args);
+	private static volatile CacheInvalidationTransport invalidationTransport;
+
+	/**
+	 * 
+	 * @param transport
+	 *            the transport broadcasting invalidations to the other nodes,
+	 *            or null to invalidate caches of this node only
+	 */
+	public static void setInvalidationTransport(
+			CacheInvalidationTransport transport) {
+		invalidationTransport = transport;
+	}
+
+	/**
+	 * 
+	 * @param args
+	 * @return the hashed key of method parameters <code>args</code>
+	 * @see ParamsKeyBuilder
+	 */
+	public static ParamsKey constructParamsKey(Object[] args) {
+		return ParamsKeyBuilder.build(args);
 	}
 
 	public static Class<?> getEnclosingServiceInterface(Class<?> serviceClass) {
@@ -47,9 +67,46 @@ public class CacheUtils {
 		return getEnclosingServiceInterface(serviceClass).getName();
 	}
 
-	public static void cleanCache(Integer accountId, String prefixKey) {
+	/**
+	 * Remove the cached values of group <code>prefixKey</code>. When called in
+	 * a transaction, the values are removed again once it completes, so values
+	 * read by other threads before the commit do not stay in the cache. The
+	 * invalidation is also sent to the other nodes in cluster mode.
+	 * 
+	 * @param accountId
+	 * @param prefixKey
+	 */
+	public static void cleanCache(final Integer accountId,
+			final String prefixKey) {
 		LOG.debug("Remove cache account {}  and key {}", accountId, prefixKey);
 		LocalCacheManager.removeCacheItems(accountId.toString(), prefixKey);
+
+		CacheInvalidationTransport transport = invalidationTransport;
+		if (transport != null) {
+			transport.publish(accountId, prefixKey);
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager
+					.registerSynchronization(new TransactionSynchronizationAdapter() {
+						@Override
+						public void afterCompletion(int status) {
+							LocalCacheManager.removeCacheItems(
+									accountId.toString(), prefixKey);
+						}
+					});
+		}
+	}
+
+	/**
+	 * Remove the cached values of group <code>prefixKey</code> in this node
+	 * only.
+	 * 
+	 * @param accountId
+	 * @param prefixKey
+	 */
+	public static void cleanLocalCache(Integer accountId, String prefixKey) {
+		LocalCacheManager.removeCacheItems(accountId.toString(), prefixKey);
 	}
 
 	public static void cleanCaches(Integer accountId, Class<?>... classes) {
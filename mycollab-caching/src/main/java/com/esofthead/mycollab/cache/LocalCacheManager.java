@@ -18,12 +18,17 @@ package com.esofthead.mycollab.cache;
 
 import java.io.InputStream;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
 import org.infinispan.commons.api.BasicCache;
 import org.infinispan.context.Flag;
 import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntriesEvicted;
+import org.infinispan.notifications.cachelistener.event.CacheEntriesEvictedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +46,8 @@ public class LocalCacheManager {
 
 	private static DefaultCacheManager instance;
 
+	private static final ConcurrentMap<String, CacheGroupIndex> groupIndexes = new ConcurrentHashMap<>();
+
 	static {
 		try {
 			InputStream configInputStream;
@@ -79,17 +86,95 @@ public class LocalCacheManager {
 		return instance;
 	}
 
+	private static CacheGroupIndex getGroupIndex(String id) {
+		CacheGroupIndex index = groupIndexes.get(id);
+		if (index == null) {
+			CacheGroupIndex newIndex = new CacheGroupIndex();
+			index = groupIndexes.putIfAbsent(id, newIndex);
+			if (index == null) {
+				index = newIndex;
+				Cache<String, Object> cache = instance.getCache(id);
+				cache.addListener(new GroupIndexListener(index));
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * 
+	 * @param id
+	 * @param groupKey
+	 * @return the current generation of the group. It must be read before
+	 *         loading the value passed to
+	 *         {@link #putCacheItem(String, String, String, Object, long)}
+	 */
+	public static long getCacheGroupGeneration(String id, String groupKey) {
+		return getGroupIndex(id).getGeneration(groupKey);
+	}
+
+	/**
+	 * Put the value to the cache <code>id</code> and index its key under
+	 * <code>groupKey</code>. The value is discarded if the group has been
+	 * invalidated since <code>generation</code> was read.
+	 * 
+	 * @param id
+	 * @param groupKey
+	 * @param key
+	 * @param value
+	 * @param generation
+	 * @return true if the value is cached
+	 */
+	public static boolean putCacheItem(String id, String groupKey, String key,
+			Object value, long generation) {
+		CacheGroupIndex index = getGroupIndex(id);
+		if (!index.addKey(groupKey, key, generation)) {
+			return false;
+		}
+
+		BasicCache<String, Object> cache = getCache(id);
+		cache.put(key, value);
+		if (!index.isValid(groupKey, generation)) {
+			cache.remove(key);
+			return false;
+		}
+		return true;
+	}
+
 	static void removeCacheItems(String id, String prefixKey) {
-		BasicCache<String, Object> cache = instance.getCache(id);
-		LOG.debug("Remove cache has prefix {} in group {}", prefixKey, id);
-		Set<String> keys = cache.keySet();
-		if (CollectionUtils.isNotEmpty(keys)) {
-
-			String[] keyArr = keys.toArray(new String[0]);
-			for (int i = 0; i < keyArr.length; i++) {
-				if (keyArr[i].startsWith(prefixKey)) {
-					LOG.debug("Remove cache key {}", keyArr[i]);
-					cache.remove(keyArr[i]);
+		CacheGroupIndex index = groupIndexes.get(id);
+		if (index == null) {
+			return;
+		}
+
+		Set<String> keys = index.invalidate(prefixKey);
+		if (!keys.isEmpty()) {
+			LOG.debug("Remove {} cache keys of group {} in cache {}",
+					keys.size(), prefixKey, id);
+			BasicCache<String, Object> cache = getCache(id);
+			for (String key : keys) {
+				cache.remove(key);
+			}
+		}
+	}
+
+	@Listener
+	public static class GroupIndexListener {
+		private final CacheGroupIndex index;
+
+		GroupIndexListener(CacheGroupIndex index) {
+			this.index = index;
+		}
+
+		/**
+		 * Keep the index bounded when entries are evicted by LRU. A key put
+		 * again while being evicted stays indexed.
+		 */
+		@CacheEntriesEvicted
+		public void entriesEvicted(CacheEntriesEvictedEvent<String, Object> event) {
+			Cache<String, Object> cache = event.getCache();
+			for (String key : event.getEntries().keySet()) {
+				if (!cache.containsKey(key)) {
+					index.removeKey(key);
 				}
 			}
 		}
@@ -0,0 +1,92 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Cache key of method parameters. It holds the 128-bit hash of the encoded
+ * parameters for fast lookup, and the encoded bytes themselves so two
+ * different parameter lists with the same hash are never equal.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public final class ParamsKey implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final long hash1;
+
+	private final long hash2;
+
+	private final byte[] data;
+
+	ParamsKey(long hash1, long hash2, byte[] data) {
+		this.hash1 = hash1;
+		this.hash2 = hash2;
+		this.data = data;
+	}
+
+	/**
+	 * 
+	 * @return the 128-bit hash as a 32 characters hexadecimal string
+	 */
+	public String getHash() {
+		char[] chars = new char[32];
+		writeHex(chars, 0, hash1);
+		writeHex(chars, 16, hash2);
+		return new String(chars);
+	}
+
+	private static void writeHex(char[] chars, int offset, long value) {
+		for (int i = 15; i >= 0; i--) {
+			chars[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
+
+	public int length() {
+		return data.length;
+	}
+
+	@Override
+	public int hashCode() {
+		return (int) (hash1 ^ (hash1 >>> 32));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ParamsKey)) {
+			return false;
+		}
+		ParamsKey other = (ParamsKey) obj;
+		return hash1 == other.hash1 && hash2 == other.hash2
+				&& Arrays.equals(data, other.data);
+	}
+
+	@Override
+	public String toString() {
+		return getHash();
+	}
+}
@@ -0,0 +1,310 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.core.utils.JsonDeSerializer;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Build {@link ParamsKey} from method parameters. Each parameter is written
+ * into a reusable per-thread buffer with a compact binary encoding; fields of
+ * bean parameters such as search criteria are read by accessors computed once
+ * per class. Fields excluded from json serialization by
+ * {@link JsonDeSerializer.Exclude} are excluded from the key as well.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class ParamsKeyBuilder {
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+	private static final int MAX_DEPTH = 16;
+
+	private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte INTEGER = 2;
+	private static final byte LONG = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte BOOLEAN = 5;
+	private static final byte DATE = 6;
+	private static final byte ENUM = 7;
+	private static final byte COLLECTION = 8;
+	private static final byte SET = 9;
+	private static final byte MAP = 10;
+	private static final byte ARRAY = 11;
+	private static final byte BEAN = 12;
+	private static final byte OTHER = 13;
+
+	private static final ConcurrentMap<Class<?>, Field[]> fieldAccessors = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<KeyBuffer> buffers = new ThreadLocal<KeyBuffer>() {
+		@Override
+		protected KeyBuffer initialValue() {
+			return new KeyBuffer(512);
+		}
+	};
+
+	private static final Comparator<byte[]> BYTES_COMPARATOR = new Comparator<byte[]>() {
+		@Override
+		public int compare(byte[] o1, byte[] o2) {
+			int length = Math.min(o1.length, o2.length);
+			for (int i = 0; i < length; i++) {
+				if (o1[i] != o2[i]) {
+					return o1[i] - o2[i];
+				}
+			}
+			return o1.length - o2.length;
+		}
+	};
+
+	public static ParamsKey build(Object[] args) {
+		KeyBuffer buffer = buffers.get();
+		buffer.reset();
+		if (args != null) {
+			buffer.writeInt(args.length);
+			for (Object arg : args) {
+				write(buffer, arg, 0);
+			}
+		}
+
+		byte[] hash = HASH_FUNCTION.hashBytes(buffer.bytes, 0, buffer.size)
+				.asBytes();
+		ByteBuffer hashBuffer = ByteBuffer.wrap(hash).order(
+				ByteOrder.LITTLE_ENDIAN);
+		return new ParamsKey(hashBuffer.getLong(), hashBuffer.getLong(),
+				buffer.toByteArray());
+	}
+
+	private static void write(KeyBuffer buffer, Object value, int depth) {
+		if (value == null) {
+			buffer.writeByte(NULL);
+		} else if (value instanceof String) {
+			buffer.writeByte(STRING);
+			buffer.writeString((String) value);
+		} else if (value instanceof Integer || value instanceof Short
+				|| value instanceof Byte) {
+			buffer.writeByte(INTEGER);
+			buffer.writeInt(((Number) value).intValue());
+		} else if (value instanceof Long) {
+			buffer.writeByte(LONG);
+			buffer.writeLong((Long) value);
+		} else if (value instanceof Double || value instanceof Float) {
+			buffer.writeByte(DOUBLE);
+			buffer.writeLong(Double.doubleToLongBits(((Number) value)
+					.doubleValue()));
+		} else if (value instanceof Boolean) {
+			buffer.writeByte(BOOLEAN);
+			buffer.writeByte((Boolean) value ? (byte) 1 : (byte) 0);
+		} else if (value instanceof Date) {
+			buffer.writeByte(DATE);
+			buffer.writeLong(((Date) value).getTime());
+		} else if (value instanceof Enum) {
+			buffer.writeByte(ENUM);
+			buffer.writeString(((Enum<?>) value).getDeclaringClass().getName());
+			buffer.writeInt(((Enum<?>) value).ordinal());
+		} else if (value instanceof Number || value instanceof Character
+				|| value instanceof Class) {
+			buffer.writeByte(OTHER);
+			buffer.writeString(value.getClass().getName());
+			buffer.writeString(value instanceof Class ? ((Class<?>) value)
+					.getName() : value.toString());
+		} else if (depth >= MAX_DEPTH) {
+			throw new MyCollabException(
+					"Can not build cache key of too deep parameter "
+							+ value.getClass().getName());
+		} else if (value instanceof Set) {
+			writeSet(buffer, (Set<?>) value, depth);
+		} else if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			buffer.writeByte(COLLECTION);
+			buffer.writeInt(collection.size());
+			for (Object item : collection) {
+				write(buffer, item, depth + 1);
+			}
+		} else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			buffer.writeByte(MAP);
+			buffer.writeInt(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				write(buffer, entry.getKey(), depth + 1);
+				write(buffer, entry.getValue(), depth + 1);
+			}
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			buffer.writeByte(ARRAY);
+			buffer.writeInt(length);
+			for (int i = 0; i < length; i++) {
+				write(buffer, Array.get(value, i), depth + 1);
+			}
+		} else {
+			Class<?> cls = value.getClass();
+			buffer.writeByte(BEAN);
+			buffer.writeString(cls.getName());
+			try {
+				for (Field field : getFieldAccessors(cls)) {
+					write(buffer, field.get(value), depth + 1);
+				}
+			} catch (IllegalAccessException e) {
+				throw new MyCollabException(e);
+			}
+		}
+	}
+
+	/**
+	 * Set items are written in a canonical order so equal sets give the same
+	 * key regardless of their iteration order.
+	 */
+	private static void writeSet(KeyBuffer buffer, Set<?> set, int depth) {
+		buffer.writeByte(SET);
+		buffer.writeInt(set.size());
+		if (set.size() == 1) {
+			write(buffer, set.iterator().next(), depth + 1);
+			return;
+		}
+
+		List<byte[]> items = new ArrayList<>(set.size());
+		KeyBuffer itemBuffer = new KeyBuffer(64);
+		for (Object item : set) {
+			itemBuffer.reset();
+			write(itemBuffer, item, depth + 1);
+			items.add(itemBuffer.toByteArray());
+		}
+		Collections.sort(items, BYTES_COMPARATOR);
+		for (byte[] item : items) {
+			buffer.writeBytes(item);
+		}
+	}
+
+	private static Field[] getFieldAccessors(Class<?> cls) {
+		Field[] fields = fieldAccessors.get(cls);
+		if (fields == null) {
+			List<Field> fieldList = new ArrayList<>();
+			for (Class<?> current = cls; current != null
+					&& current != Object.class; current = current
+					.getSuperclass()) {
+				List<Field> declaredFields = new ArrayList<>();
+				for (Field field : current.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers)
+							|| Modifier.isTransient(modifiers)
+							|| field.isSynthetic()
+							|| field.getAnnotation(JsonDeSerializer.Exclude.class) != null) {
+						continue;
+					}
+					field.setAccessible(true);
+					declaredFields.add(field);
+				}
+				Collections.sort(declaredFields,
+						new Comparator<Field>() {
+							@Override
+							public int compare(Field o1, Field o2) {
+								return o1.getName().compareTo(o2.getName());
+							}
+						});
+				fieldList.addAll(declaredFields);
+			}
+			fields = fieldList.toArray(new Field[fieldList.size()]);
+			fieldAccessors.putIfAbsent(cls, fields);
+		}
+		return fields;
+	}
+
+	private static class KeyBuffer {
+		private byte[] bytes;
+
+		private int size;
+
+		KeyBuffer(int capacity) {
+			bytes = new byte[capacity];
+		}
+
+		void reset() {
+			size = 0;
+			if (bytes.length > MAX_RETAINED_BUFFER) {
+				bytes = new byte[512];
+			}
+		}
+
+		private void ensureCapacity(int extra) {
+			if (size + extra > bytes.length) {
+				bytes = Arrays.copyOf(bytes,
+						Math.max(bytes.length << 1, size + extra));
+			}
+		}
+
+		void writeByte(byte value) {
+			ensureCapacity(1);
+			bytes[size++] = value;
+		}
+
+		void writeInt(int value) {
+			ensureCapacity(4);
+			bytes[size++] = (byte) (value >>> 24);
+			bytes[size++] = (byte) (value >>> 16);
+			bytes[size++] = (byte) (value >>> 8);
+			bytes[size++] = (byte) value;
+		}
+
+		void writeLong(long value) {
+			writeInt((int) (value >>> 32));
+			writeInt((int) value);
+		}
+
+		void writeString(String value) {
+			int length = value.length();
+			writeInt(length);
+			ensureCapacity(length << 1);
+			for (int i = 0; i < length; i++) {
+				char ch = value.charAt(i);
+				bytes[size++] = (byte) (ch >>> 8);
+				bytes[size++] = (byte) ch;
+			}
+		}
+
+		void writeBytes(byte[] value) {
+			ensureCapacity(value.length);
+			System.arraycopy(value, 0, bytes, size, value.length);
+			size += value.length;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(bytes, size);
+		}
+	}
+}
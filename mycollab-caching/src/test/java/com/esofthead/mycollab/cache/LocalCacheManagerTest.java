@@ -0,0 +1,65 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.infinispan.commons.api.BasicCache;
+import org.junit.Test;
+
+public class LocalCacheManagerTest {
+
+	@Test
+	public void testRemoveCacheItemsOfGroup() {
+		String id = "cache-test-1";
+		String bugGroup = "com.esofthead.mycollab.module.tracker.service.BugService";
+		String taskGroup = "com.esofthead.mycollab.module.project.service.ProjectTaskService";
+
+		long bugGeneration = LocalCacheManager.getCacheGroupGeneration(id,
+				bugGroup);
+		long taskGeneration = LocalCacheManager.getCacheGroupGeneration(id,
+				taskGroup);
+		for (int i = 0; i < 100; i++) {
+			LocalCacheManager.putCacheItem(id, bugGroup, bugGroup + "-" + i,
+					i, bugGeneration);
+			LocalCacheManager.putCacheItem(id, taskGroup, taskGroup + "-" + i,
+					i, taskGeneration);
+		}
+
+		LocalCacheManager.removeCacheItems(id, bugGroup);
+
+		BasicCache<String, Object> cache = LocalCacheManager.getCache(id);
+		assertThat(cache.get(bugGroup + "-1")).isNull();
+		assertThat(cache.get(taskGroup + "-1")).isEqualTo(1);
+	}
+
+	@Test
+	public void testDiscardValueLoadedBeforeInvalidation() {
+		String id = "cache-test-2";
+		String group = "com.esofthead.mycollab.module.project.service.ProjectService";
+
+		long generation = LocalCacheManager
+				.getCacheGroupGeneration(id, group);
+		LocalCacheManager.removeCacheItems(id, group);
+
+		assertThat(
+				LocalCacheManager.putCacheItem(id, group, group + "-findById",
+						"stale", generation)).isFalse();
+		assertThat(LocalCacheManager.getCache(id).get(group + "-findById"))
+				.isNull();
+	}
+}
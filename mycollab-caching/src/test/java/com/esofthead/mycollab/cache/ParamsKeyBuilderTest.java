@@ -0,0 +1,78 @@
+/**
+ * This file is part of mycollab-caching.
+ *
+ * mycollab-caching is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-caching is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-caching.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchCriteria;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SetSearchField;
+import com.esofthead.mycollab.core.arguments.StringSearchField;
+
+public class ParamsKeyBuilderTest {
+
+	@Test
+	public void testEqualCriteriaGiveEqualKeys() {
+		ParamsKey key1 = ParamsKeyBuilder.build(new Object[] {
+				new SearchRequest<>(newCriteria(1, "summary", 1, 2, 3), 1, 25),
+				1 });
+		ParamsKey key2 = ParamsKeyBuilder.build(new Object[] {
+				new SearchRequest<>(newCriteria(1, "summary", 3, 2, 1), 1, 25),
+				1 });
+
+		assertThat(key1).isEqualTo(key2);
+		assertThat(key1.getHash()).isEqualTo(key2.getHash());
+	}
+
+	@Test
+	public void testDifferentCriteriaGiveDifferentKeys() {
+		ParamsKey key1 = ParamsKeyBuilder
+				.build(new Object[] { newCriteria(1, "summary", 1) });
+		ParamsKey key2 = ParamsKeyBuilder
+				.build(new Object[] { newCriteria(2, "summary", 1) });
+		ParamsKey key3 = ParamsKeyBuilder
+				.build(new Object[] { newCriteria(1, "summary 2", 1) });
+		ParamsKey key4 = ParamsKeyBuilder.build(new Object[] {
+				newCriteria(1, "summary", 1), null });
+
+		assertThat(key1).isNotEqualTo(key2).isNotEqualTo(key3)
+				.isNotEqualTo(key4);
+		assertThat(key1.getHash()).isNotEqualTo(key2.getHash());
+	}
+
+	private static TestSearchCriteria newCriteria(int projectId,
+			String summary, Integer... statuses) {
+		TestSearchCriteria criteria = new TestSearchCriteria();
+		criteria.projectId = new NumberSearchField(projectId);
+		criteria.summary = new StringSearchField(summary);
+		criteria.statuses = new SetSearchField<>(statuses);
+		return criteria;
+	}
+
+	private static class TestSearchCriteria extends SearchCriteria {
+		private static final long serialVersionUID = 1L;
+
+		private NumberSearchField projectId;
+
+		private StringSearchField summary;
+
+		private SetSearchField<Integer> statuses;
+	}
+}
@@ -58,6 +58,7 @@ public class ApplicationProperties {
 	public static final String MAIL_PASSWORD = "mail.password";
 	public static final String MAIL_IS_TLS = "mail.isTLS";
 	public static final String MAIL_NOREPLY = "mail.noreply";
+	public static final String MAIL_SENDER_WORKERS = "mail.senderWorkers";
 
 	public static final String ERROR_SENDTO = "error.sendTo";
 	public static final String STORAGE_SYSTEM = "storageSystem";
@@ -73,6 +74,24 @@ public class ApplicationProperties {
 
 	public static final String BI_ENDECRYPT_PASSWORD = "endecryptPassword";
 
+	public static final String SIDE_EFFECT_MODE = "sideEffect.mode";
+	public static final String SIDE_EFFECT_QUEUE_CAPACITY = "sideEffect.queueCapacity";
+	public static final String SIDE_EFFECT_FLUSH_SIZE = "sideEffect.flushSize";
+	public static final String SIDE_EFFECT_FLUSH_LATENCY = "sideEffect.flushLatency";
+	public static final String SIDE_EFFECT_OFFER_TIMEOUT = "sideEffect.offerTimeout";
+
+	public static final String NOTIFICATION_COALESCE_WINDOW = "notification.coalesceWindow";
+	public static final String NOTIFICATION_MAX_DELAY = "notification.maxDelay";
+
+	public static final String TICKET_KEY_BLOCK_SIZE = "ticketKey.blockSize";
+
+	public static final String CLUSTER_ENABLED = "cluster.enabled";
+	public static final String CLUSTER_POLL_INTERVAL = "cluster.pollInterval";
+
+	public static final String I18N_RELOAD = "i18n.reload";
+
+	public static final String STORAGE_DEDUPLICATION = "storage.deduplication";
+
 	public static void loadProps() {
 		StandardPBEStringEncryptor encryptor = new StandardPBEStringEncryptor();
 		encryptor.setPassword(DECRYPT_PASS);
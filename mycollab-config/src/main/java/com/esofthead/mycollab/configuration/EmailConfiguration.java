@@ -36,6 +36,7 @@ public class EmailConfiguration {
 	@Digits(integer = 6, fraction = 0)
 	private Integer port;
 	private boolean isTls = false;
+	private int senderWorkers = 4;
 
 	public EmailConfiguration() {
 
@@ -89,4 +90,17 @@ public class EmailConfiguration {
 	public void setIsTls(boolean isTls) {
 		this.isTls = isTls;
 	}
+
+	/**
+	 * 
+	 * @return number of parallel sender threads, it is also the maximum
+	 *         number of SMTP connections kept open
+	 */
+	public int getSenderWorkers() {
+		return senderWorkers;
+	}
+
+	public void setSenderWorkers(int senderWorkers) {
+		this.senderWorkers = Math.max(1, senderWorkers);
+	}
 }
@@ -17,6 +17,7 @@
 package com.esofthead.mycollab.configuration;
 
 import java.io.File;
+import java.io.IOException;
 
 /**
  * Configuration of file system storage mode
@@ -65,6 +66,27 @@ public final class FileStorageConfiguration implements StorageConfiguration {
 		return baseContentFolder.getPath() + "/" + documentPath;
 	}
 
+	/**
+	 * 
+	 * @param documentPath
+	 * @return null if the document is not existed or its path is out of the
+	 *         content folder
+	 */
+	public File getResourceFile(String documentPath) {
+		File file = new File(baseContentFolder, documentPath);
+		try {
+			if (file.isFile()
+					&& file.getCanonicalPath().startsWith(
+							baseContentFolder.getCanonicalPath()
+									+ File.separator)) {
+				return file;
+			}
+		} catch (IOException e) {
+			// the path can not be resolved, it is handled as a missing file
+		}
+		return null;
+	}
+
 	/**
 	 * 
 	 * @param username
@@ -81,6 +103,29 @@ public final class FileStorageConfiguration implements StorageConfiguration {
 		}
 	}
 
+	/**
+	 * Finds the stored avatar rendition which is the closest to the requested
+	 * size, the smallest larger rendition is preferred because it can be
+	 * scaled down without losing quality. Renditions are created
+	 * asynchronously, so a new avatar may only have some of its sizes yet.
+	 * 
+	 * @param username
+	 * @param size
+	 * @return null if no rendition of user avatar is existed
+	 */
+	public File getNearestAvatarFile(String username, int size) {
+		File nearestFile = null;
+		for (int avatarSize : AVATAR_SIZES) {
+			if (avatarSize >= size || nearestFile == null) {
+				File avatarFile = getAvatarFile(username, avatarSize);
+				if (avatarFile != null) {
+					nearestFile = avatarFile;
+				}
+			}
+		}
+		return nearestFile;
+	}
+
 	/**
 	 * 
 	 * @param logoId
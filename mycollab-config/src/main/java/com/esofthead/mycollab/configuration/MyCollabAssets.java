@@ -17,6 +17,7 @@
 package com.esofthead.mycollab.configuration;
 
 import com.esofthead.mycollab.core.DeploymentMode;
+import com.esofthead.mycollab.core.MyCollabVersion;
 
 /**
  * 
@@ -59,7 +60,8 @@ public abstract class MyCollabAssets {
 			return String.format(ApplicationProperties
 					.getString(ApplicationProperties.APP_URL),
 					SiteConfiguration.getServerAddress(), SiteConfiguration
-							.getServerPort()) + "assets/" + resourceId;
+							.getServerPort()) + "assets/" + resourceId + "?v="
+					+ MyCollabVersion.getVersion();
 		}
 
 	}
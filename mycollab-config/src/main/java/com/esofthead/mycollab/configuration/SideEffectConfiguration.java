@@ -0,0 +1,86 @@
+/**
+ * This file is part of mycollab-config.
+ *
+ * mycollab-config is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-config is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-config.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.configuration;
+
+/**
+ * Bean contains the configuration of the pipeline that writes activity
+ * streams, monitor items, audit logs and relay notifications produced by the
+ * service aspects
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class SideEffectConfiguration {
+
+	private boolean async;
+
+	private int queueCapacity;
+
+	private int flushSize;
+
+	private long flushLatency;
+
+	private long offerTimeout;
+
+	SideEffectConfiguration(boolean async, int queueCapacity, int flushSize,
+			long flushLatency, long offerTimeout) {
+		this.async = async;
+		this.queueCapacity = Math.max(1, queueCapacity);
+		this.flushSize = Math.max(1, flushSize);
+		this.flushLatency = Math.max(0, flushLatency);
+		this.offerTimeout = Math.max(0, offerTimeout);
+	}
+
+	/**
+	 * 
+	 * @return false if side effects must be written in the caller thread
+	 */
+	public boolean isAsync() {
+		return async;
+	}
+
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * 
+	 * @return maximum number of events written in one batch
+	 */
+	public int getFlushSize() {
+		return flushSize;
+	}
+
+	/**
+	 * 
+	 * @return maximum time (in milliseconds) an event waits in queue before it
+	 *         is written
+	 */
+	public long getFlushLatency() {
+		return flushLatency;
+	}
+
+	/**
+	 * 
+	 * @return time (in milliseconds) the caller waits for a free queue slot
+	 *         before it writes the event by itself
+	 */
+	public long getOfferTimeout() {
+		return offerTimeout;
+	}
+}
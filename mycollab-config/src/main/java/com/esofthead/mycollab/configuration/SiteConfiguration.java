@@ -43,13 +43,26 @@ import static com.esofthead.mycollab.configuration.ApplicationProperties.DEFAULT
 import static com.esofthead.mycollab.configuration.ApplicationProperties.DROPBOX_AUTH_LINK;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.ERROR_SENDTO;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.GOOGLE_DRIVE_LINK;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.SIDE_EFFECT_FLUSH_LATENCY;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.SIDE_EFFECT_FLUSH_SIZE;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.SIDE_EFFECT_MODE;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.SIDE_EFFECT_OFFER_TIMEOUT;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.SIDE_EFFECT_QUEUE_CAPACITY;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.LOCALES;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_IS_TLS;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_NOREPLY;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_PASSWORD;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_PORT;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_SENDER_WORKERS;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_SMTPHOST;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.MAIL_USERNAME;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.NOTIFICATION_COALESCE_WINDOW;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.NOTIFICATION_MAX_DELAY;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.TICKET_KEY_BLOCK_SIZE;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.CLUSTER_ENABLED;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.CLUSTER_POLL_INTERVAL;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.I18N_RELOAD;
+import static com.esofthead.mycollab.configuration.ApplicationProperties.STORAGE_DEDUPLICATION;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.RUNNING_MODE;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.SERVER_ADDRESS;
 import static com.esofthead.mycollab.configuration.ApplicationProperties.SITE_NAME;
@@ -84,6 +97,14 @@ public class SiteConfiguration {
     private String noreplyEmail;
     private EmailConfiguration emailConfiguration;
     private DatabaseConfiguration databaseConfiguration;
+    private SideEffectConfiguration sideEffectConfiguration;
+    private long notificationCoalesceWindow;
+    private long notificationMaxDelay;
+    private int ticketKeyBlockSize;
+    private boolean clusterEnabled;
+    private long clusterPollInterval;
+    private boolean i18nReloadEnabled;
+    private boolean storageDeduplicationEnabled;
     private String cdnUrl;
     private String endecryptPassword;
     private String dropboxCallbackUrl;
@@ -146,6 +167,8 @@ public class SiteConfiguration {
                 MAIL_IS_TLS, "false"));
         instance.emailConfiguration = new EmailConfiguration(host, user,
                 password, port, isTls);
+        instance.emailConfiguration.setSenderWorkers(Integer.parseInt(ApplicationProperties
+                .getString(MAIL_SENDER_WORKERS, "4")));
         instance.noreplyEmail = ApplicationProperties.getString(MAIL_NOREPLY,
                 "noreply@mycollab.com");
 
@@ -158,6 +181,40 @@ public class SiteConfiguration {
         instance.databaseConfiguration = new DatabaseConfiguration(driverClass,
                 dbUrl, dbUser, dbPassword);
 
+        // load side effect pipeline configuration
+        boolean isAsync = !"sync".equalsIgnoreCase(ApplicationProperties
+                .getString(SIDE_EFFECT_MODE, "async"));
+        int queueCapacity = Integer.parseInt(ApplicationProperties.getString(
+                SIDE_EFFECT_QUEUE_CAPACITY, "10000"));
+        int flushSize = Integer.parseInt(ApplicationProperties.getString(
+                SIDE_EFFECT_FLUSH_SIZE, "200"));
+        long flushLatency = Long.parseLong(ApplicationProperties.getString(
+                SIDE_EFFECT_FLUSH_LATENCY, "500"));
+        long offerTimeout = Long.parseLong(ApplicationProperties.getString(
+                SIDE_EFFECT_OFFER_TIMEOUT, "100"));
+        instance.sideEffectConfiguration = new SideEffectConfiguration(isAsync,
+                queueCapacity, flushSize, flushLatency, offerTimeout);
+
+        // load email notification dispatching configuration
+        instance.notificationCoalesceWindow = Long.parseLong(ApplicationProperties
+                .getString(NOTIFICATION_COALESCE_WINDOW, "30000"));
+        instance.notificationMaxDelay = Long.parseLong(ApplicationProperties
+                .getString(NOTIFICATION_MAX_DELAY, "120000"));
+
+        instance.ticketKeyBlockSize = Integer.parseInt(ApplicationProperties
+                .getString(TICKET_KEY_BLOCK_SIZE, "1"));
+
+        instance.clusterEnabled = Boolean.parseBoolean(ApplicationProperties
+                .getString(CLUSTER_ENABLED, "false"));
+        instance.clusterPollInterval = Long.parseLong(ApplicationProperties
+                .getString(CLUSTER_POLL_INTERVAL, "1000"));
+
+        instance.i18nReloadEnabled = Boolean.parseBoolean(ApplicationProperties
+                .getString(I18N_RELOAD, "false"));
+
+        instance.storageDeduplicationEnabled = Boolean.parseBoolean(ApplicationProperties
+                .getString(STORAGE_DEDUPLICATION, "false"));
+
         instance.dropboxCallbackUrl = ApplicationProperties
                 .getString(DROPBOX_AUTH_LINK);
 
@@ -184,6 +241,38 @@ public class SiteConfiguration {
         return getInstance().databaseConfiguration;
     }
 
+    public static SideEffectConfiguration getSideEffectConfiguration() {
+        return getInstance().sideEffectConfiguration;
+    }
+
+    public static long getNotificationCoalesceWindow() {
+        return getInstance().notificationCoalesceWindow;
+    }
+
+    public static long getNotificationMaxDelay() {
+        return getInstance().notificationMaxDelay;
+    }
+
+    public static int getTicketKeyBlockSize() {
+        return getInstance().ticketKeyBlockSize;
+    }
+
+    public static boolean isClusterEnabled() {
+        return getInstance().clusterEnabled;
+    }
+
+    public static long getClusterPollInterval() {
+        return getInstance().clusterPollInterval;
+    }
+
+    public static boolean isI18nReloadEnabled() {
+        return getInstance().i18nReloadEnabled;
+    }
+
+    public static boolean isStorageDeduplicationEnabled() {
+        return getInstance().storageDeduplicationEnabled;
+    }
+
     public static EmailConfiguration getEmailConfiguration() {
         return getInstance().emailConfiguration;
     }
@@ -35,6 +35,11 @@ public interface StorageConfiguration {
 
 	public static final String S3_STORAGE_SYSTEM = "s3";
 
+	/**
+	 * Sizes of the stored avatar renditions, from the largest one
+	 */
+	public static final int[] AVATAR_SIZES = { 100, 64, 48, 32, 24, 16 };
+
 	public String getAvatarPath(String userAvatarId, int size);
 
 	public String getLogoPath(String accountLogoId, int size);
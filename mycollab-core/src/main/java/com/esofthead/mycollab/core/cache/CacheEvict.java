@@ -23,8 +23,6 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * <b>NOTE: </b> Implement of cache just be presented in premium or ondemand
- * delivery.<br/>
  * This annotation denotes a method has data clean of cache with the key compose
  * by its arguments.
  * 
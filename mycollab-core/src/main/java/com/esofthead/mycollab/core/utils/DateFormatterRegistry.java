@@ -0,0 +1,139 @@
+/**
+ * This file is part of mycollab-core.
+ *
+ * mycollab-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.utils;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.joda.time.DateTimeZone;
+import org.joda.time.MutableDateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Registry of immutable date formatters, cached per pattern, locale and time
+ * zone. The formatters are thread safe and may be shared by all request
+ * threads. A formatter without locale or time zone uses the default locale
+ * or time zone of the JVM at the time it formats.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class DateFormatterRegistry {
+	public static final String W3C_DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss";
+
+	private static final ConcurrentMap<FormatterKey, DateTimeFormatter> formatters = new ConcurrentHashMap<>();
+
+	private DateFormatterRegistry() {
+	}
+
+	public static DateTimeFormatter getFormatter(String pattern) {
+		return getFormatter(pattern, null, null);
+	}
+
+	/**
+	 * 
+	 * @param pattern
+	 *            the pattern, in the syntax of SimpleDateFormat
+	 * @param locale
+	 *            the locale, or null to use the default locale
+	 * @param timezone
+	 *            the time zone, or null to use the default time zone
+	 * @return
+	 */
+	public static DateTimeFormatter getFormatter(String pattern, Locale locale,
+			TimeZone timezone) {
+		FormatterKey key = new FormatterKey(pattern, locale,
+				(timezone != null) ? timezone.getID() : null);
+		DateTimeFormatter formatter = formatters.get(key);
+		if (formatter == null) {
+			formatter = DateTimeFormat.forPattern(pattern).withLocale(locale);
+			if (timezone != null) {
+				formatter = formatter.withZone(DateTimeZone
+						.forTimeZone(timezone));
+			}
+			DateTimeFormatter existingFormatter = formatters.putIfAbsent(key,
+					formatter);
+			if (existingFormatter != null) {
+				formatter = existingFormatter;
+			}
+		}
+		return formatter;
+	}
+
+	public static String format(Date date, String pattern, Locale locale,
+			TimeZone timezone) {
+		return getFormatter(pattern, locale, timezone).print(date.getTime());
+	}
+
+	/**
+	 * Parses the beginning of text in the default time zone, the text after
+	 * the pattern is ignored. Fields which are not in the pattern are set to
+	 * the start of the epoch day.
+	 * 
+	 * @param text
+	 * @param pattern
+	 * @return the parsed date, or null if the text does not match the pattern
+	 */
+	public static Date parse(String text, String pattern) {
+		DateTimeZone zone = DateTimeZone.getDefault();
+		MutableDateTime dateTime = new MutableDateTime(1970, 1, 1, 0, 0, 0,
+				0, zone);
+		int position = getFormatter(pattern).withZone(zone).parseInto(
+				dateTime, text, 0);
+		return (position < 0) ? null : dateTime.toDate();
+	}
+
+	private static final class FormatterKey {
+		private final String pattern;
+		private final Locale locale;
+		private final String zoneId;
+
+		FormatterKey(String pattern, Locale locale, String zoneId) {
+			this.pattern = pattern;
+			this.locale = locale;
+			this.zoneId = zoneId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof FormatterKey)) {
+				return false;
+			}
+			FormatterKey other = (FormatterKey) obj;
+			return pattern.equals(other.pattern)
+					&& (locale == null ? other.locale == null : locale
+							.equals(other.locale))
+					&& (zoneId == null ? other.zoneId == null : zoneId
+							.equals(other.zoneId));
+		}
+
+		@Override
+		public int hashCode() {
+			int result = pattern.hashCode();
+			result = 31 * result + (locale != null ? locale.hashCode() : 0);
+			result = 31 * result + (zoneId != null ? zoneId.hashCode() : 0);
+			return result;
+		}
+	}
+}
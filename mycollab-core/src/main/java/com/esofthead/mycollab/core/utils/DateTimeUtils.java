@@ -16,15 +16,10 @@
  */
 package com.esofthead.mycollab.core.utils;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.StringUtils;
@@ -34,8 +29,6 @@ import org.ocpsoft.prettytime.PrettyTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.esofthead.mycollab.core.MyCollabException;
-
 /**
  * Utility class to process date instance
  * 
@@ -47,8 +40,6 @@ public class DateTimeUtils {
 
 	private static DateTimeZone utcZone = DateTimeZone.UTC;
 
-	private static Map<String, SimpleDateFormat> dateFormats = new HashMap<String, SimpleDateFormat>();
-
 	/**
 	 * Trim hour-minute-second of date instance value to zero.
 	 * 
@@ -56,12 +47,7 @@ public class DateTimeUtils {
 	 * @return
 	 */
 	public static Date trimHMSOfDate(Date value) {
-		DateFormat df = new SimpleDateFormat("yyyy-MM-dd");
-		try {
-			return df.parse(df.format(value.getTime()));
-		} catch (ParseException e) {
-			throw new MyCollabException(e);
-		}
+		return new DateTime(value.getTime()).withTimeAtStartOfDay().toDate();
 	}
 
 	public static Date getCurrentDateWithoutMS() {
@@ -73,12 +59,12 @@ public class DateTimeUtils {
 
 	public static Date convertDateByString(String strDate, String format) {
 		if (!StringUtils.isEmpty(strDate)) {
-			try {
-				SimpleDateFormat formatter = new SimpleDateFormat(format);
-				return formatter.parse(strDate);
-			} catch (ParseException e) {
-				LOG.error("Error while parse date", e);
+			Date date = DateFormatterRegistry.parse(strDate, format);
+			if (date != null) {
+				return date;
 			}
+			LOG.error("Error while parse date " + strDate + " with format "
+					+ format);
 		}
 		return new Date();
 	}
@@ -95,14 +81,13 @@ public class DateTimeUtils {
 	 * @return
 	 */
 	public static Date convertDateByFormatW3C(String strDate) {
-		String formatW3C = "yyyy-MM-dd'T'HH:mm:ss";
 		if (strDate != null && !strDate.equals("")) {
-			SimpleDateFormat formatter = new SimpleDateFormat(formatW3C);
-			try {
-				return formatter.parse(strDate);
-			} catch (ParseException e) {
-				LOG.error("Error while parse date", e);
+			Date date = DateFormatterRegistry.parse(strDate,
+					DateFormatterRegistry.W3C_DATE_TIME);
+			if (date != null) {
+				return date;
 			}
+			LOG.error("Error while parse date " + strDate);
 		}
 		return null;
 	}
@@ -147,27 +132,15 @@ public class DateTimeUtils {
 
 	public static String formatDate(Date date, String dateFormat,
 			TimeZone timezone) {
-		if (date == null) {
-			return "";
-		}
-
-		SimpleDateFormat simpleDateFormat = getDateFormat(dateFormat);
-		if (timezone != null) {
-			simpleDateFormat.setTimeZone(timezone);
-		}
-
-		return simpleDateFormat.format(date);
+		return formatDate(date, dateFormat, null, timezone);
 	}
 
-	private static SimpleDateFormat getDateFormat(String format) {
-		SimpleDateFormat dateFormat = dateFormats.get(format);
-		if (dateFormat != null) {
-			return dateFormat;
-		} else {
-			dateFormat = new SimpleDateFormat(format);
-			dateFormats.put(format, dateFormat);
-			return dateFormat;
+	public static String formatDate(Date date, String dateFormat,
+			Locale locale, TimeZone timezone) {
+		if (date == null) {
+			return "";
 		}
+		return DateFormatterRegistry.format(date, dateFormat, locale, timezone);
 	}
 
 	public static Date convertTimeFromSystemTimezoneToUTC(long timeInMillis) {
@@ -0,0 +1,94 @@
+/**
+ * This file is part of mycollab-core.
+ *
+ * mycollab-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import org.jsoup.Jsoup;
+import org.jsoup.safety.Whitelist;
+
+import java.util.regex.Pattern;
+
+/**
+ * Sanitizes rich text to the HTML shown in read views: tags outside of
+ * {@link Whitelist#relaxed()} are removed and links are made clickable. The
+ * result is cached by the content, services call
+ * {@link #prepare(String...)} when rich text is written so read views only
+ * pay for a lookup.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class RichTextSanitizer {
+    private static final Pattern URL_PATTERN = Pattern
+            .compile("(?:https?|ftps?)://[\\w/%.-][/\\??\\w=?\\w?/%.-]?[/\\?&\\w=?\\w?/%.-]*");
+
+    /**
+     * Bound of the cache, in characters of the cached contents and HTML.
+     */
+    private static final long MAX_CACHED_CHARS = 8 * 1024 * 1024;
+
+    private static final Cache<String, String> sanitizedContents = CacheBuilder
+            .newBuilder().maximumWeight(MAX_CACHED_CHARS)
+            .weigher(new Weigher<String, String>() {
+                @Override
+                public int weigh(String key, String value) {
+                    return key.length() + value.length();
+                }
+            }).build();
+
+    private RichTextSanitizer() {
+    }
+
+    /**
+     * @param value
+     * @return the sanitized HTML of <code>value</code>, from the cache when the
+     * same content was sanitized before
+     */
+    public static String getSanitizedHtml(String value) {
+        String html = sanitizedContents.getIfPresent(value);
+        if (html == null) {
+            html = sanitize(value);
+            sanitizedContents.put(value, html);
+        }
+        return html;
+    }
+
+    /**
+     * Sanitizes the rich text values being saved so they are rendered from the
+     * cache afterwards.
+     *
+     * @param values
+     */
+    public static void prepare(String... values) {
+        for (String value : values) {
+            if (org.apache.commons.lang3.StringUtils.isNotBlank(value)) {
+                getSanitizedHtml(value);
+            }
+        }
+    }
+
+    /**
+     * @param value
+     * @return the sanitized HTML of <code>value</code>, without using the cache
+     */
+    public static String sanitize(String value) {
+        String html = Jsoup.clean(value, Whitelist.relaxed());
+        return URL_PATTERN.matcher(html).replaceAll("<a href=\"$0\">$0</a>");
+    }
+}
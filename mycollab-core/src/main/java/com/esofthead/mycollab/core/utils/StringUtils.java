@@ -18,7 +18,6 @@ package com.esofthead.mycollab.core.utils;
 
 import org.apache.commons.validator.EmailValidator;
 import org.jsoup.Jsoup;
-import org.jsoup.safety.Whitelist;
 
 import java.util.GregorianCalendar;
 import java.util.Random;
@@ -66,19 +65,15 @@ public class StringUtils {
     /**
      *
      * @param value
-     * @return
+     * @return the sanitized HTML of <code>value</code>
+     * @see RichTextSanitizer
      */
     public static String formatRichText(String value) {
         if (org.apache.commons.lang3.StringUtils.isBlank(value)) {
             return "&nbsp;";
         }
 
-        value = Jsoup.clean(value, Whitelist.relaxed());
-        value = value
-                .replaceAll(
-                        "(?:https?|ftps?)://[\\w/%.-][/\\??\\w=?\\w?/%.-]?[/\\?&\\w=?\\w?/%.-]*",
-                        "<a href=\"$0\">$0</a>");
-        return value;
+        return RichTextSanitizer.getSanitizedHtml(value);
     }
 
     public static String trimHtmlTags(String value) {
@@ -0,0 +1,160 @@
+/**
+ * This file is part of mycollab-core.
+ *
+ * mycollab-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.joda.time.DateTimeZone;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DateFormatterRegistryTest {
+	private static final String[] PATTERNS = { "MM/dd/yyyy", "yy/MM/dd",
+			"MM/dd/yyyy hh:mm a", "yyyy/MM/dd hh:mm a", "MM/dd",
+			DateFormatterRegistry.W3C_DATE_TIME };
+
+	private static final String[] ZONES = { "UTC", "Asia/Ho_Chi_Minh",
+			"America/New_York", "Asia/Tokyo", "Europe/Berlin" };
+
+	private TimeZone defaultTimeZone;
+
+	private DateTimeZone defaultDateTimeZone;
+
+	@Before
+	public void setUp() {
+		defaultTimeZone = TimeZone.getDefault();
+		defaultDateTimeZone = DateTimeZone.getDefault();
+	}
+
+	@After
+	public void tearDown() {
+		TimeZone.setDefault(defaultTimeZone);
+		DateTimeZone.setDefault(defaultDateTimeZone);
+	}
+
+	@Test
+	public void testSameFormatterIsReturned() {
+		TimeZone timezone = TimeZone.getTimeZone("Asia/Tokyo");
+		assertThat(
+				DateFormatterRegistry.getFormatter("MM/dd/yyyy", Locale.US,
+						timezone)).isSameAs(
+				DateFormatterRegistry.getFormatter("MM/dd/yyyy", Locale.US,
+						TimeZone.getTimeZone("Asia/Tokyo")));
+		assertThat(
+				DateFormatterRegistry.getFormatter("MM/dd/yyyy", Locale.US,
+						timezone)).isNotSameAs(
+				DateFormatterRegistry.getFormatter("MM/dd/yyyy", Locale.US,
+						null));
+	}
+
+	@Test
+	public void testFormatWithZone() {
+		Date date = new Date(1429185600000L); // 2015-04-16T12:00:00Z
+		assertThat(
+				DateFormatterRegistry.format(date, "MM/dd/yyyy hh:mm a",
+						Locale.US, TimeZone.getTimeZone("Asia/Ho_Chi_Minh")))
+				.isEqualTo("04/16/2015 07:00 PM");
+		assertThat(
+				DateFormatterRegistry.format(date, "MM/dd/yyyy hh:mm a",
+						Locale.US, TimeZone.getTimeZone("America/New_York")))
+				.isEqualTo("04/16/2015 08:00 AM");
+	}
+
+	@Test
+	public void testParseIgnoresTrailingText() {
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+		DateTimeZone.setDefault(DateTimeZone.UTC);
+
+		Date expected = new GregorianCalendar(2015, 3, 16, 10, 20, 30)
+				.getTime();
+		assertThat(
+				DateFormatterRegistry.parse("2015-04-16T10:20:30",
+						DateFormatterRegistry.W3C_DATE_TIME)).isEqualTo(
+				expected);
+		assertThat(
+				DateFormatterRegistry.parse("2015-04-16T10:20:30+07:00",
+						DateFormatterRegistry.W3C_DATE_TIME)).isEqualTo(
+				expected);
+		assertThat(DateFormatterRegistry.parse("2015-04-16", "yyyy-MM-dd"))
+				.isEqualTo(new GregorianCalendar(2015, 3, 16).getTime());
+		assertThat(
+				DateFormatterRegistry.parse("16/04",
+						DateFormatterRegistry.W3C_DATE_TIME)).isNull();
+	}
+
+	@Test
+	public void testConcurrentFormatting() throws Exception {
+		final int threadCount = 8;
+		final int iterations = 5000;
+		final CountDownLatch startSignal = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < threadCount; i++) {
+				final long seed = i;
+				results.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						Random random = new Random(seed);
+						startSignal.await();
+						int mismatches = 0;
+						for (int j = 0; j < iterations; j++) {
+							// dates between 2010 and 2020
+							Date date = new Date(1262304000000L
+									+ (long) (random.nextDouble() * 315532800000L));
+							String pattern = PATTERNS[random
+									.nextInt(PATTERNS.length)];
+							TimeZone timezone = TimeZone.getTimeZone(ZONES[random
+									.nextInt(ZONES.length)]);
+
+							SimpleDateFormat expectedFormat = new SimpleDateFormat(
+									pattern, Locale.US);
+							expectedFormat.setTimeZone(timezone);
+							String expected = expectedFormat.format(date);
+							if (!expected.equals(DateTimeUtils.formatDate(
+									date, pattern, Locale.US, timezone))) {
+								mismatches++;
+							}
+						}
+						return mismatches;
+					}
+				}));
+			}
+			startSignal.countDown();
+			for (Future<Integer> result : results) {
+				assertThat(result.get()).isEqualTo(0);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/**
+ * This file is part of mycollab-core.
+ *
+ * mycollab-core is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-core is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-core.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.utils;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RichTextSanitizerTest {
+    private static String description;
+
+    @BeforeClass
+    public static void buildDescription() {
+        StringBuilder builder = new StringBuilder();
+        int paragraph = 0;
+        while (builder.length() < 10 * 1024) {
+            builder.append("<p style=\"color: red\">Step ").append(paragraph++)
+                    .append(": open <b>http://community.mycollab.com/docs/page?id=")
+                    .append(paragraph).append("</b> and check the <i>output</i>")
+                    .append("<script>alert('x')</script></p>");
+        }
+        description = builder.toString();
+    }
+
+    @Test
+    public void testSanitizeAndLinkify() {
+        String html = RichTextSanitizer
+                .sanitize("<p onclick=\"evil()\">See http://mycollab.com/a</p><script>alert(1)</script>");
+        assertThat(html).doesNotContain("script").doesNotContain("onclick");
+        assertThat(html).contains(
+                "<a href=\"http://mycollab.com/a\">http://mycollab.com/a</a>");
+    }
+
+    @Test
+    public void testCachedHtmlIsSameAsSanitized() {
+        RichTextSanitizer.prepare(description, null, "");
+        assertThat(RichTextSanitizer.getSanitizedHtml(description)).isEqualTo(
+                RichTextSanitizer.sanitize(description));
+        assertThat(StringUtils.formatRichText(description)).isSameAs(
+                RichTextSanitizer.getSanitizedHtml(description));
+        assertThat(StringUtils.formatRichText(" ")).isEqualTo("&nbsp;");
+    }
+}
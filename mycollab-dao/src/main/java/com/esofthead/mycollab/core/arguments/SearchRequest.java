@@ -53,6 +53,8 @@ public class SearchRequest<S extends SearchCriteria> implements Serializable {
 
     private String requestedUser;
 
+    private SeekCursor seekCursor;
+
 	public SearchRequest() {
 		this(null, 1, 1);
 	}
@@ -95,4 +97,17 @@ public class SearchRequest<S extends SearchCriteria> implements Serializable {
     public void setRequestedUser(String requestedUser) {
         this.requestedUser = requestedUser;
     }
+
+    /**
+     * 
+     * @return the position of the last item of the previous page, or null if
+     *         the page must be queried by offset
+     */
+    public SeekCursor getSeekCursor() {
+        return seekCursor;
+    }
+
+    public void setSeekCursor(SeekCursor seekCursor) {
+        this.seekCursor = seekCursor;
+    }
 }
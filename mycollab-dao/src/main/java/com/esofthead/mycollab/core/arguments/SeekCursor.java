@@ -0,0 +1,92 @@
+/**
+ * This file is part of mycollab-dao.
+ *
+ * mycollab-dao is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-dao is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-dao.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.arguments;
+
+import java.io.Serializable;
+
+import org.apache.commons.beanutils.PropertyUtils;
+
+import com.esofthead.mycollab.core.MyCollabException;
+
+/**
+ * Position of the last row of a result page, used to query the next page by
+ * key (seek) instead of skipping rows with an offset.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class SeekCursor implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private Object orderValue;
+
+	private Integer id;
+
+	private String sortDirection;
+
+	public SeekCursor(Object orderValue, Integer id, String sortDirection) {
+		this.orderValue = orderValue;
+		this.id = id;
+		this.sortDirection = SearchCriteria.ASC.equalsIgnoreCase(sortDirection) ? SearchCriteria.ASC
+				: SearchCriteria.DESC;
+	}
+
+	/**
+	 * 
+	 * @param item
+	 *            the last item of the current page
+	 * @param seekField
+	 *            bean property holding the value of the seek column
+	 * @param sortDirection
+	 * @return the cursor pointed to <code>item</code>, or null if the item
+	 *         does not have an id
+	 */
+	public static SeekCursor fromItem(Object item, String seekField,
+			String sortDirection) {
+		if (item == null) {
+			return null;
+		}
+
+		try {
+			Object orderValue = PropertyUtils.getProperty(item, seekField);
+			Object id = PropertyUtils.getProperty(item, "id");
+			if (!(id instanceof Integer)) {
+				return null;
+			}
+			return new SeekCursor(orderValue, (Integer) id, sortDirection);
+		} catch (Exception e) {
+			throw new MyCollabException(e);
+		}
+	}
+
+	public Object getOrderValue() {
+		return orderValue;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getSortDirection() {
+		return sortDirection;
+	}
+
+	public boolean isAscending() {
+		return SearchCriteria.ASC.equals(sortDirection);
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * This file is part of mycollab-dao.
+ *
+ * mycollab-dao is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-dao is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-dao.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.core.persistence;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Param;
+
+import com.esofthead.mycollab.core.arguments.SearchCriteria;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
+
+/**
+ * Searchable DAO which can query a page by key (seek) instead of skipping the
+ * rows before the offset. Mappers implementing this interface must declare the
+ * statement <code>findPagableListBySeek</code>, rendered with the
+ * <code>#seekExpr</code> and <code>#seekOrderExpr</code> velocity macros.
+ * Rows with a NULL seek column are kept, they come first in ascending and last
+ * in descending order as MySQL sorts them in the offset queries.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ * @param <S>
+ */
+public interface ISeekableDAO<S extends SearchCriteria> extends
+		ISearchableDAO<S> {
+
+	/**
+	 * 
+	 * @param criteria
+	 * @param seekCursor
+	 *            position of the last item of the previous page
+	 * @param numberOfItems
+	 * @return the items following <code>seekCursor</code>
+	 */
+	List findPagableListBySeek(@Param("searchCriteria") S criteria,
+			@Param("seekCursor") SeekCursor seekCursor,
+			@Param("numberOfItems") int numberOfItems);
+}
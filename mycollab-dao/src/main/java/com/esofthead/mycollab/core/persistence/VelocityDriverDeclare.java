@@ -40,10 +40,12 @@ import com.esofthead.mycollab.core.MyCollabException;
 public class VelocityDriverDeclare implements LanguageDriver {
     private static final String TOTAL_COUNT_EXPR_MACRO;
     private static final String SELECT_EXPR_MACRO;
+    private static final String SEEK_EXPR_MACRO;
 
     static {
         TOTAL_COUNT_EXPR_MACRO = loadResource("totalCountExpr");
         SELECT_EXPR_MACRO = loadResource("selectExpr");
+        SEEK_EXPR_MACRO = loadResource("seekExpr");
     }
 
     @Override
@@ -61,7 +63,8 @@ public class VelocityDriverDeclare implements LanguageDriver {
             parameterTypeClass = Object.class;
         }
         String templateStr = TOTAL_COUNT_EXPR_MACRO + " " + SELECT_EXPR_MACRO
-                + " " + script.getNode().getTextContent();
+                + " " + SEEK_EXPR_MACRO + " "
+                + script.getNode().getTextContent();
 
         return new SQLScriptSource(configuration, templateStr,
                 parameterTypeClass);
@@ -75,7 +78,7 @@ public class VelocityDriverDeclare implements LanguageDriver {
         }
         String templateStr = new StringBuilder().append(SELECT_EXPR_MACRO)
                 .append(" ").append(TOTAL_COUNT_EXPR_MACRO).append(" ")
-                .append(script).toString();
+                .append(SEEK_EXPR_MACRO).append(" ").append(script).toString();
         return new SQLScriptSource(configuration, templateStr,
                 parameterTypeClass);
     }
@@ -28,8 +28,10 @@ import org.slf4j.LoggerFactory;
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SearchField;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.persistence.IMassUpdateDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 
 /**
  * 
@@ -53,8 +55,40 @@ public abstract class DefaultService<K extends Serializable, T, S extends Search
 		return getSearchMapper().getTotalCount(criteria);
 	}
 
+	/**
+	 * 
+	 * @return the bean property of the column used by the seek statement of
+	 *         the mapper, or null if the mapper does not support keyset
+	 *         pagination
+	 */
+	protected String getSeekField() {
+		return null;
+	}
+
+	/**
+	 * 
+	 * @return the sort direction of the seek column when no order field is
+	 *         set in the search criteria
+	 */
+	protected String getSeekDirection() {
+		return SearchCriteria.DESC;
+	}
+
+	private boolean isSeekable(S searchCriteria) {
+		return (getSearchMapper() instanceof ISeekableDAO)
+				&& searchCriteria.getOrderByField() == null;
+	}
+
+	@SuppressWarnings("unchecked")
 	@Override
 	public List findPagableListByCriteria(SearchRequest<S> searchRequest) {
+		if (searchRequest.getSeekCursor() != null
+				&& isSeekable(searchRequest.getSearchCriteria())) {
+			return ((ISeekableDAO<S>) getSearchMapper()).findPagableListBySeek(
+					searchRequest.getSearchCriteria(),
+					searchRequest.getSeekCursor(),
+					searchRequest.getNumberOfItems());
+		}
 		return getSearchMapper().findPagableListByCriteria(
 				searchRequest.getSearchCriteria(),
 				new RowBounds((searchRequest.getCurrentPage() - 1)
@@ -69,6 +103,27 @@ public abstract class DefaultService<K extends Serializable, T, S extends Search
 				new RowBounds(firstIndex, numberOfItems));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public List findPagableListBySeek(S searchCriteria, SeekCursor seekCursor,
+			int numberOfItems) {
+		if (seekCursor == null || !isSeekable(searchCriteria)) {
+			return getSearchMapper().findPagableListByCriteria(searchCriteria,
+					new RowBounds(0, numberOfItems));
+		}
+		return ((ISeekableDAO<S>) getSearchMapper()).findPagableListBySeek(
+				searchCriteria, seekCursor, numberOfItems);
+	}
+
+	@Override
+	public SeekCursor buildSeekCursor(S searchCriteria, Object lastItem) {
+		if (getSeekField() == null || !isSeekable(searchCriteria)) {
+			return null;
+		}
+		return SeekCursor.fromItem(lastItem, getSeekField(),
+				getSeekDirection());
+	}
+
 	@Override
 	public void removeByCriteria(S criteria, int accountId) {
 		boolean isValid = false;
@@ -20,6 +20,7 @@ import java.util.List;
 
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.cache.CacheEvict;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.cache.Cacheable;
@@ -57,6 +58,33 @@ public interface ISearchableService<S extends SearchCriteria> extends IService {
 	List findAbsoluteListByCriteria(@CacheKey S searchCriteria, int firstIndex,
 			int numberOfItems);
 
+	/**
+	 * Query the items following <code>seekCursor</code> by key instead of by
+	 * offset, so the cost of a page does not grow with the page number. If
+	 * the underlying mapper does not support keyset pagination or
+	 * <code>seekCursor</code> is null, the first items matching the criteria
+	 * are returned.
+	 * 
+	 * @param searchCriteria
+	 * @param seekCursor
+	 * @param numberOfItems
+	 * @return
+	 */
+	@Cacheable
+	List findPagableListBySeek(@CacheKey S searchCriteria,
+			SeekCursor seekCursor, int numberOfItems);
+
+	/**
+	 * 
+	 * @param searchCriteria
+	 * @param lastItem
+	 *            the last item of the current page
+	 * @return the cursor to query the page next to <code>lastItem</code>, or
+	 *         null if the sort order of <code>searchCriteria</code> does not
+	 *         allow keyset pagination
+	 */
+	SeekCursor buildSeekCursor(S searchCriteria, Object lastItem);
+
 	/**
 	 * 
 	 * @param criteria
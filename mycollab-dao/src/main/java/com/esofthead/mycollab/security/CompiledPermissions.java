@@ -0,0 +1,129 @@
+/**
+ * This file is part of mycollab-dao.
+ *
+ * mycollab-dao is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-dao is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-dao.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.security;
+
+import java.io.Serializable;
+
+/**
+ * Permissions of a role compiled against a {@link PermissionIndex}: the flag
+ * of every permission item is resolved once into the checks it passes, so a
+ * check of a slot is an array read instead of a lookup in the
+ * {@link PermissionMap}. Callers pass the slot constants of
+ * {@link RolePermissionCollections} or of the project permission collection,
+ * the index itself is not kept so it is not serialized with every session.
+ * {@link PermissionMap} stays the form permissions are stored and edited in.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class CompiledPermissions implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final byte READ = 1;
+	private static final byte WRITE = 2;
+	private static final byte ACCESS = 4;
+	private static final byte YES = 8;
+	private static final byte NO = 16;
+
+	private final byte[] grants;
+
+	private final PermissionMap permissionMap;
+
+	private CompiledPermissions(byte[] grants, PermissionMap permissionMap) {
+		this.grants = grants;
+		this.permissionMap = permissionMap;
+	}
+
+	/**
+	 * 
+	 * @param index
+	 * @param permissionMap
+	 * @return permissions of <code>permissionMap</code>, items which are not
+	 *         registered in <code>index</code> are never granted
+	 */
+	public static CompiledPermissions compile(PermissionIndex index,
+			PermissionMap permissionMap) {
+		byte[] grants = new byte[index.size()];
+		for (int slot = 0; slot < grants.length; slot++) {
+			Integer flag = permissionMap.get(index.getPermissionItem(slot));
+			if (flag != null) {
+				grants[slot] = toGrants(flag);
+			}
+		}
+		return new CompiledPermissions(grants, permissionMap);
+	}
+
+	private static byte toGrants(int flag) {
+		byte result = 0;
+		if (AccessPermissionFlag.canRead(flag)) {
+			result |= READ;
+		}
+		if (AccessPermissionFlag.canWrite(flag)) {
+			result |= WRITE;
+		}
+		if (AccessPermissionFlag.canAccess(flag)) {
+			result |= ACCESS;
+		}
+		if (BooleanPermissionFlag.beTrue(flag)) {
+			result |= YES;
+		}
+		if (BooleanPermissionFlag.beFalse(flag)) {
+			result |= NO;
+		}
+		return result;
+	}
+
+	private boolean isGranted(int slot, byte grant) {
+		return (slot >= 0) && (slot < grants.length)
+				&& ((grants[slot] & grant) != 0);
+	}
+
+	/**
+	 * 
+	 * @param slot
+	 *            slot of the permission item in the index these permissions
+	 *            are compiled against, a negative slot is never granted
+	 * @return
+	 */
+	public boolean canBeYes(int slot) {
+		return isGranted(slot, YES);
+	}
+
+	public boolean canBeFalse(int slot) {
+		return isGranted(slot, NO);
+	}
+
+	public boolean canRead(int slot) {
+		return isGranted(slot, READ);
+	}
+
+	public boolean canWrite(int slot) {
+		return isGranted(slot, WRITE);
+	}
+
+	public boolean canAccess(int slot) {
+		return isGranted(slot, ACCESS);
+	}
+
+	/**
+	 * 
+	 * @return the permission map these permissions are compiled from
+	 */
+	public PermissionMap getPermissionMap() {
+		return permissionMap;
+	}
+}
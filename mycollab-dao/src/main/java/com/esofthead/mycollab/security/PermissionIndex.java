@@ -0,0 +1,101 @@
+/**
+ * This file is part of mycollab-dao.
+ *
+ * mycollab-dao is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-dao is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-dao.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.security;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.esofthead.mycollab.core.MyCollabException;
+
+/**
+ * Registry of the permission items of one permission scope (account or
+ * project), it assigns every item a slot so {@link CompiledPermissions} can
+ * keep the permissions of a role in an array.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class PermissionIndex implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final String[] permissionItems;
+
+	private final Map<String, Integer> slots;
+
+	public PermissionIndex(String... permissionItems) {
+		Map<String, Integer> itemSlots = new HashMap<String, Integer>();
+		for (int i = 0; i < permissionItems.length; i++) {
+			if (itemSlots.put(permissionItems[i], i) != null) {
+				throw new MyCollabException("Permission item "
+						+ permissionItems[i] + " is registered twice");
+			}
+		}
+		this.permissionItems = permissionItems.clone();
+		this.slots = Collections.unmodifiableMap(itemSlots);
+	}
+
+	/**
+	 * 
+	 * @param defItemGroups
+	 * @return index of the keys of <code>defItemGroups</code>, in order
+	 */
+	public static PermissionIndex of(PermissionDefItem[]... defItemGroups) {
+		int count = 0;
+		for (PermissionDefItem[] defItems : defItemGroups) {
+			count += defItems.length;
+		}
+
+		String[] permissionItems = new String[count];
+		int slot = 0;
+		for (PermissionDefItem[] defItems : defItemGroups) {
+			for (PermissionDefItem defItem : defItems) {
+				permissionItems[slot++] = defItem.getKey();
+			}
+		}
+		return new PermissionIndex(permissionItems);
+	}
+
+	/**
+	 * 
+	 * @param permissionItem
+	 * @return slot of <code>permissionItem</code>, or -1 if it is not
+	 *         registered
+	 */
+	public int slotOf(String permissionItem) {
+		Integer slot = slots.get(permissionItem);
+		return (slot == null) ? -1 : slot;
+	}
+
+	/**
+	 * 
+	 * @param slot
+	 * @return
+	 */
+	public String getPermissionItem(int slot) {
+		return permissionItems[slot];
+	}
+
+	/**
+	 * 
+	 * @return number of registered permission items
+	 */
+	public int size() {
+		return permissionItems.length;
+	}
+}
@@ -77,4 +77,34 @@ public class RolePermissionCollections {
 	public static final PermissionDefItem[] DOCUMENT_PERMISSION_ARR = { new PermissionDefItem(
 			PUBLIC_DOCUMENT_ACCESS, "Public Documents",
 			AccessPermissionFlag.class) };
+
+	/**
+	 * Slots of the account permissions, used to compile the permissions of
+	 * account roles
+	 */
+	public static final PermissionIndex PERMISSION_INDEX = PermissionIndex.of(
+			CRM_PERMISSIONS_ARR, ACCOUNT_PERMISSION_ARR,
+			PROJECT_PERMISSION_ARR, DOCUMENT_PERMISSION_ARR);
+
+	/**
+	 * Slots of the account permission items in {@link #PERMISSION_INDEX},
+	 * resolved once so permission checks do not look the item up. An item
+	 * which is not registered gets slot -1 and is never granted
+	 */
+	public static final int CRM_ACCOUNT_SLOT = PERMISSION_INDEX.slotOf(CRM_ACCOUNT);
+	public static final int CRM_CONTACT_SLOT = PERMISSION_INDEX.slotOf(CRM_CONTACT);
+	public static final int CRM_CAMPAIGN_SLOT = PERMISSION_INDEX.slotOf(CRM_CAMPAIGN);
+	public static final int CRM_LEAD_SLOT = PERMISSION_INDEX.slotOf(CRM_LEAD);
+	public static final int CRM_OPPORTUNITY_SLOT = PERMISSION_INDEX.slotOf(CRM_OPPORTUNITY);
+	public static final int CRM_CASE_SLOT = PERMISSION_INDEX.slotOf(CRM_CASE);
+	public static final int CRM_TASK_SLOT = PERMISSION_INDEX.slotOf(CRM_TASK);
+	public static final int CRM_MEETING_SLOT = PERMISSION_INDEX.slotOf(CRM_MEETING);
+	public static final int CRM_CALL_SLOT = PERMISSION_INDEX.slotOf(CRM_CALL);
+	public static final int CRM_DOCUMENT_SLOT = PERMISSION_INDEX.slotOf(CRM_DOCUMENT);
+	public static final int ACCOUNT_USER_SLOT = PERMISSION_INDEX.slotOf(ACCOUNT_USER);
+	public static final int ACCOUNT_ROLE_SLOT = PERMISSION_INDEX.slotOf(ACCOUNT_ROLE);
+	public static final int ACCOUNT_BILLING_SLOT = PERMISSION_INDEX.slotOf(ACCOUNT_BILLING);
+	public static final int ACCOUNT_THEME_SLOT = PERMISSION_INDEX.slotOf(ACCOUNT_THEME);
+	public static final int CREATE_NEW_PROJECT_SLOT = PERMISSION_INDEX.slotOf(CREATE_NEW_PROJECT);
+	public static final int PUBLIC_DOCUMENT_ACCESS_SLOT = PERMISSION_INDEX.slotOf(PUBLIC_DOCUMENT_ACCESS);
 }
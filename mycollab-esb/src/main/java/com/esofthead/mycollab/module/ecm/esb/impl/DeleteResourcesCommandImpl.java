@@ -16,17 +16,12 @@
  */
 package com.esofthead.mycollab.module.ecm.esb.impl;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.esofthead.mycollab.lock.DistributionLockUtil;
-import com.esofthead.mycollab.module.ecm.domain.DriveInfo;
 import com.esofthead.mycollab.module.ecm.esb.DeleteResourcesCommand;
 import com.esofthead.mycollab.module.ecm.service.DriveInfoService;
 import com.esofthead.mycollab.module.file.service.RawContentService;
@@ -53,40 +48,22 @@ public class DeleteResourcesCommandImpl implements DeleteResourcesCommand {
 	public void removeResource(String[] paths, String userDelete,
 			Integer sAccountId) {
 
-		Lock lock = DistributionLockUtil.getLock("ecm-" + sAccountId);
 		if (sAccountId == null) {
 			return;
 		}
 		try {
-			if (lock.tryLock(1, TimeUnit.HOURS)) {
-				long totalSize = 0;
-				DriveInfo driveInfo = driveInfoService.getDriveInfo(sAccountId);
-
-				for (String path : paths) {
-					if (StringUtils.isBlank(path)) {
-						continue;
-					}
-					totalSize += rawContentService.getSize(path);
-					rawContentService.removePath(path);
-				}
-
-				if (driveInfo.getUsedvolume() == null
-						|| (driveInfo.getUsedvolume() < totalSize)) {
-					LOG.error(
-							"Inconsistent storage volumne site of account {}, used storage is less than removed storage ",
-							sAccountId);
-					driveInfo.setUsedvolume(0L);
-				} else {
-					driveInfo.setUsedvolume(driveInfo.getUsedvolume()
-							- totalSize);
+			long totalSize = 0;
+			for (String path : paths) {
+				if (StringUtils.isBlank(path)) {
+					continue;
 				}
-
-				driveInfoService.saveOrUpdateDriveInfo(driveInfo);
+				totalSize += rawContentService.getSize(path);
+				rawContentService.removePath(path);
 			}
+
+			driveInfoService.addUsedVolume(sAccountId, -totalSize);
 		} catch (Exception e) {
 			LOG.error("Error while delete content " + paths, e);
-		} finally {
-			lock.unlock();
 		}
 	}
 }
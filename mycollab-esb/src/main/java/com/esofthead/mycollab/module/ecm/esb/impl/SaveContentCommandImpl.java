@@ -16,9 +16,6 @@
  */
 package com.esofthead.mycollab.module.ecm.esb.impl;
 
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,9 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.esofthead.mycollab.core.utils.BeanUtility;
-import com.esofthead.mycollab.lock.DistributionLockUtil;
 import com.esofthead.mycollab.module.ecm.domain.Content;
-import com.esofthead.mycollab.module.ecm.domain.DriveInfo;
 import com.esofthead.mycollab.module.ecm.esb.SaveContentCommand;
 import com.esofthead.mycollab.module.ecm.service.DriveInfoService;
 import com.esofthead.mycollab.module.file.service.RawContentService;
@@ -59,7 +54,6 @@ public class SaveContentCommandImpl implements SaveContentCommand {
 			return;
 		}
 
-		Lock lock = DistributionLockUtil.getLock("ecm-" + sAccountId);
 		long totalSize = content.getSize();
 
 		if (StringUtils.isNotBlank(content.getThumbnail())) {
@@ -67,23 +61,11 @@ public class SaveContentCommandImpl implements SaveContentCommand {
 		}
 
 		try {
-			if (lock.tryLock(1, TimeUnit.HOURS)) {
-				DriveInfo driveInfo = driveInfoService.getDriveInfo(sAccountId);
-				if (driveInfo.getUsedvolume() == null) {
-					driveInfo.setUsedvolume(totalSize);
-				} else {
-					driveInfo.setUsedvolume(totalSize
-							+ driveInfo.getUsedvolume());
-				}
-
-				driveInfoService.saveOrUpdateDriveInfo(driveInfo);
-			}
+			driveInfoService.addUsedVolume(sAccountId, totalSize);
 		} catch (Exception e) {
 			LOG.error(
 					"Error while save content "
 							+ BeanUtility.printBeanObj(content), e);
-		} finally {
-			lock.unlock();
 		}
 	}
 }
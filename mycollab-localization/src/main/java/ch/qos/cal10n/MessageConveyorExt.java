@@ -1,15 +1,19 @@
 package ch.qos.cal10n;
 
+import java.text.Format;
 import java.text.MessageFormat;
 import java.util.Locale;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import ch.qos.cal10n.util.AnnotationExtractorViaEnumClass;
 import ch.qos.cal10n.util.CAL10NBundle;
 import ch.qos.cal10n.util.CAL10NBundleFinderByClassloaderExt;
 
 /**
+ * Message conveyor compiling the resource bundle of an enum type once into an
+ * array of messages indexed by the ordinal of the enum constants. Lookups read
+ * the array without locking, patterns are parsed once.
  * 
  * @author MyCollab Ltd.
  * @since 4.5.2
@@ -19,7 +23,9 @@ public class MessageConveyorExt implements IMessageConveyor {
 
 	final Locale locale;
 
-	final Map<String, CAL10NBundle> cache = new ConcurrentHashMap<String, CAL10NBundle>();
+	private final boolean reloadEnabled;
+
+	private final ConcurrentMap<Class<?>, CompiledBundle> cache = new ConcurrentHashMap<>();
 
 	/**
 	 * The {@link Locale} associated with this instance.
@@ -28,7 +34,20 @@ public class MessageConveyorExt implements IMessageConveyor {
 	 *            the Locale which this conveyor targets
 	 */
 	public MessageConveyorExt(Locale locale) {
+		this(locale, false);
+	}
+
+	/**
+	 * 
+	 * @param locale
+	 *            the Locale which this conveyor targets
+	 * @param reloadEnabled
+	 *            reload a resource bundle when its file changes, for
+	 *            development only
+	 */
+	public MessageConveyorExt(Locale locale, boolean reloadEnabled) {
 		this.locale = locale;
+		this.reloadEnabled = reloadEnabled;
 	}
 
 	/**
@@ -48,25 +67,33 @@ public class MessageConveyorExt implements IMessageConveyor {
 			throws MessageConveyorException {
 
 		Class<? extends Enum<?>> declaringClass = key.getDeclaringClass();
-
-		String declaringClassName = declaringClass.getName();
-		CAL10NBundle rb = cache.get(declaringClassName);
-		if (rb == null || rb.hasChanged()) {
-			rb = lookupResourceBundleByEnumClassAndLocale(declaringClass);
-			cache.put(declaringClassName, rb);
+		CompiledBundle bundle = cache.get(declaringClass);
+		if (bundle == null || (reloadEnabled && bundle.source.hasChanged())) {
+			bundle = compileBundle(declaringClass);
+			cache.put(declaringClass, bundle);
 		}
 
-		String keyAsStr = key.toString();
-		String value = rb.getString(keyAsStr);
-		if (value == null) {
-			return "No key found for " + keyAsStr;
+		CompiledMessage message = bundle.messages[key.ordinal()];
+		if (message == null) {
+			return "No key found for " + key.toString();
 		} else {
-			if (args == null || args.length == 0) {
-				return value;
-			} else {
-				return MessageFormat.format(value, args);
+			return message.format(args);
+		}
+	}
+
+	private <E extends Enum<?>> CompiledBundle compileBundle(
+			Class<E> declaringClass) throws MessageConveyorException {
+		CAL10NBundle rb = lookupResourceBundleByEnumClassAndLocale(declaringClass);
+
+		E[] keys = declaringClass.getEnumConstants();
+		CompiledMessage[] messages = new CompiledMessage[keys.length];
+		for (E key : keys) {
+			String value = rb.getString(key.toString());
+			if (value != null) {
+				messages[key.ordinal()] = new CompiledMessage(value);
 			}
 		}
+		return new CompiledBundle(rb, messages);
 	}
 
 	private <E extends Enum<?>> CAL10NBundle lookupResourceBundleByEnumClassAndLocale(
@@ -109,4 +136,62 @@ public class MessageConveyorExt implements IMessageConveyor {
 		}
 		return getMessage(mpo.getKey(), mpo.getArgs());
 	}
+
+	private static class CompiledBundle {
+		private final CAL10NBundle source;
+		private final CompiledMessage[] messages;
+
+		CompiledBundle(CAL10NBundle source, CompiledMessage[] messages) {
+			this.source = source;
+			this.messages = messages;
+		}
+	}
+
+	/**
+	 * A message and its parsed pattern. A pattern without typed arguments
+	 * like <code>{0,number}</code> is formatted without changing the
+	 * {@link MessageFormat}, so it is shared by all threads, other patterns are
+	 * formatted by a copy.
+	 */
+	private static class CompiledMessage {
+		private final String value;
+		private final MessageFormat format;
+		private final boolean shareable;
+
+		CompiledMessage(String value) {
+			this.value = value;
+
+			MessageFormat messageFormat;
+			try {
+				messageFormat = new MessageFormat(value);
+			} catch (IllegalArgumentException e) {
+				// the message is only usable without arguments
+				messageFormat = null;
+			}
+			this.format = messageFormat;
+			this.shareable = (messageFormat != null)
+					&& hasNoSubformat(messageFormat);
+		}
+
+		private static boolean hasNoSubformat(MessageFormat messageFormat) {
+			for (Format subformat : messageFormat.getFormats()) {
+				if (subformat != null) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		String format(Object... args) {
+			if (args == null || args.length == 0) {
+				return value;
+			} else if (format == null) {
+				return MessageFormat.format(value, args);
+			} else if (shareable) {
+				return format.format(args);
+			} else {
+				return ((MessageFormat) format.clone()).format(args);
+			}
+		}
+	}
 }
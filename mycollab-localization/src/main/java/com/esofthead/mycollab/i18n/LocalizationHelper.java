@@ -20,9 +20,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -44,30 +44,26 @@ import com.esofthead.mycollab.core.MyCollabException;
 public class LocalizationHelper {
 	private static final Logger LOG = LoggerFactory.getLogger(LocalizationHelper.class);
 
-	private static final Map<Locale, IMessageConveyor> languageMap;
+	private static final ConcurrentMap<Locale, IMessageConveyor> languageMap = new ConcurrentHashMap<>();
 
 	public static final Locale defaultLocale = Locale.US;
 
-	private static IMessageConveyor defaultMessage = new MessageConveyorExt(
-			Locale.US);
-
-	static {
-		languageMap = new HashMap<>();
-		languageMap.put(Locale.US, defaultMessage);
-	}
-
 	public static IMessageConveyor getMessageConveyor(Locale language) {
 		if (language == null) {
-			return languageMap.get(SiteConfiguration.getDefaultLocale());
-		} else {
-			IMessageConveyor messageConveyor = languageMap.get(language);
-			if (messageConveyor == null) {
-				messageConveyor = new MessageConveyorExt(language);
-				languageMap.put(language, messageConveyor);
-			}
+			language = SiteConfiguration.getDefaultLocale();
+		}
 
-			return messageConveyor;
+		IMessageConveyor messageConveyor = languageMap.get(language);
+		if (messageConveyor == null) {
+			messageConveyor = new MessageConveyorExt(language,
+					SiteConfiguration.isI18nReloadEnabled());
+			IMessageConveyor existingConveyor = languageMap.putIfAbsent(
+					language, messageConveyor);
+			if (existingConveyor != null) {
+				messageConveyor = existingConveyor;
+			}
 		}
+		return messageConveyor;
 	}
 
 	public static String getMessage(Locale locale, Enum<?> key,
@@ -77,7 +73,7 @@ public class LocalizationHelper {
 			return messageConveyor.getMessage(key, objects);
 		} catch (Exception e) {
 			try {
-				return defaultMessage.getMessage(key, objects);
+				return getMessageConveyor(defaultLocale).getMessage(key, objects);
 			} catch (Exception e1) {
 				LOG.error("Can not find resource key " + key, e);
 				return "Undefined";
@@ -98,7 +94,7 @@ public class LocalizationHelper {
 			return messageConveyor.getMessage(key, objects);
 		} catch (Exception e) {
 			try {
-				return defaultMessage.getMessage(key, objects);
+				return getMessageConveyor(defaultLocale).getMessage(key, objects);
 			} catch (Exception e1) {
 				LOG.error("Can not find resource key " + cls + "---" + option,
 						e);
@@ -107,7 +103,7 @@ public class LocalizationHelper {
 		}
 	}
 
-	private static Map<String, String> cacheFile = new HashMap<>();
+	private static final ConcurrentMap<String, String> cacheFile = new ConcurrentHashMap<>();
 
 	public static String templatePath(String fileTemplatePath, Locale locale) {
 		String key = (locale != null) ? (fileTemplatePath + locale.toString())
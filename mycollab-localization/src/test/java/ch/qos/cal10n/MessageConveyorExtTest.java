@@ -0,0 +1,100 @@
+package ch.qos.cal10n;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class MessageConveyorExtTest {
+
+	@BaseName("localization-test/test-message")
+	@LocaleData(value = { @Locale("en") }, defaultCharset = "UTF-8")
+	public enum TestI18nEnum {
+		HELLO, GREETING, QUOTED, PRICE, MISSING
+	}
+
+	private final MessageConveyorExt conveyor = new MessageConveyorExt(
+			java.util.Locale.ENGLISH);
+
+	@Test
+	public void testMessageWithoutArguments() {
+		assertThat(conveyor.getMessage(TestI18nEnum.HELLO)).isEqualTo("Hello");
+		assertThat(conveyor.getMessage(TestI18nEnum.QUOTED)).isEqualTo(
+				"It''s {0}");
+	}
+
+	@Test
+	public void testMessageWithArguments() {
+		assertThat(conveyor.getMessage(TestI18nEnum.GREETING, "Hai", 3))
+				.isEqualTo("Hello Hai, you have 3 new messages");
+		assertThat(conveyor.getMessage(TestI18nEnum.QUOTED, "done"))
+				.isEqualTo("It's done");
+		assertThat(conveyor.getMessage(TestI18nEnum.PRICE, 2.5, "items"))
+				.isEqualTo(
+						MessageFormat.format("Total {0,number,#.##} of {1}",
+								2.5, "items"));
+	}
+
+	@Test
+	public void testMissingKey() {
+		assertThat(conveyor.getMessage(TestI18nEnum.MISSING)).isEqualTo(
+				"No key found for MISSING");
+	}
+
+	@Test
+	public void testConcurrentLookups() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				final int thread = i;
+				results.add(executor.submit(new Callable<Integer>() {
+					@Override
+					public Integer call() throws Exception {
+						int mismatches = 0;
+						for (int j = 0; j < 5000; j++) {
+							double value = thread * 5000 + j + 0.25;
+							String expected = MessageFormat.format(
+									"Total {0,number,#.##} of {1}", value, j);
+							if (!expected.equals(conveyor.getMessage(
+									TestI18nEnum.PRICE, value, j))) {
+								mismatches++;
+							}
+							if (!("Hello u" + j + ", you have 1 new messages")
+									.equals(conveyor.getMessage(
+											TestI18nEnum.GREETING, "u" + j, 1))) {
+								mismatches++;
+							}
+						}
+						return mismatches;
+					}
+				}));
+			}
+
+			for (Future<Integer> result : results) {
+				assertThat(result.get()).isEqualTo(0);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSameMessagesAsMessageConveyor() {
+		IMessageConveyor original = new MessageConveyor(
+				java.util.Locale.ENGLISH);
+		assertThat(conveyor.getMessage(TestI18nEnum.HELLO)).isEqualTo(
+				original.getMessage(TestI18nEnum.HELLO));
+		assertThat(conveyor.getMessage(TestI18nEnum.GREETING, "Hai", 3))
+				.isEqualTo(original.getMessage(TestI18nEnum.GREETING, "Hai", 3));
+		assertThat(conveyor.getMessage(TestI18nEnum.PRICE, 2.5, "items"))
+				.isEqualTo(original.getMessage(TestI18nEnum.PRICE, 2.5, "items"));
+	}
+}
@@ -0,0 +1,34 @@
+CREATE TABLE `m_prj_project_statistic` (
+  `projectId` INT(10) UNSIGNED NOT NULL,
+  `numBugs` INT(11) NOT NULL DEFAULT 0,
+  `numOpenBugs` INT(11) NOT NULL DEFAULT 0,
+  `numTasks` INT(11) NOT NULL DEFAULT 0,
+  `numOpenTasks` INT(11) NOT NULL DEFAULT 0,
+  `numActiveMembers` INT(11) NOT NULL DEFAULT 0,
+  `numClosedPhase` INT(11) NOT NULL DEFAULT 0,
+  `numInProgressPhase` INT(11) NOT NULL DEFAULT 0,
+  `numFuturePhase` INT(11) NOT NULL DEFAULT 0,
+  `totalBillableHours` DOUBLE NOT NULL DEFAULT 0,
+  `totalNonBillableHours` DOUBLE NOT NULL DEFAULT 0,
+  PRIMARY KEY (`projectId`),
+  CONSTRAINT `FK_m_prj_project_statistic_1`
+    FOREIGN KEY (`projectId`)
+    REFERENCES `m_prj_project` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE);
+
+INSERT INTO `m_prj_project_statistic` (`projectId`, `numBugs`, `numOpenBugs`, `numTasks`, `numOpenTasks`,
+  `numActiveMembers`, `numClosedPhase`, `numInProgressPhase`, `numFuturePhase`, `totalBillableHours`,
+  `totalNonBillableHours`)
+SELECT m_prj_project.id,
+  (SELECT COUNT(*) FROM m_tracker_bug WHERE m_tracker_bug.projectid=m_prj_project.id),
+  (SELECT COUNT(*) FROM m_tracker_bug WHERE m_tracker_bug.projectid=m_prj_project.id AND m_tracker_bug.status IN ('Open', 'InProgress', 'ReOpened')),
+  (SELECT COUNT(*) FROM m_prj_task WHERE m_prj_task.projectid=m_prj_project.id),
+  (SELECT COUNT(*) FROM m_prj_task WHERE m_prj_task.projectid=m_prj_project.id AND m_prj_task.status='Open'),
+  (SELECT COUNT(*) FROM m_prj_member WHERE m_prj_member.projectId=m_prj_project.id AND m_prj_member.status='Active'),
+  (SELECT COUNT(*) FROM m_prj_milestone WHERE m_prj_milestone.projectid=m_prj_project.id AND m_prj_milestone.status='Closed'),
+  (SELECT COUNT(*) FROM m_prj_milestone WHERE m_prj_milestone.projectid=m_prj_project.id AND m_prj_milestone.status='InProgress'),
+  (SELECT COUNT(*) FROM m_prj_milestone WHERE m_prj_milestone.projectid=m_prj_project.id AND m_prj_milestone.status='Future'),
+  IFNULL((SELECT SUM(m_prj_time_logging.logValue) FROM m_prj_time_logging WHERE m_prj_time_logging.projectId=m_prj_project.id AND m_prj_time_logging.isBillable=1), 0),
+  IFNULL((SELECT SUM(m_prj_time_logging.logValue) FROM m_prj_time_logging WHERE m_prj_time_logging.projectId=m_prj_project.id AND m_prj_time_logging.isBillable=0), 0)
+FROM m_prj_project;
@@ -0,0 +1,20 @@
+CREATE TABLE `m_prj_ticket_key` (
+  `projectId` INT(10) UNSIGNED NOT NULL,
+  `type` VARCHAR(45) NOT NULL,
+  `lastKey` INT(11) NOT NULL DEFAULT 0,
+  PRIMARY KEY (`projectId`, `type`),
+  CONSTRAINT `FK_m_prj_ticket_key_1`
+    FOREIGN KEY (`projectId`)
+    REFERENCES `m_prj_project` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE);
+
+INSERT INTO `m_prj_ticket_key` (`projectId`, `type`, `lastKey`)
+SELECT m_prj_project.id, 'Project-Bug', IFNULL(MAX(m_tracker_bug.bugkey), 0)
+FROM m_prj_project LEFT OUTER JOIN m_tracker_bug ON (m_tracker_bug.projectid = m_prj_project.id)
+GROUP BY m_prj_project.id;
+
+INSERT INTO `m_prj_ticket_key` (`projectId`, `type`, `lastKey`)
+SELECT m_prj_project.id, 'Project-Task', IFNULL(MAX(m_prj_task.taskkey), 0)
+FROM m_prj_project LEFT OUTER JOIN m_prj_task ON (m_prj_task.projectid = m_prj_project.id)
+GROUP BY m_prj_project.id;
@@ -0,0 +1,8 @@
+CREATE TABLE `s_cache_invalidation` (
+  `id` BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  `nodeId` VARCHAR(45) NOT NULL,
+  `sAccountId` INT(11) NOT NULL,
+  `groupKey` VARCHAR(255) NOT NULL,
+  `createdTime` DATETIME NOT NULL,
+  PRIMARY KEY (`id`),
+  INDEX `INDEX_s_cache_invalidation_1` (`createdTime` ASC));
@@ -0,0 +1,77 @@
+CREATE TABLE `m_prj_search_item` (
+  `type` VARCHAR(45) NOT NULL,
+  `itemId` INT(10) UNSIGNED NOT NULL,
+  `typeId` VARCHAR(45) NULL,
+  `extraTypeId` INT(10) UNSIGNED NULL,
+  `projectId` INT(10) UNSIGNED NOT NULL,
+  `sAccountId` INT(10) UNSIGNED NOT NULL,
+  `createdUser` VARCHAR(45) NULL,
+  `createdTime` DATETIME NULL,
+  `lastUpdatedTime` DATETIME NULL,
+  `summary` VARCHAR(1000) NULL,
+  `description` LONGTEXT NULL,
+  `keywords` LONGTEXT NULL,
+  PRIMARY KEY (`type`, `itemId`),
+  INDEX `INDEX_m_prj_search_item_1` (`projectId`, `lastUpdatedTime`),
+  INDEX `INDEX_m_prj_search_item_2` (`sAccountId`),
+  FULLTEXT INDEX `FTX_m_prj_search_item` (`summary`, `description`, `keywords`),
+  CONSTRAINT `FK_m_prj_search_item_1`
+    FOREIGN KEY (`projectId`)
+    REFERENCES `m_prj_project` (`id`)
+    ON DELETE CASCADE
+    ON UPDATE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Task', id, taskkey, id, projectid, sAccountId, logBy, createdTime, lastUpdatedTime,
+  taskname, notes, NULL
+FROM m_prj_task;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-TaskList', id, id, NULL, projectid, sAccountId, createduser, createdTime, lastUpdatedTime,
+  name, description, NULL
+FROM m_prj_task_list;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Message', id, id, NULL, projectid, sAccountId, posteduser, createdTime, lastUpdatedTime,
+  title, message, NULL
+FROM m_prj_message;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Milestone', id, id, NULL, projectid, sAccountId, createduser, createdTime, lastUpdatedTime,
+  name, description, NULL
+FROM m_prj_milestone;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Bug', id, bugkey, id, projectid, sAccountId, logby, createdTime, lastUpdatedTime,
+  summary, description, environment
+FROM m_tracker_bug;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Component', id, id, NULL, projectid, sAccountId, createdUser, createdTime, lastUpdatedTime,
+  componentname, description, NULL
+FROM m_tracker_component;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Version', id, id, NULL, projectid, sAccountId, createdUser, createdTime, lastUpdatedTime,
+  versionname, description, NULL
+FROM m_tracker_version;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Risk', id, id, NULL, projectid, sAccountId, raisedbyuser, createdTime, lastUpdatedTime,
+  riskname, description, NULL
+FROM m_prj_risk;
+
+INSERT INTO `m_prj_search_item` (`type`, `itemId`, `typeId`, `extraTypeId`, `projectId`, `sAccountId`,
+  `createdUser`, `createdTime`, `lastUpdatedTime`, `summary`, `description`, `keywords`)
+SELECT 'Project-Problem', id, id, NULL, projectid, sAccountId, raisedbyuser, createdTime, lastUpdatedTime,
+  issuename, description, NULL
+FROM m_prj_problem;
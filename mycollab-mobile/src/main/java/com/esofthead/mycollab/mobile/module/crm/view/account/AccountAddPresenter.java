@@ -75,7 +75,7 @@ public class AccountAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 
 			SimpleAccount account = null;
 			if (data.getParams() instanceof SimpleAccount) {
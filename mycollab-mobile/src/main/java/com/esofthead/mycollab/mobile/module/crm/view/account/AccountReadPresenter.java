@@ -322,7 +322,7 @@ public class AccountReadPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 			if (data.getParams() instanceof Integer) {
 				AccountService accountService = ApplicationContextUtil
 						.getSpringBean(AccountService.class);
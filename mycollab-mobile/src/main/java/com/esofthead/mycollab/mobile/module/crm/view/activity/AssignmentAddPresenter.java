@@ -73,7 +73,7 @@ public class AssignmentAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_TASK)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
 
 			Task task = null;
 			if (data.getParams() instanceof Task) {
@@ -152,7 +152,7 @@ public class AssignmentReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_TASK)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
 
 			SimpleTask task = null;
 			if (data.getParams() instanceof Integer) {
@@ -74,7 +74,7 @@ public class CallAddPresenter extends AbstractMobilePresenter<CallAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CALL)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 
 			CallWithBLOBs call = null;
 
@@ -145,7 +145,7 @@ public class CallReadPresenter extends AbstractMobilePresenter<CallReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CALL)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 
 			SimpleCall call = null;
 			if (data.getParams() instanceof Integer) {
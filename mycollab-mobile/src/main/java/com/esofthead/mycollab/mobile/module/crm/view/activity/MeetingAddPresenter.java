@@ -74,7 +74,7 @@ public class MeetingAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_MEETING)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 
 			MeetingWithBLOBs meeting = null;
 			if (data.getParams() instanceof MeetingWithBLOBs) {
@@ -150,7 +150,7 @@ public class MeetingReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 
 			SimpleMeeting meeting = null;
 			if (data.getParams() instanceof Integer) {
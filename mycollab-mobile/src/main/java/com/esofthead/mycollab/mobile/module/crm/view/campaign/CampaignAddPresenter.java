@@ -75,7 +75,7 @@ public class CampaignAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 
 			SimpleCampaign campaign = null;
 			if (data.getParams() instanceof SimpleCampaign) {
@@ -311,7 +311,7 @@ public class CampaignReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 
 			if (data.getParams() instanceof Integer) {
 				CampaignService campaignService = ApplicationContextUtil
@@ -74,7 +74,7 @@ public class CaseAddPresenter extends AbstractMobilePresenter<CaseAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 
 			SimpleCase cases = null;
 			if (data.getParams() instanceof SimpleCase) {
@@ -235,7 +235,7 @@ public class CaseReadPresenter extends AbstractMobilePresenter<CaseReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 
 			if (data.getParams() instanceof Integer) {
 				CaseService caseService = ApplicationContextUtil
@@ -75,7 +75,7 @@ public class ContactAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 
 			SimpleContact contact = null;
 			if (data.getParams() instanceof SimpleContact) {
@@ -259,7 +259,7 @@ public class ContactReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CONTACT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 			/*
 			 * CrmNavigationMenu crmToolbar = (CrmNavigationMenu) container
 			 * .getNavigationMenu(); crmToolbar.selectButton(AppContext
@@ -74,7 +74,7 @@ public class LeadAddPresenter extends AbstractMobilePresenter<LeadAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 
 			SimpleLead lead = null;
 
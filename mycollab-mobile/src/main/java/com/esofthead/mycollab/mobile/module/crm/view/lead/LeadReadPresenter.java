@@ -237,7 +237,7 @@ public class LeadReadPresenter extends AbstractMobilePresenter<LeadReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 
 			if (data.getParams() instanceof Integer) {
 				LeadService leadService = ApplicationContextUtil
@@ -75,7 +75,7 @@ public class OpportunityAddPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 
 			SimpleOpportunity opportunity = null;
 			if (data.getParams() instanceof SimpleOpportunity) {
@@ -283,7 +283,7 @@ public class OpportunityReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 
 			if (data.getParams() instanceof Integer) {
 				OpportunityService opportunityService = ApplicationContextUtil
@@ -16,21 +16,18 @@
  */
 package com.esofthead.mycollab.mobile.module.project;
 
-import java.util.List;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.esofthead.mycollab.vaadin.ui.MyCollabSession;
 import com.esofthead.mycollab.core.MyCollabException;
-import com.esofthead.mycollab.module.project.dao.ProjectRolePermissionMapper;
+import com.esofthead.mycollab.module.project.ProjectRolePermissionCollections;
 import com.esofthead.mycollab.module.project.domain.ProjectMember;
-import com.esofthead.mycollab.module.project.domain.ProjectRolePermission;
-import com.esofthead.mycollab.module.project.domain.ProjectRolePermissionExample;
 import com.esofthead.mycollab.module.project.domain.SimpleProject;
 import com.esofthead.mycollab.module.project.domain.SimpleProjectMember;
 import com.esofthead.mycollab.module.project.service.ProjectMemberService;
-import com.esofthead.mycollab.security.PermissionMap;
+import com.esofthead.mycollab.module.project.service.ProjectRoleService;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.spring.ApplicationContextUtil;
 import com.esofthead.mycollab.vaadin.AppContext;
 
@@ -64,20 +61,15 @@ public class CurrentProjectVariables {
 			if (((prjMember.getIsadmin() != null && prjMember.getIsadmin() == Boolean.FALSE) || (prjMember
 					.getIsadmin() == null))
 					&& prjMember.getProjectroleid() != null) {
-				ProjectRolePermissionExample ex = new ProjectRolePermissionExample();
-				ex.createCriteria()
-						.andRoleidEqualTo(prjMember.getProjectroleid())
-						.andProjectidEqualTo(
-								CurrentProjectVariables.getProjectId());
-				ProjectRolePermissionMapper rolePermissionMapper = ApplicationContextUtil
-						.getSpringBean(ProjectRolePermissionMapper.class);
-				List<ProjectRolePermission> rolePermissions = rolePermissionMapper
-						.selectByExampleWithBLOBs(ex);
-				if (!rolePermissions.isEmpty()) {
-					ProjectRolePermission rolePer = rolePermissions.get(0);
-					PermissionMap permissionMap = PermissionMap
-							.fromJsonString(rolePer.getRoleval());
-					prjMember.setPermissionMaps(permissionMap);
+				ProjectRoleService projectRoleService = ApplicationContextUtil
+						.getSpringBean(ProjectRoleService.class);
+				CompiledPermissions permissions = projectRoleService
+						.findCompiledPermissions(project.getId(),
+								prjMember.getProjectroleid(),
+								AppContext.getAccountId());
+				if (permissions != null) {
+					prjMember.setPermissions(permissions);
+					prjMember.setPermissionMaps(permissions.getPermissionMap());
 				}
 			}
 
@@ -109,17 +101,22 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canRead(String permissionItem) {
+		return canRead(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canRead(int permissionSlot) {
 		if (isAdmin()) {
 			return true;
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			if (permissionMap == null) {
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			if (permissions == null) {
 				return false;
 			} else {
-				return permissionMap.canRead(permissionItem);
+				return permissions.canRead(permissionSlot);
 			}
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
@@ -128,17 +125,22 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canWrite(String permissionItem) {
+		return canWrite(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canWrite(int permissionSlot) {
 		if (isAdmin()) {
 			return true;
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			if (permissionMap == null) {
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			if (permissions == null) {
 				return false;
 			} else {
-				return permissionMap.canWrite(permissionItem);
+				return permissions.canWrite(permissionSlot);
 			}
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
@@ -147,17 +149,22 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canAccess(String permissionItem) {
+		return canAccess(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canAccess(int permissionSlot) {
 		if (isAdmin()) {
 			return true;
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			if (permissionMap == null) {
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			if (permissions == null) {
 				return false;
 			} else {
-				return permissionMap.canAccess(permissionItem);
+				return permissions.canAccess(permissionSlot);
 			}
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
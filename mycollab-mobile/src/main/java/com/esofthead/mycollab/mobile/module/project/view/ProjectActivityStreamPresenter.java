@@ -53,7 +53,7 @@ public class ProjectActivityStreamPresenter
 	@Override
 	protected void onGo(ComponentContainer navigator, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.PROJECT)) {
+				.canRead(ProjectRolePermissionCollections.PROJECT_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu
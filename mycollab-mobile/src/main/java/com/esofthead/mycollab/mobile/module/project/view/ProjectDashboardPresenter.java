@@ -47,7 +47,7 @@ public class ProjectDashboardPresenter extends
 			// TODO: Handle edit project
 		} else {
 			if (CurrentProjectVariables
-					.canRead(ProjectRolePermissionCollections.PROJECT)) {
+					.canRead(ProjectRolePermissionCollections.PROJECT_SLOT)) {
 				super.onGo(container, data);
 				view.displayDashboard();
 				AppContext.addFragment(ProjectLinkGenerator
@@ -86,7 +86,7 @@ public class BugAddPresenter extends AbstractMobilePresenter<BugAddView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.BUGS)) {
+				.canWrite(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
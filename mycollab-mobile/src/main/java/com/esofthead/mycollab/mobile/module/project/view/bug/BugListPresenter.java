@@ -51,7 +51,7 @@ public class BugListPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.BUGS)) {
+				.canRead(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
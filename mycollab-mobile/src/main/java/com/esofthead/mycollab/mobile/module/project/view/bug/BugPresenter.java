@@ -49,7 +49,7 @@ public class BugPresenter extends AbstractMobilePresenter<BugContainer> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.BUGS)) {
+				.canRead(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
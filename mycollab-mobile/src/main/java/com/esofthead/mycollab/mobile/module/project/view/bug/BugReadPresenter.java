@@ -115,7 +115,7 @@ public class BugReadPresenter extends AbstractMobilePresenter<BugReadView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.BUGS)) {
+				.canRead(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
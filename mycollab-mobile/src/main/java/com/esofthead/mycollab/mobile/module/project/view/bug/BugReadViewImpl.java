@@ -253,7 +253,7 @@ public class BugReadViewImpl extends AbstractPreviewItemComp<SimpleBug>
 			bugWorkFlowControl.addComponent(reopenBtn);
 		}
 		this.bugWorkFlowControl.setEnabled(CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.BUGS));
+				.canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
 	}
 
 	@Override
@@ -78,7 +78,7 @@ public class BugTimeLogComp extends TimeLogComp<SimpleBug> {
 	@Override
 	protected boolean hasEditPermission() {
 		return CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.BUGS);
+				.canWrite(ProjectRolePermissionCollections.BUGS_SLOT);
 	}
 
 	@Override
@@ -142,7 +142,7 @@ public class BugTimeLogComp extends TimeLogComp<SimpleBug> {
 		@Override
 		protected boolean isEnableAdd() {
 			return CurrentProjectVariables
-					.canWrite(ProjectRolePermissionCollections.BUGS);
+					.canWrite(ProjectRolePermissionCollections.BUGS_SLOT);
 		}
 
 	}
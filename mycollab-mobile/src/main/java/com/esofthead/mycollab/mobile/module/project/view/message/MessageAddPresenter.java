@@ -91,7 +91,7 @@ public class MessageAddPresenter extends
 	@Override
 	protected void onGo(ComponentContainer navigator, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.MESSAGES)) {
+				.canWrite(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
@@ -51,7 +51,7 @@ public class MessageListPresenter
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MESSAGES)) {
+				.canRead(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
@@ -48,7 +48,7 @@ public class MessagePresenter extends AbstractPresenter<MessageContainer> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MESSAGES)) {
+				.canRead(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
@@ -83,7 +83,7 @@ public class MilestoneAddPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.MILESTONES)) {
+				.canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
@@ -87,7 +87,7 @@ public class ProjectMemberInvitePresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.USERS)) {
+				.canWrite(ProjectRolePermissionCollections.USERS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
@@ -105,7 +105,7 @@ public class ProjectMemberReadPresenter extends
 			}
 		}
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.USERS)
+				.canRead(ProjectRolePermissionCollections.USERS_SLOT)
 				|| isCurrentUserAccess) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
@@ -81,7 +81,7 @@ public class TaskAddPresenter extends AbstractMobilePresenter<TaskAddView> {
 	@Override
 	protected void onGo(ComponentContainer navigator, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS)) {
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT)) {
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
 			projectModuleMenu.selectButton(AppContext
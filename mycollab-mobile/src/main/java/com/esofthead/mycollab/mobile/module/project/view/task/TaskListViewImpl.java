@@ -98,7 +98,7 @@ public class TaskListViewImpl extends
 		viewTaskList.setWidth("100%");
 
 		viewTaskList.setEnabled(CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS));
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
 
 		Button addNewTask = new Button(
 				AppContext.getMessage(TaskI18nEnum.BUTTON_NEW_TASK),
@@ -115,7 +115,7 @@ public class TaskListViewImpl extends
 				});
 		addNewTask.setWidth("100%");
 		addNewTask.setEnabled(CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS));
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
 
 		Button closeBtn = new Button(
 				AppContext.getMessage(GenericI18Enum.BUTTON_CLOSE),
@@ -135,7 +135,7 @@ public class TaskListViewImpl extends
 				});
 		closeBtn.setWidth("100%");
 		closeBtn.setEnabled(CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS));
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
 
 		controlsGenerator.insertToControlBlock(closeBtn);
 		controlsGenerator.insertToControlBlock(viewTaskList);
@@ -108,7 +108,7 @@ public class TaskReadPresenter extends AbstractMobilePresenter<TaskReadView> {
 	protected void onGo(final ComponentContainer container,
 			final ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.TASKS)) {
+				.canRead(ProjectRolePermissionCollections.TASKS_SLOT)) {
 
 			InsideProjectNavigationMenu projectModuleMenu = (InsideProjectNavigationMenu) ((MobileNavigationManager) UI
 					.getCurrent().getContent()).getNavigationMenu();
@@ -222,7 +222,7 @@ public class TaskReadViewImpl extends AbstractPreviewItemComp<SimpleTask>
 		taskPreviewForm.insertToControlBlock(quickActionStatusBtn);
 
 		if (!CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS)) {
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT)) {
 			quickActionStatusBtn.setEnabled(false);
 		}
 
@@ -78,7 +78,7 @@ public class TaskTimeLogComp extends TimeLogComp<SimpleTask> {
 	@Override
 	protected boolean hasEditPermission() {
 		return CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS);
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT);
 	}
 
 	@Override
@@ -142,7 +142,7 @@ public class TaskTimeLogComp extends TimeLogComp<SimpleTask> {
 		@Override
 		protected boolean isEnableAdd() {
 			return CurrentProjectVariables
-					.canWrite(ProjectRolePermissionCollections.TASKS);
+					.canWrite(ProjectRolePermissionCollections.TASKS_SLOT);
 		}
 
 	}
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.persistence.service.ISearchableService;
 
 /**
@@ -43,7 +44,7 @@ public class GroupIteratorDataSource<SearchService extends ISearchableService<S>
 			.getLogger(GroupIteratorDataSource.class);
 
 	private int currentIndex = 0;
-	private int currentPage = 0;
+	private int currentPage = 1;
 
 	private SearchService searchService;
 	private S searchCriteria;
@@ -67,12 +68,19 @@ public class GroupIteratorDataSource<SearchService extends ISearchableService<S>
 	public boolean next() throws JRException {
 		boolean result = (currentIndex < totalItems);
 		if (result) {
-			if (currentIndex == (currentPage + 1) * ITEMS_PER_PAGE) {
+			if (currentIndex == currentPage * ITEMS_PER_PAGE) {
 				currentPage = currentPage + 1;
-				SearchRequest<S> searchRequest = new SearchRequest<>(
-						searchCriteria, currentPage, ITEMS_PER_PAGE);
-				currentData = searchService
-						.findPagableListByCriteria(searchRequest);
+				SeekCursor seekCursor = searchService.buildSeekCursor(
+						searchCriteria, currentItem);
+				if (seekCursor != null) {
+					currentData = searchService.findPagableListBySeek(
+							searchCriteria, seekCursor, ITEMS_PER_PAGE);
+				} else {
+					SearchRequest<S> searchRequest = new SearchRequest<>(
+							searchCriteria, currentPage, ITEMS_PER_PAGE);
+					currentData = searchService
+							.findPagableListByCriteria(searchRequest);
+				}
 				LOG.debug("Current data {}", currentData.size());
 			}
 
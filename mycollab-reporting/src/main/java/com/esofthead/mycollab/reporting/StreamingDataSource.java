@@ -0,0 +1,170 @@
+/**
+ * This file is part of mycollab-reporting.
+ *
+ * mycollab-reporting is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-reporting is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-reporting.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.reporting;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRField;
+
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.esofthead.mycollab.core.MyCollabThread;
+
+/**
+ * Report data source reading the items of one streaming query. The query runs
+ * in its own thread and hands the items over through a bounded queue, so the
+ * report is filled with one database round trip and without keeping all items
+ * in memory.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public abstract class StreamingDataSource implements JRDataSource {
+	private static final Logger LOG = LoggerFactory
+			.getLogger(StreamingDataSource.class);
+
+	private static final int BUFFER_SIZE = 200;
+
+	/**
+	 * The query gives up when the report does not take any item for this
+	 * long, e.g. the report filling failed.
+	 */
+	private static final long MAX_STALL_SECONDS = 300;
+
+	private static final Object END_OF_DATA = new Object();
+
+	private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(
+			BUFFER_SIZE);
+
+	private volatile boolean closed;
+	private volatile Throwable failure;
+
+	private boolean started;
+	private boolean finished;
+	private Object currentItem;
+
+	/**
+	 * Runs the query passing every read item to the handler.
+	 * 
+	 * @param handler
+	 */
+	protected abstract void streamItems(ResultHandler handler);
+
+	@Override
+	public boolean next() throws JRException {
+		if (finished) {
+			return false;
+		}
+
+		if (!started) {
+			started = true;
+			startQuery();
+		}
+
+		Object item;
+		try {
+			item = queue.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new JRException(e);
+		}
+
+		if (item == END_OF_DATA) {
+			finished = true;
+			currentItem = null;
+			if (failure != null) {
+				throw new JRException("Can not read the report items", failure);
+			}
+			return false;
+		}
+
+		currentItem = item;
+		return true;
+	}
+
+	@Override
+	public Object getFieldValue(JRField jrField) throws JRException {
+		try {
+			return PropertyUtils.getProperty(currentItem, jrField.getName());
+		} catch (Exception e) {
+			throw new JRException(e);
+		}
+	}
+
+	/**
+	 * Stops the query if it is still running.
+	 */
+	public void close() {
+		closed = true;
+		queue.clear();
+	}
+
+	private void startQuery() {
+		Thread queryThread = new MyCollabThread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					streamItems(new ResultHandler() {
+						@Override
+						public void handleResult(ResultContext context) {
+							if (!enqueue(context.getResultObject())) {
+								context.stop();
+							}
+						}
+					});
+				} catch (Throwable e) {
+					LOG.error("Error while streaming report items", e);
+					failure = e;
+				} finally {
+					enqueue(END_OF_DATA);
+				}
+			}
+		});
+		queryThread.setDaemon(true);
+		queryThread.start();
+	}
+
+	private boolean enqueue(Object item) {
+		try {
+			long stalledSeconds = 0;
+			while (!closed) {
+				if (queue.offer(item, 1, TimeUnit.SECONDS)) {
+					return true;
+				}
+
+				stalledSeconds++;
+				if (stalledSeconds >= MAX_STALL_SECONDS) {
+					LOG.warn("Report does not take items, stop streaming");
+					closed = true;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,336 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+
+import com.esofthead.mycollab.common.MonitorTypeConstants;
+import com.esofthead.mycollab.common.domain.SimpleRelayEmailNotification;
+import com.esofthead.mycollab.common.domain.criteria.RelayEmailNotificationSearchCriteria;
+import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SetSearchField;
+import com.esofthead.mycollab.core.arguments.StringSearchField;
+import com.esofthead.mycollab.schedule.email.RelayNotificationEvent;
+import com.esofthead.mycollab.schedule.email.SendingRelayEmailNotificationAction;
+
+/**
+ * Sends relay email notifications shortly after they are saved instead of
+ * waiting for the schedule jobs. Notifications of the same item are held
+ * until the item is quiet for the coalesce window (or waits longer than the
+ * max delay), so the notifications of a burst of edits are sent by one
+ * dispatch instead of one per edit. Each notification is still sent as it
+ * was saved, with the change set of its own audit log. Ready items are sent
+ * round robin across accounts so a busy account can not starve the others.
+ * The relay notification jobs still run as a safety sweep, they never run at
+ * the same time with the dispatcher.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class RelayNotificationDispatcher implements ApplicationListener<RelayNotificationEvent>,
+        ApplicationContextAware, InitializingBean, DisposableBean {
+    private static final Logger LOG = LoggerFactory.getLogger(RelayNotificationDispatcher.class);
+
+    private static final long TICK_INTERVAL = 1000;
+
+    @Autowired
+    private RelayEmailNotificationService relayEmailNotificationService;
+
+    private ApplicationContext applicationContext;
+
+    private final Semaphore sendingPermit = new Semaphore(1);
+
+    /**
+     * Pending items grouped by account, in round robin order of accounts.
+     * Guarded by this.
+     */
+    private final LinkedHashMap<Integer, LinkedHashMap<String, PendingItem>> pendingItems = new LinkedHashMap<>();
+
+    private ScheduledExecutorService ticker;
+
+    private final AtomicLong receivedCount = new AtomicLong();
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "relay-notification-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        ticker.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    dispatchReadyItems(System.currentTimeMillis());
+                } catch (Throwable e) {
+                    LOG.error("Error when dispatch relay email notifications", e);
+                }
+            }
+        }, TICK_INTERVAL, TICK_INTERVAL, TimeUnit.MILLISECONDS);
+        LOG.info("Start relay notification dispatcher with coalesce window {} ms, max delay {} ms",
+                getCoalesceWindow(), getMaxDelay());
+    }
+
+    long getCoalesceWindow() {
+        return SiteConfiguration.getNotificationCoalesceWindow();
+    }
+
+    long getMaxDelay() {
+        return SiteConfiguration.getNotificationMaxDelay();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(RelayNotificationEvent event) {
+        if (event.getAccountId() == null || event.getType() == null || event.getTypeId() == null) {
+            return;
+        }
+        receivedCount.incrementAndGet();
+        long now = System.currentTimeMillis();
+        String key = event.getType() + "#" + event.getTypeId();
+        synchronized (this) {
+            LinkedHashMap<String, PendingItem> accountItems = pendingItems.get(event.getAccountId());
+            if (accountItems == null) {
+                accountItems = new LinkedHashMap<>();
+                pendingItems.put(event.getAccountId(), accountItems);
+            }
+            PendingItem item = accountItems.get(key);
+            if (item == null) {
+                accountItems.put(key, new PendingItem(event.getAccountId(), event.getType(), event.getTypeId(), now));
+            } else {
+                item.lastSeen = now;
+                coalescedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Acquires the sending permit for a relay notification sweep job.
+     *
+     * @return false if the dispatcher is sending notifications
+     */
+    boolean tryAcquireSending() {
+        return sendingPermit.tryAcquire();
+    }
+
+    void releaseSending() {
+        sendingPermit.release();
+    }
+
+    void dispatchReadyItems(long now) {
+        if (!sendingPermit.tryAcquire()) {
+            return;
+        }
+        try {
+            for (PendingItem item : collectReadyItems(now)) {
+                dispatchedCount.incrementAndGet();
+                try {
+                    dispatchItem(item);
+                } catch (Exception e) {
+                    failedCount.incrementAndGet();
+                    LOG.error("Error when send notifications of " + item.type + " " + item.typeId
+                            + ", the unsent ones will be sent again by the next dispatch or schedule sweep", e);
+                }
+            }
+        } finally {
+            sendingPermit.release();
+        }
+    }
+
+    /**
+     * Takes the ready items, interleaved by account: the first ready item of
+     * every account, then the second one and so on. The account served
+     * first is rotated to the end for the next tick.
+     */
+    synchronized List<PendingItem> collectReadyItems(long now) {
+        long coalesceWindow = getCoalesceWindow();
+        long maxDelay = getMaxDelay();
+
+        List<List<PendingItem>> accountReadyItems = new ArrayList<>();
+        int maxReadyItems = 0;
+        Iterator<Map.Entry<Integer, LinkedHashMap<String, PendingItem>>> accountIterator = pendingItems.entrySet()
+                .iterator();
+        while (accountIterator.hasNext()) {
+            LinkedHashMap<String, PendingItem> accountItems = accountIterator.next().getValue();
+            List<PendingItem> readyItems = new ArrayList<>();
+            Iterator<PendingItem> itemIterator = accountItems.values().iterator();
+            while (itemIterator.hasNext()) {
+                PendingItem item = itemIterator.next();
+                if (now - item.lastSeen >= coalesceWindow || now - item.firstSeen >= maxDelay) {
+                    readyItems.add(item);
+                    itemIterator.remove();
+                }
+            }
+            if (!readyItems.isEmpty()) {
+                accountReadyItems.add(readyItems);
+                maxReadyItems = Math.max(maxReadyItems, readyItems.size());
+            }
+            if (accountItems.isEmpty()) {
+                accountIterator.remove();
+            }
+        }
+
+        if (!pendingItems.isEmpty()) {
+            Integer firstAccountId = pendingItems.keySet().iterator().next();
+            pendingItems.put(firstAccountId, pendingItems.remove(firstAccountId));
+        }
+
+        List<PendingItem> result = new ArrayList<>();
+        for (int i = 0; i < maxReadyItems; i++) {
+            for (List<PendingItem> readyItems : accountReadyItems) {
+                if (i < readyItems.size()) {
+                    result.add(readyItems.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatchItem(PendingItem item) throws ClassNotFoundException {
+        RelayEmailNotificationSearchCriteria criteria = new RelayEmailNotificationSearchCriteria();
+        criteria.setSaccountid(new NumberSearchField(item.accountId));
+        criteria.setTypes(new SetSearchField<>(item.type));
+        criteria.setTypeid(new StringSearchField(item.typeId));
+        List<SimpleRelayEmailNotification> notifications = relayEmailNotificationService
+                .findPagableListByCriteria(new SearchRequest<>(criteria, 0, Integer.MAX_VALUE));
+
+        for (SimpleRelayEmailNotification notification : notifications) {
+            // claim the notification so no other node or sweep sends it again
+            if (relayEmailNotificationService.removeWithSession(notification.getId(), null,
+                    item.accountId) == 0) {
+                continue;
+            }
+
+            try {
+                SendingRelayEmailNotificationAction emailNotificationAction = (SendingRelayEmailNotificationAction)
+                        applicationContext.getBean(Class.forName(notification.getEmailhandlerbean()));
+                if (MonitorTypeConstants.CREATE_ACTION.equals(notification.getAction())) {
+                    emailNotificationAction.sendNotificationForCreateAction(notification);
+                } else if (MonitorTypeConstants.UPDATE_ACTION.equals(notification.getAction())) {
+                    emailNotificationAction.sendNotificationForUpdateAction(notification);
+                } else if (MonitorTypeConstants.ADD_COMMENT_ACTION.equals(notification.getAction())) {
+                    emailNotificationAction.sendNotificationForCommentAction(notification);
+                }
+            } catch (Exception e) {
+                restore(notification);
+                throw e;
+            }
+            sentCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Puts back a claimed notification which could not be sent, the next
+     * dispatch or schedule sweep sends it again.
+     */
+    private void restore(SimpleRelayEmailNotification notification) {
+        try {
+            notification.setId(null);
+            relayEmailNotificationService.saveWithSession(notification, null);
+        } catch (Exception e) {
+            LOG.error("Can not restore the relay notification of " + notification.getType() + " "
+                    + notification.getTypeid() + ", it is lost", e);
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (LinkedHashMap<String, PendingItem> accountItems : pendingItems.values()) {
+            count += accountItems.size();
+        }
+        return count;
+    }
+
+    public long getReceivedCount() {
+        return receivedCount.get();
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    static class PendingItem {
+        final Integer accountId;
+        final String type;
+        final String typeId;
+        final long firstSeen;
+        long lastSeen;
+
+        PendingItem(Integer accountId, String type, String typeId, long now) {
+            this.accountId = accountId;
+            this.type = type;
+            this.typeId = typeId;
+            this.firstSeen = now;
+            this.lastSeen = now;
+        }
+    }
+}
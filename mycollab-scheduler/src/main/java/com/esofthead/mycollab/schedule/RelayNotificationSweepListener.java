@@ -0,0 +1,87 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+import org.quartz.Trigger;
+import org.quartz.Trigger.CompletedExecutionInstruction;
+import org.quartz.TriggerListener;
+
+/**
+ * Skips a relay notification sweep job while the
+ * {@link RelayNotificationDispatcher} is sending notifications, and blocks the
+ * dispatcher while the sweep job runs.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class RelayNotificationSweepListener implements TriggerListener, JobListener {
+    private final RelayNotificationDispatcher dispatcher;
+    private final Set<String> sweepJobNames;
+
+    public RelayNotificationSweepListener(RelayNotificationDispatcher dispatcher, String... sweepJobNames) {
+        this.dispatcher = dispatcher;
+        this.sweepJobNames = new HashSet<>(Arrays.asList(sweepJobNames));
+    }
+
+    @Override
+    public String getName() {
+        return "relayNotificationSweepListener";
+    }
+
+    @Override
+    public void triggerFired(Trigger trigger, JobExecutionContext context) {
+    }
+
+    @Override
+    public boolean vetoJobExecution(Trigger trigger, JobExecutionContext context) {
+        if (sweepJobNames.contains(trigger.getJobKey().getName())) {
+            return !dispatcher.tryAcquireSending();
+        }
+        return false;
+    }
+
+    @Override
+    public void triggerMisfired(Trigger trigger) {
+    }
+
+    @Override
+    public void triggerComplete(Trigger trigger, JobExecutionContext context,
+                                CompletedExecutionInstruction triggerInstructionCode) {
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        if (sweepJobNames.contains(context.getJobDetail().getKey().getName())) {
+            dispatcher.releaseSending();
+        }
+    }
+}
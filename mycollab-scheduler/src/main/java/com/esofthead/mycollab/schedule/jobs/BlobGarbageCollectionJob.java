@@ -0,0 +1,47 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule.jobs;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import com.esofthead.mycollab.module.file.service.RawContentService;
+import com.esofthead.mycollab.module.file.service.impl.ContentAddressedRawContentServiceImpl;
+
+/**
+ * Deletes the content blobs which are not referenced by any file any more,
+ * when the storage deduplication is enabled.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@DisallowConcurrentExecution
+public class BlobGarbageCollectionJob extends QuartzJobBean {
+
+    @Autowired
+    private RawContentService rawContentService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        if (rawContentService instanceof ContentAddressedRawContentServiceImpl) {
+            ((ContentAddressedRawContentServiceImpl) rawContentService).collectGarbage();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule.jobs;
+
+import java.util.List;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import com.esofthead.mycollab.module.ecm.service.DriveInfoService;
+
+/**
+ * Compares the used volume of every account with the size of its files in the
+ * storage and corrects the drift left by failed volume updates.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@DisallowConcurrentExecution
+public class DriveUsageReconciliationJob extends QuartzJobBean {
+    private static final Logger LOG = LoggerFactory.getLogger(DriveUsageReconciliationJob.class);
+
+    @Autowired
+    private DriveInfoService driveInfoService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        List<Integer> accountIds = driveInfoService.findAccountIds();
+        for (Integer accountId : accountIds) {
+            try {
+                driveInfoService.reconcileUsedVolume(accountId);
+            } catch (Exception e) {
+                LOG.error("Error while reconciling the used volume of account " + accountId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule.jobs;
+
+import java.util.List;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import com.esofthead.mycollab.module.project.service.ProjectSearchIndexService;
+
+/**
+ * Rebuilds the search index of every project, so entries missed by the
+ * incremental indexing or items changed out of the service layer are
+ * searchable again.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@DisallowConcurrentExecution
+public class ProjectSearchIndexRebuildJob extends QuartzJobBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectSearchIndexRebuildJob.class);
+
+    @Autowired
+    private ProjectSearchIndexService projectSearchIndexService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        List<Integer> projectIds = projectSearchIndexService.findProjectIds();
+        for (Integer projectId : projectIds) {
+            try {
+                projectSearchIndexService.rebuildIndex(projectId);
+            } catch (Exception e) {
+                LOG.error("Error while rebuilding the search index of project " + projectId, e);
+            }
+        }
+    }
+}
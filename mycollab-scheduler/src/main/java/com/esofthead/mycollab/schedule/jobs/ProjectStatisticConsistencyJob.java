@@ -0,0 +1,58 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule.jobs;
+
+import java.util.List;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+
+import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.module.project.domain.ProjectStatistic;
+import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
+
+/**
+ * Checks the project statistic counters against the project items and
+ * rebuilds the counters of projects which drifted, for instance after items
+ * are changed out of the service layer.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@DisallowConcurrentExecution
+public class ProjectStatisticConsistencyJob extends QuartzJobBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ProjectStatisticConsistencyJob.class);
+
+    @Autowired
+    private ProjectStatisticService projectStatisticService;
+
+    @Override
+    protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+        List<ProjectStatistic> statistics = projectStatisticService.findInconsistentProjects();
+        for (ProjectStatistic statistic : statistics) {
+            LOG.warn("Statistic of project {} does not match its items, rebuild it", statistic.getProjectid());
+            projectStatisticService.rebuildStatistics(statistic.getProjectid());
+            CacheUtils.cleanCaches(statistic.getSaccountid(), ProjectService.class);
+        }
+    }
+}
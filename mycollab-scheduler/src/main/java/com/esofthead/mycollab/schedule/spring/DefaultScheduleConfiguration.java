@@ -18,9 +18,15 @@ package com.esofthead.mycollab.schedule.spring;
 
 import com.esofthead.mycollab.schedule.AutowiringSpringBeanJobFactory;
 import com.esofthead.mycollab.schedule.QuartzScheduleProperties;
+import com.esofthead.mycollab.schedule.RelayNotificationDispatcher;
+import com.esofthead.mycollab.schedule.RelayNotificationSweepListener;
 import com.esofthead.mycollab.schedule.email.user.impl.SendUserInvitationEmailJob;
 import com.esofthead.mycollab.schedule.email.user.impl.UserSignUpEmailNotificationJob;
+import com.esofthead.mycollab.schedule.jobs.BlobGarbageCollectionJob;
 import com.esofthead.mycollab.schedule.jobs.CrmSendingRelayEmailNotificationJob;
+import com.esofthead.mycollab.schedule.jobs.DriveUsageReconciliationJob;
+import com.esofthead.mycollab.schedule.jobs.ProjectSearchIndexRebuildJob;
+import com.esofthead.mycollab.schedule.jobs.ProjectStatisticConsistencyJob;
 import com.esofthead.mycollab.schedule.jobs.ProjectSendingRelayEmailNotificationJob;
 import com.esofthead.mycollab.schedule.jobs.SendingErrorReportEmailJob;
 import com.esofthead.mycollab.schedule.jobs.SendingRelayEmailJob;
@@ -80,6 +86,34 @@ public class DefaultScheduleConfiguration {
         return bean;
     }
 
+    @Bean
+    public JobDetailFactoryBean projectStatisticConsistencyJob() {
+        JobDetailFactoryBean bean = new JobDetailFactoryBean();
+        bean.setJobClass(ProjectStatisticConsistencyJob.class);
+        return bean;
+    }
+
+    @Bean
+    public JobDetailFactoryBean projectSearchIndexRebuildJob() {
+        JobDetailFactoryBean bean = new JobDetailFactoryBean();
+        bean.setJobClass(ProjectSearchIndexRebuildJob.class);
+        return bean;
+    }
+
+    @Bean
+    public JobDetailFactoryBean blobGarbageCollectionJob() {
+        JobDetailFactoryBean bean = new JobDetailFactoryBean();
+        bean.setJobClass(BlobGarbageCollectionJob.class);
+        return bean;
+    }
+
+    @Bean
+    public JobDetailFactoryBean driveUsageReconciliationJob() {
+        JobDetailFactoryBean bean = new JobDetailFactoryBean();
+        bean.setJobClass(DriveUsageReconciliationJob.class);
+        return bean;
+    }
+
     @Bean
     public CronTriggerFactoryBean sendingRelayEmailTrigger() {
         CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
@@ -92,7 +126,8 @@ public class DefaultScheduleConfiguration {
     public CronTriggerFactoryBean projectSendRelayNotificationEmailTrigger() {
         CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
         bean.setJobDetail(projectSendRelayNotificationEmailJob().getObject());
-        bean.setCronExpression("0 * * * * ?");
+        // notifications are sent by the dispatcher, this is only a sweep
+        bean.setCronExpression("0 */5 * * * ?");
         return bean;
     }
 
@@ -100,7 +135,8 @@ public class DefaultScheduleConfiguration {
     public CronTriggerFactoryBean crmSendRelayNotificationEmailTrigger() {
         CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
         bean.setJobDetail(crmSendRelayNotificationEmailJob().getObject());
-        bean.setCronExpression("0 * * * * ?");
+        // notifications are sent by the dispatcher, this is only a sweep
+        bean.setCronExpression("0 */5 * * * ?");
         return bean;
     }
 
@@ -128,6 +164,49 @@ public class DefaultScheduleConfiguration {
         return bean;
     }
 
+    @Bean
+    public CronTriggerFactoryBean projectStatisticConsistencyTrigger() {
+        CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
+        bean.setJobDetail(projectStatisticConsistencyJob().getObject());
+        bean.setCronExpression("0 0 2 * * ?");
+        return bean;
+    }
+
+    @Bean
+    public CronTriggerFactoryBean projectSearchIndexRebuildTrigger() {
+        CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
+        bean.setJobDetail(projectSearchIndexRebuildJob().getObject());
+        bean.setCronExpression("0 0 3 * * ?");
+        return bean;
+    }
+
+    @Bean
+    public CronTriggerFactoryBean blobGarbageCollectionTrigger() {
+        CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
+        bean.setJobDetail(blobGarbageCollectionJob().getObject());
+        bean.setCronExpression("0 0 4 * * ?");
+        return bean;
+    }
+
+    @Bean
+    public CronTriggerFactoryBean driveUsageReconciliationTrigger() {
+        CronTriggerFactoryBean bean = new CronTriggerFactoryBean();
+        bean.setJobDetail(driveUsageReconciliationJob().getObject());
+        bean.setCronExpression("0 30 4 * * ?");
+        return bean;
+    }
+
+    @Bean
+    public RelayNotificationDispatcher relayNotificationDispatcher() {
+        return new RelayNotificationDispatcher();
+    }
+
+    @Bean
+    public RelayNotificationSweepListener relayNotificationSweepListener() {
+        return new RelayNotificationSweepListener(relayNotificationDispatcher(),
+                "projectSendRelayNotificationEmailJob", "crmSendRelayNotificationEmailJob");
+    }
+
     @Autowired
     private ApplicationContext applicationContext;
 
@@ -147,7 +226,11 @@ public class DefaultScheduleConfiguration {
 
         bean.setTriggers(sendingRelayEmailTrigger().getObject(), projectSendRelayNotificationEmailTrigger().getObject
                 (), crmSendRelayNotificationEmailTrigger().getObject(), sendErrorReportEmailTrigger().getObject(),
-                sendInviteUserEmailTrigger().getObject(), userSignUpNotificationEmailTrigger().getObject());
+                sendInviteUserEmailTrigger().getObject(), userSignUpNotificationEmailTrigger().getObject(),
+                projectStatisticConsistencyTrigger().getObject(), projectSearchIndexRebuildTrigger().getObject(),
+                blobGarbageCollectionTrigger().getObject(), driveUsageReconciliationTrigger().getObject());
+        bean.setGlobalTriggerListeners(relayNotificationSweepListener());
+        bean.setGlobalJobListeners(relayNotificationSweepListener());
         return bean;
     }
 }
@@ -0,0 +1,197 @@
+/**
+ * This file is part of mycollab-scheduler.
+ *
+ * mycollab-scheduler is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-scheduler is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-scheduler.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationContext;
+
+import com.esofthead.mycollab.common.MonitorTypeConstants;
+import com.esofthead.mycollab.common.domain.SimpleRelayEmailNotification;
+import com.esofthead.mycollab.common.domain.criteria.RelayEmailNotificationSearchCriteria;
+import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.schedule.RelayNotificationDispatcher.PendingItem;
+import com.esofthead.mycollab.schedule.email.RelayNotificationEvent;
+import com.esofthead.mycollab.schedule.email.SendingRelayEmailNotificationAction;
+
+public class RelayNotificationDispatcherTest {
+	private static final long COALESCE_WINDOW = 1000;
+
+	private static final String BUG = "Project-Bug";
+
+	@Mock
+	private RelayEmailNotificationService relayEmailNotificationService;
+
+	@Mock
+	private ApplicationContext applicationContext;
+
+	@Mock
+	private SendingRelayEmailNotificationAction emailNotificationAction;
+
+	@InjectMocks
+	private RelayNotificationDispatcher dispatcher = new RelayNotificationDispatcher() {
+		@Override
+		long getCoalesceWindow() {
+			return COALESCE_WINDOW;
+		}
+
+		@Override
+		long getMaxDelay() {
+			return 10 * COALESCE_WINDOW;
+		}
+	};
+
+	@Before
+	public void setUp() {
+		MockitoAnnotations.initMocks(this);
+		dispatcher.setApplicationContext(applicationContext);
+		when(applicationContext.getBean(SendingRelayEmailNotificationAction.class))
+				.thenReturn(emailNotificationAction);
+		when(relayEmailNotificationService.removeWithSession(anyInt(),
+				anyString(), anyInt())).thenReturn(1);
+	}
+
+	private void publish(int accountId, String typeId) {
+		dispatcher.onApplicationEvent(new RelayNotificationEvent(this,
+				accountId, BUG, typeId));
+	}
+
+	private static String toKey(PendingItem item) {
+		return item.accountId + ":" + item.typeId;
+	}
+
+	private static SimpleRelayEmailNotification newUpdateNotification(int id) {
+		SimpleRelayEmailNotification notification = new SimpleRelayEmailNotification();
+		notification.setId(id);
+		notification.setSaccountid(1);
+		notification.setType(BUG);
+		notification.setTypeid("5");
+		notification.setAction(MonitorTypeConstants.UPDATE_ACTION);
+		notification.setEmailhandlerbean(SendingRelayEmailNotificationAction.class
+				.getName());
+		return notification;
+	}
+
+	@Test
+	public void testCoalesceEventsOfSameItem() {
+		long startTime = System.currentTimeMillis();
+		publish(1, "5");
+		publish(1, "5");
+		publish(1, "5");
+		publish(1, "6");
+
+		assertThat(dispatcher.getReceivedCount()).isEqualTo(4);
+		assertThat(dispatcher.getCoalescedCount()).isEqualTo(2);
+		assertThat(dispatcher.getPendingCount()).isEqualTo(2);
+		assertThat(dispatcher.collectReadyItems(startTime)).isEmpty();
+
+		List<PendingItem> readyItems = dispatcher.collectReadyItems(System
+				.currentTimeMillis() + COALESCE_WINDOW);
+		assertThat(readyItems).hasSize(2);
+		assertThat(toKey(readyItems.get(0))).isEqualTo("1:5");
+		assertThat(toKey(readyItems.get(1))).isEqualTo("1:6");
+		assertThat(dispatcher.getPendingCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void testInterleaveReadyItemsOfAccounts() {
+		publish(1, "1");
+		publish(1, "2");
+		publish(1, "3");
+		publish(2, "4");
+		publish(3, "5");
+		publish(3, "6");
+
+		List<PendingItem> readyItems = dispatcher.collectReadyItems(System
+				.currentTimeMillis() + COALESCE_WINDOW);
+		String[] keys = new String[readyItems.size()];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = toKey(readyItems.get(i));
+		}
+		assertThat(keys).containsExactly("1:1", "2:4", "3:5", "1:2", "3:6",
+				"1:3");
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Test
+	public void testSendNotificationsOfAccount() {
+		SimpleRelayEmailNotification first = newUpdateNotification(1);
+		SimpleRelayEmailNotification second = newUpdateNotification(2);
+		when(relayEmailNotificationService.findPagableListByCriteria(any(SearchRequest.class)))
+				.thenReturn(Arrays.asList(first, second));
+
+		publish(1, "5");
+		publish(1, "5");
+		dispatcher.dispatchReadyItems(System.currentTimeMillis()
+				+ COALESCE_WINDOW);
+
+		ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor
+				.forClass(SearchRequest.class);
+		verify(relayEmailNotificationService).findPagableListByCriteria(
+				requestCaptor.capture());
+		RelayEmailNotificationSearchCriteria criteria = (RelayEmailNotificationSearchCriteria) requestCaptor
+				.getValue().getSearchCriteria();
+		assertThat(criteria.getSaccountid().getValue()).isEqualTo(1);
+
+		verify(emailNotificationAction).sendNotificationForUpdateAction(first);
+		verify(emailNotificationAction).sendNotificationForUpdateAction(second);
+		verify(relayEmailNotificationService, times(2)).removeWithSession(
+				anyInt(), anyString(), eq(1));
+		assertThat(dispatcher.getSentCount()).isEqualTo(2);
+		assertThat(dispatcher.getFailedCount()).isEqualTo(0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testRestoreNotificationWhichCanNotBeSent() {
+		SimpleRelayEmailNotification first = newUpdateNotification(1);
+		SimpleRelayEmailNotification second = newUpdateNotification(2);
+		when(relayEmailNotificationService.findPagableListByCriteria(any(SearchRequest.class)))
+				.thenReturn(Arrays.asList(first, second));
+		doThrow(new RuntimeException("SMTP server is down")).when(
+				emailNotificationAction).sendNotificationForUpdateAction(first);
+
+		publish(1, "5");
+		dispatcher.dispatchReadyItems(System.currentTimeMillis()
+				+ COALESCE_WINDOW);
+
+		verify(relayEmailNotificationService).saveWithSession(first, null);
+		verify(emailNotificationAction, never())
+				.sendNotificationForUpdateAction(second);
+		assertThat(dispatcher.getSentCount()).isEqualTo(0);
+		assertThat(dispatcher.getFailedCount()).isEqualTo(1);
+	}
+}
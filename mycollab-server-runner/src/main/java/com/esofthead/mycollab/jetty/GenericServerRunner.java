@@ -281,6 +281,7 @@ public abstract class GenericServerRunner {
         dsProperties.setProperty("prepStmtCacheSize", "250");
         dsProperties.setProperty("prepStmtCacheSqlLimit", "2048");
         dsProperties.setProperty("useServerPrepStmts", "true");
+        dsProperties.setProperty("rewriteBatchedStatements", "true");
         dataSource.setDataSourceProperties(dsProperties);
         return dataSource;
     }
@@ -33,8 +33,10 @@
 package com.esofthead.mycollab.community.module.file.service;
 
 import com.esofthead.mycollab.cache.IgnoreCacheClass;
+import com.esofthead.mycollab.configuration.SiteConfiguration;
 import com.esofthead.mycollab.core.persistence.service.IService;
 import com.esofthead.mycollab.module.file.service.RawContentService;
+import com.esofthead.mycollab.module.file.service.impl.ContentAddressedRawContentServiceImpl;
 import com.esofthead.mycollab.module.file.service.impl.FileRawContentServiceImpl;
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.stereotype.Service;
@@ -54,6 +56,9 @@ public class RawContentServiceFactoryBean extends
 
 	@Override
 	protected RawContentService createInstance() throws Exception {
+		if (SiteConfiguration.isStorageDeduplicationEnabled()) {
+			return new ContentAddressedRawContentServiceImpl();
+		}
 		return new FileRawContentServiceImpl();
 
 	}
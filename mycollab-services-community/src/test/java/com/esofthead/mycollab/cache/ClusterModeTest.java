@@ -0,0 +1,129 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.esofthead.mycollab.lock.DbDistributionLockService;
+import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+
+/**
+ * Runs a second node in another JVM against the same test database.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ClusterModeTest extends IntergrationServiceTest {
+
+	@Autowired
+	private DbCacheInvalidationTransport transport;
+
+	@Autowired
+	private DbDistributionLockService lockService;
+
+	private Process otherNode;
+
+	private BufferedReader otherNodeOutput;
+
+	private PrintWriter otherNodeInput;
+
+	@Before
+	public void setUp() throws IOException {
+		transport.start(100);
+
+		String java = System.getProperty("java.home") + File.separator
+				+ "bin" + File.separator + "java";
+		otherNode = new ProcessBuilder(java, "-cp",
+				System.getProperty("java.class.path"),
+				ClusterNode.class.getName()).redirectErrorStream(true).start();
+		otherNodeOutput = new BufferedReader(new InputStreamReader(
+				otherNode.getInputStream()));
+		otherNodeInput = new PrintWriter(otherNode.getOutputStream(), true);
+		awaitOtherNode("ready");
+	}
+
+	@After
+	public void tearDown() throws InterruptedException {
+		transport.stop();
+		if (otherNode != null) {
+			otherNodeInput.println("quit");
+			otherNode.waitFor();
+		}
+	}
+
+	private void sendToOtherNode(String command, String expectedResponse)
+			throws IOException {
+		otherNodeInput.println(command);
+		awaitOtherNode(expectedResponse);
+	}
+
+	private void awaitOtherNode(String expectedResponse) throws IOException {
+		String line;
+		while ((line = otherNodeOutput.readLine()) != null) {
+			if (line.startsWith(ClusterNode.RESPONSE_PREFIX)) {
+				assertThat(line).isEqualTo(
+						ClusterNode.RESPONSE_PREFIX + expectedResponse);
+				return;
+			}
+		}
+		throw new IllegalStateException("The other node stopped");
+	}
+
+	@Test
+	public void testCleanCacheOfOtherNode() throws Exception {
+		String group = ProjectService.class.getName();
+		String key = group + "-cluster";
+		long generation = LocalCacheManager.getCacheGroupGeneration("1", group);
+		LocalCacheManager.putCacheItem("1", group, key, "value", generation);
+
+		sendToOtherNode("clean 1 " + group, "cleaned");
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (LocalCacheManager.getCache("1").get(key) != null
+				&& System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertThat(LocalCacheManager.getCache("1").get(key)).isNull();
+	}
+
+	@Test
+	public void testLockHeldByOtherNode() throws Exception {
+		sendToOtherNode("lock ecm-1", "locked");
+
+		Lock lock = lockService.getDbLock("ecm-1");
+		assertThat(lock.tryLock(1, TimeUnit.SECONDS)).isFalse();
+
+		sendToOtherNode("unlock ecm-1", "unlocked");
+
+		assertThat(lock.tryLock(5, TimeUnit.SECONDS)).isTrue();
+		lock.unlock();
+	}
+}
@@ -0,0 +1,83 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.locks.Lock;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.esofthead.mycollab.lock.DbDistributionLockService;
+import com.esofthead.mycollab.spring.test.RootConfigurationTest;
+
+/**
+ * Second MyCollab node of {@link ClusterModeTest}, run in its own JVM. It
+ * reads commands from the standard input and writes a line starting by
+ * {@link #RESPONSE_PREFIX} when a command is done.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class ClusterNode {
+	static final String RESPONSE_PREFIX = "cluster-node: ";
+
+	public static void main(String[] args) throws Exception {
+		TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.getEnvironment().setActiveProfiles("test");
+		context.register(RootConfigurationTest.class);
+		context.refresh();
+
+		DbCacheInvalidationTransport transport = context
+				.getBean(DbCacheInvalidationTransport.class);
+		transport.start(100);
+		DbDistributionLockService lockService = context
+				.getBean(DbDistributionLockService.class);
+		Map<String, Lock> heldLocks = new HashMap<>();
+		System.out.println(RESPONSE_PREFIX + "ready");
+
+		BufferedReader input = new BufferedReader(new InputStreamReader(
+				System.in));
+		String line;
+		while ((line = input.readLine()) != null) {
+			String[] command = line.split(" ");
+			if ("clean".equals(command[0])) {
+				CacheUtils.cleanCaches(Integer.parseInt(command[1]),
+						Class.forName(command[2]));
+				System.out.println(RESPONSE_PREFIX + "cleaned");
+			} else if ("lock".equals(command[0])) {
+				Lock lock = lockService.getDbLock(command[1]);
+				lock.lock();
+				heldLocks.put(command[1], lock);
+				System.out.println(RESPONSE_PREFIX + "locked");
+			} else if ("unlock".equals(command[0])) {
+				heldLocks.remove(command[1]).unlock();
+				System.out.println(RESPONSE_PREFIX + "unlocked");
+			} else if ("quit".equals(command[0])) {
+				break;
+			}
+		}
+
+		transport.stop();
+		context.close();
+	}
+}
@@ -0,0 +1,160 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.esofthead.mycollab.cache.CacheMetrics;
+import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.module.project.dao.ProjectMapper;
+import com.esofthead.mycollab.module.project.domain.Project;
+import com.esofthead.mycollab.module.project.domain.criteria.ProjectSearchCriteria;
+import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class CacheAspectTest extends IntergrationServiceTest {
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private BugService bugService;
+
+	@Autowired
+	private ProjectMapper projectMapper;
+
+	private CacheAspect cacheAspect;
+
+	private ProjectService cachedProjectService;
+
+	@Before
+	public void setUp() {
+		cacheAspect = new CacheAspect();
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory();
+		proxyFactory.setTarget(projectService);
+		proxyFactory.setInterfaces(ProjectService.class);
+		proxyFactory.addAspect(cacheAspect);
+		cachedProjectService = proxyFactory.getProxy();
+
+		CacheUtils.cleanCaches(1, ProjectService.class);
+	}
+
+	@DataSet
+	@Test
+	public void testReadFromCache() {
+		assertThat(cachedProjectService.findById(1, 1).getName()).isEqualTo("A");
+
+		Project project = new Project();
+		project.setId(1);
+		project.setName("Changed behind the cache");
+		projectMapper.updateByPrimaryKeySelective(project);
+
+		assertThat(cachedProjectService.findById(1, 1).getName()).isEqualTo("A");
+		assertThat(cachedProjectService.findById(2, 1).getName()).isEqualTo("B");
+
+		CacheMetrics metrics = cacheAspect.getMetrics().get(
+				ProjectService.class.getName() + ".findById");
+		assertThat(metrics.getHits()).isEqualTo(1);
+		assertThat(metrics.getMisses()).isEqualTo(2);
+	}
+
+	@DataSet
+	@Test
+	public void testCallersDoNotShareCachedValue() {
+		cachedProjectService.findById(1, 1).setName("Changed by caller");
+
+		assertThat(cachedProjectService.findById(1, 1).getName()).isEqualTo("A");
+	}
+
+	@DataSet
+	@Test
+	public void testReadAfterSave() {
+		assertThat(cachedProjectService.getTotalActiveProjectsInAccount(1))
+				.isEqualTo(2);
+
+		Project project = new Project();
+		project.setSaccountid(1);
+		project.setName("C");
+		project.setProjectstatus("Open");
+		project.setShortname("ccc");
+		cachedProjectService.saveWithSession(project, "admin");
+
+		assertThat(cachedProjectService.getTotalActiveProjectsInAccount(1))
+				.isEqualTo(3);
+		assertThat(
+				cacheAspect.getMetrics()
+						.get(ProjectService.class.getName() + ".saveWithSession")
+						.getEvictions()).isEqualTo(1);
+	}
+
+	@DataSet
+	@Test
+	public void testReadAfterUpdate() {
+		assertThat(cachedProjectService.findById(1, 1).getName()).isEqualTo("A");
+
+		Project project = new Project();
+		project.setId(1);
+		project.setName("A1");
+		project.setSaccountid(1);
+		cachedProjectService.updateSelectiveWithSession(project, "admin");
+
+		assertThat(cachedProjectService.findById(1, 1).getName()).isEqualTo(
+				"A1");
+	}
+
+	@DataSet
+	@Test
+	public void testReadAfterRemove() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setSaccountid(new NumberSearchField(1));
+		assertThat(cachedProjectService.getTotalCount(criteria)).isEqualTo(2);
+
+		cachedProjectService.removeWithSession(2, "admin", 1);
+
+		assertThat(cachedProjectService.getTotalCount(criteria)).isEqualTo(1);
+		assertThat(cachedProjectService.findById(2, 1)).isNull();
+	}
+
+	@DataSet
+	@Test
+	public void testReadAfterChangeOfOtherService() {
+		assertThat(cachedProjectService.findById(1, 1).getNumBugs())
+				.isEqualTo(0);
+
+		BugWithBLOBs bug = new BugWithBLOBs();
+		bug.setSummary("summary 1");
+		bug.setStatus("Open");
+		bug.setProjectid(1);
+		bug.setSaccountid(1);
+		bugService.saveWithSession(bug, "admin");
+
+		assertThat(cachedProjectService.findById(1, 1).getNumBugs())
+				.isEqualTo(1);
+	}
+}
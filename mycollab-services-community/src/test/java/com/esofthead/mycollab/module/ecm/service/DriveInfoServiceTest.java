@@ -0,0 +1,120 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.ecm.service;
+
+import com.esofthead.mycollab.module.ecm.dao.DriveInfoMapper;
+import com.esofthead.mycollab.module.ecm.domain.DriveInfoExample;
+import com.esofthead.mycollab.module.file.service.RawContentService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class DriveInfoServiceTest extends IntergrationServiceTest {
+    @Autowired
+    private DriveInfoService driveInfoService;
+
+    @Autowired
+    private DriveInfoMapper driveInfoMapper;
+
+    @Autowired
+    private RawContentService rawContentService;
+
+    @DataSet
+    @Test
+    public void testAddUsedVolume() {
+        driveInfoService.addUsedVolume(1, 500);
+        assertThat(driveInfoService.getUsedStorageVolume(1)).isEqualTo(1500L);
+
+        driveInfoService.addUsedVolume(1, -300);
+        assertThat(driveInfoService.getUsedStorageVolume(1)).isEqualTo(1200L);
+    }
+
+    @DataSet
+    @Test
+    public void testReleaseMoreThanUsedVolume() {
+        driveInfoService.addUsedVolume(1, -5000);
+        assertThat(driveInfoService.getUsedStorageVolume(1)).isEqualTo(0L);
+    }
+
+    @DataSet
+    @Test
+    public void testAddUsedVolumeCreatesDriveInfo() {
+        driveInfoService.addUsedVolume(2, 300);
+        driveInfoService.addUsedVolume(2, 200);
+
+        DriveInfoExample ex = new DriveInfoExample();
+        ex.createCriteria().andSaccountidEqualTo(2);
+        assertThat(driveInfoMapper.countByExample(ex)).isEqualTo(1);
+        assertThat(driveInfoService.getUsedStorageVolume(2)).isEqualTo(500L);
+    }
+
+    @DataSet
+    @Test
+    public void testConcurrentAddUsedVolume() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        for (int j = 0; j < 25; j++) {
+                            driveInfoService.addUsedVolume(1, 10);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(driveInfoService.getUsedStorageVolume(1)).isEqualTo(3000L);
+    }
+
+    @DataSet
+    @Test
+    public void testReconcileUsedVolume() {
+        long actualVolume = rawContentService.getSize("3") + rawContentService.getSize(".thumbnail/3");
+        long drift = driveInfoService.reconcileUsedVolume(3);
+
+        assertThat(drift).isEqualTo(actualVolume - 700);
+        assertThat(driveInfoService.getUsedStorageVolume(3)).isEqualTo(actualVolume);
+    }
+
+    @DataSet
+    @Test
+    public void testFindAccountIds() {
+        assertThat(driveInfoService.findAccountIds()).containsExactly(1, 3);
+    }
+}
@@ -22,8 +22,11 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +38,8 @@ import com.esofthead.mycollab.core.arguments.SearchField;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
 import com.esofthead.mycollab.core.arguments.SetSearchField;
 import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 import com.esofthead.mycollab.test.DataSet;
 import com.esofthead.mycollab.test.service.IntergrationServiceTest;
@@ -83,4 +88,52 @@ public class ItemTimeLoggingServiceTest extends IntergrationServiceTest {
 						getCriteria(), 0, Integer.MAX_VALUE));
 		assertThat(itemTimeLoggings.size()).isEqualTo(2);
 	}
+
+	@DataSet
+	@Test
+	public void testGetTimeLoggingSummary() throws ParseException {
+		ItemTimeLoggingSearchCriteria criteria = getCriteria();
+		criteria.setIsBillable(null);
+
+		TimeLoggingSummary summary = itemTimeLoggingService
+				.getTimeLoggingSummary(criteria);
+		assertThat(summary.getTotalHours()).isEqualTo(10d);
+		assertThat(summary.getBillableHours()).isEqualTo(4d);
+		assertThat(summary.getNonBillableHours()).isEqualTo(6d);
+
+		assertThat(summary.getHoursByUser()).hasSize(2);
+		assertThat(summary.getHoursByUser().get("nghiemle").getBillableHours())
+				.isEqualTo(1d);
+		assertThat(
+				summary.getHoursByUser().get("nghiemle").getNonBillableHours())
+				.isEqualTo(2d);
+		assertThat(summary.getHoursByUser().get("hai79").getTotalHours())
+				.isEqualTo(7d);
+
+		assertThat(summary.getHoursByProject()).hasSize(1);
+		assertThat(summary.getHoursByProject().get(1).getTotalHours())
+				.isEqualTo(10d);
+
+		assertThat(summary.getHoursByDay()).hasSize(4);
+		assertThat(
+				summary.getHoursByDay().get(DF.parse("2014-04-19 00:00:00"))
+						.getNonBillableHours()).isEqualTo(4d);
+	}
+
+	@DataSet
+	@Test
+	public void testStreamTimeLoggings() {
+		final List<SimpleItemTimeLogging> items = new ArrayList<>();
+		itemTimeLoggingService.streamTimeLoggings(getCriteria(),
+				new ResultHandler() {
+					@Override
+					public void handleResult(ResultContext context) {
+						items.add((SimpleItemTimeLogging) context
+								.getResultObject());
+					}
+				});
+
+		assertThat(items).extracting("id", "loguser").containsExactly(
+				tuple(4, "hai79"), tuple(2, "nghiemle"));
+	}
 }
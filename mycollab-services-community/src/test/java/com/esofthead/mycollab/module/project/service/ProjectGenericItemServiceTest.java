@@ -0,0 +1,156 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SetSearchField;
+import com.esofthead.mycollab.core.arguments.StringSearchField;
+import com.esofthead.mycollab.module.project.dao.ProjectGenericItemMapper;
+import com.esofthead.mycollab.module.project.domain.ProjectGenericItem;
+import com.esofthead.mycollab.module.project.domain.criteria.ProjectGenericItemSearchCriteria;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ProjectGenericItemServiceTest extends IntergrationServiceTest {
+    @Autowired
+    private ProjectGenericItemService projectGenericItemService;
+
+    @Autowired
+    private ProjectSearchIndexService projectSearchIndexService;
+
+    @Autowired
+    private ProjectGenericItemMapper projectGenericItemMapper;
+
+    @Autowired
+    private BugService bugService;
+
+    @Before
+    public void setUp() {
+        projectSearchIndexService.rebuildIndex(1);
+        projectSearchIndexService.rebuildIndex(2);
+    }
+
+    private ProjectGenericItemSearchCriteria createCriteria(String text, Integer... projectIds) {
+        ProjectGenericItemSearchCriteria criteria = new ProjectGenericItemSearchCriteria();
+        criteria.setSaccountid(new NumberSearchField(1));
+        criteria.setPrjKeys(new SetSearchField<>(projectIds));
+        criteria.setTxtValue(new StringSearchField(text));
+        return criteria;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProjectGenericItem> search(ProjectGenericItemSearchCriteria criteria) {
+        return projectGenericItemService.findPagableListByCriteria(new SearchRequest<>(criteria, 0, Integer
+                .MAX_VALUE));
+    }
+
+    @DataSet
+    @Test
+    public void testSearchByWordPrefix() {
+        List<ProjectGenericItem> items = search(createCriteria("dashb", 1));
+        assertThat(items.size()).isEqualTo(2);
+        assertThat(items).extracting("type", "summary").contains(
+                tuple("Project-Bug", "Dashboard crashes after login"),
+                tuple("Project-Task", "Redesign the dashboard widgets"));
+    }
+
+    @DataSet
+    @Test
+    public void testSearchRanksBestMatchFirst() {
+        List<ProjectGenericItem> items = search(createCriteria("dashboard", 1));
+        assertThat(items.size()).isEqualTo(2);
+        assertThat(items.get(0).getSummary()).isEqualTo("Dashboard crashes after login");
+    }
+
+    @DataSet
+    @Test
+    public void testSearchAllWords() {
+        List<ProjectGenericItem> items = search(createCriteria("dashboard login", 1));
+        assertThat(items).extracting("summary").containsExactly("Dashboard crashes after login");
+    }
+
+    @DataSet
+    @Test
+    public void testSearchFilteredByProject() {
+        assertThat(projectGenericItemService.getTotalCount(createCriteria("dashboard", 1))).isEqualTo(2);
+        assertThat(projectGenericItemService.getTotalCount(createCriteria("dashboard", 2))).isEqualTo(1);
+        assertThat(projectGenericItemService.getTotalCount(createCriteria("dashboard", 1, 2))).isEqualTo(3);
+    }
+
+    @DataSet
+    @Test
+    public void testSearchShortWordFallsBackToItemTables() {
+        assertThat(projectSearchIndexService.toMatchQuery("ui")).isNull();
+        List<ProjectGenericItem> items = search(createCriteria("ui", 1));
+        assertThat(items).extracting("summary").contains("Slow ui on large projects");
+    }
+
+    @DataSet
+    @Test
+    public void testSavedBugIsIndexed() {
+        BugWithBLOBs bug = new BugWithBLOBs();
+        bug.setSummary("Export times out");
+        bug.setStatus("Open");
+        bug.setProjectid(1);
+        bug.setSaccountid(1);
+        bugService.saveWithSession(bug, "admin");
+
+        List<ProjectGenericItem> items = search(createCriteria("expo", 1));
+        assertThat(items).extracting("summary").containsExactly("Export times out");
+    }
+
+    @DataSet
+    @Test
+    public void testRemovedBugIsNotFound() {
+        bugService.removeWithSession(1, "admin", 1);
+        List<ProjectGenericItem> items = search(createCriteria("dashboard", 1));
+        assertThat(items).extracting("summary").containsExactly("Redesign the dashboard widgets");
+    }
+
+    @SuppressWarnings("unchecked")
+    @DataSet
+    @Test
+    public void testSearchIndexMatchesItemTables() {
+        ProjectGenericItemSearchCriteria criteria = createCriteria("dashboard", 1, 2);
+        List<ProjectGenericItem> likeItems = projectGenericItemMapper.findPagableListByCriteria(criteria,
+                new RowBounds(0, Integer.MAX_VALUE));
+        List<String> likeSummaries = new ArrayList<>();
+        for (ProjectGenericItem item : likeItems) {
+            likeSummaries.add(item.getSummary());
+        }
+
+        assertThat(projectGenericItemMapper.getTotalCount(criteria)).isEqualTo(3);
+        assertThat(projectGenericItemService.getTotalCount(criteria)).isEqualTo(3);
+        assertThat(search(criteria)).extracting("summary").containsOnly(likeSummaries.toArray());
+    }
+}
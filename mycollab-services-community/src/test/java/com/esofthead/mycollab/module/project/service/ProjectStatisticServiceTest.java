@@ -0,0 +1,104 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.esofthead.mycollab.module.project.domain.SimpleProject;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ProjectStatisticServiceTest extends IntergrationServiceTest {
+
+	@Autowired
+	private ProjectStatisticService projectStatisticService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private BugService bugService;
+
+	@Autowired
+	private ProjectTaskService projectTaskService;
+
+	@Autowired
+	private ItemTimeLoggingService itemTimeLoggingService;
+
+	@DataSet
+	@Test
+	public void testRebuildStatistics() {
+		assertThat(projectStatisticService.findInconsistentProjects())
+				.extracting("projectid").containsOnly(1, 2);
+
+		projectStatisticService.rebuildStatistics(null);
+		assertThat(projectStatisticService.findInconsistentProjects())
+				.isEmpty();
+
+		SimpleProject project = projectService.findById(1, 1);
+		assertThat(project.getNumBugs()).isEqualTo(3);
+		assertThat(project.getNumOpenBugs()).isEqualTo(2);
+		assertThat(project.getNumTasks()).isEqualTo(2);
+		assertThat(project.getNumOpenTasks()).isEqualTo(1);
+		assertThat(project.getNumActiveMembers()).isEqualTo(1);
+		assertThat(project.getNumClosedPhase()).isEqualTo(1);
+		assertThat(project.getNumInProgressPhase()).isEqualTo(1);
+		assertThat(project.getNumFuturePhase()).isEqualTo(1);
+		assertThat(project.getTotalBillableHours()).isEqualTo(3.5);
+		assertThat(project.getTotalNonBillableHours()).isEqualTo(4);
+	}
+
+	@DataSet
+	@Test
+	public void testUpdateStatisticsIncrementally() {
+		projectStatisticService.rebuildStatistics(null);
+
+		BugWithBLOBs bug = new BugWithBLOBs();
+		bug.setSummary("summary 4");
+		bug.setStatus("Open");
+		bug.setProjectid(1);
+		bug.setSaccountid(1);
+		bugService.saveWithSession(bug, "admin");
+
+		BugWithBLOBs resolvedBug = new BugWithBLOBs();
+		resolvedBug.setId(1);
+		resolvedBug.setStatus("Resolved");
+		resolvedBug.setSaccountid(1);
+		bugService.updateSelectiveWithSession(resolvedBug, "admin");
+
+		projectTaskService.removeWithSession(2, "admin", 1);
+		itemTimeLoggingService.removeWithSession(1, "admin", 1);
+
+		assertThat(projectStatisticService.findInconsistentProjects())
+				.isEmpty();
+
+		SimpleProject project = projectService.findById(1, 1);
+		assertThat(project.getNumBugs()).isEqualTo(4);
+		assertThat(project.getNumOpenBugs()).isEqualTo(2);
+		assertThat(project.getNumTasks()).isEqualTo(1);
+		assertThat(project.getNumOpenTasks()).isEqualTo(1);
+		assertThat(project.getTotalBillableHours()).isEqualTo(2);
+	}
+}
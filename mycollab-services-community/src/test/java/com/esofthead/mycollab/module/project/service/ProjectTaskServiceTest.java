@@ -18,12 +18,26 @@ package com.esofthead.mycollab.module.project.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.GregorianCalendar;
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import com.esofthead.mycollab.common.ModuleNameConstants;
+import com.esofthead.mycollab.common.domain.criteria.ActivityStreamSearchCriteria;
+import com.esofthead.mycollab.common.service.ActivityStreamService;
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.RangeDateTimeSearchField;
+import com.esofthead.mycollab.core.arguments.SearchField;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
+import com.esofthead.mycollab.core.arguments.SetSearchField;
 import com.esofthead.mycollab.module.project.domain.SimpleTask;
+import com.esofthead.mycollab.module.project.domain.criteria.TaskSearchCriteria;
 import com.esofthead.mycollab.test.DataSet;
 import com.esofthead.mycollab.test.service.IntergrationServiceTest;
 
@@ -33,6 +47,9 @@ public class ProjectTaskServiceTest extends IntergrationServiceTest {
 	@Autowired
 	private ProjectTaskService projectTaskService;
 
+	@Autowired
+	private ActivityStreamService activityStreamService;
+
 	@DataSet
 	@Test
 	public void testFindById() {
@@ -49,4 +66,85 @@ public class ProjectTaskServiceTest extends IntergrationServiceTest {
 		assertThat(task.getTaskname()).isEqualTo("task1");
 		assertThat(task.getProjectShortname()).isEqualTo("aaa");
 	}
+
+	@SuppressWarnings("unchecked")
+	@DataSet
+	@Test
+	public void testFindTasksInScheduleRange() {
+		TaskSearchCriteria criteria = new TaskSearchCriteria();
+		criteria.setSaccountid(new NumberSearchField(1));
+		criteria.setProjectid(new NumberSearchField(2));
+		criteria.setScheduleRange(new RangeDateTimeSearchField(
+				new GregorianCalendar(2015, 5, 2).getTime(),
+				new GregorianCalendar(2015, 5, 10).getTime()));
+
+		List<SimpleTask> tasks = projectTaskService
+				.findPagableListByCriteria(new SearchRequest<>(criteria, 0,
+						Integer.MAX_VALUE));
+		assertThat(tasks).extracting("taskname").containsOnly("task4",
+				"task6");
+		assertThat(projectTaskService.getTotalCount(criteria)).isEqualTo(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	@DataSet
+	@Test
+	public void testSeekPagingTasksWithSameCreatedTime() {
+		TaskSearchCriteria criteria = new TaskSearchCriteria();
+		criteria.setSaccountid(new NumberSearchField(1));
+		criteria.setProjectid(new NumberSearchField(2));
+
+		List<SimpleTask> firstPage = projectTaskService
+				.findPagableListByCriteria(new SearchRequest<>(criteria, 1, 2));
+		assertThat(firstPage).extracting("id").containsExactly(4, 5);
+
+		SeekCursor seekCursor = projectTaskService.buildSeekCursor(criteria,
+				firstPage.get(1));
+		List<SimpleTask> secondPage = projectTaskService.findPagableListBySeek(
+				criteria, seekCursor, 2);
+		assertThat(secondPage).extracting("id").containsExactly(6, 7);
+
+		seekCursor = projectTaskService.buildSeekCursor(criteria,
+				secondPage.get(1));
+		assertThat(
+				projectTaskService.findPagableListBySeek(criteria, seekCursor,
+						2)).isEmpty();
+	}
+
+	@DataSet
+	@Test
+	public void testRescheduleTasks() {
+		ActivityStreamSearchCriteria activityCriteria = new ActivityStreamSearchCriteria();
+		activityCriteria.setModuleSet(new SetSearchField<>(SearchField.AND,
+				new String[] { ModuleNameConstants.PRJ }));
+		activityCriteria.setSaccountid(new NumberSearchField(1));
+		int activityCount = activityStreamService
+				.getTotalCount(activityCriteria);
+
+		SimpleTask task4 = projectTaskService.findById(4, 1);
+		task4.setStartdate(new GregorianCalendar(2015, 5, 8).getTime());
+		task4.setEnddate(new GregorianCalendar(2015, 5, 12).getTime());
+
+		SimpleTask task5 = projectTaskService.findById(5, 1);
+		task5.setStartdate(new GregorianCalendar(2015, 5, 13).getTime());
+		task5.setEnddate(new GregorianCalendar(2015, 5, 18).getTime());
+
+		projectTaskService.rescheduleTasks(Arrays.asList(task4, task5),
+				"hainguyen@esofthead.com", 1);
+
+		SimpleTask updatedTask4 = projectTaskService.findById(4, 1);
+		assertThat(updatedTask4.getStartdate()).isEqualTo(
+				new GregorianCalendar(2015, 5, 8).getTime());
+		assertThat(updatedTask4.getEnddate()).isEqualTo(
+				new GregorianCalendar(2015, 5, 12).getTime());
+
+		SimpleTask updatedTask5 = projectTaskService.findById(5, 1);
+		assertThat(updatedTask5.getStartdate()).isEqualTo(
+				new GregorianCalendar(2015, 5, 13).getTime());
+		assertThat(updatedTask5.getEnddate()).isEqualTo(
+				new GregorianCalendar(2015, 5, 18).getTime());
+
+		assertThat(activityStreamService.getTotalCount(activityCriteria))
+				.isEqualTo(activityCount + 1);
+	}
 }
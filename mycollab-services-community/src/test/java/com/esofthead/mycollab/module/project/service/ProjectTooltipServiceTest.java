@@ -0,0 +1,146 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.common.TooltipContent;
+import com.esofthead.mycollab.common.interceptor.aspect.CacheAspect;
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.project.dao.ProjectMapper;
+import com.esofthead.mycollab.module.project.domain.Project;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class ProjectTooltipServiceTest extends IntergrationServiceTest {
+	private static final String SITE_URL = "http://localhost:8080/";
+
+	private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("UTC");
+
+	@Autowired
+	private ProjectTooltipService tooltipService;
+
+	@Autowired
+	private ProjectService projectService;
+
+	@Autowired
+	private BugService bugService;
+
+	@Autowired
+	private ProjectMapper projectMapper;
+
+	private ProjectService cachedProjectService;
+
+	@Before
+	public void setUp() {
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory();
+		proxyFactory.setTarget(projectService);
+		proxyFactory.setInterfaces(ProjectService.class);
+		proxyFactory.addAspect(new CacheAspect());
+		cachedProjectService = proxyFactory.getProxy();
+
+		CacheUtils.cleanCaches(1, ProjectService.class, MilestoneService.class);
+	}
+
+	private TooltipContent getTooltip(String type, int typeId) {
+		return tooltipService.getTooltip(type, typeId, 1, SITE_URL,
+				Locale.US, TIME_ZONE);
+	}
+
+	@DataSet
+	@Test
+	public void testTooltipIsCached() {
+		TooltipContent tooltip = getTooltip(ProjectTypeConstants.PROJECT, 1);
+		assertThat(tooltip.getHtml()).contains("Project A");
+
+		Project project = new Project();
+		project.setId(1);
+		project.setName("Changed behind the cache");
+		projectMapper.updateByPrimaryKeySelective(project);
+
+		assertThat(getTooltip(ProjectTypeConstants.PROJECT, 1)).isSameAs(
+				tooltip);
+		assertThat(
+				tooltipService.getTooltip(ProjectTypeConstants.PROJECT, 1, 1,
+						SITE_URL, Locale.US, TimeZone.getTimeZone("Asia/Tokyo")))
+				.isNotSameAs(tooltip);
+	}
+
+	@DataSet
+	@Test
+	public void testTooltipAfterUpdate() {
+		TooltipContent tooltip = getTooltip(ProjectTypeConstants.PROJECT, 1);
+
+		Project project = new Project();
+		project.setId(1);
+		project.setName("Project A1");
+		project.setSaccountid(1);
+		cachedProjectService.updateSelectiveWithSession(project, "admin");
+
+		TooltipContent newTooltip = getTooltip(ProjectTypeConstants.PROJECT, 1);
+		assertThat(newTooltip.getHtml()).contains("Project A1");
+		assertThat(newTooltip.getEtag()).isNotEqualTo(tooltip.getEtag());
+	}
+
+	@DataSet
+	@Test
+	public void testTooltipOfOtherAccount() {
+		TooltipContent tooltip = tooltipService.getTooltip(
+				ProjectTypeConstants.PROJECT, 1, 2, SITE_URL, Locale.US,
+				TIME_ZONE);
+		assertThat(tooltip.getHtml()).doesNotContain("Project A");
+	}
+
+	@DataSet
+	@Test
+	public void testMilestoneTooltipAfterBugSaved() {
+		TooltipContent tooltip = getTooltip(ProjectTypeConstants.MILESTONE, 1);
+		assertThat(tooltip.getHtml()).contains("Milestone 1");
+
+		BugWithBLOBs bug = new BugWithBLOBs();
+		bug.setSummary("summary 1");
+		bug.setStatus("Open");
+		bug.setProjectid(1);
+		bug.setMilestoneid(1);
+		bug.setSaccountid(1);
+		bugService.saveWithSession(bug, "admin");
+
+		assertThat(getTooltip(ProjectTypeConstants.MILESTONE, 1).getEtag())
+				.isNotEqualTo(tooltip.getEtag());
+	}
+
+	@Test
+	public void testUnsupportedType() {
+		assertThat(tooltipService.isSupportedType(ProjectTypeConstants.RISK))
+				.isFalse();
+		assertThat(getTooltip(ProjectTypeConstants.RISK, 1)).isNull();
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+import com.esofthead.mycollab.test.DataSet;
+import com.esofthead.mycollab.test.service.IntergrationServiceTest;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class TicketKeyServiceTest extends IntergrationServiceTest {
+	private static final int NUM_THREADS = 8;
+	private static final int NUM_KEYS_PER_THREAD = 25;
+
+	@Autowired
+	private TicketKeyService ticketKeyService;
+
+	@Autowired
+	private BugService bugService;
+
+	@DataSet
+	@Test
+	public void testAllocateKeysOfProjectWithoutSequence() {
+		assertThat(ticketKeyService.allocateKey(2, ProjectTypeConstants.BUG))
+				.isEqualTo(6);
+		assertThat(ticketKeyService.allocateKey(2, ProjectTypeConstants.TASK))
+				.isEqualTo(1);
+		assertThat(ticketKeyService.allocateKeys(2, ProjectTypeConstants.BUG, 10))
+				.isEqualTo(7);
+		assertThat(ticketKeyService.allocateKey(2, ProjectTypeConstants.BUG))
+				.isEqualTo(17);
+	}
+
+	@DataSet
+	@Test
+	public void testAllocateKeysConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+		List<Future<List<Integer>>> results = new ArrayList<>();
+		for (int i = 0; i < NUM_THREADS; i++) {
+			results.add(executor.submit(new Callable<List<Integer>>() {
+				@Override
+				public List<Integer> call() throws Exception {
+					List<Integer> keys = new ArrayList<>();
+					for (int j = 0; j < NUM_KEYS_PER_THREAD; j++) {
+						keys.add(ticketKeyService.allocateKey(1,
+								ProjectTypeConstants.BUG));
+					}
+					return keys;
+				}
+			}));
+		}
+		executor.shutdown();
+
+		assertThat(collectKeys(results)).isEqualTo(
+				expectedKeys(4, NUM_THREADS * NUM_KEYS_PER_THREAD));
+	}
+
+	@DataSet
+	@Test
+	public void testCreateBugsConcurrently() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+		List<Future<List<Integer>>> results = new ArrayList<>();
+		for (int i = 0; i < NUM_THREADS; i++) {
+			final int thread = i;
+			results.add(executor.submit(new Callable<List<Integer>>() {
+				@Override
+				public List<Integer> call() throws Exception {
+					List<Integer> keys = new ArrayList<>();
+					for (int j = 0; j < 5; j++) {
+						BugWithBLOBs bug = new BugWithBLOBs();
+						bug.setSummary("bug " + thread + "-" + j);
+						bug.setStatus("Open");
+						bug.setProjectid(1);
+						bug.setSaccountid(1);
+						int bugId = bugService.saveWithSession(bug, "admin");
+						keys.add(bugService.findById(bugId, 1).getBugkey());
+					}
+					return keys;
+				}
+			}));
+		}
+		executor.shutdown();
+
+		assertThat(collectKeys(results)).isEqualTo(
+				expectedKeys(4, NUM_THREADS * 5));
+	}
+
+	private static List<Integer> collectKeys(
+			List<Future<List<Integer>>> results) throws Exception {
+		List<Integer> keys = new ArrayList<>();
+		for (Future<List<Integer>> result : results) {
+			keys.addAll(result.get());
+		}
+		Collections.sort(keys);
+		return keys;
+	}
+
+	private static List<Integer> expectedKeys(int firstKey, int count) {
+		List<Integer> keys = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			keys.add(firstKey + i);
+		}
+		return keys;
+	}
+}
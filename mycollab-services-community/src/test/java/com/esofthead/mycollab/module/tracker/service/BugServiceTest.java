@@ -23,16 +23,21 @@ import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
 
+import javax.sql.DataSource;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
 import com.esofthead.mycollab.common.domain.GroupItem;
 import com.esofthead.mycollab.core.arguments.DateSearchField;
 import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SearchField;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.arguments.SetSearchField;
 import com.esofthead.mycollab.core.arguments.StringSearchField;
 import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
@@ -47,6 +52,9 @@ public class BugServiceTest extends IntergrationServiceTest {
 	@Autowired
 	protected BugService bugService;
 
+	@Autowired
+	private DataSource dataSource;
+
 	@SuppressWarnings("unchecked")
 	@DataSet
 	@Test
@@ -80,6 +88,66 @@ public class BugServiceTest extends IntergrationServiceTest {
 				tuple(2, "detail 2", "summary 2"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@DataSet
+	@Test
+	public void testSeekPagingBugs() {
+		BugSearchCriteria criteria = new BugSearchCriteria();
+		criteria.setProjectId(new NumberSearchField(1));
+
+		List<SimpleBug> firstPage = bugService
+				.findPagableListByCriteria(new SearchRequest<>(criteria, 1, 2));
+		assertThat(firstPage).extracting("id").containsExactly(3, 2);
+
+		SeekCursor seekCursor = bugService.buildSeekCursor(criteria,
+				firstPage.get(1));
+		assertThat(seekCursor).isNotNull();
+
+		List<SimpleBug> secondPage = bugService.findPagableListBySeek(
+				criteria, seekCursor, 2);
+		assertThat(secondPage).extracting("id").containsExactly(1);
+		assertThat(secondPage.get(0).getFixedVersions().size()).isEqualTo(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	@DataSet
+	@Test
+	public void testSeekPagingBugsWithoutLastUpdatedTime() {
+		new JdbcTemplate(dataSource)
+				.update("UPDATE m_tracker_bug SET lastUpdatedTime = NULL WHERE id = 2");
+		BugSearchCriteria criteria = new BugSearchCriteria();
+		criteria.setProjectId(new NumberSearchField(1));
+
+		List<SimpleBug> firstPage = bugService
+				.findPagableListByCriteria(new SearchRequest<>(criteria, 1, 2));
+		assertThat(firstPage).extracting("id").containsExactly(3, 1);
+
+		SeekCursor seekCursor = bugService.buildSeekCursor(criteria,
+				firstPage.get(1));
+		List<SimpleBug> secondPage = bugService.findPagableListBySeek(
+				criteria, seekCursor, 2);
+		assertThat(secondPage).extracting("id").containsExactly(2);
+
+		seekCursor = bugService.buildSeekCursor(criteria, secondPage.get(0));
+		assertThat(seekCursor).isNotNull();
+		assertThat(
+				bugService.findPagableListBySeek(criteria, seekCursor, 2))
+				.isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	@DataSet
+	@Test
+	public void testSeekCursorNotAllowedForCustomSort() {
+		BugSearchCriteria criteria = new BugSearchCriteria();
+		criteria.setOrderByField("summary");
+		criteria.setSortDirection(SearchCriteria.ASC);
+
+		List<SimpleBug> bugs = bugService
+				.findPagableListByCriteria(new SearchRequest<>(criteria, 1, 2));
+		assertThat(bugService.buildSeekCursor(criteria, bugs.get(1))).isNull();
+	}
+
 	@DataSet
 	@Test
 	public void testGetExtBug() {
@@ -0,0 +1,117 @@
+/**
+ * This file is part of mycollab-services-community.
+ *
+ * mycollab-services-community is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services-community is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services-community.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+import com.esofthead.mycollab.module.project.ProjectRolePermissionCollections;
+
+public class CompiledPermissionsTest {
+	private static final int[] FLAGS = { AccessPermissionFlag.NO_ACCESS,
+			AccessPermissionFlag.READ_ONLY, AccessPermissionFlag.READ_WRITE,
+			AccessPermissionFlag.ACCESS, BooleanPermissionFlag.TRUE,
+			BooleanPermissionFlag.FALSE };
+
+	@Test
+	public void testSameChecksAsPermissionMap() {
+		PermissionIndex index = RolePermissionCollections.PERMISSION_INDEX;
+		PermissionMap permissionMap = new PermissionMap();
+		for (int slot = 0; slot < index.size(); slot++) {
+			permissionMap.addPath(index.getPermissionItem(slot), FLAGS[slot
+					% FLAGS.length]);
+		}
+		CompiledPermissions permissions = CompiledPermissions.compile(index,
+				permissionMap);
+
+		for (int slot = 0; slot < index.size(); slot++) {
+			String item = index.getPermissionItem(slot);
+			assertThat(permissions.canRead(slot)).isEqualTo(
+					permissionMap.canRead(item));
+			assertThat(permissions.canWrite(slot)).isEqualTo(
+					permissionMap.canWrite(item));
+			assertThat(permissions.canAccess(slot)).isEqualTo(
+					permissionMap.canAccess(item));
+			assertThat(permissions.canBeYes(slot)).isEqualTo(
+					permissionMap.canBeYes(item));
+			assertThat(permissions.canBeFalse(slot)).isEqualTo(
+					permissionMap.canBeFalse(item));
+		}
+	}
+
+	@Test
+	public void testMissingAndUnregisteredItems() {
+		PermissionMap permissionMap = new PermissionMap();
+		permissionMap.addPath(ProjectRolePermissionCollections.TASKS,
+				AccessPermissionFlag.READ_WRITE);
+		permissionMap.addPath("Unknown", AccessPermissionFlag.ACCESS);
+
+		CompiledPermissions permissions = CompiledPermissions.compile(
+				ProjectRolePermissionCollections.PERMISSION_INDEX,
+				permissionMap);
+		assertThat(
+				permissions.canWrite(ProjectRolePermissionCollections.TASKS_SLOT))
+				.isTrue();
+		assertThat(
+				permissions.canRead(ProjectRolePermissionCollections.BUGS_SLOT))
+				.isFalse();
+		assertThat(
+				permissions.canRead(ProjectRolePermissionCollections.PERMISSION_INDEX
+						.slotOf("Unknown"))).isFalse();
+		assertThat(
+				permissions.canRead(ProjectRolePermissionCollections.PERMISSION_INDEX
+						.size())).isFalse();
+	}
+
+	@Test
+	public void testSlotConstants() {
+		assertThat(
+				RolePermissionCollections.PERMISSION_INDEX
+						.getPermissionItem(RolePermissionCollections.CRM_CALL_SLOT))
+				.isEqualTo(RolePermissionCollections.CRM_CALL);
+		assertThat(
+				ProjectRolePermissionCollections.PERMISSION_INDEX
+						.getPermissionItem(ProjectRolePermissionCollections.PROJECT_SLOT))
+				.isEqualTo(ProjectRolePermissionCollections.PROJECT);
+		assertThat(RolePermissionCollections.CRM_DOCUMENT_SLOT).isNegative();
+	}
+
+	@Test
+	public void testSerializable() throws Exception {
+		PermissionMap permissionMap = PermissionMap
+				.buildEmployeePermissionCollection();
+		byte[] serialized = SerializationUtils.serialize(CompiledPermissions
+				.compile(RolePermissionCollections.PERMISSION_INDEX,
+						permissionMap));
+		assertThat(new String(serialized, "ISO-8859-1")).doesNotContain(
+				PermissionIndex.class.getName());
+
+		CompiledPermissions permissions = SerializationUtils
+				.deserialize(serialized);
+		assertThat(
+				permissions
+						.canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT))
+				.isTrue();
+		assertThat(
+				permissions.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT))
+				.isFalse();
+		assertThat(permissions.getPermissionMap().toJsonString()).isEqualTo(
+				permissionMap.toJsonString());
+	}
+}
@@ -0,0 +1,220 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.esofthead.mycollab.common.dao.CacheInvalidationMapperExt;
+import com.esofthead.mycollab.common.domain.CacheInvalidation;
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+
+/**
+ * Sends cache invalidations to the other nodes through the
+ * s_cache_invalidation table, so cluster mode needs no service other than the
+ * shared database. Invalidations made in a transaction are written in one
+ * statement just before it commits. Each node reads the invalidations of the
+ * last minute at every poll and applies those it has not applied yet, which
+ * also catches rows committed out of id order.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Component
+public class DbCacheInvalidationTransport implements
+		CacheInvalidationTransport, InitializingBean, DisposableBean {
+	private static final Logger LOG = LoggerFactory
+			.getLogger(DbCacheInvalidationTransport.class);
+
+	private static final int LOOK_BACK_SECONDS = 60;
+
+	private static final int RETENTION_SECONDS = 600;
+
+	private static final int POLLS_PER_CLEANUP = 100;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	@Autowired
+	private CacheInvalidationMapperExt cacheInvalidationMapperExt;
+
+	private ScheduledExecutorService poller;
+
+	/**
+	 * Ids of the applied invalidations and the time they were applied. Only
+	 * accessed by the poller thread.
+	 */
+	private final Map<Long, Long> appliedInvalidations = new HashMap<>();
+
+	private int pollCount;
+
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		if (SiteConfiguration.isClusterEnabled()) {
+			start(SiteConfiguration.getClusterPollInterval());
+		}
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		stop();
+	}
+
+	/**
+	 * Start sending the cache invalidations of this node and reading those of
+	 * the other nodes.
+	 * 
+	 * @param pollInterval
+	 *            in milliseconds
+	 */
+	public synchronized void start(long pollInterval) {
+		if (poller != null) {
+			return;
+		}
+
+		poller = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "cache-invalidation-poller");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		poller.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					pollInvalidations();
+				} catch (Throwable e) {
+					LOG.error("Error when read cache invalidations of other nodes", e);
+				}
+			}
+		}, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+		CacheUtils.setInvalidationTransport(this);
+		LOG.info("Start cache invalidation transport of node {} with poll interval {} ms",
+				nodeId, pollInterval);
+	}
+
+	public synchronized void stop() {
+		if (poller != null) {
+			CacheUtils.setInvalidationTransport(null);
+			poller.shutdownNow();
+			poller = null;
+		}
+	}
+
+	@Override
+	public void publish(Integer accountId, String groupKey) {
+		CacheInvalidation invalidation = new CacheInvalidation();
+		invalidation.setSaccountid(accountId);
+		invalidation.setGroupkey(groupKey);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			PendingInvalidations pendingInvalidations = (PendingInvalidations) TransactionSynchronizationManager
+					.getResource(this);
+			if (pendingInvalidations == null) {
+				pendingInvalidations = new PendingInvalidations();
+				TransactionSynchronizationManager.bindResource(this,
+						pendingInvalidations);
+				TransactionSynchronizationManager
+						.registerSynchronization(pendingInvalidations);
+			}
+			pendingInvalidations.add(invalidation);
+		} else {
+			try {
+				cacheInvalidationMapperExt.insertInvalidations(nodeId,
+						Collections.singletonList(invalidation));
+			} catch (Exception e) {
+				LOG.error("Error when send cache invalidation of group "
+						+ groupKey, e);
+			}
+		}
+	}
+
+	void pollInvalidations() {
+		long now = System.currentTimeMillis();
+		List<CacheInvalidation> invalidations = cacheInvalidationMapperExt
+				.findRecentInvalidations(nodeId, LOOK_BACK_SECONDS);
+		for (CacheInvalidation invalidation : invalidations) {
+			if (!appliedInvalidations.containsKey(invalidation.getId())) {
+				CacheUtils.cleanLocalCache(invalidation.getSaccountid(),
+						invalidation.getGroupkey());
+				appliedInvalidations.put(invalidation.getId(), now);
+			}
+		}
+
+		// ids out of the look back window are never read again
+		Iterator<Long> appliedTimes = appliedInvalidations.values().iterator();
+		while (appliedTimes.hasNext()) {
+			if (now - appliedTimes.next() > 2000L * LOOK_BACK_SECONDS) {
+				appliedTimes.remove();
+			}
+		}
+
+		if (++pollCount % POLLS_PER_CLEANUP == 0) {
+			cacheInvalidationMapperExt
+					.removeInvalidationsBefore(RETENTION_SECONDS);
+		}
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	private class PendingInvalidations extends TransactionSynchronizationAdapter {
+		private final Map<String, CacheInvalidation> invalidations = new LinkedHashMap<>();
+
+		void add(CacheInvalidation invalidation) {
+			invalidations.put(invalidation.getSaccountid() + "-"
+					+ invalidation.getGroupkey(), invalidation);
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			if (!invalidations.isEmpty()) {
+				cacheInvalidationMapperExt.insertInvalidations(nodeId,
+						new ArrayList<>(invalidations.values()));
+				invalidations.clear();
+			}
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager
+					.unbindResourceIfPossible(DbCacheInvalidationTransport.this);
+		}
+	}
+}
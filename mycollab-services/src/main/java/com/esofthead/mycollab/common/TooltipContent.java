@@ -0,0 +1,61 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hashing;
+
+import java.io.Serializable;
+
+/**
+ * Rendered html of a tooltip, with the validators the tooltip servlet sends
+ * so browsers revalidate it instead of downloading it again.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class TooltipContent implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String html;
+    private final long lastModified;
+    private final String etag;
+
+    public TooltipContent(String html, long lastModified) {
+        this.html = html;
+        this.lastModified = lastModified;
+        this.etag = "\"" + Hashing.murmur3_128().hashString(html, Charsets.UTF_8) + "\"";
+    }
+
+    public String getHtml() {
+        return html;
+    }
+
+    /**
+     * @return the time the html was rendered
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return the quoted entity tag of the html
+     */
+    public String getEtag() {
+        return etag;
+    }
+}
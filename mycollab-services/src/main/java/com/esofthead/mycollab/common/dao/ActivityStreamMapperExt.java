@@ -17,9 +17,9 @@
 package com.esofthead.mycollab.common.dao;
 
 import com.esofthead.mycollab.common.domain.criteria.ActivityStreamSearchCriteria;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 
 public interface ActivityStreamMapperExt extends
-		ISearchableDAO<ActivityStreamSearchCriteria> {
+		ISeekableDAO<ActivityStreamSearchCriteria> {
 
 }
@@ -0,0 +1,71 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.domain;
+
+import com.esofthead.mycollab.core.arguments.ValuedBean;
+
+/**
+ * Cache invalidation of a node, kept in the s_cache_invalidation table until
+ * the other nodes read it.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class CacheInvalidation extends ValuedBean {
+	private static final long serialVersionUID = 1L;
+
+	private Long id;
+
+	private String nodeid;
+
+	private Integer saccountid;
+
+	private String groupkey;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getNodeid() {
+		return nodeid;
+	}
+
+	public void setNodeid(String nodeid) {
+		this.nodeid = nodeid;
+	}
+
+	public Integer getSaccountid() {
+		return saccountid;
+	}
+
+	public void setSaccountid(Integer saccountid) {
+		this.saccountid = saccountid;
+	}
+
+	public String getGroupkey() {
+		return groupkey;
+	}
+
+	public void setGroupkey(String groupkey) {
+		this.groupkey = groupkey;
+	}
+}
@@ -18,6 +18,7 @@ package com.esofthead.mycollab.common.domain.criteria;
 
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SetSearchField;
+import com.esofthead.mycollab.core.arguments.StringSearchField;
 
 /**
  * 
@@ -30,6 +31,17 @@ public class RelayEmailNotificationSearchCriteria extends SearchCriteria {
 	
 	private SetSearchField<String> types;
 
+	private StringSearchField typeid;
+
+	/**
+	 * Relay notifications are sent by background jobs for all accounts, the
+	 * account filter is set only when the notifications of one account are
+	 * searched.
+	 */
+	public RelayEmailNotificationSearchCriteria() {
+		setSaccountid(null);
+	}
+
 	public SetSearchField<String> getTypes() {
 		return types;
 	}
@@ -37,4 +49,12 @@ public class RelayEmailNotificationSearchCriteria extends SearchCriteria {
 	public void setTypes(SetSearchField<String> types) {
 		this.types = types;
 	}
+
+	public StringSearchField getTypeid() {
+		return typeid;
+	}
+
+	public void setTypeid(StringSearchField typeid) {
+		this.typeid = typeid;
+	}
 }
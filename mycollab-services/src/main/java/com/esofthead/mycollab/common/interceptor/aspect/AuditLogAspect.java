@@ -17,22 +17,18 @@
 
 package com.esofthead.mycollab.common.interceptor.aspect;
 
-import com.esofthead.mycollab.cache.LocalCacheManager;
 import com.esofthead.mycollab.common.ActivityStreamConstants;
 import com.esofthead.mycollab.common.MonitorTypeConstants;
 import com.esofthead.mycollab.common.domain.*;
-import com.esofthead.mycollab.common.service.ActivityStreamService;
-import com.esofthead.mycollab.common.service.AuditLogService;
-import com.esofthead.mycollab.common.service.MonitorItemService;
-import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
 import com.esofthead.mycollab.common.service.ibatis.AuditLogServiceImpl.AuditLogUtil;
+import com.esofthead.mycollab.core.persistence.service.DefaultCrudService;
 import com.esofthead.mycollab.core.utils.BeanUtility;
 import org.apache.commons.beanutils.PropertyUtils;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
-import org.infinispan.commons.api.BasicCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.framework.Advised;
@@ -54,20 +50,8 @@ import java.util.GregorianCalendar;
 public class AuditLogAspect {
 
     private static final Logger LOG = LoggerFactory.getLogger(AuditLogAspect.class);
-    private static BasicCache<Object, Object> caches = LocalCacheManager
-            .getCache();
-
-    @Autowired
-    protected AuditLogService auditLogService;
-
-    @Autowired
-    private ActivityStreamService activityStreamService;
-
-    @Autowired
-    protected MonitorItemService monitorItemService;
-
     @Autowired
-    private RelayEmailNotificationService relayEmailNotificationService;
+    private SideEffectPipeline sideEffectPipeline;
 
     @Before("(execution(public * com.esofthead.mycollab..service..*.updateWithSession(..)) || (execution(public * com.esofthead.mycollab..service..*.updateSelectiveWithSession(..)))) && args(bean, username)")
     public void traceBeforeUpdateActivity(JoinPoint joinPoint, Object bean,
@@ -82,22 +66,25 @@ public class AuditLogAspect {
                 int typeid = (Integer) PropertyUtils.getProperty(bean, "id");
                 int sAccountId = (Integer) PropertyUtils.getProperty(bean,
                         "saccountid");
-                // store old value to map, wait until the update process
+                // store old value, wait until the update process
                 // successfully then add to log item
 
                 // get old value
                 Object service = advised.getTargetSource().getTarget();
-                Method findMethod;
                 Object oldValue;
-                try {
-                    findMethod = cls.getMethod("findById", int.class, int.class);
-                } catch (Exception e) {
-                    findMethod = cls.getMethod("findByPrimaryKey", Serializable.class, int.class, int.class);
+                if (auditAnnotation.narrowProjection() && service instanceof DefaultCrudService) {
+                    oldValue = ((DefaultCrudService) service).getCrudMapper().selectByPrimaryKey(typeid);
+                } else {
+                    Method findMethod;
+                    try {
+                        findMethod = cls.getMethod("findById", int.class, int.class);
+                    } catch (Exception e) {
+                        findMethod = cls.getMethod("findByPrimaryKey", Serializable.class, int.class, int.class);
+                    }
+                    oldValue = findMethod.invoke(service, typeid, sAccountId);
                 }
-                oldValue = findMethod.invoke(service, typeid, sAccountId);
-                String key = bean.toString() + ClassInfoMap.getType(cls) + typeid;
 
-                caches.put(key, oldValue);
+                AuditSnapshotHolder.store(bean, oldValue);
             } catch (Exception e) {
                 LOG.error("Error when save audit for save action of service "
                         + cls.getName(), e);
@@ -105,6 +92,15 @@ public class AuditLogAspect {
         }
     }
 
+    @AfterThrowing("(execution(public * com.esofthead.mycollab..service..*.updateWithSession(..)) || (execution(public * com.esofthead.mycollab..service..*.updateSelectiveWithSession(..)))) && args(bean, username)")
+    public void discardOldValue(JoinPoint joinPoint, Object bean, String username) {
+        Advised advised = (Advised) joinPoint.getThis();
+        Class<?> cls = advised.getTargetSource().getTargetClass();
+        if (cls.getAnnotation(Auditable.class) != null) {
+            AuditSnapshotHolder.discard(bean);
+        }
+    }
+
     @AfterReturning("(execution(public * com.esofthead.mycollab..service..*.updateWithSession(..)) || (execution(public * com.esofthead.mycollab..service..*.updateSelectiveWithSession(..))))  && args(bean, username)")
     public void traceAfterUpdateActivity(JoinPoint joinPoint, Object bean,
                                          String username) {
@@ -112,14 +108,19 @@ public class AuditLogAspect {
         Advised advised = (Advised) joinPoint.getThis();
         Class<?> cls = advised.getTargetSource().getTargetClass();
 
+        Object oldValue = null;
+        if (cls.getAnnotation(Auditable.class) != null) {
+            oldValue = AuditSnapshotHolder.take(bean);
+        }
+
+        SideEffectEvent event = new SideEffectEvent();
         Traceable traceableAnnotation = cls.getAnnotation(Traceable.class);
-        Integer activityStreamId = null;
         if (traceableAnnotation != null) {
             try {
                 ActivityStreamWithBLOBs activity = TraceableAspect.constructActivity(cls,
                         traceableAnnotation, bean, username,
                         ActivityStreamConstants.ACTION_UPDATE);
-                activityStreamId = activityStreamService.save(activity);
+                event.setActivity(activity);
             } catch (Exception e) {
                 LOG.error(
                         "Error when save activity for save action of service "
@@ -130,48 +131,17 @@ public class AuditLogAspect {
         try {
             Watchable watchableAnnotation = cls.getAnnotation(Watchable.class);
             if (watchableAnnotation != null) {
-                String monitorType = ClassInfoMap.getType(cls);
-                Integer sAccountId = (Integer) PropertyUtils.getProperty(bean, "saccountid");
-                int typeId = (Integer) PropertyUtils.getProperty(bean,
-                        "id");
-
-                Integer extraTypeId = null;
-                if (!"".equals(watchableAnnotation.extraTypeId())) {
-                    extraTypeId = (Integer) PropertyUtils.getProperty(bean,
-                            watchableAnnotation.extraTypeId());
-                }
-
-                MonitorItem monitorItem = new MonitorItem();
-                monitorItem.setMonitorDate(new GregorianCalendar().getTime());
-                monitorItem.setType(monitorType);
-                monitorItem.setTypeid(typeId);
-                monitorItem.setExtratypeid(extraTypeId);
-                monitorItem.setUser(username);
-                monitorItem.setSaccountid(sAccountId);
-                monitorItemService.saveWithSession(monitorItem, username);
-
-                // check whether the current user is in monitor list, if
-                // not add him in
-                if (!watchableAnnotation.userFieldName().equals("")) {
-                    String moreUser = (String) PropertyUtils.getProperty(bean,
-                            watchableAnnotation.userFieldName());
-                    if (moreUser != null && !moreUser.equals(username)) {
-                        monitorItem.setId(null);
-                        monitorItem.setUser(moreUser);
-                        monitorItemService.saveWithSession(monitorItem,
-                                moreUser);
-                    }
-                }
+                MonitorItemAspect.addMonitorItems(event, cls, watchableAnnotation, bean, username);
             }
 
             NotifyAgent notifyAgent = cls.getAnnotation(NotifyAgent.class);
             if (notifyAgent != null) {
                 Integer sAccountId = (Integer) PropertyUtils.getProperty(bean, "saccountid");
-                Integer auditLogId = saveAuditLog(cls, bean, username, sAccountId,
-                        activityStreamId);
+                event.setAuditLog(buildAuditLog(cls, bean, oldValue, username, sAccountId));
                 int typeId = (Integer) PropertyUtils.getProperty(bean,
                         "id");
-                // Save notification email
+                // Save notification email, its extra type id is the audit
+                // log id and is set when the audit log is written
                 RelayEmailNotificationWithBLOBs relayNotification = new RelayEmailNotificationWithBLOBs();
                 relayNotification.setChangeby(username);
                 relayNotification.setChangecomment("");
@@ -179,14 +149,8 @@ public class AuditLogAspect {
                 relayNotification.setType(ClassInfoMap.getType(cls));
                 relayNotification.setTypeid("" + typeId);
                 relayNotification.setEmailhandlerbean(notifyAgent.value().getName());
-                if (auditLogId != null) {
-                    relayNotification.setExtratypeid(auditLogId);
-                }
-
                 relayNotification.setAction(MonitorTypeConstants.UPDATE_ACTION);
-
-                relayEmailNotificationService.saveWithSession(
-                        relayNotification, username);
+                event.setRelayNotification(relayNotification);
             }
         } catch (Exception e) {
             LOG.error(
@@ -194,20 +158,17 @@ public class AuditLogAspect {
                             + cls.getName() + "and bean: "
                             + BeanUtility.printBeanObj(bean), e);
         }
+        sideEffectPipeline.publish(event);
     }
 
-    private Integer saveAuditLog(Class<?> targetCls, Object bean,
-                                 String username, Integer sAccountId, Integer activityStreamId) {
+    private AuditLog buildAuditLog(Class<?> targetCls, Object bean, Object oldValue,
+                                   String username, Integer sAccountId) {
         Auditable auditAnnotation = targetCls.getAnnotation(Auditable.class);
         if (auditAnnotation != null) {
-            String key;
             String changeSet = "";
             try {
 
                 int typeid = (Integer) PropertyUtils.getProperty(bean, "id");
-                key = bean.toString() + ClassInfoMap.getType(targetCls) + typeid;
-
-                Object oldValue = caches.get(key);
                 if (oldValue != null) {
                     AuditLog auditLog = new AuditLog();
                     auditLog.setPosteduser(username);
@@ -219,11 +180,7 @@ public class AuditLogAspect {
                     changeSet = AuditLogUtil.getChangeSet(oldValue, bean);
                     auditLog.setChangeset(changeSet);
                     auditLog.setObjectClass(oldValue.getClass().getName());
-                    if (activityStreamId != null) {
-                        auditLog.setActivitylogid(activityStreamId);
-                    }
-
-                    return auditLogService.saveWithSession(auditLog, "");
+                    return auditLog;
                 }
             } catch (Exception e) {
                 LOG.error(
@@ -0,0 +1,160 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the old value of beans being updated by an {@link Auditable} service
+ * until the update returns. Snapshots are bound to the thread that runs the
+ * update and matched by bean identity, so nested updates of different beans
+ * do not collide. Each thread holds at most
+ * {@link #MAX_SNAPSHOTS_PER_THREAD} snapshots, the oldest one is dropped when
+ * the limit is reached.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class AuditSnapshotHolder {
+    private static final Logger LOG = LoggerFactory.getLogger(AuditSnapshotHolder.class);
+
+    public static final int MAX_SNAPSHOTS_PER_THREAD = 16;
+
+    private static final ThreadLocal<ArrayDeque<Snapshot>> snapshots = new ThreadLocal<>();
+
+    private static final AtomicLong storedCount = new AtomicLong();
+    private static final AtomicLong consumedCount = new AtomicLong();
+    private static final AtomicLong missedCount = new AtomicLong();
+    private static final AtomicLong droppedCount = new AtomicLong();
+
+    private AuditSnapshotHolder() {
+    }
+
+    static void store(Object bean, Object oldValue) {
+        ArrayDeque<Snapshot> stack = snapshots.get();
+        if (stack == null) {
+            stack = new ArrayDeque<>(4);
+            snapshots.set(stack);
+        }
+
+        if (stack.size() >= MAX_SNAPSHOTS_PER_THREAD) {
+            stack.pollLast();
+            droppedCount.incrementAndGet();
+            LOG.warn("Audit snapshots of thread {} exceed {}, drop the oldest one",
+                    Thread.currentThread().getName(), MAX_SNAPSHOTS_PER_THREAD);
+        }
+        stack.push(new Snapshot(bean, oldValue));
+        storedCount.incrementAndGet();
+    }
+
+    /**
+     * Removes and returns the latest snapshot of bean, or null if there is no
+     * snapshot of it in current thread.
+     */
+    static Object take(Object bean) {
+        Object oldValue = remove(bean);
+        if (oldValue != null) {
+            consumedCount.incrementAndGet();
+        } else {
+            missedCount.incrementAndGet();
+        }
+        return oldValue;
+    }
+
+    /**
+     * Removes the latest snapshot of bean without reading it, used when the
+     * update fails.
+     */
+    static void discard(Object bean) {
+        remove(bean);
+    }
+
+    /**
+     * Removes all snapshots of current thread.
+     */
+    static void clear() {
+        snapshots.remove();
+    }
+
+    private static Object remove(Object bean) {
+        ArrayDeque<Snapshot> stack = snapshots.get();
+        if (stack == null) {
+            return null;
+        }
+
+        Object oldValue = null;
+        Iterator<Snapshot> iterator = stack.iterator();
+        while (iterator.hasNext()) {
+            Snapshot snapshot = iterator.next();
+            if (snapshot.bean == bean) {
+                iterator.remove();
+                oldValue = snapshot.oldValue;
+                break;
+            }
+        }
+
+        if (stack.isEmpty()) {
+            snapshots.remove();
+        }
+        return oldValue;
+    }
+
+    /**
+     * @return number of snapshots held by current thread
+     */
+    public static int getPendingCount() {
+        ArrayDeque<Snapshot> stack = snapshots.get();
+        return (stack != null) ? stack.size() : 0;
+    }
+
+    public static long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public static long getConsumedCount() {
+        return consumedCount.get();
+    }
+
+    /**
+     * @return number of updates finished without a snapshot of their bean
+     */
+    public static long getMissedCount() {
+        return missedCount.get();
+    }
+
+    /**
+     * @return number of snapshots dropped because the thread exceeded its bound
+     */
+    public static long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private static class Snapshot {
+        private final Object bean;
+        private final Object oldValue;
+
+        Snapshot(Object bean, Object oldValue) {
+            this.bean = bean;
+            this.oldValue = oldValue;
+        }
+    }
+}
@@ -30,4 +30,10 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(value = { ElementType.TYPE })
 public @interface Auditable {
+    /**
+     * Load the old value of an updated bean with the plain table row
+     * (selectByPrimaryKey) instead of the joined Simple* query of findById.
+     * Only table columns are compared in the audit change set then.
+     */
+    boolean narrowProjection() default false;
 }
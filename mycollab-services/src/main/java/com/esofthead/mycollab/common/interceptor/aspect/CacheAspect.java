@@ -0,0 +1,308 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import com.esofthead.mycollab.cache.CacheMetrics;
+import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.cache.LocalCacheManager;
+import com.esofthead.mycollab.cache.ParamsKey;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchCriteria;
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.cache.CacheArgs;
+import com.esofthead.mycollab.core.cache.CacheEvict;
+import com.esofthead.mycollab.core.cache.CacheKey;
+import com.esofthead.mycollab.core.cache.Cacheable;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Read-through cache of the service methods annotated by {@link Cacheable},
+ * and invalidation of the service caches on the methods annotated by
+ * {@link CacheEvict}. Values are cached per account, the account id is taken
+ * from the parameter annotated by {@link CacheKey}, and grouped by service
+ * interface so {@link CacheUtils#cleanCaches(Integer, Class[])} removes them.
+ * Values are stored serialized, callers always get their own copy.
+ * <p>
+ * The aspect is not loaded in the test profile, integration tests reload the
+ * database behind the services.
+ * </p>
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@Aspect
+@Component
+@Profile("!test")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CacheAspect {
+    private static final Logger LOG = LoggerFactory.getLogger(CacheAspect.class);
+
+    private static final CachePlan NO_CACHE = new CachePlan(null, -1, null, null, false);
+
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Method, CachePlan>> plans = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CacheMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.esofthead.mycollab..service..*(..))")
+    public Object cacheServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> targetClass = AopProxyUtils.ultimateTargetClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CachePlan plan = getCachePlan(targetClass, method);
+        if (plan == NO_CACHE) {
+            return joinPoint.proceed();
+        }
+
+        Object[] args = joinPoint.getArgs();
+        Integer accountId = getAccountId(args[plan.keyIndex]);
+        if (accountId == null) {
+            return joinPoint.proceed();
+        }
+
+        if (plan.evict) {
+            try {
+                return joinPoint.proceed();
+            } finally {
+                for (String group : plan.groups) {
+                    CacheUtils.cleanCache(accountId, group);
+                }
+                plan.metrics.recordEviction();
+            }
+        } else {
+            return readThrough(joinPoint, plan, accountId, args);
+        }
+    }
+
+    private static Object readThrough(ProceedingJoinPoint joinPoint, CachePlan plan,
+                                      Integer accountId, Object[] args) throws Throwable {
+        String cacheId = accountId.toString();
+        String group = plan.groups[0];
+        ParamsKey paramsKey;
+        try {
+            paramsKey = CacheUtils.constructParamsKey(args);
+        } catch (MyCollabException e) {
+            LOG.warn("Can not build the cache key of " + plan.keyPrefix + ", call it without the cache", e);
+            return joinPoint.proceed();
+        }
+        String key = plan.keyPrefix + paramsKey.getHash();
+
+        Object cachedValue = LocalCacheManager.getCache(cacheId).get(key);
+        if (cachedValue instanceof CachedValue) {
+            CachedValue value = (CachedValue) cachedValue;
+            // two parameter lists with the same hash must not share a value
+            if (value.paramsKey.equals(paramsKey)) {
+                plan.metrics.recordHit();
+                return (value.data == null) ? null : SerializationUtils.deserialize(value.data);
+            }
+        }
+
+        plan.metrics.recordMiss();
+        long generation = LocalCacheManager.getCacheGroupGeneration(cacheId, group);
+        Object result = joinPoint.proceed();
+
+        // a value read in the transaction of the caller may be uncommitted
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                && (result == null || result instanceof Serializable)) {
+            try {
+                byte[] data = (result == null) ? null : SerializationUtils.serialize((Serializable) result);
+                LocalCacheManager.putCacheItem(cacheId, group, key, new CachedValue(paramsKey, data), generation);
+            } catch (SerializationException e) {
+                LOG.warn("Can not cache the result of " + plan.keyPrefix, e);
+            }
+        }
+        return result;
+    }
+
+    private CachePlan getCachePlan(Class<?> targetClass, Method method) {
+        ConcurrentMap<Method, CachePlan> classPlans = plans.get(targetClass);
+        if (classPlans == null) {
+            ConcurrentMap<Method, CachePlan> newPlans = new ConcurrentHashMap<>();
+            classPlans = plans.putIfAbsent(targetClass, newPlans);
+            if (classPlans == null) {
+                classPlans = newPlans;
+            }
+        }
+
+        CachePlan plan = classPlans.get(method);
+        if (plan == null) {
+            plan = buildCachePlan(targetClass, method);
+            classPlans.putIfAbsent(method, plan);
+        }
+        return plan;
+    }
+
+    private CachePlan buildCachePlan(Class<?> targetClass, Method method) {
+        Class<?> serviceInterface = CacheUtils.getEnclosingServiceInterface(targetClass);
+        if (serviceInterface == null || CacheUtils.isInBlackList(serviceInterface)) {
+            return NO_CACHE;
+        }
+
+        Method serviceMethod = findServiceMethod(serviceInterface, method);
+        if (serviceMethod == null) {
+            return NO_CACHE;
+        }
+
+        boolean cacheable = serviceMethod.getAnnotation(Cacheable.class) != null;
+        boolean evict = serviceMethod.getAnnotation(CacheEvict.class) != null;
+        int keyIndex = getCacheKeyIndex(serviceMethod);
+        if ((!cacheable && !evict) || keyIndex < 0) {
+            return NO_CACHE;
+        }
+
+        List<String> groups = new ArrayList<>();
+        groups.add(serviceInterface.getName());
+        CacheArgs cacheArgs = serviceMethod.getAnnotation(CacheArgs.class);
+        if (evict && cacheArgs != null) {
+            for (Class<?> cls : cacheArgs.values()) {
+                groups.add(cls.getName());
+            }
+        }
+
+        StringBuilder keyPrefix = new StringBuilder(serviceInterface.getName()).append('.')
+                .append(serviceMethod.getName()).append('(');
+        for (Class<?> parameterType : serviceMethod.getParameterTypes()) {
+            keyPrefix.append(parameterType.getSimpleName()).append(',');
+        }
+        keyPrefix.append(")-");
+
+        String metricName = serviceInterface.getName() + "." + serviceMethod.getName();
+        CacheMetrics methodMetrics = metrics.get(metricName);
+        if (methodMetrics == null) {
+            CacheMetrics newMetrics = new CacheMetrics();
+            methodMetrics = metrics.putIfAbsent(metricName, newMetrics);
+            if (methodMetrics == null) {
+                methodMetrics = newMetrics;
+            }
+        }
+        return new CachePlan(groups.toArray(new String[groups.size()]), keyIndex,
+                keyPrefix.toString(), methodMetrics, evict);
+    }
+
+    /**
+     * The annotations are declared on the service interface and its super
+     * interfaces, not on the implementation.
+     */
+    private static Method findServiceMethod(Class<?> serviceInterface, Method method) {
+        try {
+            return serviceInterface.getMethod(method.getName(), method.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            for (Method interfaceMethod : serviceInterface.getMethods()) {
+                if (interfaceMethod.getName().equals(method.getName())
+                        && ClassUtils.isAssignable(method.getParameterTypes(),
+                        interfaceMethod.getParameterTypes(), true)) {
+                    return interfaceMethod;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static int getCacheKeyIndex(Method method) {
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof CacheKey) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    static Integer getAccountId(Object cacheKey) {
+        if (cacheKey == null) {
+            return null;
+        } else if (cacheKey instanceof Number) {
+            return ((Number) cacheKey).intValue();
+        } else if (cacheKey instanceof SearchRequest) {
+            return getAccountId(((SearchRequest<?>) cacheKey).getSearchCriteria());
+        } else if (cacheKey instanceof SearchCriteria) {
+            NumberSearchField accountField = ((SearchCriteria) cacheKey).getSaccountid();
+            return (accountField == null) ? null : getAccountId(accountField.getValue());
+        } else {
+            try {
+                if (PropertyUtils.isReadable(cacheKey, "saccountid")) {
+                    return getAccountId(PropertyUtils.getProperty(cacheKey, "saccountid"));
+                }
+            } catch (Exception e) {
+                LOG.error("Can not get account id of " + cacheKey.getClass().getName(), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction counters by service method
+     */
+    public Map<String, CacheMetrics> getMetrics() {
+        return Collections.unmodifiableMap(new TreeMap<>(metrics));
+    }
+
+    private static class CachePlan {
+        private final String[] groups;
+        private final int keyIndex;
+        private final String keyPrefix;
+        private final CacheMetrics metrics;
+        private final boolean evict;
+
+        CachePlan(String[] groups, int keyIndex, String keyPrefix, CacheMetrics metrics, boolean evict) {
+            this.groups = groups;
+            this.keyIndex = keyIndex;
+            this.keyPrefix = keyPrefix;
+            this.metrics = metrics;
+            this.evict = evict;
+        }
+    }
+
+    private static class CachedValue implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final ParamsKey paramsKey;
+        private final byte[] data;
+
+        CachedValue(ParamsKey paramsKey, byte[] data) {
+            this.paramsKey = paramsKey;
+            this.data = data;
+        }
+    }
+}
@@ -19,8 +19,6 @@ package com.esofthead.mycollab.common.interceptor.aspect;
 import com.esofthead.mycollab.common.MonitorTypeConstants;
 import com.esofthead.mycollab.common.domain.MonitorItem;
 import com.esofthead.mycollab.common.domain.RelayEmailNotificationWithBLOBs;
-import com.esofthead.mycollab.common.service.MonitorItemService;
-import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
 import com.esofthead.mycollab.core.utils.BeanUtility;
 import org.apache.commons.beanutils.PropertyUtils;
 import org.aspectj.lang.JoinPoint;
@@ -33,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.GregorianCalendar;
 
 /**
@@ -46,10 +45,7 @@ public class MonitorItemAspect {
     private static final Logger LOG = LoggerFactory.getLogger(MonitorItemAspect.class);
 
     @Autowired
-    private MonitorItemService monitorItemService;
-
-    @Autowired
-    private RelayEmailNotificationService relayEmailNotificationService;
+    private SideEffectPipeline sideEffectPipeline;
 
     @AfterReturning("execution(public * com.esofthead.mycollab..service..*.saveWithSession(..)) && args(bean, username)")
     public void traceSaveActivity(JoinPoint joinPoint, Object bean,
@@ -57,39 +53,10 @@ public class MonitorItemAspect {
         Advised advised = (Advised) joinPoint.getThis();
         Class<?> cls = advised.getTargetSource().getTargetClass();
         try {
+            SideEffectEvent event = new SideEffectEvent();
             Watchable watchableAnnotation = cls.getAnnotation(Watchable.class);
             if (watchableAnnotation != null) {
-                int sAccountId = (Integer) PropertyUtils.getProperty(bean,
-                        "saccountid");
-                int typeId = (Integer) PropertyUtils.getProperty(bean, "id");
-                Integer extraTypeId = null;
-                if (!"".equals(watchableAnnotation.extraTypeId())) {
-                    extraTypeId = (Integer) PropertyUtils.getProperty(bean,
-                            watchableAnnotation.extraTypeId());
-                }
-
-                MonitorItem monitorItem = new MonitorItem();
-                monitorItem.setMonitorDate(new GregorianCalendar().getTime());
-                monitorItem.setType(ClassInfoMap.getType(cls));
-                monitorItem.setTypeid(typeId);
-                monitorItem.setExtratypeid(extraTypeId);
-                monitorItem.setUser(username);
-                monitorItem.setSaccountid(sAccountId);
-
-                monitorItemService.saveWithSession(monitorItem, username);
-                LOG.debug("Save monitor item: "
-                        + BeanUtility.printBeanObj(monitorItem));
-
-                if (!watchableAnnotation.userFieldName().equals("")) {
-                    String moreUser = (String) PropertyUtils.getProperty(bean,
-                            watchableAnnotation.userFieldName());
-                    if (moreUser != null && !moreUser.equals(username)) {
-                        monitorItem.setId(null);
-                        monitorItem.setUser(moreUser);
-                        monitorItemService.saveWithSession(monitorItem,
-                                moreUser);
-                    }
-                }
+                addMonitorItems(event, cls, watchableAnnotation, bean, username);
             }
 
             NotifyAgent notifyAgent = cls.getAnnotation(NotifyAgent.class);
@@ -105,14 +72,56 @@ public class MonitorItemAspect {
                 relayNotification.setAction(MonitorTypeConstants.CREATE_ACTION);
                 relayNotification.setTypeid("" + typeId);
                 relayNotification.setEmailhandlerbean(notifyAgent.value().getName());
-                relayEmailNotificationService.saveWithSession(
-                        relayNotification, username);
-                // Save notification item
+                event.setRelayNotification(relayNotification);
             }
+            sideEffectPipeline.publish(event);
         } catch (Exception e) {
             LOG.error(
                     "Error when save relay email notification for save action of service "
                             + cls.getName(), e);
         }
     }
+
+    /**
+     * Adds monitor items of the creator and of the user kept in the
+     * <code>userFieldName</code> field of bean to event
+     */
+    static void addMonitorItems(SideEffectEvent event, Class<?> cls, Watchable watchableAnnotation,
+                                Object bean, String username) throws IllegalAccessException,
+            InvocationTargetException, NoSuchMethodException {
+        int sAccountId = (Integer) PropertyUtils.getProperty(bean,
+                "saccountid");
+        int typeId = (Integer) PropertyUtils.getProperty(bean, "id");
+        Integer extraTypeId = null;
+        if (!"".equals(watchableAnnotation.extraTypeId())) {
+            extraTypeId = (Integer) PropertyUtils.getProperty(bean,
+                    watchableAnnotation.extraTypeId());
+        }
+
+        MonitorItem monitorItem = new MonitorItem();
+        monitorItem.setMonitorDate(new GregorianCalendar().getTime());
+        monitorItem.setType(ClassInfoMap.getType(cls));
+        monitorItem.setTypeid(typeId);
+        monitorItem.setExtratypeid(extraTypeId);
+        monitorItem.setUser(username);
+        monitorItem.setSaccountid(sAccountId);
+        event.addMonitorItem(monitorItem);
+        LOG.debug("Save monitor item: "
+                + BeanUtility.printBeanObj(monitorItem));
+
+        if (!watchableAnnotation.userFieldName().equals("")) {
+            String moreUser = (String) PropertyUtils.getProperty(bean,
+                    watchableAnnotation.userFieldName());
+            if (moreUser != null && !moreUser.equals(username)) {
+                MonitorItem moreUserItem = new MonitorItem();
+                moreUserItem.setMonitorDate(monitorItem.getMonitorDate());
+                moreUserItem.setType(monitorItem.getType());
+                moreUserItem.setTypeid(typeId);
+                moreUserItem.setExtratypeid(extraTypeId);
+                moreUserItem.setUser(moreUser);
+                moreUserItem.setSaccountid(sAccountId);
+                event.addMonitorItem(moreUserItem);
+            }
+        }
+    }
 }
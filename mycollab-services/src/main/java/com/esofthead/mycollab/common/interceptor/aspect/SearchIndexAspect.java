@@ -0,0 +1,119 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import com.esofthead.mycollab.module.project.service.ProjectSearchIndexService;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps the project search index up to date with the items saved, updated and
+ * removed through the services of the indexed item types. A failure is only
+ * logged, the nightly rebuild of the index repairs the entries it missed.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@Aspect
+@Component
+public class SearchIndexAspect {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexAspect.class);
+
+    @Autowired
+    private ProjectSearchIndexService projectSearchIndexService;
+
+    @AfterReturning("execution(public * com.esofthead.mycollab..service..*.saveWithSession(..)) && args(bean, username)")
+    public void indexSavedItem(JoinPoint joinPoint, Object bean, String username) {
+        indexItem(joinPoint, bean);
+    }
+
+    @AfterReturning("(execution(public * com.esofthead.mycollab..service..*.updateWithSession(..)) " +
+            "|| execution(public * com.esofthead.mycollab..service..*.updateSelectiveWithSession(..))) " +
+            "&& args(bean, username)")
+    public void indexUpdatedItem(JoinPoint joinPoint, Object bean, String username) {
+        indexItem(joinPoint, bean);
+    }
+
+    @AfterReturning("execution(public * com.esofthead.mycollab..service..*.removeWithSession(..)) " +
+            "&& args(primaryKey, username, accountId)")
+    public void removeItem(JoinPoint joinPoint, Object primaryKey, String username, int accountId) {
+        String type = getIndexedType(joinPoint);
+        if (type != null && primaryKey instanceof Integer) {
+            removeItems(type, Collections.singletonList((Integer) primaryKey));
+        }
+    }
+
+    @AfterReturning("execution(public * com.esofthead.mycollab..service..*.massRemoveWithSession(..)) " +
+            "&& args(primaryKeys, username, accountId)")
+    public void removeItems(JoinPoint joinPoint, List<?> primaryKeys, String username, int accountId) {
+        String type = getIndexedType(joinPoint);
+        if (type != null) {
+            List<Integer> itemIds = new ArrayList<>(primaryKeys.size());
+            for (Object primaryKey : primaryKeys) {
+                if (primaryKey instanceof Integer) {
+                    itemIds.add((Integer) primaryKey);
+                }
+            }
+            removeItems(type, itemIds);
+        }
+    }
+
+    private String getIndexedType(JoinPoint joinPoint) {
+        Advised advised = (Advised) joinPoint.getThis();
+        Class<?> cls = advised.getTargetSource().getTargetClass();
+        if (ClassInfoMap.hasClassInfo(cls)) {
+            String type = ClassInfoMap.getType(cls);
+            if (projectSearchIndexService.isIndexed(type)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private void indexItem(JoinPoint joinPoint, Object bean) {
+        String type = getIndexedType(joinPoint);
+        if (type != null) {
+            try {
+                Integer itemId = (Integer) PropertyUtils.getProperty(bean, "id");
+                if (itemId != null) {
+                    projectSearchIndexService.indexItems(type, Collections.singletonList(itemId));
+                }
+            } catch (Exception e) {
+                LOG.error("Error while indexing item of type " + type, e);
+            }
+        }
+    }
+
+    private void removeItems(String type, List<Integer> itemIds) {
+        try {
+            projectSearchIndexService.removeItems(type, itemIds);
+        } catch (Exception e) {
+            LOG.error("Error while removing items of type " + type + " from the search index", e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import com.esofthead.mycollab.common.domain.ActivityStreamWithBLOBs;
+import com.esofthead.mycollab.common.domain.AuditLog;
+import com.esofthead.mycollab.common.domain.MonitorItem;
+import com.esofthead.mycollab.common.domain.RelayEmailNotificationWithBLOBs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records produced by the service aspects for one save or update action. They
+ * are written together because the audit log refers to the activity stream
+ * and the relay notification refers to the audit log.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class SideEffectEvent {
+    private ActivityStreamWithBLOBs activity;
+
+    private AuditLog auditLog;
+
+    private RelayEmailNotificationWithBLOBs relayNotification;
+
+    private List<MonitorItem> monitorItems = new ArrayList<>(2);
+
+    public ActivityStreamWithBLOBs getActivity() {
+        return activity;
+    }
+
+    public void setActivity(ActivityStreamWithBLOBs activity) {
+        this.activity = activity;
+    }
+
+    public AuditLog getAuditLog() {
+        return auditLog;
+    }
+
+    public void setAuditLog(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    public RelayEmailNotificationWithBLOBs getRelayNotification() {
+        return relayNotification;
+    }
+
+    public void setRelayNotification(RelayEmailNotificationWithBLOBs relayNotification) {
+        this.relayNotification = relayNotification;
+    }
+
+    public List<MonitorItem> getMonitorItems() {
+        return monitorItems;
+    }
+
+    public void addMonitorItem(MonitorItem monitorItem) {
+        monitorItems.add(monitorItem);
+    }
+
+    public boolean isEmpty() {
+        return activity == null && auditLog == null
+                && relayNotification == null && monitorItems.isEmpty();
+    }
+}
@@ -0,0 +1,439 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.common.dao.ActivityStreamMapper;
+import com.esofthead.mycollab.common.dao.AuditLogMapper;
+import com.esofthead.mycollab.common.dao.MonitorItemMapper;
+import com.esofthead.mycollab.common.dao.MonitorItemMapperExt;
+import com.esofthead.mycollab.common.dao.RelayEmailNotificationMapper;
+import com.esofthead.mycollab.common.domain.ActivityStreamWithBLOBs;
+import com.esofthead.mycollab.common.domain.AuditLog;
+import com.esofthead.mycollab.common.domain.MonitorItem;
+import com.esofthead.mycollab.common.domain.MonitorItemExample;
+import com.esofthead.mycollab.common.domain.RelayEmailNotificationWithBLOBs;
+import com.esofthead.mycollab.common.service.ActivityStreamService;
+import com.esofthead.mycollab.configuration.SideEffectConfiguration;
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+import com.esofthead.mycollab.module.project.service.ProjectActivityStreamService;
+import com.esofthead.mycollab.schedule.email.RelayNotificationEvent;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the records produced by {@link TraceableAspect},
+ * {@link MonitorItemAspect} and {@link AuditLogAspect} outside of the caller
+ * thread. Events are put into a bounded queue and a single writer thread
+ * drains them, inserting each kind of record with one JDBC batch. When the
+ * queue stays full longer than the configured offer timeout, the caller
+ * writes its event by itself, so events are never dropped. In synchronous
+ * mode (used by tests) every event is written immediately in the caller
+ * thread.
+ * <p>
+ * Events published inside a transaction are held until the transaction
+ * commits and dropped when it rolls back, so the records never describe an
+ * item change which did not happen or which is not visible yet.
+ * </p>
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+@Component
+public class SideEffectPipeline implements InitializingBean, DisposableBean,
+        ApplicationEventPublisherAware {
+    private static final Logger LOG = LoggerFactory.getLogger(SideEffectPipeline.class);
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private SideEffectConfiguration configuration;
+
+    private BlockingQueue<SideEffectEvent> queue;
+
+    private Thread writerThread;
+
+    private volatile boolean running;
+
+    private final AtomicLong publishedEvents = new AtomicLong();
+    private final AtomicLong writtenEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+    private final AtomicLong callerWrites = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        configuration = loadConfiguration();
+        if (configuration.isAsync()) {
+            queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+            running = true;
+            writerThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    drainLoop();
+                }
+            }, "side-effect-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            LOG.info("Start side effect writer with queue capacity {}, flush size {}, flush latency {} ms",
+                    configuration.getQueueCapacity(), configuration.getFlushSize(),
+                    configuration.getFlushLatency());
+        }
+    }
+
+    SideEffectConfiguration loadConfiguration() {
+        return SiteConfiguration.getSideEffectConfiguration();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (writerThread != null) {
+            running = false;
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            writerThread = null;
+        }
+        flush();
+    }
+
+    public void publish(SideEffectEvent event) {
+        if (event == null || event.isEmpty()) {
+            return;
+        }
+        publishedEvents.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionEvents transactionEvents = (TransactionEvents) TransactionSynchronizationManager
+                    .getResource(this);
+            if (transactionEvents == null) {
+                transactionEvents = new TransactionEvents();
+                TransactionSynchronizationManager.bindResource(this, transactionEvents);
+                TransactionSynchronizationManager.registerSynchronization(transactionEvents);
+            }
+            transactionEvents.events.add(event);
+        } else {
+            dispatch(event);
+        }
+    }
+
+    private void dispatch(SideEffectEvent event) {
+        if (!running) {
+            write(Collections.singletonList(event));
+            return;
+        }
+
+        boolean isQueued;
+        try {
+            isQueued = queue.offer(event, configuration.getOfferTimeout(),
+                    TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            isQueued = false;
+        }
+
+        if (!isQueued) {
+            callerWrites.incrementAndGet();
+            LOG.warn("Side effect queue is full ({} events), write event in caller thread",
+                    queue.size());
+            write(Collections.singletonList(event));
+        }
+    }
+
+    /**
+     * Events published in the current transaction, they are dispatched after
+     * the commit.
+     */
+    private class TransactionEvents extends TransactionSynchronizationAdapter {
+        private final List<SideEffectEvent> events = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            for (SideEffectEvent event : events) {
+                dispatch(event);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SideEffectPipeline.this);
+            if (status != STATUS_COMMITTED && !events.isEmpty()) {
+                LOG.debug("Drop {} side effect events of the rolled back transaction", events.size());
+            }
+        }
+    }
+
+    /**
+     * Writes all pending events in the caller thread.
+     */
+    public void flush() {
+        if (queue == null) {
+            return;
+        }
+        List<SideEffectEvent> batch = new ArrayList<>(configuration.getFlushSize());
+        while (queue.drainTo(batch, configuration.getFlushSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainLoop() {
+        int flushSize = configuration.getFlushSize();
+        long flushLatency = TimeUnit.MILLISECONDS.toNanos(configuration.getFlushLatency());
+        List<SideEffectEvent> batch = new ArrayList<>(flushSize);
+
+        while (running) {
+            try {
+                SideEffectEvent head = queue.poll(1, TimeUnit.SECONDS);
+                if (head == null) {
+                    continue;
+                }
+                batch.add(head);
+
+                long deadline = System.nanoTime() + flushLatency;
+                while (batch.size() < flushSize) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0) {
+                        break;
+                    }
+                    SideEffectEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<SideEffectEvent> events) {
+        long startTime = System.nanoTime();
+        try {
+            writeBatch(events);
+            writtenEvents.addAndGet(events.size());
+        } catch (Exception e) {
+            if (events.size() == 1) {
+                failedEvents.incrementAndGet();
+                LOG.error("Error when write side effect event", e);
+            } else {
+                LOG.error("Error when write batch of " + events.size()
+                        + " side effect events, retry them one by one", e);
+                for (SideEffectEvent event : events) {
+                    write(Collections.singletonList(event));
+                }
+                return;
+            }
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        lastFlushNanos = elapsed;
+        if (elapsed > maxFlushNanos) {
+            maxFlushNanos = elapsed;
+        }
+        totalFlushNanos.addAndGet(elapsed);
+        flushCount.incrementAndGet();
+    }
+
+    private void writeBatch(List<SideEffectEvent> events) {
+        SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH, false);
+        try {
+            List<MonitorItem> monitorItems = filterNewMonitorItems(
+                    session.getMapper(MonitorItemMapper.class), events);
+
+            ActivityStreamMapper activityStreamMapper = session.getMapper(ActivityStreamMapper.class);
+            Set<Integer> activityAccountIds = new HashSet<>();
+            for (SideEffectEvent event : events) {
+                ActivityStreamWithBLOBs activity = event.getActivity();
+                if (activity != null) {
+                    activityStreamMapper.insertAndReturnKey(activity);
+                    activityAccountIds.add(activity.getSaccountid());
+                }
+            }
+            session.flushStatements();
+
+            AuditLogMapper auditLogMapper = session.getMapper(AuditLogMapper.class);
+            for (SideEffectEvent event : events) {
+                AuditLog auditLog = event.getAuditLog();
+                if (auditLog != null) {
+                    if (event.getActivity() != null) {
+                        auditLog.setActivitylogid(event.getActivity().getId());
+                    }
+                    auditLogMapper.insertAndReturnKey(auditLog);
+                }
+            }
+            session.flushStatements();
+
+            RelayEmailNotificationMapper relayMapper = session.getMapper(RelayEmailNotificationMapper.class);
+            for (SideEffectEvent event : events) {
+                RelayEmailNotificationWithBLOBs relayNotification = event.getRelayNotification();
+                if (relayNotification != null) {
+                    if (event.getAuditLog() != null && event.getAuditLog().getId() != null) {
+                        relayNotification.setExtratypeid(event.getAuditLog().getId());
+                    }
+                    relayMapper.insertAndReturnKey(relayNotification);
+                }
+            }
+            if (!monitorItems.isEmpty()) {
+                session.getMapper(MonitorItemMapperExt.class).saveMonitorItems(monitorItems);
+            }
+            session.flushStatements();
+            session.commit();
+
+            for (Integer accountId : activityAccountIds) {
+                CacheUtils.cleanCaches(accountId, ActivityStreamService.class,
+                        ProjectActivityStreamService.class);
+            }
+
+            for (SideEffectEvent event : events) {
+                RelayEmailNotificationWithBLOBs relayNotification = event.getRelayNotification();
+                if (relayNotification != null) {
+                    eventPublisher.publishEvent(new RelayNotificationEvent(this,
+                            relayNotification.getSaccountid(), relayNotification.getType(),
+                            relayNotification.getTypeid()));
+                }
+            }
+        } catch (RuntimeException e) {
+            session.rollback();
+            throw e;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Removes the monitor items which are duplicated in batch or already
+     * existed in database, all existed items are checked with one query.
+     */
+    private static List<MonitorItem> filterNewMonitorItems(MonitorItemMapper monitorItemMapper,
+                                                           List<SideEffectEvent> events) {
+        Map<String, MonitorItem> candidates = new LinkedHashMap<>();
+        for (SideEffectEvent event : events) {
+            for (MonitorItem item : event.getMonitorItems()) {
+                String key = monitorKey(item.getType(), item.getTypeid(), item.getUser());
+                if (!candidates.containsKey(key)) {
+                    candidates.put(key, item);
+                }
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        MonitorItemExample ex = new MonitorItemExample();
+        for (MonitorItem item : candidates.values()) {
+            ex.or().andTypeEqualTo(item.getType()).andTypeidEqualTo(item.getTypeid())
+                    .andUserEqualTo(item.getUser());
+        }
+        List<MonitorItem> existedItems = monitorItemMapper.selectByExample(ex);
+        for (MonitorItem item : existedItems) {
+            candidates.remove(monitorKey(item.getType(), item.getTypeid(), item.getUser()));
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    private static String monitorKey(String type, Integer typeId, String user) {
+        return type + "|" + typeId + "|" + user;
+    }
+
+    public boolean isAsync() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return (queue != null) ? queue.size() : 0;
+    }
+
+    public long getPublishedEvents() {
+        return publishedEvents.get();
+    }
+
+    public long getWrittenEvents() {
+        return writtenEvents.get();
+    }
+
+    public long getFailedEvents() {
+        return failedEvents.get();
+    }
+
+    /**
+     * @return number of events written by the caller thread because the queue
+     * was full
+     */
+    public long getCallerWrites() {
+        return callerWrites.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    /**
+     * @return latency of the last flush in milliseconds
+     */
+    public double getLastFlushLatency() {
+        return lastFlushNanos / 1e6;
+    }
+
+    /**
+     * @return maximum flush latency in milliseconds
+     */
+    public double getMaxFlushLatency() {
+        return maxFlushNanos / 1e6;
+    }
+
+    /**
+     * @return average flush latency in milliseconds
+     */
+    public double getAverageFlushLatency() {
+        long count = flushCount.get();
+        return (count == 0) ? 0 : totalFlushNanos.get() / 1e6 / count;
+    }
+}
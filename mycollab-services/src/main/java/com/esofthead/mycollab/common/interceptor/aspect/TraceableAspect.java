@@ -18,7 +18,6 @@ package com.esofthead.mycollab.common.interceptor.aspect;
 
 import com.esofthead.mycollab.common.ActivityStreamConstants;
 import com.esofthead.mycollab.common.domain.ActivityStreamWithBLOBs;
-import com.esofthead.mycollab.common.service.ActivityStreamService;
 import com.esofthead.mycollab.core.utils.DateTimeUtils;
 import org.apache.commons.beanutils.PropertyUtils;
 import org.aspectj.lang.JoinPoint;
@@ -45,7 +44,7 @@ public class TraceableAspect {
             .getLogger(TraceableAspect.class);
 
     @Autowired
-    private ActivityStreamService activityStreamService;
+    private SideEffectPipeline sideEffectPipeline;
 
     @AfterReturning("execution(public * com.esofthead.mycollab..service..*.saveWithSession(..)) && args(bean, username)")
     public void traceSaveActivity(JoinPoint joinPoint, Object bean,
@@ -60,7 +59,9 @@ public class TraceableAspect {
                 ActivityStreamWithBLOBs activity = constructActivity(cls,
                         traceableAnnotation, bean, username,
                         ActivityStreamConstants.ACTION_CREATE);
-                activityStreamService.save(activity);
+                SideEffectEvent event = new SideEffectEvent();
+                event.setActivity(activity);
+                sideEffectPipeline.publish(event);
             } catch (Exception e) {
                 LOG.error(
                         "Error when save activity for save action of service "
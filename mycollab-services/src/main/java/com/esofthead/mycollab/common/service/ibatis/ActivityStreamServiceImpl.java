@@ -54,6 +54,11 @@ public class ActivityStreamServiceImpl extends
 		return activityStreamMapperExt;
 	}
 
+	@Override
+	protected String getSeekField() {
+		return "createdtime";
+	}
+
 	@Override
 	public Integer save(ActivityStreamWithBLOBs activityStream) {
 		activityStreamMapper.insertAndReturnKey(activityStream);
@@ -16,16 +16,6 @@
  */
 package com.esofthead.mycollab.common.service.ibatis;
 
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-
-import org.apache.commons.beanutils.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,7 +23,6 @@ import org.springframework.stereotype.Service;
 
 import com.esofthead.mycollab.common.dao.AuditLogMapper;
 import com.esofthead.mycollab.common.dao.AuditLogMapperExt;
-import com.esofthead.mycollab.common.domain.AuditChangeItem;
 import com.esofthead.mycollab.common.domain.AuditLog;
 import com.esofthead.mycollab.common.domain.SimpleAuditLog;
 import com.esofthead.mycollab.common.domain.criteria.AuditLogSearchCriteria;
@@ -41,7 +30,6 @@ import com.esofthead.mycollab.common.service.AuditLogService;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
-import com.esofthead.mycollab.core.utils.JsonDeSerializer;
 
 /**
  * 
@@ -74,61 +62,12 @@ public class AuditLogServiceImpl extends
 	public static class AuditLogUtil {
 
 		static public String getChangeSet(Object oldObj, Object newObj) {
-			Class cl = oldObj.getClass();
-			List<AuditChangeItem> changeItems = new ArrayList<>();
-
 			try {
-				BeanInfo beanInfo = Introspector.getBeanInfo(cl, Object.class);
-
-				for (PropertyDescriptor propertyDescriptor : beanInfo
-						.getPropertyDescriptors()) {
-
-					String fieldName = propertyDescriptor.getName();
-					String oldProp = getValue(PropertyUtils.getProperty(oldObj,
-							fieldName));
-
-					Object newPropVal;
-					try {
-						newPropVal = PropertyUtils.getProperty(newObj,
-								fieldName);
-					} catch (Exception e) {
-						continue;
-					}
-					String newProp = getValue(newPropVal);
-
-					if (!oldProp.equals(newProp)) {
-						AuditChangeItem changeItem = new AuditChangeItem();
-						changeItem.setField(fieldName);
-						changeItem.setNewvalue(newProp);
-						changeItem.setOldvalue(oldProp);
-						changeItems.add(changeItem);
-
-					}
-				}
+				return ChangeSetGenerator.getChangeSet(oldObj, newObj);
 			} catch (Exception e) {
 				LOG.error("There is error when convert changeset", e);
 				return "";
 			}
-
-			return JsonDeSerializer.toJson(changeItems);
-		}
-
-		private static String getValue(Object obj) {
-			if (obj != null) {
-				if (obj instanceof Date) {
-					return formatDateW3C((Date) obj);
-				} else {
-					return obj.toString();
-				}
-			} else {
-				return "";
-			}
-		}
-
-		static private String formatDateW3C(Date date) {
-			DateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
-			String text = df.format(date);
-			return text.substring(0, 22) + ":" + text.substring(22);
 		}
 	}
 
@@ -0,0 +1,259 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.service.ibatis;
+
+import com.esofthead.mycollab.core.utils.DateFormatterRegistry;
+import org.joda.time.format.DateTimeFormatter;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Generates the audit change set between the old and new value of a bean.
+ * The getters of each pair of old/new classes are resolved once into method
+ * handles and cached, values are compared with equals before they are
+ * formatted, and the change items are written to json directly in the format
+ * of a serialized list of
+ * {@link com.esofthead.mycollab.common.domain.AuditChangeItem}.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+final class ChangeSetGenerator {
+    private static final DateTimeFormatter W3C_DATE_FORMATTER = DateFormatterRegistry
+            .getFormatter(DateFormatterRegistry.W3C_DATE_TIME + "ZZ");
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(
+            Object.class, Object.class);
+
+    private static final ConcurrentMap<ClassPair, DiffPlan> plans = new ConcurrentHashMap<>();
+
+    private ChangeSetGenerator() {
+    }
+
+    static String getChangeSet(Object oldObj, Object newObj) throws Exception {
+        DiffPlan plan = getPlan(oldObj.getClass(), newObj.getClass());
+        StringBuilder json = new StringBuilder(128).append('[');
+        boolean isFirst = true;
+        for (PropertyGetter getter : plan.getters) {
+            Object oldVal = getProperty(getter.oldGetter, oldObj);
+            Object newVal = getProperty(getter.newGetter, newObj);
+            if (oldVal == newVal || (oldVal != null && oldVal.equals(newVal))) {
+                continue;
+            }
+
+            String oldProp = getValue(oldVal);
+            String newProp = getValue(newVal);
+            if (!oldProp.equals(newProp)) {
+                if (!isFirst) {
+                    json.append(',');
+                }
+                isFirst = false;
+                json.append("{\"field\":");
+                appendString(json, getter.name);
+                json.append(",\"oldvalue\":");
+                appendString(json, oldProp);
+                json.append(",\"newvalue\":");
+                appendString(json, newProp);
+                json.append('}');
+            }
+        }
+        return json.append(']').toString();
+    }
+
+    /**
+     * Errors of the getter are not caught by the callers, any other throwable
+     * is wrapped like a reflective call does
+     */
+    private static Object getProperty(MethodHandle getter, Object obj)
+            throws Exception {
+        try {
+            return getter.invokeExact(obj);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static DiffPlan getPlan(Class<?> oldCls, Class<?> newCls)
+            throws IntrospectionException, IllegalAccessException {
+        ClassPair key = new ClassPair(oldCls, newCls);
+        DiffPlan plan = plans.get(key);
+        if (plan == null) {
+            plan = compilePlan(oldCls, newCls);
+            DiffPlan existingPlan = plans.putIfAbsent(key, plan);
+            if (existingPlan != null) {
+                plan = existingPlan;
+            }
+        }
+        return plan;
+    }
+
+    private static DiffPlan compilePlan(Class<?> oldCls, Class<?> newCls)
+            throws IntrospectionException, IllegalAccessException {
+        Map<String, Method> newReadMethods = new HashMap<>();
+        for (PropertyDescriptor descriptor : Introspector.getBeanInfo(newCls,
+                Object.class).getPropertyDescriptors()) {
+            if (descriptor.getReadMethod() != null) {
+                newReadMethods.put(descriptor.getName(), descriptor.getReadMethod());
+            }
+        }
+
+        BeanInfo oldBeanInfo = Introspector.getBeanInfo(oldCls, Object.class);
+        List<PropertyGetter> getters = new ArrayList<>();
+        for (PropertyDescriptor descriptor : oldBeanInfo.getPropertyDescriptors()) {
+            Method oldReadMethod = descriptor.getReadMethod();
+            Method newReadMethod = newReadMethods.get(descriptor.getName());
+            if (oldReadMethod == null || newReadMethod == null) {
+                continue;
+            }
+            getters.add(new PropertyGetter(descriptor.getName(),
+                    toGetterHandle(oldReadMethod), toGetterHandle(newReadMethod)));
+        }
+        return new DiffPlan(getters.toArray(new PropertyGetter[getters.size()]));
+    }
+
+    private static MethodHandle toGetterHandle(Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+    }
+
+    private static String getValue(Object obj) {
+        if (obj != null) {
+            if (obj instanceof Date) {
+                return W3C_DATE_FORMATTER.print(((Date) obj).getTime());
+            } else {
+                return obj.toString();
+            }
+        } else {
+            return "";
+        }
+    }
+
+    /**
+     * Appends value as a json string, escaping the same characters as Gson
+     * does by default.
+     */
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                case '\b':
+                    json.append("\\b");
+                    break;
+                case '\f':
+                    json.append("\\f");
+                    break;
+                case '<':
+                case '>':
+                case '&':
+                case '=':
+                case '\'':
+                case '\u2028':
+                case '\u2029':
+                    appendUnicodeEscape(json, c);
+                    break;
+                default:
+                    if (c < 0x20) {
+                        appendUnicodeEscape(json, c);
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static void appendUnicodeEscape(StringBuilder json, char c) {
+        json.append(String.format("\\u%04x", (int) c));
+    }
+
+    private static class PropertyGetter {
+        private final String name;
+        private final MethodHandle oldGetter;
+        private final MethodHandle newGetter;
+
+        PropertyGetter(String name, MethodHandle oldGetter, MethodHandle newGetter) {
+            this.name = name;
+            this.oldGetter = oldGetter;
+            this.newGetter = newGetter;
+        }
+    }
+
+    private static class DiffPlan {
+        private final PropertyGetter[] getters;
+
+        DiffPlan(PropertyGetter[] getters) {
+            this.getters = getters;
+        }
+    }
+
+    private static class ClassPair {
+        private final Class<?> oldCls;
+        private final Class<?> newCls;
+
+        ClassPair(Class<?> oldCls, Class<?> newCls) {
+            this.oldCls = oldCls;
+            this.newCls = newCls;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ClassPair)) {
+                return false;
+            }
+            ClassPair other = (ClassPair) obj;
+            return oldCls == other.oldCls && newCls == other.newCls;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * oldCls.hashCode() + newCls.hashCode();
+        }
+    }
+}
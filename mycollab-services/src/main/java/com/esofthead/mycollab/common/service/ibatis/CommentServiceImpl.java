@@ -33,6 +33,7 @@ import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
 import com.esofthead.mycollab.core.utils.BeanUtility;
+import com.esofthead.mycollab.core.utils.RichTextSanitizer;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.service.MessageService;
 import com.esofthead.mycollab.module.project.service.ProjectActivityStreamService;
@@ -86,6 +87,7 @@ public class CommentServiceImpl extends
                                boolean isSendingEmail,
                                Class<? extends SendingRelayEmailNotificationAction> emailHandler) {
         int saveId = super.saveWithSession(record, username);
+        RichTextSanitizer.prepare(record.getComment());
 
         if (ProjectTypeConstants.MESSAGE.equals(record.getType())) {
             CacheUtils
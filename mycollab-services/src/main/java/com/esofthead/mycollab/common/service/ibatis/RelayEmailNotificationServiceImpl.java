@@ -24,7 +24,9 @@ import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
+import com.esofthead.mycollab.schedule.email.RelayNotificationEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -43,6 +45,8 @@ public class RelayEmailNotificationServiceImpl
 	private RelayEmailNotificationMapper relayEmailNotificationMapper;
 	@Autowired
 	private RelayEmailNotificationMapperExt relayEmailNotificationMapperExt;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
 
 	@Override
 	public ICrudGenericDAO getCrudMapper() {
@@ -53,4 +57,13 @@ public class RelayEmailNotificationServiceImpl
 	public ISearchableDAO<RelayEmailNotificationSearchCriteria> getSearchMapper() {
 		return relayEmailNotificationMapperExt;
 	}
+
+	@Override
+	public int saveWithSession(RelayEmailNotificationWithBLOBs record,
+			String username) {
+		int result = super.saveWithSession(record, username);
+		eventPublisher.publishEvent(new RelayNotificationEvent(this, record
+				.getSaccountid(), record.getType(), record.getTypeid()));
+		return result;
+	}
 }
@@ -0,0 +1,239 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.lock;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.hash.Hashing;
+
+/**
+ * Locks shared by all nodes of a cluster, backed by the MySQL named locks
+ * (GET_LOCK and RELEASE_LOCK) of the shared database. A held lock keeps its own
+ * database connection until it is released. When cluster mode is off,
+ * {@link #getLock(String)} returns null so {@link DistributionLockUtil} uses
+ * in-JVM locks.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Service
+public class DbDistributionLockService implements DistributionLockService {
+	private static final Logger LOG = LoggerFactory
+			.getLogger(DbDistributionLockService.class);
+
+	private static final String LOCK_PREFIX = "mycollab-";
+
+	private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+	private static final long LOCK_ATTEMPT_SECONDS = 60;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private final LoadingCache<String, Lock> locks = CacheBuilder.newBuilder()
+			.weakValues().build(new CacheLoader<String, Lock>() {
+				@Override
+				public Lock load(String lockName) {
+					return new DbLock(toDbLockName(lockName));
+				}
+			});
+
+	@Override
+	public Lock getLock(String lockName) {
+		if (!SiteConfiguration.isClusterEnabled()) {
+			return null;
+		}
+		return getDbLock(lockName);
+	}
+
+	/**
+	 * 
+	 * @param lockName
+	 * @return the database lock <code>lockName</code>, whether cluster mode is
+	 *         on or not
+	 */
+	public Lock getDbLock(String lockName) {
+		return locks.getUnchecked(lockName);
+	}
+
+	private static String toDbLockName(String lockName) {
+		String dbLockName = LOCK_PREFIX + lockName;
+		if (dbLockName.length() > MAX_LOCK_NAME_LENGTH) {
+			dbLockName = LOCK_PREFIX
+					+ Hashing.sha1()
+							.hashString(lockName, StandardCharsets.UTF_8)
+							.toString();
+		}
+		return dbLockName;
+	}
+
+	/**
+	 * Threads of this node wait on a local lock first, only the holder of the
+	 * local lock holds the database lock, so the lock is reentrant.
+	 */
+	private class DbLock implements Lock {
+		private final String dbLockName;
+
+		private final ReentrantLock localLock = new ReentrantLock();
+
+		/**
+		 * Guarded by localLock.
+		 */
+		private Connection connection;
+
+		DbLock(String dbLockName) {
+			this.dbLockName = dbLockName;
+		}
+
+		@Override
+		public void lock() {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					if (tryLock(LOCK_ATTEMPT_SECONDS, TimeUnit.SECONDS)) {
+						break;
+					}
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			while (!tryLock(LOCK_ATTEMPT_SECONDS, TimeUnit.SECONDS)) {
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			try {
+				return tryLock(0, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit)
+				throws InterruptedException {
+			long deadline = System.nanoTime() + unit.toNanos(time);
+			if (!localLock.tryLock(time, unit)) {
+				return false;
+			}
+			if (localLock.getHoldCount() > 1) {
+				return true;
+			}
+
+			boolean locked = false;
+			try {
+				// GET_LOCK waits whole seconds, a remaining wait under one
+				// second is rounded up so it is not turned into no wait
+				long remainingNanos = deadline - System.nanoTime();
+				long remainingSeconds = (remainingNanos > 0) ? (remainingNanos
+						+ TimeUnit.SECONDS.toNanos(1) - 1)
+						/ TimeUnit.SECONDS.toNanos(1) : 0;
+				connection = dataSource.getConnection();
+				try (PreparedStatement statement = connection
+						.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+					statement.setString(1, dbLockName);
+					statement.setLong(2, remainingSeconds);
+					try (ResultSet resultSet = statement.executeQuery()) {
+						locked = resultSet.next() && resultSet.getInt(1) == 1;
+					}
+				}
+				return locked;
+			} catch (SQLException e) {
+				throw new MyCollabException(e);
+			} finally {
+				if (!locked) {
+					closeConnection();
+					localLock.unlock();
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			if (!localLock.isHeldByCurrentThread()) {
+				throw new IllegalMonitorStateException();
+			}
+
+			try {
+				if (localLock.getHoldCount() == 1) {
+					try (PreparedStatement statement = connection
+							.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+						statement.setString(1, dbLockName);
+						statement.executeQuery().close();
+					} catch (SQLException e) {
+						LOG.error("Error when release lock " + dbLockName, e);
+					} finally {
+						closeConnection();
+					}
+				}
+			} finally {
+				localLock.unlock();
+			}
+		}
+
+		private void closeConnection() {
+			if (connection != null) {
+				try {
+					connection.close();
+				} catch (SQLException e) {
+					LOG.error("Error when close connection of lock "
+							+ dbLockName, e);
+				}
+				connection = null;
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException(
+					"Database locks do not support conditions");
+		}
+	}
+}
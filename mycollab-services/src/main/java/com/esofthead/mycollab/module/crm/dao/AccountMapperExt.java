@@ -19,7 +19,7 @@ package com.esofthead.mycollab.module.crm.dao;
 import org.apache.ibatis.annotations.Param;
 
 import com.esofthead.mycollab.core.persistence.IMassUpdateDAO;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 import com.esofthead.mycollab.module.crm.domain.Account;
 import com.esofthead.mycollab.module.crm.domain.SimpleAccount;
 import com.esofthead.mycollab.module.crm.domain.criteria.AccountSearchCriteria;
@@ -31,7 +31,7 @@ import com.esofthead.mycollab.module.crm.domain.criteria.AccountSearchCriteria;
  * 
  */
 public interface AccountMapperExt extends
-		ISearchableDAO<AccountSearchCriteria>,
+		ISeekableDAO<AccountSearchCriteria>,
 		IMassUpdateDAO<Account, AccountSearchCriteria> {
 
 	SimpleAccount findById(int accountId);
@@ -19,13 +19,13 @@ package com.esofthead.mycollab.module.crm.dao;
 import org.apache.ibatis.annotations.Param;
 
 import com.esofthead.mycollab.core.persistence.IMassUpdateDAO;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 import com.esofthead.mycollab.module.crm.domain.Contact;
 import com.esofthead.mycollab.module.crm.domain.SimpleContact;
 import com.esofthead.mycollab.module.crm.domain.criteria.ContactSearchCriteria;
 
 public interface ContactMapperExt extends
-		ISearchableDAO<ContactSearchCriteria>,
+		ISeekableDAO<ContactSearchCriteria>,
 		IMassUpdateDAO<Contact, ContactSearchCriteria> {
 
 	SimpleContact findById(int contactId);
@@ -19,7 +19,7 @@ package com.esofthead.mycollab.module.crm.dao;
 import org.apache.ibatis.annotations.Param;
 
 import com.esofthead.mycollab.core.persistence.IMassUpdateDAO;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 import com.esofthead.mycollab.module.crm.domain.Lead;
 import com.esofthead.mycollab.module.crm.domain.SimpleLead;
 import com.esofthead.mycollab.module.crm.domain.criteria.LeadSearchCriteria;
@@ -30,7 +30,7 @@ import com.esofthead.mycollab.module.crm.domain.criteria.LeadSearchCriteria;
  * @since 1.0
  * 
  */
-public interface LeadMapperExt extends ISearchableDAO<LeadSearchCriteria>,
+public interface LeadMapperExt extends ISeekableDAO<LeadSearchCriteria>,
 		IMassUpdateDAO<Lead, LeadSearchCriteria> {
 
 	SimpleLead findById(int leadId);
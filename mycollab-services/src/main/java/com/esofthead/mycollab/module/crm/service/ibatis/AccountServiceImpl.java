@@ -74,6 +74,11 @@ public class AccountServiceImpl extends
         return accountMapperExt;
     }
 
+    @Override
+    protected String getSeekField() {
+        return "lastupdatedtime";
+    }
+
     @Override
     public SimpleAccount findById(int id, int accountId) {
         return accountMapperExt.findById(id);
@@ -74,6 +74,11 @@ public class CampaignServiceImpl extends
         return campaignMapperExt;
     }
 
+    @Override
+    protected String getSeekField() {
+        return "lastupdatedtime";
+    }
+
     @Override
     public SimpleCampaign findById(int campaignId, int sAccountUd) {
         return campaignMapperExt.findById(campaignId);
@@ -65,6 +65,11 @@ public class CaseServiceImpl extends
         return caseMapperExt;
     }
 
+    @Override
+    protected String getSeekField() {
+        return "lastupdatedtime";
+    }
+
     @Override
     public SimpleCase findById(int caseId, int sAccountId) {
         return caseMapperExt.findById(caseId);
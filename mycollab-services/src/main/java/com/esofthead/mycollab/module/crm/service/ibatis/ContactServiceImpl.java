@@ -76,6 +76,11 @@ public class ContactServiceImpl extends
         return contactMapperExt;
     }
 
+    @Override
+    protected String getSeekField() {
+        return "lastupdatedtime";
+    }
+
     @Override
     public SimpleContact findById(int contactId, int sAccountId) {
         SimpleContact contact = contactMapperExt.findById(contactId);
@@ -84,6 +84,11 @@ public class LeadServiceImpl extends
 		return leadMapperExt;
 	}
 
+	@Override
+	protected String getSeekField() {
+		return "lastupdatedtime";
+	}
+
 	@Override
 	public SimpleLead findById(int leadId, int sAccountId) {
 		return leadMapperExt.findById(leadId);
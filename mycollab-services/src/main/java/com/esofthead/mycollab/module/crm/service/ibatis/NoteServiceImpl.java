@@ -23,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
+import com.esofthead.mycollab.core.utils.RichTextSanitizer;
 import com.esofthead.mycollab.module.crm.dao.NoteMapper;
 import com.esofthead.mycollab.module.crm.dao.NoteMapperExt;
 import com.esofthead.mycollab.module.crm.domain.Note;
@@ -55,4 +56,18 @@ public class NoteServiceImpl extends
 	public ISearchableDAO<NoteSearchCriteria> getSearchMapper() {
 		return noteMapperExt;
 	}
+
+	@Override
+	public int saveWithSession(Note record, String username) {
+		int result = super.saveWithSession(record, username);
+		RichTextSanitizer.prepare(record.getNote());
+		return result;
+	}
+
+	@Override
+	public int updateWithSession(Note record, String username) {
+		int result = super.updateWithSession(record, username);
+		RichTextSanitizer.prepare(record.getNote());
+		return result;
+	}
 }
@@ -84,6 +84,11 @@ public class OpportunityServiceImpl extends
 		return opportunityMapperExt;
 	}
 
+	@Override
+	protected String getSeekField() {
+		return "lastupdatedtime";
+	}
+
 	@Override
 	public SimpleOpportunity findById(int opportunityId, int sAccountId) {
 		return opportunityMapperExt.findById(opportunityId);
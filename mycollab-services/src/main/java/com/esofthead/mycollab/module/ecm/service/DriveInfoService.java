@@ -16,6 +16,8 @@
  */
 package com.esofthead.mycollab.module.ecm.service;
 
+import java.util.List;
+
 import com.esofthead.mycollab.core.cache.CacheEvict;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.cache.Cacheable;
@@ -32,4 +34,27 @@ public interface DriveInfoService extends ICrudService<Integer, DriveInfo> {
 
 	@Cacheable
 	Long getUsedStorageVolume(@CacheKey Integer sAccountId);
+
+	/**
+	 * Adds <code>delta</code> bytes to the used volume of the account in one
+	 * database statement, a negative delta releases volume. The used volume
+	 * never drops below zero.
+	 * 
+	 * @param sAccountId
+	 * @param delta
+	 */
+	@CacheEvict
+	void addUsedVolume(@CacheKey Integer sAccountId, long delta);
+
+	/**
+	 * Corrects the used volume of the account by the size of its files in the
+	 * storage, this repairs the drift of failed or lost volume updates.
+	 * 
+	 * @param sAccountId
+	 * @return the drift which was corrected, in bytes
+	 */
+	@CacheEvict
+	long reconcileUsedVolume(@CacheKey Integer sAccountId);
+
+	List<Integer> findAccountIds();
 }
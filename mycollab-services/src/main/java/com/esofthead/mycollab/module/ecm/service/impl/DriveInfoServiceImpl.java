@@ -17,26 +17,42 @@
 package com.esofthead.mycollab.module.ecm.service.impl;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.esofthead.mycollab.core.MyCollabException;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultCrudService;
+import com.esofthead.mycollab.lock.DistributionLockUtil;
 import com.esofthead.mycollab.module.ecm.dao.DriveInfoMapper;
+import com.esofthead.mycollab.module.ecm.dao.DriveInfoMapperExt;
 import com.esofthead.mycollab.module.ecm.domain.DriveInfo;
 import com.esofthead.mycollab.module.ecm.domain.DriveInfoExample;
 import com.esofthead.mycollab.module.ecm.service.DriveInfoService;
+import com.esofthead.mycollab.module.file.service.RawContentService;
 
 @Service
 public class DriveInfoServiceImpl extends
 		DefaultCrudService<Integer, DriveInfo> implements DriveInfoService {
+	private static final Logger LOG = LoggerFactory
+			.getLogger(DriveInfoServiceImpl.class);
 
 	@Autowired
 	private DriveInfoMapper driveInfoMapper;
 
+	@Autowired
+	private DriveInfoMapperExt driveInfoMapperExt;
+
+	@Autowired
+	private RawContentService rawContentService;
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public ICrudGenericDAO<Integer, DriveInfo> getCrudMapper() {
@@ -78,4 +94,55 @@ public class DriveInfoServiceImpl extends
 				.getUsedvolume();
 	}
 
+	@Override
+	public void addUsedVolume(@CacheKey Integer sAccountId, long delta) {
+		if (driveInfoMapperExt.addUsedVolume(sAccountId, delta) > 0) {
+			return;
+		}
+
+		// the first change of the account creates its drive info, the lock
+		// keeps two concurrent first changes from inserting two rows
+		Lock lock = DistributionLockUtil.getLock("ecm-" + sAccountId);
+		try {
+			if (lock.tryLock(1, TimeUnit.MINUTES)) {
+				try {
+					if (driveInfoMapperExt.addUsedVolume(sAccountId, delta) == 0) {
+						DriveInfo driveInfo = new DriveInfo();
+						driveInfo.setSaccountid(sAccountId);
+						driveInfo.setUsedvolume(Math.max(delta, 0));
+						driveInfoMapper.insert(driveInfo);
+					}
+				} finally {
+					lock.unlock();
+				}
+			} else {
+				throw new MyCollabException(
+						"Can not create the drive info of account "
+								+ sAccountId);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MyCollabException(e);
+		}
+	}
+
+	@Override
+	public long reconcileUsedVolume(@CacheKey Integer sAccountId) {
+		long actualVolume = rawContentService.getSize(sAccountId.toString())
+				+ rawContentService.getSize(".thumbnail/" + sAccountId);
+		long drift = actualVolume - getUsedStorageVolume(sAccountId);
+		if (drift != 0) {
+			LOG.info("Correct the used volume of account {} by {} bytes",
+					sAccountId, drift);
+			// apply the drift as a delta, so uploads and deletes recorded
+			// after the measurement are not overwritten
+			addUsedVolume(sAccountId, drift);
+		}
+		return drift;
+	}
+
+	@Override
+	public List<Integer> findAccountIds() {
+		return driveInfoMapperExt.findAccountIds();
+	}
 }
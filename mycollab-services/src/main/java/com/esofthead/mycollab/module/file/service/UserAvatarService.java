@@ -36,7 +36,8 @@ public interface UserAvatarService extends IService {
 	String uploadDefaultAvatar(String username);
 
 	/**
-	 * Upload user avatar
+	 * Upload user avatar. It returns once the largest rendition of the avatar
+	 * is stored, the smaller renditions are created in background.
 	 * 
 	 * @param image
 	 *            current user avatar
@@ -0,0 +1,180 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.service.impl;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.esofthead.mycollab.configuration.StorageConfiguration;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.core.utils.ImageUtil;
+import com.esofthead.mycollab.module.ecm.domain.Content;
+import com.esofthead.mycollab.module.ecm.service.ResourceService;
+
+/**
+ * Stores the renditions of user avatars. The largest rendition is stored in
+ * the caller thread, the smaller ones are created on a bounded worker pool,
+ * each of them is scaled down from the previous rendition rather than from the
+ * uploaded image. Until a rendition is stored, the avatar servlet serves the
+ * nearest stored one.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Component
+public class AvatarRenditionPipeline implements DisposableBean {
+	private static final Logger LOG = LoggerFactory
+			.getLogger(AvatarRenditionPipeline.class);
+
+	private static final int MAX_WORKERS = 2;
+
+	private static final int MAX_PENDING_AVATARS = 100;
+
+	@Autowired
+	private ResourceService resourceService;
+
+	private ExecutorService renditionExecutor;
+
+	/**
+	 * Stores the largest rendition of the avatar
+	 * 
+	 * @param username
+	 * @param avatarId
+	 * @param image
+	 *            uploaded image
+	 * @return the stored rendition, which is the source of the smaller ones
+	 */
+	public BufferedImage storeLargestRendition(String username,
+			String avatarId, BufferedImage image) {
+		return storeRendition(username, avatarId, image,
+				StorageConfiguration.AVATAR_SIZES[0]);
+	}
+
+	/**
+	 * Creates and stores the smaller renditions of the avatar, then removes
+	 * the renditions of the old avatar. If the worker pool is saturated, the
+	 * caller thread does the work.
+	 * 
+	 * @param username
+	 * @param avatarId
+	 * @param largestRendition
+	 *            the image returned by
+	 *            {@link #storeLargestRendition(String, String, BufferedImage)}
+	 * @param oldAvatarId
+	 *            may be null
+	 * @return
+	 */
+	public Future<?> storeSmallerRenditions(final String username,
+			final String avatarId, final BufferedImage largestRendition,
+			final String oldAvatarId) {
+		return getRenditionExecutor().submit(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					BufferedImage rendition = largestRendition;
+					for (int i = 1; i < StorageConfiguration.AVATAR_SIZES.length; i++) {
+						rendition = storeRendition(username, avatarId,
+								rendition, StorageConfiguration.AVATAR_SIZES[i]);
+					}
+				} catch (Exception e) {
+					LOG.error("Error while creating renditions of avatar "
+							+ avatarId, e);
+				}
+
+				if (oldAvatarId != null) {
+					removeRenditions(username, oldAvatarId);
+				}
+			}
+		});
+	}
+
+	private BufferedImage storeRendition(String username, String avatarId,
+			BufferedImage image, int width) {
+		BufferedImage rendition = ImageUtil.scaleImage(image, (float) width
+				/ image.getWidth());
+		ByteArrayOutputStream outStream = new ByteArrayOutputStream();
+		try {
+			ImageIO.write(rendition, "png", outStream);
+		} catch (IOException e) {
+			throw new MyCollabException("Error while write image to stream", e);
+		}
+		resourceService.saveContent(Content.buildContentInstance(null,
+				getRenditionPath(avatarId, width)), username,
+				new ByteArrayInputStream(outStream.toByteArray()), null);
+		return rendition;
+	}
+
+	private void removeRenditions(String username, String avatarId) {
+		for (int size : StorageConfiguration.AVATAR_SIZES) {
+			try {
+				resourceService.removeResource(
+						getRenditionPath(avatarId, size), username, null);
+			} catch (Exception e) {
+				LOG.error("Error while delete old avatar", e);
+			}
+		}
+	}
+
+	static String getRenditionPath(String avatarId, int size) {
+		return "avatar/" + avatarId + "_" + size + ".png";
+	}
+
+	private synchronized ExecutorService getRenditionExecutor() {
+		if (renditionExecutor == null) {
+			final AtomicInteger threadCount = new AtomicInteger();
+			renditionExecutor = new ThreadPoolExecutor(MAX_WORKERS,
+					MAX_WORKERS, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<Runnable>(MAX_PENDING_AVATARS),
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable,
+									"avatar-rendition-"
+											+ threadCount.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					}, new ThreadPoolExecutor.CallerRunsPolicy());
+		}
+		return renditionExecutor;
+	}
+
+	@Override
+	public synchronized void destroy() throws Exception {
+		if (renditionExecutor != null) {
+			renditionExecutor.shutdown();
+		}
+	}
+}
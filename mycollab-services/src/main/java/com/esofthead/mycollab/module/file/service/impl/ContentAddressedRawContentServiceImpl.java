@@ -0,0 +1,463 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.service.impl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.esofthead.mycollab.configuration.FileStorageConfiguration;
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.google.common.io.BaseEncoding;
+
+/**
+ * File storage which keeps identical contents once. A content is stored as a
+ * blob named by its SHA-256 hash, and its path is a hard link to the blob, so
+ * the link count of a blob is the number of paths referencing it and the files
+ * can still be read from their path. Blobs without any path are deleted by
+ * {@link #collectGarbage()}.
+ * 
+ * The blobs are kept in the <code>-blobs</code> sibling of the content folder:
+ * the content folder is served by path, and hard links need both folders on
+ * the same file system.
+ * 
+ * Sizes of folders are counted once when the service starts then maintained
+ * by every change, so {@link #getSize(String)} does not walk the folders. The
+ * counters live in this JVM and only see the changes made through it, so they
+ * are kept only when the cluster mode is disabled; with several nodes sharing
+ * the content folder the size of a folder is walked on every call.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class ContentAddressedRawContentServiceImpl extends
+        FileRawContentServiceImpl {
+
+    private static final Logger LOG = LoggerFactory
+            .getLogger(ContentAddressedRawContentServiceImpl.class);
+
+    static final String BLOB_FOLDER_SUFFIX = "-blobs";
+
+    /**
+     * Blob folder of the previous versions, which was inside the content
+     * folder
+     */
+    private static final String LEGACY_BLOB_FOLDER = ".blobs";
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final File blobFolder;
+
+    private final File tmpFolder;
+
+    /**
+     * Saves hold the read lock, the garbage collector holds the write lock so
+     * it never deletes a blob which is being linked.
+     */
+    private final ReadWriteLock blobLock = new ReentrantReadWriteLock();
+
+    /**
+     * Total size of the files of each folder, the key of the content folder is
+     * an empty string. Only maintained if {@link #isFolderSizeCounted}
+     */
+    private final Map<String, Long> folderSizes = new HashMap<>();
+
+    private final boolean isFolderSizeCounted;
+
+    private volatile boolean linkSupported = true;
+
+    public ContentAddressedRawContentServiceImpl() {
+        this(FileStorageConfiguration.baseContentFolder, !SiteConfiguration
+                .isClusterEnabled());
+    }
+
+    ContentAddressedRawContentServiceImpl(File baseFolder) {
+        this(baseFolder, true);
+    }
+
+    /**
+     * 
+     * @param baseFolder
+     * @param isFolderSizeCounted
+     *            whether sizes of folders are counted in memory, it must be
+     *            false if other nodes change the content folder too
+     */
+    ContentAddressedRawContentServiceImpl(File baseFolder,
+            boolean isFolderSizeCounted) {
+        super(baseFolder);
+        this.isFolderSizeCounted = isFolderSizeCounted;
+        blobFolder = new File(baseFolder.getAbsoluteFile().getParentFile(),
+                baseFolder.getName() + BLOB_FOLDER_SUFFIX);
+        tmpFolder = new File(blobFolder, "tmp");
+        moveLegacyBlobFolder();
+        if (!tmpFolder.exists() && !tmpFolder.mkdirs()) {
+            throw new MyCollabException("Create directory fail");
+        }
+        if (isFolderSizeCounted) {
+            countFolderSizes();
+        }
+    }
+
+    @Override
+    public void saveContent(String objectPath, InputStream stream) {
+        String path = normalizePath(objectPath);
+        File file = new File(baseFolder, path);
+        File folder = file.getParentFile();
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new MyCollabException("Create directory fail");
+        }
+
+        blobLock.readLock().lock();
+        try {
+            File blob = storeBlob(stream);
+            while (true) {
+                // never write into the existing file, it may be linked to a blob
+                long oldSize = file.isFile() ? file.length() : 0;
+                if (Files.deleteIfExists(file.toPath())) {
+                    addSize(path, -oldSize);
+                }
+                try {
+                    linkBlob(blob, file);
+                    break;
+                } catch (FileAlreadyExistsException e) {
+                    // the same path is saved concurrently, the last save wins
+                }
+            }
+            addSize(path, file.length());
+        } catch (IOException e) {
+            throw new MyCollabException(e);
+        } finally {
+            blobLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void removePath(String objectPath) {
+        if (!isFolderSizeCounted) {
+            super.removePath(objectPath);
+            return;
+        }
+        String path = normalizePath(objectPath);
+        long size = getSize(path);
+        super.removePath(path);
+        if (!new File(baseFolder, path).exists()) {
+            removeSizes(path, size);
+        }
+    }
+
+    @Override
+    public void renamePath(String oldPath, String newPath) {
+        if (!isFolderSizeCounted) {
+            super.renamePath(oldPath, newPath);
+            return;
+        }
+        String normalizedOldPath = normalizePath(oldPath);
+        String normalizedNewPath = normalizePath(newPath);
+        long size = getSize(normalizedOldPath);
+        super.renamePath(normalizedOldPath, normalizedNewPath);
+        moveSizes(normalizedOldPath, normalizedNewPath, size);
+    }
+
+    @Override
+    public void movePath(String oldPath, String destinationPath) {
+        if (!isFolderSizeCounted) {
+            super.movePath(oldPath, destinationPath);
+            return;
+        }
+        String normalizedOldPath = normalizePath(oldPath);
+        String normalizedDestinationPath = normalizePath(destinationPath);
+        long size = getSize(normalizedOldPath);
+        long replacedSize = getSize(normalizedDestinationPath);
+        super.movePath(normalizedOldPath, normalizedDestinationPath);
+        if (!new File(baseFolder, normalizedOldPath).exists()) {
+            removeSizes(normalizedDestinationPath, replacedSize);
+        }
+        moveSizes(normalizedOldPath, normalizedDestinationPath, size);
+    }
+
+    @Override
+    public long getSize(String objectPath) {
+        if (!isFolderSizeCounted) {
+            return super.getSize(normalizePath(objectPath));
+        }
+        String path = normalizePath(objectPath);
+        File file = new File(baseFolder, path);
+        if (file.isFile()) {
+            return file.length();
+        } else if (file.isDirectory()) {
+            synchronized (folderSizes) {
+                Long size = folderSizes.get(path);
+                return (size == null) ? 0 : size;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Deletes the blobs which are not linked by any path, then the temporary
+     * files of interrupted saves. Saves wait until it is done.
+     * 
+     * @return number of deleted blobs
+     */
+    public int collectGarbage() {
+        blobLock.writeLock().lock();
+        try {
+            final Set<Object> linkedBlobs = new HashSet<>();
+            final boolean[] isFileKeyMissing = {false};
+            Files.walkFileTree(baseFolder.toPath(), new ContentVisitor() {
+                @Override
+                protected void visitContent(Path file, BasicFileAttributes attrs) {
+                    if (attrs.fileKey() == null) {
+                        isFileKeyMissing[0] = true;
+                    } else {
+                        linkedBlobs.add(attrs.fileKey());
+                    }
+                }
+            });
+            if (isFileKeyMissing[0]) {
+                // a blob can not be matched to its paths, every blob would look unreferenced
+                LOG.warn("File keys are not supported by the content folder, can not collect unreferenced blobs");
+                return 0;
+            }
+
+            final int[] deletedBlobs = {0};
+            Files.walkFileTree(blobFolder.toPath(), new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file,
+                        BasicFileAttributes attrs) throws IOException {
+                    if (file.startsWith(tmpFolder.toPath())) {
+                        Files.delete(file);
+                    } else if (!linkedBlobs.contains(attrs.fileKey())) {
+                        Files.delete(file);
+                        deletedBlobs[0]++;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            LOG.info("Deleted {} unreferenced blobs", deletedBlobs[0]);
+            return deletedBlobs[0];
+        } catch (IOException e) {
+            throw new MyCollabException(e);
+        } finally {
+            blobLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the stream to a temporary file while hashing it, then moves the
+     * file to the blob of its hash unless the blob already exists.
+     */
+    private File storeBlob(InputStream stream) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new MyCollabException(e);
+        }
+
+        File tmpFile = File.createTempFile("blob", ".tmp", tmpFolder);
+        try {
+            try (OutputStream outStream = new FileOutputStream(tmpFile)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int byteRead;
+                while ((byteRead = stream.read(buffer)) >= 0) {
+                    digest.update(buffer, 0, byteRead);
+                    outStream.write(buffer, 0, byteRead);
+                }
+            }
+
+            String hash = BaseEncoding.base16().lowerCase()
+                    .encode(digest.digest());
+            File blob = new File(blobFolder, hash.substring(0, 2) + "/"
+                    + hash.substring(2, 4) + "/" + hash);
+            if (!blob.exists()) {
+                File folder = blob.getParentFile();
+                if (!folder.exists() && !folder.mkdirs()) {
+                    throw new MyCollabException("Create directory fail");
+                }
+                try {
+                    Files.move(tmpFile.toPath(), blob.toPath(),
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // the same content is saved concurrently
+                }
+            }
+            return blob;
+        } finally {
+            Files.deleteIfExists(tmpFile.toPath());
+        }
+    }
+
+    private void linkBlob(File blob, File file) throws IOException {
+        if (linkSupported) {
+            try {
+                Files.createLink(file.toPath(), blob.toPath());
+                return;
+            } catch (UnsupportedOperationException e) {
+                LOG.warn("Hard links are not supported by the content folder, contents are copied");
+                linkSupported = false;
+            } catch (FileAlreadyExistsException e) {
+                throw e;
+            } catch (FileSystemException e) {
+                LOG.warn("Can not link " + file + " to its blob, it is copied", e);
+            }
+        }
+        Files.copy(blob.toPath(), file.toPath());
+    }
+
+    /**
+     * Moves the blobs out of the content folder if they are kept there by a
+     * previous version
+     */
+    private void moveLegacyBlobFolder() {
+        File legacyBlobFolder = new File(baseFolder, LEGACY_BLOB_FOLDER);
+        if (legacyBlobFolder.isDirectory() && !blobFolder.exists()) {
+            try {
+                Files.move(legacyBlobFolder.toPath(), blobFolder.toPath());
+                LOG.info("Moved the blobs from {} to {}", legacyBlobFolder,
+                        blobFolder);
+            } catch (IOException e) {
+                throw new MyCollabException(e);
+            }
+        }
+    }
+
+    private void countFolderSizes() {
+        try {
+            Files.walkFileTree(baseFolder.toPath(), new ContentVisitor() {
+                @Override
+                protected void visitContent(Path file, BasicFileAttributes attrs) {
+                    addSize(baseFolder.toPath().relativize(file).toString()
+                            .replace(File.separatorChar, '/'), attrs.size());
+                }
+            });
+        } catch (IOException e) {
+            throw new MyCollabException(e);
+        }
+    }
+
+    /**
+     * Adds the size of a file to its folder and all their parents
+     */
+    private void addSize(String path, long size) {
+        if (!isFolderSizeCounted) {
+            return;
+        }
+        synchronized (folderSizes) {
+            int index = path.length();
+            do {
+                index = path.lastIndexOf('/', index - 1);
+                String folder = (index > 0) ? path.substring(0, index) : "";
+                Long folderSize = folderSizes.get(folder);
+                folderSizes.put(folder, ((folderSize == null) ? 0 : folderSize)
+                        + size);
+            } while (index > 0);
+        }
+    }
+
+    private void removeSizes(String path, long size) {
+        synchronized (folderSizes) {
+            addSize(path, -size);
+            removeFolderSizes(path);
+        }
+    }
+
+    private Map<String, Long> removeFolderSizes(String path) {
+        Map<String, Long> removedSizes = new HashMap<>();
+        synchronized (folderSizes) {
+            List<String> folders = new ArrayList<>();
+            for (String folder : folderSizes.keySet()) {
+                if (folder.equals(path) || folder.startsWith(path + "/")) {
+                    folders.add(folder);
+                }
+            }
+            for (String folder : folders) {
+                removedSizes.put(folder.substring(path.length()),
+                        folderSizes.remove(folder));
+            }
+        }
+        return removedSizes;
+    }
+
+    private void moveSizes(String oldPath, String newPath, long size) {
+        if (new File(baseFolder, oldPath).exists()
+                || !new File(baseFolder, newPath).exists()) {
+            return;
+        }
+        synchronized (folderSizes) {
+            addSize(oldPath, -size);
+            Map<String, Long> movedSizes = removeFolderSizes(oldPath);
+            for (Map.Entry<String, Long> entry : movedSizes.entrySet()) {
+                folderSizes.put(newPath + entry.getKey(), entry.getValue());
+            }
+            addSize(newPath, size);
+        }
+    }
+
+    private static String normalizePath(String objectPath) {
+        String path = objectPath.replaceAll("/+", "/");
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    /**
+     * Visits the regular files of the content folder
+     */
+    private abstract class ContentVisitor extends SimpleFileVisitor<Path> {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                throws IOException {
+            if (attrs.isRegularFile()) {
+                visitContent(file, attrs);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        protected abstract void visitContent(Path file,
+                BasicFileAttributes attrs);
+    }
+}
@@ -39,15 +39,19 @@ import com.esofthead.mycollab.module.file.service.RawContentService;
  */
 public class FileRawContentServiceImpl implements RawContentService {
 
-    private static final int BUFFER_SIZE = 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private static final Logger LOG = LoggerFactory
             .getLogger(FileRawContentServiceImpl.class);
 
-    private File baseFolder;
+    protected final File baseFolder;
 
     public FileRawContentServiceImpl() {
-        baseFolder = FileStorageConfiguration.baseContentFolder;
+        this(FileStorageConfiguration.baseContentFolder);
+    }
+
+    protected FileRawContentServiceImpl(File baseFolder) {
+        this.baseFolder = baseFolder;
     }
 
     @Override
@@ -17,8 +17,6 @@
 package com.esofthead.mycollab.module.file.service.impl;
 
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.UUID;
@@ -31,11 +29,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.esofthead.mycollab.core.MyCollabException;
-import com.esofthead.mycollab.core.utils.ImageUtil;
 import com.esofthead.mycollab.eventmanager.EventBusFactory;
 import com.esofthead.mycollab.events.SessionEvent;
-import com.esofthead.mycollab.module.ecm.domain.Content;
-import com.esofthead.mycollab.module.ecm.service.ResourceService;
 import com.esofthead.mycollab.module.file.service.UserAvatarService;
 import com.esofthead.mycollab.module.user.dao.UserMapper;
 import com.esofthead.mycollab.module.user.domain.User;
@@ -52,21 +47,11 @@ public class UserAvatarServiceImpl implements UserAvatarService {
 			.getLogger(UserAvatarServiceImpl.class);
 
 	@Autowired
-	private ResourceService resourceService;
+	private AvatarRenditionPipeline avatarRenditionPipeline;
 
 	@Autowired
 	private UserMapper userMapper;
 
-	private static final int PIXELS_100 = 100;
-	private static final int PIXELS_64 = 64;
-	private static final int PIXELS_48 = 48;
-	private static final int PIXELS_32 = 32;
-	private static final int PIXELS_24 = 24;
-	private static final int PIXELS_16 = 16;
-
-	private static final int[] SUPPORT_SIZES = { PIXELS_100, PIXELS_64,
-			PIXELS_48, PIXELS_32, PIXELS_24, PIXELS_16 };
-
 	@Override
 	public String uploadDefaultAvatar(String username) {
 		// Save default user avatar
@@ -93,10 +78,8 @@ public class UserAvatarServiceImpl implements UserAvatarService {
 		String randomString = UUID.randomUUID().toString();
 		String newAvatarId = username + "_" + randomString;
 
-		for (int i = 0; i < SUPPORT_SIZES.length; i++) {
-			uploadAvatarToStorage(username, image, newAvatarId,
-					SUPPORT_SIZES[i]);
-		}
+		BufferedImage largestRendition = avatarRenditionPipeline
+				.storeLargestRendition(username, newAvatarId, image);
 
 		// save avatar id
 		User user = new User();
@@ -104,17 +87,10 @@ public class UserAvatarServiceImpl implements UserAvatarService {
 		user.setAvatarid(newAvatarId);
 		userMapper.updateByPrimaryKeySelective(user);
 
-		// Delete old avatar
-		if (avatarId != null) {
-			for (int i = 0; i < SUPPORT_SIZES.length; i++) {
-				try {
-					resourceService.removeResource("avatar/" + avatarId + "_"
-							+ SUPPORT_SIZES[i] + ".png", username, null);
-				} catch (Exception e) {
-					LOG.error("Error while delete old avatar", e);
-				}
-			}
-		}
+		// Smaller renditions are created in background, the old avatar is
+		// deleted after them
+		avatarRenditionPipeline.storeSmallerRenditions(username, newAvatarId,
+				largestRendition, avatarId);
 
 		LOG.debug("Notify user avatar change");
 		EventBusFactory.getInstance().post(
@@ -123,19 +99,4 @@ public class UserAvatarServiceImpl implements UserAvatarService {
 
 		return newAvatarId;
 	}
-
-	private void uploadAvatarToStorage(String username, BufferedImage image,
-			String avatarId, int width) {
-		BufferedImage scaleImage = ImageUtil.scaleImage(image, (float) width
-				/ image.getWidth());
-		ByteArrayOutputStream outStream = new ByteArrayOutputStream();
-		try {
-			ImageIO.write(scaleImage, "png", outStream);
-		} catch (IOException e) {
-			throw new MyCollabException("Error while write image to stream", e);
-		}
-		resourceService.saveContent(Content.buildContentInstance(null,
-				"avatar/" + avatarId + "_" + width + ".png"), username,
-				new ByteArrayInputStream(outStream.toByteArray()), null);
-	}
 }
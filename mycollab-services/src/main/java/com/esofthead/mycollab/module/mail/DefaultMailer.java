@@ -40,16 +40,20 @@ import com.esofthead.mycollab.module.user.domain.SimpleUser;
  */
 public class DefaultMailer implements IMailer {
 	private static final Logger LOG = LoggerFactory.getLogger(DefaultMailer.class);
-	private String host;
-	private String username = null;
-	private String password = null;
-	private boolean isTLS = false;
+	private SmtpConnectionPool connectionPool;
 
 	public DefaultMailer(EmailConfiguration emailConf) {
-		this.host = emailConf.getHost();
-		this.username = emailConf.getUser();
-		this.password = emailConf.getPassword();
-		this.isTLS = emailConf.getIsTls();
+		this(new SmtpConnectionPool(emailConf));
+	}
+
+	/**
+	 * Mailer sends messages via the connections of
+	 * <code>connectionPool</code>
+	 *
+	 * @param connectionPool
+	 */
+	public DefaultMailer(SmtpConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
 	}
 
 	private HtmlEmail getBasicEmail(String fromEmail, String fromName,
@@ -57,7 +61,7 @@ public class DefaultMailer implements IMailer {
 									List<MailRecipientField> bccEmail, String subject, String html) {
 		try {
 			HtmlEmail email = new HtmlEmail();
-			email.setHostName(host);
+			email.setMailSession(connectionPool.getSession());
 			email.setFrom(fromEmail, fromName);
 			email.setCharset(EmailConstants.UTF_8);
 			for (int i = 0; i < toEmail.size(); i++) {
@@ -100,10 +104,6 @@ public class DefaultMailer implements IMailer {
 				}
 			}
 
-			if (username != null) {
-				email.setAuthentication(username, password);
-			}
-			email.setStartTLSEnabled(isTLS);
 			email.setSubject(subject);
 
 			if (StringUtils.isNotBlank(html)) {
@@ -124,7 +124,7 @@ public class DefaultMailer implements IMailer {
 			HtmlEmail email = getBasicEmail(fromEmail, fromName, toEmail,
 					ccEmail, bccEmail, subject, html);
 
-			email.send();
+			send(email);
 		} catch (EmailException e) {
 			throw new MyCollabException(e);
 		}
@@ -147,7 +147,7 @@ public class DefaultMailer implements IMailer {
 					email.attach(attachment.getAttachmentObj());
 				}
 
-				email.send();
+				send(email);
 			}
 		} catch (EmailException e) {
 			throw new MyCollabException(e);
@@ -172,6 +172,11 @@ public class DefaultMailer implements IMailer {
 				subject, html, attachment);
 	}
 
+	private void send(HtmlEmail email) throws EmailException {
+		email.buildMimeMessage();
+		connectionPool.send(email.getMimeMessage());
+	}
+
 	private boolean isValidate(String val) {
 		return StringUtils.isNotBlank(val);
 	}
@@ -0,0 +1,251 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.mail;
+
+import com.esofthead.mycollab.configuration.EmailConfiguration;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.sun.mail.smtp.SMTPTransport;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps authenticated SMTP connections open and reuses them to send many
+ * messages. At most <code>maxConnections</code> messages are sent at the same
+ * time, each one on its own connection. A connection idle for a while is
+ * checked before reuse, and it is closed after
+ * {@link #MAX_MESSAGES_PER_CONNECTION} messages because many servers limit
+ * the number of messages per session.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class SmtpConnectionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(SmtpConnectionPool.class);
+
+    static final int MAX_MESSAGES_PER_CONNECTION = 100;
+    private static final long VALIDATE_IDLE_TIME = 10 * 1000;
+    private static final long MAX_IDLE_TIME = 60 * 1000;
+    private static final String TIMEOUT = "60000";
+
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final boolean isAuth;
+
+    private final Semaphore permits;
+    private final BlockingDeque<PooledTransport> idleTransports = new LinkedBlockingDeque<>();
+    private volatile boolean isClosed = false;
+
+    private final AtomicLong openedConnections = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public SmtpConnectionPool(EmailConfiguration emailConf) {
+        this(emailConf.getHost(), (emailConf.getPort() != null) ? emailConf.getPort() : -1,
+                emailConf.getUser(), emailConf.getPassword(), emailConf.getIsTls(),
+                emailConf.getSenderWorkers());
+    }
+
+    public SmtpConnectionPool(String host, int port, String username, String password,
+                              boolean isTls, int maxConnections) {
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.isAuth = StringUtils.isNotBlank(username);
+        this.permits = new Semaphore(Math.max(1, maxConnections), true);
+
+        Properties props = new Properties();
+        props.setProperty("mail.transport.protocol", "smtp");
+        props.setProperty("mail.smtp.host", host);
+        if (port > 0) {
+            props.setProperty("mail.smtp.port", String.valueOf(port));
+        }
+        props.setProperty("mail.smtp.auth", String.valueOf(isAuth));
+        props.setProperty("mail.smtp.starttls.enable", String.valueOf(isTls));
+        props.setProperty("mail.smtp.connectiontimeout", TIMEOUT);
+        props.setProperty("mail.smtp.timeout", TIMEOUT);
+        session = Session.getInstance(props);
+    }
+
+    /**
+     * 
+     * @return the mail session messages sent by this pool must be built with
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    public void send(MimeMessage message) {
+        if (isClosed) {
+            throw new MyCollabException("SMTP connection pool of host " + host + " is closed");
+        }
+
+        try {
+            // Transport.send does it implicitly, sendMessage does not
+            message.saveChanges();
+        } catch (MessagingException e) {
+            throw new MyCollabException(e);
+        }
+
+        permits.acquireUninterruptibly();
+        try {
+            PooledTransport connection = borrow();
+            try {
+                connection.transport.sendMessage(message, message.getAllRecipients());
+            } catch (SendFailedException e) {
+                // the message is rejected, the connection is still usable
+                release(connection);
+                throw e;
+            } catch (MessagingException e) {
+                boolean isRetryable = isLostBeforeData(connection.transport, e);
+                close(connection);
+                if (!isRetryable) {
+                    throw e;
+                }
+                // the server dropped the idle connection, retry once on a new one
+                LOG.debug("Pooled connection is lost before sending message data, reconnect", e);
+                connection = connect();
+                try {
+                    connection.transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException retryException) {
+                    close(connection);
+                    throw retryException;
+                }
+            }
+            connection.messageCount++;
+            sentMessages.incrementAndGet();
+            release(connection);
+        } catch (MessagingException e) {
+            throw new MyCollabException(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * A message is sent again only if the connection failed before the server
+     * accepted the DATA command, after it the server may have queued the
+     * message already and a retry could deliver it twice.
+     */
+    private static boolean isLostBeforeData(Transport transport, MessagingException e) {
+        if (!(transport instanceof SMTPTransport)) {
+            return false;
+        }
+        String lastResponse = ((SMTPTransport) transport).getLastServerResponse();
+        if (lastResponse != null && lastResponse.startsWith("354")) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport connection;
+        while ((connection = idleTransports.pollFirst()) != null) {
+            long idleTime = System.currentTimeMillis() - connection.lastUsedTime;
+            if (idleTime > MAX_IDLE_TIME
+                    || (idleTime > VALIDATE_IDLE_TIME && !connection.transport.isConnected())) {
+                close(connection);
+            } else {
+                return connection;
+            }
+        }
+        return connect();
+    }
+
+    private void release(PooledTransport connection) {
+        if (isClosed || connection.messageCount >= MAX_MESSAGES_PER_CONNECTION) {
+            close(connection);
+        } else {
+            connection.lastUsedTime = System.currentTimeMillis();
+            idleTransports.offerFirst(connection);
+        }
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        if (isAuth) {
+            transport.connect(host, port, username, password);
+        } else {
+            transport.connect(host, port, null, null);
+        }
+        openedConnections.incrementAndGet();
+        return new PooledTransport(transport);
+    }
+
+    private static void close(PooledTransport connection) {
+        try {
+            connection.transport.close();
+        } catch (MessagingException e) {
+            LOG.debug("Error when close SMTP connection", e);
+        }
+    }
+
+    /**
+     * Closes all idle connections, connections in use are closed when they are
+     * released.
+     */
+    public void close() {
+        isClosed = true;
+        PooledTransport connection;
+        while ((connection = idleTransports.pollFirst()) != null) {
+            close(connection);
+        }
+    }
+
+    public int getIdleConnections() {
+        return idleTransports.size();
+    }
+
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private long lastUsedTime;
+        private int messageCount;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedTime = System.currentTimeMillis();
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package com.esofthead.mycollab.module.mail.service;
 
 import java.util.List;
+import java.util.concurrent.Future;
 
 import com.esofthead.mycollab.common.domain.MailRecipientField;
 import com.esofthead.mycollab.core.persistence.service.IService;
@@ -46,4 +47,23 @@ public interface IGenericMailService extends IService {
 			List<MailRecipientField> toEmail, List<MailRecipientField> ccEmail,
 			List<MailRecipientField> bccEmail, String subject, String html,
 			List<EmailAttachementSource> attachments);
+
+	/**
+	 * Sends the mail by one of the background sender workers, so many mails
+	 * can be sent in parallel over the pooled SMTP connections
+	 * 
+	 * @param fromEmail
+	 * @param fromName
+	 * @param toEmail
+	 * @param ccEmail
+	 * @param bccEmail
+	 * @param subject
+	 * @param html
+	 * @param attachments
+	 * @return future completes when the mail is sent
+	 */
+	Future<?> sendHTMLMailAsync(String fromEmail, String fromName,
+			List<MailRecipientField> toEmail, List<MailRecipientField> ccEmail,
+			List<MailRecipientField> bccEmail, String subject, String html,
+			List<EmailAttachementSource> attachments);
 }
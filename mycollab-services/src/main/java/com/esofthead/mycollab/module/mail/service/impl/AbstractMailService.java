@@ -17,6 +17,8 @@
 package com.esofthead.mycollab.module.mail.service.impl;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.esofthead.mycollab.common.domain.MailRecipientField;
 import com.esofthead.mycollab.module.mail.EmailAttachementSource;
@@ -33,6 +35,8 @@ public abstract class AbstractMailService implements IGenericMailService {
 
 	protected abstract IMailer getMailer();
 
+	protected abstract ExecutorService getSenderExecutor();
+
 	@Override
 	public void sendHTMLMail(String fromEmail, String fromName,
 			List<MailRecipientField> toEmail, List<MailRecipientField> ccEmail,
@@ -42,4 +46,19 @@ public abstract class AbstractMailService implements IGenericMailService {
 		getMailer().sendHTMLMail(fromEmail, fromName, toEmail, ccEmail,
 				bccEmail, subject, html, attachments);
 	}
+
+	@Override
+	public Future<?> sendHTMLMailAsync(final String fromEmail,
+			final String fromName, final List<MailRecipientField> toEmail,
+			final List<MailRecipientField> ccEmail,
+			final List<MailRecipientField> bccEmail, final String subject,
+			final String html, final List<EmailAttachementSource> attachments) {
+		return getSenderExecutor().submit(new Runnable() {
+			@Override
+			public void run() {
+				sendHTMLMail(fromEmail, fromName, toEmail, ccEmail, bccEmail,
+						subject, html, attachments);
+			}
+		});
+	}
 }
@@ -21,9 +21,16 @@ import com.esofthead.mycollab.configuration.SiteConfiguration;
 import com.esofthead.mycollab.module.mail.DefaultMailer;
 import com.esofthead.mycollab.module.mail.IMailer;
 import com.esofthead.mycollab.module.mail.NullMailer;
+import com.esofthead.mycollab.module.mail.SmtpConnectionPool;
 import com.esofthead.mycollab.module.mail.service.ExtMailService;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  *
  * @author MyCollab Ltd.
@@ -31,7 +38,12 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class ExtMailServiceImpl extends AbstractMailService implements
-        ExtMailService {
+        ExtMailService, DisposableBean {
+
+    private String mailerKey;
+    private SmtpConnectionPool connectionPool;
+    private IMailer mailer;
+    private ExecutorService senderExecutor;
 
     @Override
     public boolean isMailSetupValid() {
@@ -40,15 +52,65 @@ public class ExtMailServiceImpl extends AbstractMailService implements
         return !(emailConfiguration.getHost().equals(""));
     }
 
+    /**
+     * Returns the mailer of current email configuration. Its connection pool
+     * is shared by all sends and rebuilt only when the configuration changes,
+     * the sender executor is rebuilt with it so it has as many workers as the
+     * pool has connections.
+     */
     @Override
-    protected IMailer getMailer() {
+    protected synchronized IMailer getMailer() {
         EmailConfiguration emailConfiguration = SiteConfiguration
                 .getEmailConfiguration();
         if (!isMailSetupValid()) {
             return new NullMailer();
         }
 
-        return new DefaultMailer(emailConfiguration);
+        String key = emailConfiguration.getHost() + ":" + emailConfiguration.getPort()
+                + ":" + emailConfiguration.getUser() + ":" + emailConfiguration.getPassword()
+                + ":" + emailConfiguration.getIsTls() + ":" + emailConfiguration.getSenderWorkers();
+        if (mailer == null || !key.equals(mailerKey)) {
+            if (connectionPool != null) {
+                connectionPool.close();
+            }
+            if (senderExecutor != null) {
+                // queued messages are still sent, through the new pool
+                senderExecutor.shutdown();
+                senderExecutor = null;
+            }
+            connectionPool = new SmtpConnectionPool(emailConfiguration);
+            mailer = new DefaultMailer(connectionPool);
+            mailerKey = key;
+        }
+        return mailer;
     }
 
+    @Override
+    protected synchronized ExecutorService getSenderExecutor() {
+        // rebuilds the executor if the configuration has changed
+        getMailer();
+        if (senderExecutor == null) {
+            final AtomicInteger threadCount = new AtomicInteger();
+            senderExecutor = Executors.newFixedThreadPool(SiteConfiguration
+                    .getEmailConfiguration().getSenderWorkers(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "mail-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return senderExecutor;
+    }
+
+    @Override
+    public synchronized void destroy() throws Exception {
+        if (senderExecutor != null) {
+            senderExecutor.shutdown();
+        }
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
 }
@@ -16,6 +16,8 @@
  */
 package com.esofthead.mycollab.module.project;
 
+import com.esofthead.mycollab.security.PermissionIndex;
+
 /**
  * 
  * @author MyCollab Ltd.
@@ -51,4 +53,28 @@ public class ProjectRolePermissionCollections {
 	public static final String[] PROJECT_PERMISSIONS = { MESSAGES, MILESTONES,
 			TASKS, BUGS, COMPONENTS, VERSIONS, PAGES, RISKS, PROBLEMS, USERS,
 			ROLES, PROJECT };
+
+	/**
+	 * Slots of the project permissions, used to compile the permissions of
+	 * project roles
+	 */
+	public static final PermissionIndex PERMISSION_INDEX = new PermissionIndex(
+			PROJECT_PERMISSIONS);
+
+	/**
+	 * Slots of the project permission items in {@link #PERMISSION_INDEX},
+	 * resolved once so permission checks do not look the item up
+	 */
+	public static final int MESSAGES_SLOT = PERMISSION_INDEX.slotOf(MESSAGES);
+	public static final int MILESTONES_SLOT = PERMISSION_INDEX.slotOf(MILESTONES);
+	public static final int TASKS_SLOT = PERMISSION_INDEX.slotOf(TASKS);
+	public static final int BUGS_SLOT = PERMISSION_INDEX.slotOf(BUGS);
+	public static final int VERSIONS_SLOT = PERMISSION_INDEX.slotOf(VERSIONS);
+	public static final int COMPONENTS_SLOT = PERMISSION_INDEX.slotOf(COMPONENTS);
+	public static final int RISKS_SLOT = PERMISSION_INDEX.slotOf(RISKS);
+	public static final int PROBLEMS_SLOT = PERMISSION_INDEX.slotOf(PROBLEMS);
+	public static final int USERS_SLOT = PERMISSION_INDEX.slotOf(USERS);
+	public static final int ROLES_SLOT = PERMISSION_INDEX.slotOf(ROLES);
+	public static final int PAGES_SLOT = PERMISSION_INDEX.slotOf(PAGES);
+	public static final int PROJECT_SLOT = PERMISSION_INDEX.slotOf(PROJECT);
 }
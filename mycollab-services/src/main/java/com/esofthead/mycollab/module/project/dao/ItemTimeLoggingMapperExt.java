@@ -16,9 +16,13 @@
  */
 package com.esofthead.mycollab.module.project.dao;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 
 public interface ItemTimeLoggingMapperExt extends
@@ -26,4 +30,24 @@ public interface ItemTimeLoggingMapperExt extends
 
 	Double getTotalHoursByCriteria(
 			@Param("searchCriteria") ItemTimeLoggingSearchCriteria criteria);
+
+	/**
+	 * 
+	 * @param criteria
+	 * @return the sum of hours of the matching time loggings grouped by log
+	 *         user, project, day and billable flag
+	 */
+	List<ItemTimeLogging> getTimeLoggingSummaryItems(
+			@Param("searchCriteria") ItemTimeLoggingSearchCriteria criteria);
+
+	/**
+	 * Passes the matching time loggings to the handler one by one while they
+	 * are read from a single forward only result set.
+	 * 
+	 * @param criteria
+	 * @param handler
+	 */
+	void streamByCriteria(
+			@Param("searchCriteria") ItemTimeLoggingSearchCriteria criteria,
+			ResultHandler handler);
 }
@@ -19,7 +19,16 @@ package com.esofthead.mycollab.module.project.dao;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.module.project.domain.SimpleMessage;
 import com.esofthead.mycollab.module.project.domain.criteria.MessageSearchCriteria;
+import org.apache.ibatis.annotations.Param;
 
 public interface MessageMapperExt extends ISearchableDAO<MessageSearchCriteria> {
     SimpleMessage findMessageById(int messageId);
+
+    /**
+     * @param messageId
+     * @param sAccountId
+     * @return the message with the fields shown in its tooltip only
+     */
+    SimpleMessage findMessageTooltipById(@Param("messageId") int messageId,
+                                         @Param("sAccountId") int sAccountId);
 }
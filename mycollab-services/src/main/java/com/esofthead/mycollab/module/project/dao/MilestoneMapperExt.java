@@ -20,6 +20,7 @@ package com.esofthead.mycollab.module.project.dao;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.module.project.domain.SimpleMilestone;
 import com.esofthead.mycollab.module.project.domain.criteria.MilestoneSearchCriteria;
+import org.apache.ibatis.annotations.Param;
 
 /**
  *
@@ -28,4 +29,12 @@ import com.esofthead.mycollab.module.project.domain.criteria.MilestoneSearchCrit
 public interface MilestoneMapperExt extends ISearchableDAO<MilestoneSearchCriteria> {
 
     SimpleMilestone findById(int milestoneId);
+
+    /**
+     * @param milestoneId
+     * @param sAccountId
+     * @return the milestone with the fields shown in its tooltip only
+     */
+    SimpleMilestone findTooltipById(@Param("milestoneId") int milestoneId,
+                                    @Param("sAccountId") int sAccountId);
 }
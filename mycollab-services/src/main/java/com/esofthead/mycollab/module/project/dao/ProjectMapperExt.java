@@ -48,6 +48,15 @@ public interface ProjectMapperExt extends ISearchableDAO<ProjectSearchCriteria>
 
 	SimpleProject findProjectById(int projectId);
 
+	/**
+	 * 
+	 * @param projectId
+	 * @param sAccountId
+	 * @return the project with the fields shown in its tooltip only
+	 */
+	SimpleProject findProjectTooltipById(@Param("projectId") int projectId,
+			@Param("sAccountId") int sAccountId);
+
 	String getSubdomainOfProject(int projectId);
 
 	int getTotalFollowingTickets(
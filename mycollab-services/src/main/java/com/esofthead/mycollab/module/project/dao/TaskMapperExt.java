@@ -16,13 +16,15 @@
  */
 package com.esofthead.mycollab.module.project.dao;
 
+import java.util.Date;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Param;
 
 import com.esofthead.mycollab.common.domain.GroupItem;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 import com.esofthead.mycollab.module.project.domain.SimpleTask;
+import com.esofthead.mycollab.module.project.domain.Task;
 import com.esofthead.mycollab.module.project.domain.criteria.TaskSearchCriteria;
 
 /**
@@ -31,11 +33,19 @@ import com.esofthead.mycollab.module.project.domain.criteria.TaskSearchCriteria;
  * @since 1.0
  * 
  */
-public interface TaskMapperExt extends ISearchableDAO<TaskSearchCriteria> {
+public interface TaskMapperExt extends ISeekableDAO<TaskSearchCriteria> {
 
 	SimpleTask findTaskById(int taskId);
 
-	Integer getMaxKey(int projectId);
+	/**
+	 * 
+	 * @param taskId
+	 * @param sAccountId
+	 * @return the task with the fields shown in its tooltip only
+	 */
+	SimpleTask findTaskTooltipById(@Param("taskId") int taskId,
+			@Param("sAccountId") int sAccountId);
+
 
 	List<GroupItem> getPrioritySummary(
 			@Param("searchCriteria") TaskSearchCriteria criteria);
@@ -46,4 +56,16 @@ public interface TaskMapperExt extends ISearchableDAO<TaskSearchCriteria> {
 	SimpleTask findByProjectAndTaskKey(@Param("taskkey") int taskkey,
 			@Param("prjShortName") String projectShortName,
 			@Param("sAccountId") int sAccountId);
+
+	/**
+	 * Sets the start and end dates of the tasks with one statement.
+	 * 
+	 * @param tasks
+	 * @param lastUpdatedTime
+	 * @param sAccountId
+	 * @return the number of updated tasks
+	 */
+	int rescheduleTasks(@Param("tasks") List<? extends Task> tasks,
+			@Param("lastUpdatedTime") Date lastUpdatedTime,
+			@Param("sAccountId") int sAccountId);
 }
@@ -0,0 +1,185 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.domain;
+
+import com.esofthead.mycollab.core.arguments.ValuedBean;
+
+/**
+ * Counters of a project kept in the m_prj_project_statistic table. The same
+ * class carries the changes applied to the counters when project items are
+ * saved, updated or removed.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class ProjectStatistic extends ValuedBean {
+	private static final long serialVersionUID = 1L;
+
+	private Integer projectid;
+
+	private Integer saccountid;
+
+	private int numBugs;
+
+	private int numOpenBugs;
+
+	private int numTasks;
+
+	private int numOpenTasks;
+
+	private int numActiveMembers;
+
+	private int numClosedPhase;
+
+	private int numInProgressPhase;
+
+	private int numFuturePhase;
+
+	private double totalBillableHours;
+
+	private double totalNonBillableHours;
+
+	public ProjectStatistic() {
+	}
+
+	public ProjectStatistic(Integer projectid) {
+		this.projectid = projectid;
+	}
+
+	/**
+	 * Adds counters of the other statistic to this one.
+	 * 
+	 * @param other
+	 */
+	public void add(ProjectStatistic other) {
+		numBugs += other.numBugs;
+		numOpenBugs += other.numOpenBugs;
+		numTasks += other.numTasks;
+		numOpenTasks += other.numOpenTasks;
+		numActiveMembers += other.numActiveMembers;
+		numClosedPhase += other.numClosedPhase;
+		numInProgressPhase += other.numInProgressPhase;
+		numFuturePhase += other.numFuturePhase;
+		totalBillableHours += other.totalBillableHours;
+		totalNonBillableHours += other.totalNonBillableHours;
+	}
+
+	public boolean isEmpty() {
+		return numBugs == 0 && numOpenBugs == 0 && numTasks == 0
+				&& numOpenTasks == 0 && numActiveMembers == 0
+				&& numClosedPhase == 0 && numInProgressPhase == 0
+				&& numFuturePhase == 0 && totalBillableHours == 0
+				&& totalNonBillableHours == 0;
+	}
+
+	public Integer getProjectid() {
+		return projectid;
+	}
+
+	public void setProjectid(Integer projectid) {
+		this.projectid = projectid;
+	}
+
+	public Integer getSaccountid() {
+		return saccountid;
+	}
+
+	public void setSaccountid(Integer saccountid) {
+		this.saccountid = saccountid;
+	}
+
+	public int getNumBugs() {
+		return numBugs;
+	}
+
+	public void setNumBugs(int numBugs) {
+		this.numBugs = numBugs;
+	}
+
+	public int getNumOpenBugs() {
+		return numOpenBugs;
+	}
+
+	public void setNumOpenBugs(int numOpenBugs) {
+		this.numOpenBugs = numOpenBugs;
+	}
+
+	public int getNumTasks() {
+		return numTasks;
+	}
+
+	public void setNumTasks(int numTasks) {
+		this.numTasks = numTasks;
+	}
+
+	public int getNumOpenTasks() {
+		return numOpenTasks;
+	}
+
+	public void setNumOpenTasks(int numOpenTasks) {
+		this.numOpenTasks = numOpenTasks;
+	}
+
+	public int getNumActiveMembers() {
+		return numActiveMembers;
+	}
+
+	public void setNumActiveMembers(int numActiveMembers) {
+		this.numActiveMembers = numActiveMembers;
+	}
+
+	public int getNumClosedPhase() {
+		return numClosedPhase;
+	}
+
+	public void setNumClosedPhase(int numClosedPhase) {
+		this.numClosedPhase = numClosedPhase;
+	}
+
+	public int getNumInProgressPhase() {
+		return numInProgressPhase;
+	}
+
+	public void setNumInProgressPhase(int numInProgressPhase) {
+		this.numInProgressPhase = numInProgressPhase;
+	}
+
+	public int getNumFuturePhase() {
+		return numFuturePhase;
+	}
+
+	public void setNumFuturePhase(int numFuturePhase) {
+		this.numFuturePhase = numFuturePhase;
+	}
+
+	public double getTotalBillableHours() {
+		return totalBillableHours;
+	}
+
+	public void setTotalBillableHours(double totalBillableHours) {
+		this.totalBillableHours = totalBillableHours;
+	}
+
+	public double getTotalNonBillableHours() {
+		return totalNonBillableHours;
+	}
+
+	public void setTotalNonBillableHours(double totalNonBillableHours) {
+		this.totalNonBillableHours = totalNonBillableHours;
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Date;
 
 import com.esofthead.mycollab.core.arguments.NotBindable;
 import com.esofthead.mycollab.core.utils.StringUtils;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
 
 /**
@@ -42,6 +43,9 @@ public class SimpleProjectMember extends ProjectMember {
 	@NotBindable
 	private PermissionMap permissionMaps;
 
+	@NotBindable
+	private CompiledPermissions permissions;
+
 	private int numOpenTasks;
 
 	private int numOpenBugs;
@@ -76,6 +80,14 @@ public class SimpleProjectMember extends ProjectMember {
 		this.permissionMaps = permissionMaps;
 	}
 
+	public CompiledPermissions getPermissions() {
+		return permissions;
+	}
+
+	public void setPermissions(CompiledPermissions permissions) {
+		this.permissions = permissions;
+	}
+
 	public int getNumOpenTasks() {
 		return numOpenTasks;
 	}
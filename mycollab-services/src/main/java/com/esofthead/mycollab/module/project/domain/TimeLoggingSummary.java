@@ -0,0 +1,128 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.domain;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.esofthead.mycollab.core.arguments.ValuedBean;
+
+/**
+ * Billable and non billable hours of the time loggings matching a search
+ * criteria, in total and per log user, per project and per day.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+public class TimeLoggingSummary extends ValuedBean {
+	private static final long serialVersionUID = 1L;
+
+	private Hours total = new Hours();
+
+	private Map<String, Hours> hoursByUser = new TreeMap<>();
+
+	private Map<Integer, Hours> hoursByProject = new TreeMap<>();
+
+	private Map<Date, Hours> hoursByDay = new TreeMap<>();
+
+	/**
+	 * Adds the hours of a time logging, or of a group of time loggings sharing
+	 * the same log user, project, day and billable flag.
+	 * 
+	 * @param timeLogging
+	 */
+	public void add(ItemTimeLogging timeLogging) {
+		double value = (timeLogging.getLogvalue() != null) ? timeLogging
+				.getLogvalue() : 0;
+		boolean billable = Boolean.TRUE.equals(timeLogging.getIsbillable());
+
+		total.add(value, billable);
+		addToBucket(hoursByUser, timeLogging.getLoguser(), value, billable);
+		addToBucket(hoursByProject, timeLogging.getProjectid(), value,
+				billable);
+		addToBucket(hoursByDay, timeLogging.getLogforday(), value, billable);
+	}
+
+	private static <K> void addToBucket(Map<K, Hours> buckets, K key,
+			double value, boolean billable) {
+		if (key == null) {
+			return;
+		}
+
+		Hours hours = buckets.get(key);
+		if (hours == null) {
+			hours = new Hours();
+			buckets.put(key, hours);
+		}
+		hours.add(value, billable);
+	}
+
+	public double getBillableHours() {
+		return total.getBillableHours();
+	}
+
+	public double getNonBillableHours() {
+		return total.getNonBillableHours();
+	}
+
+	public double getTotalHours() {
+		return total.getTotalHours();
+	}
+
+	public Map<String, Hours> getHoursByUser() {
+		return hoursByUser;
+	}
+
+	public Map<Integer, Hours> getHoursByProject() {
+		return hoursByProject;
+	}
+
+	public Map<Date, Hours> getHoursByDay() {
+		return hoursByDay;
+	}
+
+	public static class Hours implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private double billableHours;
+
+		private double nonBillableHours;
+
+		void add(double value, boolean billable) {
+			if (billable) {
+				billableHours += value;
+			} else {
+				nonBillableHours += value;
+			}
+		}
+
+		public double getBillableHours() {
+			return billableHours;
+		}
+
+		public double getNonBillableHours() {
+			return nonBillableHours;
+		}
+
+		public double getTotalHours() {
+			return billableHours + nonBillableHours;
+		}
+	}
+}
@@ -78,6 +78,7 @@ public class TaskSearchCriteria extends SearchCriteria {
 	private StringSearchField assignUser;
 	private SetSearchField<String> statuses;
 	private SetSearchField<String> priorities;
+	private RangeDateTimeSearchField scheduleRange;
 
 	public NumberSearchField getParentTaskId() {
 		return parentTaskId;
@@ -158,4 +159,18 @@ public class TaskSearchCriteria extends SearchCriteria {
     public void setDueDate(DateSearchField dueDate) {
         this.dueDate = dueDate;
     }
+
+	public RangeDateTimeSearchField getScheduleRange() {
+		return scheduleRange;
+	}
+
+	/**
+	 * 
+	 * @param scheduleRange
+	 *            the tasks are the ones shown in a time line of this range,
+	 *            the end of a task is its end date or else its deadline
+	 */
+	public void setScheduleRange(RangeDateTimeSearchField scheduleRange) {
+		this.scheduleRange = scheduleRange;
+	}
 }
@@ -18,11 +18,14 @@ package com.esofthead.mycollab.module.project.service;
 
 import java.util.List;
 
+import org.apache.ibatis.session.ResultHandler;
+
 import com.esofthead.mycollab.core.cache.CacheEvict;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.cache.Cacheable;
 import com.esofthead.mycollab.core.persistence.service.IDefaultService;
 import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 
 /**
@@ -39,6 +42,32 @@ public interface ItemTimeLoggingService
 	Double getTotalHoursByCriteria(
 			@CacheKey ItemTimeLoggingSearchCriteria criteria);
 
+	/**
+	 * Sums the billable, non billable and total hours of the matching time
+	 * loggings, also per log user, per project and per day, with one grouped
+	 * query.
+	 * 
+	 * @param criteria
+	 * @return
+	 */
+	@Cacheable
+	TimeLoggingSummary getTimeLoggingSummary(
+			@CacheKey ItemTimeLoggingSearchCriteria criteria);
+
+	/**
+	 * Passes the matching time loggings to the handler as
+	 * {@link com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging}
+	 * objects while they are read from the database, in the order of
+	 * {@link #findPagableListByCriteria(com.esofthead.mycollab.core.arguments.SearchRequest)}.
+	 * Reports of any size are read with one query without keeping all rows in
+	 * memory.
+	 * 
+	 * @param criteria
+	 * @param handler
+	 */
+	void streamTimeLoggings(ItemTimeLoggingSearchCriteria criteria,
+			ResultHandler handler);
+
 	@CacheEvict
 	void batchSaveTimeLogging(List<ItemTimeLogging> timeLoggings,
 			@CacheKey int sAccountId);
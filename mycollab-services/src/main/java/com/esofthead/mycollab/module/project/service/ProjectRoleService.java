@@ -23,6 +23,7 @@ import com.esofthead.mycollab.core.persistence.service.IDefaultService;
 import com.esofthead.mycollab.module.project.domain.ProjectRole;
 import com.esofthead.mycollab.module.project.domain.SimpleProjectRole;
 import com.esofthead.mycollab.module.project.domain.criteria.ProjectRoleSearchCriteria;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
 
 public interface ProjectRoleService extends
@@ -34,4 +35,17 @@ public interface ProjectRoleService extends
 
 	@Cacheable
 	SimpleProjectRole findById(int roleId, @CacheKey int sAccountId);
+
+	/**
+	 * 
+	 * @param projectId
+	 * @param roleId
+	 * @param sAccountId
+	 * @return permissions of the role compiled against
+	 *         {@link com.esofthead.mycollab.module.project.ProjectRolePermissionCollections#PERMISSION_INDEX}
+	 *         , or null if the role has no permission
+	 */
+	@Cacheable
+	CompiledPermissions findCompiledPermissions(int projectId, int roleId,
+			@CacheKey int sAccountId);
 }
@@ -0,0 +1,83 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import java.util.List;
+
+import com.esofthead.mycollab.cache.IgnoreCacheClass;
+import com.esofthead.mycollab.core.persistence.service.IService;
+
+/**
+ * Keeps the full text index of the project items searched by
+ * {@link ProjectGenericItemService}: tasks, task groups, messages, milestones,
+ * bugs, components, versions, risks and problems. Items are indexed when they
+ * are saved, updated or removed through their services, items changed out of
+ * the service layer are picked up when the index of their project is rebuilt.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@IgnoreCacheClass
+public interface ProjectSearchIndexService extends IService {
+
+	/**
+	 * 
+	 * @param type
+	 * @return true if items of <code>type</code> are kept in the index
+	 */
+	boolean isIndexed(String type);
+
+	/**
+	 * Copies the current content of the items into the index.
+	 * 
+	 * @param type
+	 * @param itemIds
+	 */
+	void indexItems(String type, List<Integer> itemIds);
+
+	/**
+	 * 
+	 * @param type
+	 * @param itemIds
+	 */
+	void removeItems(String type, List<Integer> itemIds);
+
+	/**
+	 * Replaces the index entries of the project by its current items.
+	 * 
+	 * @param projectId
+	 */
+	void rebuildIndex(int projectId);
+
+	/**
+	 * 
+	 * @return ids of all projects, used to rebuild the index project by
+	 *         project
+	 */
+	List<Integer> findProjectIds();
+
+	/**
+	 * 
+	 * @param text
+	 *            text typed by the user
+	 * @return full text query matching the items containing words starting
+	 *         with every word of <code>text</code>, or null if no word of
+	 *         <code>text</code> is long enough to be looked up in the index
+	 */
+	String toMatchQuery(String text);
+}
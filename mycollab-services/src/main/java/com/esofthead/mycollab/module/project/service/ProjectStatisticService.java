@@ -0,0 +1,68 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import java.util.List;
+
+import com.esofthead.mycollab.cache.IgnoreCacheClass;
+import com.esofthead.mycollab.core.persistence.service.IService;
+import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.Milestone;
+import com.esofthead.mycollab.module.project.domain.ProjectStatistic;
+import com.esofthead.mycollab.module.project.domain.Task;
+import com.esofthead.mycollab.module.tracker.domain.Bug;
+
+/**
+ * Maintains the counters of projects (number of bugs, tasks, members, phases
+ * and logged hours) so project lists do not count the project items on every
+ * read. The update methods take the item before and after the change, a null
+ * old item means the item is created, a null new item means it is removed.
+ * They must be called after the item is written, in the same transaction.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@IgnoreCacheClass
+public interface ProjectStatisticService extends IService {
+
+	void updateBugStatistic(Bug oldBug, Bug newBug);
+
+	void updateTaskStatistic(Task oldTask, Task newTask);
+
+	void updateMilestoneStatistic(Milestone oldMilestone, Milestone newMilestone);
+
+	void updateTimeLoggingStatistic(ItemTimeLogging oldTimeLogging,
+			ItemTimeLogging newTimeLogging);
+
+	void refreshMemberStatistic(int projectId);
+
+	/**
+	 * Recomputes counters of the project from its items.
+	 * 
+	 * @param projectId
+	 *            the project id, or null to recompute all projects
+	 */
+	void rebuildStatistics(Integer projectId);
+
+	/**
+	 * 
+	 * @return counters computed from the items of projects whose stored
+	 *         counters do not match them
+	 */
+	List<ProjectStatistic> findInconsistentProjects();
+}
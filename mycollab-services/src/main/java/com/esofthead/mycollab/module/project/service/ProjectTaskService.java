@@ -19,6 +19,7 @@ package com.esofthead.mycollab.module.project.service;
 import java.util.List;
 
 import com.esofthead.mycollab.common.domain.GroupItem;
+import com.esofthead.mycollab.core.cache.CacheEvict;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.cache.Cacheable;
 import com.esofthead.mycollab.core.persistence.service.IDefaultService;
@@ -54,4 +55,19 @@ public interface ProjectTaskService extends
 	@Cacheable
 	List<GroupItem> getAssignedDefectsSummary(
 			@CacheKey TaskSearchCriteria criteria);
+
+	/**
+	 * Moves the tasks to their new start and end dates in one statement and
+	 * records a single activity entry for the whole move. Unlike
+	 * {@link #updateWithSession(Object, String)} no audit log, monitor or
+	 * notification is created for the individual tasks.
+	 * 
+	 * @param tasks
+	 *            tasks of one project carrying their new start and end dates
+	 * @param username
+	 * @param sAccountId
+	 */
+	@CacheEvict
+	void rescheduleTasks(List<? extends Task> tasks, String username,
+			@CacheKey int sAccountId);
 }
@@ -0,0 +1,60 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import com.esofthead.mycollab.cache.IgnoreCacheClass;
+import com.esofthead.mycollab.common.TooltipContent;
+import com.esofthead.mycollab.core.persistence.service.IService;
+
+/**
+ * Renders the tooltips of projects, bugs, tasks, milestones and messages. Items
+ * are read with queries selecting only the fields shown in their tooltip, and
+ * the rendered html is cached per item, locale and time zone until the item is
+ * changed through its service.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@IgnoreCacheClass
+public interface ProjectTooltipService extends IService {
+
+	/**
+	 * 
+	 * @param type
+	 * @return true if tooltips of items of <code>type</code> are rendered by
+	 *         this service
+	 */
+	boolean isSupportedType(String type);
+
+	/**
+	 * 
+	 * @param type
+	 * @param typeId
+	 * @param sAccountId
+	 * @param siteURL
+	 * @param locale
+	 * @param timeZone
+	 * @return the tooltip of the item, or null if the type is not supported or
+	 *         the tooltip can not be rendered
+	 */
+	TooltipContent getTooltip(String type, int typeId, int sAccountId,
+			String siteURL, Locale locale, TimeZone timeZone);
+}
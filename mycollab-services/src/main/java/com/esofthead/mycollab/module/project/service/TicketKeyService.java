@@ -0,0 +1,61 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service;
+
+import com.esofthead.mycollab.cache.IgnoreCacheClass;
+import com.esofthead.mycollab.core.persistence.service.IService;
+
+/**
+ * Allocates the keys of project items (bug keys and task keys) from a
+ * sequence per project and item type. Allocations of different projects never
+ * wait for each other, and no allocation scans the items of the project.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@IgnoreCacheClass
+public interface TicketKeyService extends IService {
+
+	/**
+	 * Creates the key sequences of a new project.
+	 * 
+	 * @param projectId
+	 */
+	void initKeys(int projectId);
+
+	/**
+	 * 
+	 * @param projectId
+	 * @param type
+	 *            {@link com.esofthead.mycollab.module.project.ProjectTypeConstants#BUG}
+	 *            or
+	 *            {@link com.esofthead.mycollab.module.project.ProjectTypeConstants#TASK}
+	 * @return the next key of the project items of the type
+	 */
+	int allocateKey(int projectId, String type);
+
+	/**
+	 * 
+	 * @param projectId
+	 * @param type
+	 * @param count
+	 * @return the first key of <code>count</code> consecutive keys reserved
+	 *         for the caller
+	 */
+	int allocateKeys(int projectId, String type, int count);
+}
@@ -25,10 +25,13 @@ import com.esofthead.mycollab.core.persistence.service.DefaultService;
 import com.esofthead.mycollab.module.project.dao.ItemTimeLoggingMapper;
 import com.esofthead.mycollab.module.project.dao.ItemTimeLoggingMapperExt;
 import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 import com.esofthead.mycollab.module.project.service.ItemTimeLoggingService;
 import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
 import com.esofthead.mycollab.spring.ApplicationContextUtil;
+import org.apache.ibatis.session.ResultHandler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -62,6 +65,9 @@ public class ItemTimeLoggingServiceImpl extends
 	@Autowired
 	private ActivityStreamService activityStreamService;
 
+	@Autowired
+	private ProjectStatisticService projectStatisticService;
+
 	@Override
 	public ICrudGenericDAO getCrudMapper() {
 		return itemTimeLoggingMapper;
@@ -75,20 +81,32 @@ public class ItemTimeLoggingServiceImpl extends
 	@Override
 	public int saveWithSession(ItemTimeLogging record, String username) {
         CacheUtils.cleanCaches(record.getSaccountid(), ItemTimeLoggingService.class, ProjectService.class);
-		return super.saveWithSession(record, username);
+		int result = super.saveWithSession(record, username);
+		projectStatisticService.updateTimeLoggingStatistic(null, record);
+		return result;
 	}
 
 	@Override
 	public int updateWithSession(ItemTimeLogging record, String username) {
         CacheUtils.cleanCaches(record.getSaccountid(), ItemTimeLoggingService.class, ProjectService.class);
-		return super.updateWithSession(record, username);
+		ItemTimeLogging oldTimeLogging = itemTimeLoggingMapper
+				.selectByPrimaryKey(record.getId());
+		int result = super.updateWithSession(record, username);
+		projectStatisticService.updateTimeLoggingStatistic(oldTimeLogging,
+				record);
+		return result;
 	}
 
 	@Override
 	public int removeWithSession(Integer primaryKey, String username,
 			int accountId) {
 		CacheUtils.cleanCaches(accountId, ItemTimeLoggingService.class, ProjectService.class);
-		return super.removeWithSession(primaryKey, username, accountId);
+		ItemTimeLogging oldTimeLogging = itemTimeLoggingMapper
+				.selectByPrimaryKey(primaryKey);
+		int result = super.removeWithSession(primaryKey, username, accountId);
+		projectStatisticService.updateTimeLoggingStatistic(oldTimeLogging,
+				null);
+		return result;
 	}
 
 	@Override
@@ -98,6 +116,23 @@ public class ItemTimeLoggingServiceImpl extends
 		return (value != null) ? value : 0;
 	}
 
+	@Override
+	public TimeLoggingSummary getTimeLoggingSummary(
+			ItemTimeLoggingSearchCriteria criteria) {
+		TimeLoggingSummary summary = new TimeLoggingSummary();
+		for (ItemTimeLogging item : itemTimeLoggingMapperExt
+				.getTimeLoggingSummaryItems(criteria)) {
+			summary.add(item);
+		}
+		return summary;
+	}
+
+	@Override
+	public void streamTimeLoggings(ItemTimeLoggingSearchCriteria criteria,
+			ResultHandler handler) {
+		itemTimeLoggingMapperExt.streamByCriteria(criteria, handler);
+	}
+
 	@Override
 	public void batchSaveTimeLogging(final List<ItemTimeLogging> timeLoggings,
 			@CacheKey int sAccountId) {
@@ -145,6 +180,10 @@ public class ItemTimeLoggingServiceImpl extends
 								return timeLoggings.size();
 							}
 						});
+		for (ItemTimeLogging timeLogging : timeLoggings) {
+			projectStatisticService.updateTimeLoggingStatistic(null,
+					timeLogging);
+		}
 		CacheUtils.cleanCaches(sAccountId, ItemTimeLoggingService.class, ProjectService.class);
 	}
 
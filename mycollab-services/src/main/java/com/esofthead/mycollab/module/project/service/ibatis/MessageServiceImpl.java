@@ -26,6 +26,7 @@ import com.esofthead.mycollab.common.service.RelayEmailNotificationService;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
+import com.esofthead.mycollab.core.utils.RichTextSanitizer;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.dao.MessageMapper;
 import com.esofthead.mycollab.module.project.dao.MessageMapperExt;
@@ -74,6 +75,7 @@ public class MessageServiceImpl extends
 	@Override
 	public int saveWithSession(Message record, String username) {
 		int recordId = super.saveWithSession(record, username);
+		RichTextSanitizer.prepare(record.getMessage());
 		CacheUtils.cleanCaches(record.getSaccountid(),
 				ProjectActivityStreamService.class);
 		return recordId;
@@ -83,7 +85,9 @@ public class MessageServiceImpl extends
 	public int updateWithSession(Message record, String username) {
 		CacheUtils.cleanCaches(record.getSaccountid(),
 				ProjectActivityStreamService.class);
-		return super.updateWithSession(record, username);
+		int result = super.updateWithSession(record, username);
+		RichTextSanitizer.prepare(record.getMessage());
+		return result;
 	}
 
 	@Override
@@ -31,6 +31,7 @@ import com.esofthead.mycollab.module.project.domain.SimpleMilestone;
 import com.esofthead.mycollab.module.project.domain.criteria.MilestoneSearchCriteria;
 import com.esofthead.mycollab.module.project.service.MilestoneService;
 import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
 import com.esofthead.mycollab.schedule.email.project.ProjectMilestoneRelayEmailNotificationAction;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -60,6 +61,9 @@ public class MilestoneServiceImpl extends
 	@Autowired
 	protected MilestoneMapperExt milestoneMapperExt;
 
+	@Autowired
+	private ProjectStatisticService projectStatisticService;
+
 	@Override
 	public ICrudGenericDAO<Integer, Milestone> getCrudMapper() {
 		return milestoneMapper;
@@ -78,6 +82,7 @@ public class MilestoneServiceImpl extends
 	@Override
 	public int saveWithSession(Milestone record, String username) {
 		int recordId = super.saveWithSession(record, username);
+		projectStatisticService.updateMilestoneStatistic(null, record);
         CacheUtils.cleanCaches(record.getSaccountid(), ProjectService.class);
 		return recordId;
 	}
@@ -85,6 +90,30 @@ public class MilestoneServiceImpl extends
 	@Override
 	public int updateWithSession(Milestone record, String username) {
         CacheUtils.cleanCaches(record.getSaccountid(), ProjectService.class);
-		return super.updateWithSession(record, username);
+		Milestone oldMilestone = milestoneMapper.selectByPrimaryKey(record
+				.getId());
+		int result = super.updateWithSession(record, username);
+		projectStatisticService.updateMilestoneStatistic(oldMilestone, record);
+		return result;
+	}
+
+	@Override
+	public int updateSelectiveWithSession(Milestone record, String username) {
+		CacheUtils.cleanCaches(record.getSaccountid(), ProjectService.class);
+		Milestone oldMilestone = milestoneMapper.selectByPrimaryKey(record
+				.getId());
+		int result = super.updateSelectiveWithSession(record, username);
+		projectStatisticService.updateMilestoneStatistic(oldMilestone, record);
+		return result;
+	}
+
+	@Override
+	public int removeWithSession(Integer primaryKey, String username,
+			int accountId) {
+		CacheUtils.cleanCaches(accountId, ProjectService.class);
+		Milestone oldMilestone = milestoneMapper.selectByPrimaryKey(primaryKey);
+		int result = super.removeWithSession(primaryKey, username, accountId);
+		projectStatisticService.updateMilestoneStatistic(oldMilestone, null);
+		return result;
 	}
 }
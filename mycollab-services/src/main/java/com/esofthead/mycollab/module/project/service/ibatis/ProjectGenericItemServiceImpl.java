@@ -16,15 +16,27 @@
  */
 package com.esofthead.mycollab.module.project.service.ibatis;
 
+import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultSearchService;
 import com.esofthead.mycollab.module.project.dao.ProjectGenericItemMapper;
+import com.esofthead.mycollab.module.project.dao.ProjectSearchIndexMapperExt;
 import com.esofthead.mycollab.module.project.domain.criteria.ProjectGenericItemSearchCriteria;
 import com.esofthead.mycollab.module.project.service.ProjectGenericItemService;
+import com.esofthead.mycollab.module.project.service.ProjectSearchIndexService;
+import org.apache.ibatis.session.RowBounds;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
+ * Text searches are answered by the full text index of
+ * {@link ProjectSearchIndexService}, ranked by relevance. Searches without text
+ * or without any word long enough for the index fall back to scanning the
+ * item tables.
+ *
  * @author MyCollab Ltd.
  * @since 5.0.3
  */
@@ -35,19 +47,51 @@ public class ProjectGenericItemServiceImpl extends DefaultSearchService<ProjectG
     @Autowired
     private ProjectGenericItemMapper projectGenericItemMapper;
 
+    @Autowired
+    private ProjectSearchIndexMapperExt projectSearchIndexMapperExt;
+
+    @Autowired
+    private ProjectSearchIndexService projectSearchIndexService;
+
     @Override
     public ISearchableDAO<ProjectGenericItemSearchCriteria> getSearchMapper() {
         return projectGenericItemMapper;
     }
 
+    private String getMatchQuery(ProjectGenericItemSearchCriteria criteria) {
+        return (criteria.getTxtValue() == null) ? null : projectSearchIndexService.toMatchQuery(criteria
+                .getTxtValue().getValue());
+    }
+
     @Override
     public int getTotalCount(ProjectGenericItemSearchCriteria criteria) {
-        return projectGenericItemMapper.getTotalCountFromTask(criteria) + projectGenericItemMapper
-                .getTotalCountFromTaskGroup(criteria) + projectGenericItemMapper
-                .getTotalCountFromMessage(criteria) + projectGenericItemMapper.getTotalCountFromMilestone(criteria) +
-                projectGenericItemMapper.getTotalCountFromBug(criteria) + projectGenericItemMapper
-                .getTotalCountFromVersion(criteria) + projectGenericItemMapper.getTotalCountFromComponent(criteria)
-                + projectGenericItemMapper.getTotalCountFromRisk(criteria) + projectGenericItemMapper
-                .getTotalCountFromProblem(criteria);
+        String matchQuery = getMatchQuery(criteria);
+        if (matchQuery == null) {
+            return projectGenericItemMapper.getTotalCount(criteria);
+        }
+        return projectSearchIndexMapperExt.getTotalCount(criteria, matchQuery);
+    }
+
+    @Override
+    public List findPagableListByCriteria(SearchRequest<ProjectGenericItemSearchCriteria> searchRequest) {
+        return findAbsoluteListByCriteria(searchRequest.getSearchCriteria(), (searchRequest.getCurrentPage() - 1)
+                * searchRequest.getNumberOfItems(), searchRequest.getNumberOfItems());
+    }
+
+    @Override
+    public List findAbsoluteListByCriteria(ProjectGenericItemSearchCriteria criteria, int firstIndex,
+                                           int numberOfItems) {
+        String matchQuery = getMatchQuery(criteria);
+        if (matchQuery == null) {
+            return super.findAbsoluteListByCriteria(criteria, firstIndex, numberOfItems);
+        }
+        return projectSearchIndexMapperExt.findItems(criteria, matchQuery, new RowBounds(firstIndex, numberOfItems));
+    }
+
+    @Override
+    public List findPagableListBySeek(ProjectGenericItemSearchCriteria criteria, SeekCursor seekCursor,
+                                      int numberOfItems) {
+        // the item tables can not be seeked together, always read the first page
+        return findAbsoluteListByCriteria(criteria, 0, numberOfItems);
     }
 }
@@ -50,6 +50,7 @@ import com.esofthead.mycollab.module.project.esb.DeleteProjectMemberCommand;
 import com.esofthead.mycollab.module.project.esb.InviteProjectMembersCommand;
 import com.esofthead.mycollab.module.project.esb.ProjectEndPoints;
 import com.esofthead.mycollab.module.project.service.ProjectMemberService;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
 import com.esofthead.mycollab.module.user.UserExistedException;
 import com.esofthead.mycollab.module.user.dao.UserAccountMapper;
 import com.esofthead.mycollab.module.user.dao.UserMapper;
@@ -90,6 +91,9 @@ public class ProjectMemberServiceImpl extends
 	@Autowired
 	private RoleService roleService;
 
+	@Autowired
+	private ProjectStatisticService projectStatisticService;
+
 	@Override
 	public ICrudGenericDAO getCrudMapper() {
 		return projectMemberMapper;
@@ -118,6 +122,39 @@ public class ProjectMemberServiceImpl extends
 		return projectMemberMapperExt.findMemberByUsername(username, projectId);
 	}
 
+	@Override
+	public int saveWithSession(ProjectMember record, String username) {
+		int result = super.saveWithSession(record, username);
+		refreshMemberStatistic(record);
+		return result;
+	}
+
+	@Override
+	public int updateWithSession(ProjectMember record, String username) {
+		int result = super.updateWithSession(record, username);
+		refreshMemberStatistic(record);
+		return result;
+	}
+
+	@Override
+	public int updateSelectiveWithSession(ProjectMember record, String username) {
+		int result = super.updateSelectiveWithSession(record, username);
+		refreshMemberStatistic(record);
+		return result;
+	}
+
+	private void refreshMemberStatistic(ProjectMember record) {
+		Integer projectId = record.getProjectid();
+		if (projectId == null) {
+			ProjectMember member = projectMemberMapper.selectByPrimaryKey(record
+					.getId());
+			projectId = (member != null) ? member.getProjectid() : null;
+		}
+		if (projectId != null) {
+			projectStatisticService.refreshMemberStatistic(projectId);
+		}
+	}
+
 	@Override
 	public int removeWithSession(Integer primaryKey, String username,
 			int accountId) {
@@ -142,6 +179,8 @@ public class ProjectMemberServiceImpl extends
 
 			projectMember.setStatus(RegisterStatusConstants.DELETE);
 			projectMemberMapper.updateByPrimaryKeySelective(projectMember);
+			projectStatisticService.refreshMemberStatistic(projectMember
+					.getProjectid());
 		}
 
 		return 1;
@@ -18,6 +18,8 @@ package com.esofthead.mycollab.module.project.service.ibatis;
 
 import com.esofthead.mycollab.common.interceptor.aspect.ClassInfo;
 import com.esofthead.mycollab.common.interceptor.aspect.ClassInfoMap;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +29,7 @@ import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
 import com.esofthead.mycollab.core.utils.JsonDeSerializer;
+import com.esofthead.mycollab.module.project.ProjectRolePermissionCollections;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.dao.ProjectRoleMapper;
 import com.esofthead.mycollab.module.project.dao.ProjectRoleMapperExt;
@@ -37,6 +40,7 @@ import com.esofthead.mycollab.module.project.domain.ProjectRolePermissionExample
 import com.esofthead.mycollab.module.project.domain.SimpleProjectRole;
 import com.esofthead.mycollab.module.project.domain.criteria.ProjectRoleSearchCriteria;
 import com.esofthead.mycollab.module.project.service.ProjectRoleService;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
 
 /**
@@ -100,4 +104,23 @@ public class ProjectRoleServiceImpl extends
 	public SimpleProjectRole findById(int roleId, int sAccountId) {
 		return roleMapperExt.findRoleById(roleId);
 	}
+
+	@Override
+	public CompiledPermissions findCompiledPermissions(int projectId,
+			int roleId, int sAccountId) {
+		ProjectRolePermissionExample ex = new ProjectRolePermissionExample();
+		ex.createCriteria().andRoleidEqualTo(roleId)
+				.andProjectidEqualTo(projectId);
+		List<ProjectRolePermission> rolePermissions = projectRolePermissionMapper
+				.selectByExampleWithBLOBs(ex);
+		if (rolePermissions.isEmpty()) {
+			return null;
+		}
+
+		PermissionMap permissionMap = PermissionMap
+				.fromJsonString(rolePermissions.get(0).getRoleval());
+		return CompiledPermissions.compile(
+				ProjectRolePermissionCollections.PERMISSION_INDEX,
+				permissionMap);
+	}
 }
@@ -0,0 +1,127 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service.ibatis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.project.dao.ProjectSearchIndexMapperExt;
+import com.esofthead.mycollab.module.project.service.ProjectSearchIndexService;
+
+/**
+ * The index is a table with a MySQL full text index, it is updated in the
+ * transaction of the service call which changes the items.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Service
+public class ProjectSearchIndexServiceImpl implements ProjectSearchIndexService {
+
+	private static final Set<String> INDEXED_TYPES = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(
+					ProjectTypeConstants.TASK, ProjectTypeConstants.TASK_LIST,
+					ProjectTypeConstants.MESSAGE,
+					ProjectTypeConstants.MILESTONE, ProjectTypeConstants.BUG,
+					ProjectTypeConstants.BUG_COMPONENT,
+					ProjectTypeConstants.BUG_VERSION,
+					ProjectTypeConstants.RISK, ProjectTypeConstants.PROBLEM)));
+
+	/**
+	 * Shorter words are not indexed, see innodb_ft_min_token_size
+	 */
+	private static final int MIN_WORD_LENGTH = 3;
+
+	private static final int MAX_WORDS = 10;
+
+	private static final Pattern WORD_SEPARATOR = Pattern
+			.compile("[^\\p{L}\\p{N}_]+");
+
+	@Autowired
+	private ProjectSearchIndexMapperExt projectSearchIndexMapperExt;
+
+	@Override
+	public boolean isIndexed(String type) {
+		return INDEXED_TYPES.contains(type);
+	}
+
+	@Override
+	public void indexItems(String type, List<Integer> itemIds) {
+		checkType(type);
+		if (!itemIds.isEmpty()) {
+			projectSearchIndexMapperExt.indexItems(type, null, itemIds);
+		}
+	}
+
+	@Override
+	public void removeItems(String type, List<Integer> itemIds) {
+		checkType(type);
+		if (!itemIds.isEmpty()) {
+			projectSearchIndexMapperExt.removeItems(type, itemIds);
+		}
+	}
+
+	@Transactional
+	@Override
+	public void rebuildIndex(int projectId) {
+		projectSearchIndexMapperExt.removeProjectItems(projectId);
+		for (String type : INDEXED_TYPES) {
+			projectSearchIndexMapperExt.indexItems(type, projectId, null);
+		}
+	}
+
+	@Override
+	public List<Integer> findProjectIds() {
+		return projectSearchIndexMapperExt.findProjectIds();
+	}
+
+	@Override
+	public String toMatchQuery(String text) {
+		if (text == null) {
+			return null;
+		}
+
+		StringBuilder query = new StringBuilder();
+		int numWords = 0;
+		for (String word : WORD_SEPARATOR.split(text)) {
+			if (word.length() >= MIN_WORD_LENGTH && numWords < MAX_WORDS) {
+				query.append(numWords == 0 ? "+" : " +").append(word)
+						.append('*');
+				numWords++;
+			}
+		}
+		return (numWords > 0) ? query.toString() : null;
+	}
+
+	private void checkType(String type) {
+		if (!isIndexed(type)) {
+			throw new MyCollabException("Items of type " + type
+					+ " are not indexed");
+		}
+	}
+}
@@ -45,7 +45,9 @@ import com.esofthead.mycollab.module.project.esb.DeleteProjectCommand;
 import com.esofthead.mycollab.module.project.esb.ProjectEndPoints;
 import com.esofthead.mycollab.module.project.service.ProjectRoleService;
 import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
 import com.esofthead.mycollab.module.project.service.ProjectTaskListService;
+import com.esofthead.mycollab.module.project.service.TicketKeyService;
 import com.esofthead.mycollab.security.AccessPermissionFlag;
 import com.esofthead.mycollab.security.PermissionMap;
 import org.slf4j.Logger;
@@ -93,6 +95,12 @@ public class ProjectServiceImpl extends
     @Autowired
     private BillingPlanCheckerService billingPlanCheckerService;
 
+    @Autowired
+    private ProjectStatisticService projectStatisticService;
+
+    @Autowired
+    private TicketKeyService ticketKeyService;
+
     @SuppressWarnings("unchecked")
     @Override
     public ICrudGenericDAO<Integer, Project> getCrudMapper() {
@@ -130,6 +138,8 @@ public class ProjectServiceImpl extends
         projectMember.setUsername(username);
         projectMember.setSaccountid(record.getSaccountid());
         projectMemberMapper.insert(projectMember);
+        projectStatisticService.rebuildStatistics(projectId);
+        ticketKeyService.initKeys(projectId);
 
         // add client role to project
         ProjectRole clientRole = createProjectRole(projectId,
@@ -0,0 +1,224 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service.ibatis;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.esofthead.mycollab.common.i18n.OptionI18nEnum.StatusI18nEnum;
+import com.esofthead.mycollab.module.project.dao.ProjectStatisticMapperExt;
+import com.esofthead.mycollab.module.project.domain.ItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.Milestone;
+import com.esofthead.mycollab.module.project.domain.ProjectStatistic;
+import com.esofthead.mycollab.module.project.domain.Task;
+import com.esofthead.mycollab.module.project.i18n.OptionI18nEnum.BugStatus;
+import com.esofthead.mycollab.module.project.i18n.OptionI18nEnum.MilestoneStatus;
+import com.esofthead.mycollab.module.project.service.ProjectStatisticService;
+import com.esofthead.mycollab.module.tracker.domain.Bug;
+
+/**
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Service
+public class ProjectStatisticServiceImpl implements ProjectStatisticService {
+
+	@Autowired
+	private ProjectStatisticMapperExt projectStatisticMapperExt;
+
+	@Override
+	public void updateBugStatistic(Bug oldBug, Bug newBug) {
+		List<ProjectStatistic> deltas = new ArrayList<>(2);
+		if (oldBug != null) {
+			deltas.add(bugDelta(oldBug.getProjectid(), oldBug.getStatus(), -1));
+		}
+		if (newBug != null) {
+			deltas.add(bugDelta(
+					valueAfterChange(oldBug == null ? null : oldBug.getProjectid(),
+							newBug.getProjectid()),
+					valueAfterChange(oldBug == null ? null : oldBug.getStatus(),
+							newBug.getStatus()), 1));
+		}
+		applyDeltas(deltas);
+	}
+
+	private static ProjectStatistic bugDelta(Integer projectId, String status,
+			int sign) {
+		ProjectStatistic delta = new ProjectStatistic(projectId);
+		delta.setNumBugs(sign);
+		if (BugStatus.Open.name().equals(status)
+				|| BugStatus.InProgress.name().equals(status)
+				|| BugStatus.ReOpened.name().equals(status)) {
+			delta.setNumOpenBugs(sign);
+		}
+		return delta;
+	}
+
+	@Override
+	public void updateTaskStatistic(Task oldTask, Task newTask) {
+		List<ProjectStatistic> deltas = new ArrayList<>(2);
+		if (oldTask != null) {
+			deltas.add(taskDelta(oldTask.getProjectid(), oldTask.getStatus(),
+					-1));
+		}
+		if (newTask != null) {
+			deltas.add(taskDelta(
+					valueAfterChange(oldTask == null ? null : oldTask.getProjectid(),
+							newTask.getProjectid()),
+					valueAfterChange(oldTask == null ? null : oldTask.getStatus(),
+							newTask.getStatus()), 1));
+		}
+		applyDeltas(deltas);
+	}
+
+	private static ProjectStatistic taskDelta(Integer projectId, String status,
+			int sign) {
+		ProjectStatistic delta = new ProjectStatistic(projectId);
+		delta.setNumTasks(sign);
+		if (StatusI18nEnum.Open.name().equals(status)) {
+			delta.setNumOpenTasks(sign);
+		}
+		return delta;
+	}
+
+	@Override
+	public void updateMilestoneStatistic(Milestone oldMilestone,
+			Milestone newMilestone) {
+		List<ProjectStatistic> deltas = new ArrayList<>(2);
+		if (oldMilestone != null) {
+			deltas.add(milestoneDelta(oldMilestone.getProjectid(),
+					oldMilestone.getStatus(), -1));
+		}
+		if (newMilestone != null) {
+			deltas.add(milestoneDelta(
+					valueAfterChange(oldMilestone == null ? null
+							: oldMilestone.getProjectid(), newMilestone
+							.getProjectid()),
+					valueAfterChange(oldMilestone == null ? null
+							: oldMilestone.getStatus(), newMilestone.getStatus()),
+					1));
+		}
+		applyDeltas(deltas);
+	}
+
+	private static ProjectStatistic milestoneDelta(Integer projectId,
+			String status, int sign) {
+		ProjectStatistic delta = new ProjectStatistic(projectId);
+		if (MilestoneStatus.Closed.name().equals(status)) {
+			delta.setNumClosedPhase(sign);
+		} else if (MilestoneStatus.InProgress.name().equals(status)) {
+			delta.setNumInProgressPhase(sign);
+		} else if (MilestoneStatus.Future.name().equals(status)) {
+			delta.setNumFuturePhase(sign);
+		}
+		return delta;
+	}
+
+	@Override
+	public void updateTimeLoggingStatistic(ItemTimeLogging oldTimeLogging,
+			ItemTimeLogging newTimeLogging) {
+		List<ProjectStatistic> deltas = new ArrayList<>(2);
+		if (oldTimeLogging != null) {
+			deltas.add(timeLoggingDelta(oldTimeLogging.getProjectid(),
+					oldTimeLogging.getIsbillable(),
+					oldTimeLogging.getLogvalue(), -1));
+		}
+		if (newTimeLogging != null) {
+			deltas.add(timeLoggingDelta(
+					valueAfterChange(oldTimeLogging == null ? null
+							: oldTimeLogging.getProjectid(), newTimeLogging
+							.getProjectid()),
+					valueAfterChange(oldTimeLogging == null ? null
+							: oldTimeLogging.getIsbillable(), newTimeLogging
+							.getIsbillable()),
+					valueAfterChange(oldTimeLogging == null ? null
+							: oldTimeLogging.getLogvalue(), newTimeLogging
+							.getLogvalue()), 1));
+		}
+		applyDeltas(deltas);
+	}
+
+	private static ProjectStatistic timeLoggingDelta(Integer projectId,
+			Boolean isBillable, Double logValue, int sign) {
+		ProjectStatistic delta = new ProjectStatistic(projectId);
+		if (logValue != null && isBillable != null) {
+			if (isBillable) {
+				delta.setTotalBillableHours(sign * logValue);
+			} else {
+				delta.setTotalNonBillableHours(sign * logValue);
+			}
+		}
+		return delta;
+	}
+
+	@Override
+	public void refreshMemberStatistic(int projectId) {
+		if (projectStatisticMapperExt.refreshMemberStatistic(projectId) == 0) {
+			projectStatisticMapperExt.rebuildStatistics(projectId);
+		}
+	}
+
+	@Override
+	public void rebuildStatistics(Integer projectId) {
+		projectStatisticMapperExt.rebuildStatistics(projectId);
+	}
+
+	@Override
+	public List<ProjectStatistic> findInconsistentProjects() {
+		return projectStatisticMapperExt.findInconsistentProjects();
+	}
+
+	/**
+	 * Selective updates leave unchanged fields null, so the old value still
+	 * applies.
+	 */
+	private static <T> T valueAfterChange(T oldValue, T newValue) {
+		return (newValue != null) ? newValue : oldValue;
+	}
+
+	private void applyDeltas(List<ProjectStatistic> deltas) {
+		Map<Integer, ProjectStatistic> projectDeltas = new LinkedHashMap<>();
+		for (ProjectStatistic delta : deltas) {
+			if (delta.getProjectid() == null) {
+				continue;
+			}
+			ProjectStatistic projectDelta = projectDeltas.get(delta
+					.getProjectid());
+			if (projectDelta == null) {
+				projectDeltas.put(delta.getProjectid(), delta);
+			} else {
+				projectDelta.add(delta);
+			}
+		}
+
+		for (ProjectStatistic delta : projectDeltas.values()) {
+			if (!delta.isEmpty()
+					&& projectStatisticMapperExt.addStatistic(delta) == 0) {
+				// the project has no statistic row yet, build it from its items
+				projectStatisticMapperExt.rebuildStatistics(delta
+						.getProjectid());
+			}
+		}
+	}
+}
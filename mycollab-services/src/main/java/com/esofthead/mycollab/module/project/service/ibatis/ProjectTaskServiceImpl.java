@@ -17,17 +17,19 @@
 package com.esofthead.mycollab.module.project.service.ibatis;
 
 import com.esofthead.mycollab.cache.CacheUtils;
+import com.esofthead.mycollab.common.ActivityStreamConstants;
 import com.esofthead.mycollab.common.ModuleNameConstants;
+import com.esofthead.mycollab.common.domain.ActivityStreamWithBLOBs;
 import com.esofthead.mycollab.common.domain.GroupItem;
 import com.esofthead.mycollab.common.i18n.OptionI18nEnum.StatusI18nEnum;
 import com.esofthead.mycollab.common.interceptor.aspect.*;
-import com.esofthead.mycollab.core.MyCollabException;
 import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
-import com.esofthead.mycollab.lock.DistributionLockUtil;
+import com.esofthead.mycollab.core.utils.RichTextSanitizer;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.dao.TaskMapper;
 import com.esofthead.mycollab.module.project.dao.TaskMapperExt;
@@ -39,12 +41,11 @@ import com.esofthead.mycollab.schedule.email.project.ProjectTaskRelayEmailNotifi
 import org.apache.ibatis.session.RowBounds;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
 
 /**
  * @author MyCollab Ltd.
@@ -69,6 +70,12 @@ public class ProjectTaskServiceImpl extends
     private TaskMapper taskMapper;
     @Autowired
     private TaskMapperExt taskMapperExt;
+    @Autowired
+    private ProjectStatisticService projectStatisticService;
+    @Autowired
+    private TicketKeyService ticketKeyService;
+    @Autowired
+    private SideEffectPipeline sideEffectPipeline;
 
     @Override
     public ICrudGenericDAO<Integer, Task> getCrudMapper() {
@@ -80,12 +87,21 @@ public class ProjectTaskServiceImpl extends
         return taskMapperExt;
     }
 
+    @Override
+    protected String getSeekField() {
+        return "createdtime";
+    }
+
+    @Override
+    protected String getSeekDirection() {
+        return SearchCriteria.ASC;
+    }
+
     @Override
     public SimpleTask findById(int taskId, int sAccountId) {
         return taskMapperExt.findTaskById(taskId);
     }
 
-    @Transactional(isolation = Isolation.READ_UNCOMMITTED)
     @Override
     public int saveWithSession(Task record, String username) {
         if ((record.getPercentagecomplete() != null)
@@ -95,36 +111,30 @@ public class ProjectTaskServiceImpl extends
             record.setStatus(StatusI18nEnum.Open.name());
         }
         record.setLogby(username);
-        Lock lock = DistributionLockUtil.getLock("task-"
-                + record.getSaccountid());
-
-        try {
-            if (lock.tryLock(120, TimeUnit.SECONDS)) {
-                Integer key = taskMapperExt.getMaxKey(record.getProjectid());
-                record.setTaskkey((key == null) ? 1 : (key + 1));
-
-                CacheUtils.cleanCaches(record.getSaccountid(),
-                        ProjectService.class, ProjectGenericTaskService.class,
-                        ProjectTaskListService.class,
-                        ProjectActivityStreamService.class,
-                        ProjectMemberService.class, MilestoneService.class);
-
-                return super.saveWithSession(record, username);
-            } else {
-                throw new MyCollabException("Timeout operation.");
-            }
-        } catch (InterruptedException e) {
-            throw new MyCollabException(e);
-        } finally {
-            lock.unlock();
-        }
+        record.setTaskkey(ticketKeyService.allocateKey(record.getProjectid(),
+                ProjectTypeConstants.TASK));
+
+        CacheUtils.cleanCaches(record.getSaccountid(),
+                ProjectService.class, ProjectGenericTaskService.class,
+                ProjectTaskListService.class,
+                ProjectActivityStreamService.class,
+                ProjectMemberService.class, MilestoneService.class);
+
+        int taskId = super.saveWithSession(record, username);
+        RichTextSanitizer.prepare(record.getNotes());
+        projectStatisticService.updateTaskStatistic(null, record);
+        return taskId;
     }
 
     @Transactional
     @Override
     public int updateWithSession(Task record, String username) {
         beforeUpdate(record);
-        return super.updateWithSession(record, username);
+        Task oldTask = taskMapper.selectByPrimaryKey(record.getId());
+        int result = super.updateWithSession(record, username);
+        RichTextSanitizer.prepare(record.getNotes());
+        projectStatisticService.updateTaskStatistic(oldTask, record);
+        return result;
     }
 
     private void beforeUpdate(Task record) {
@@ -144,13 +154,19 @@ public class ProjectTaskServiceImpl extends
     @Override
     public int updateSelectiveWithSession(Task record, String username) {
         beforeUpdate(record);
-        return super.updateSelectiveWithSession(record, username);
+        Task oldTask = taskMapper.selectByPrimaryKey(record.getId());
+        int result = super.updateSelectiveWithSession(record, username);
+        RichTextSanitizer.prepare(record.getNotes());
+        projectStatisticService.updateTaskStatistic(oldTask, record);
+        return result;
     }
 
     @Override
     public int removeWithSession(Integer primaryKey, String username,
                                  int accountId) {
+        Task oldTask = taskMapper.selectByPrimaryKey(primaryKey);
         int result = super.removeWithSession(primaryKey, username, accountId);
+        projectStatisticService.updateTaskStatistic(oldTask, null);
         CacheUtils.cleanCaches(accountId, ProjectTaskListService.class,
                 ProjectService.class, ProjectGenericTaskService.class,
                 ProjectActivityStreamService.class, MilestoneService.class,
@@ -159,6 +175,26 @@ public class ProjectTaskServiceImpl extends
         return result;
     }
 
+    @Override
+    public void massRemoveWithSession(List<Integer> primaryKeys, String username,
+                                      int accountId) {
+        List<Task> oldTasks = new ArrayList<>(primaryKeys.size());
+        for (Integer primaryKey : primaryKeys) {
+            Task oldTask = taskMapper.selectByPrimaryKey(primaryKey);
+            if (oldTask != null) {
+                oldTasks.add(oldTask);
+            }
+        }
+        super.massRemoveWithSession(primaryKeys, username, accountId);
+        for (Task oldTask : oldTasks) {
+            projectStatisticService.updateTaskStatistic(oldTask, null);
+        }
+        CacheUtils.cleanCaches(accountId, ProjectTaskListService.class,
+                ProjectService.class, ProjectGenericTaskService.class,
+                ProjectActivityStreamService.class, MilestoneService.class,
+                ItemTimeLoggingService.class);
+    }
+
     @Override
     public List<GroupItem> getPrioritySummary(TaskSearchCriteria criteria) {
         return taskMapperExt.getPrioritySummary(criteria);
@@ -195,4 +231,31 @@ public class ProjectTaskServiceImpl extends
                 new RowBounds(0, Integer.MAX_VALUE));
     }
 
+    @Override
+    public void rescheduleTasks(List<? extends Task> tasks, String username, int sAccountId) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+
+        Task firstTask = tasks.get(0);
+        taskMapperExt.rescheduleTasks(tasks, new GregorianCalendar().getTime(), sAccountId);
+        CacheUtils.cleanCaches(sAccountId, ProjectGenericTaskService.class,
+                ProjectTaskListService.class, ProjectActivityStreamService.class,
+                MilestoneService.class);
+
+        ActivityStreamWithBLOBs activity = new ActivityStreamWithBLOBs();
+        activity.setModule(ModuleNameConstants.PRJ);
+        activity.setType(ProjectTypeConstants.TASK);
+        activity.setTypeid(String.valueOf(firstTask.getId()));
+        activity.setCreatedtime(new GregorianCalendar().getTime());
+        activity.setAction(ActivityStreamConstants.ACTION_UPDATE);
+        activity.setSaccountid(sAccountId);
+        activity.setCreateduser(username);
+        activity.setNamefield(firstTask.getTaskname());
+        activity.setExtratypeid(firstTask.getProjectid());
+
+        SideEffectEvent event = new SideEffectEvent();
+        event.setActivity(activity);
+        sideEffectPipeline.publish(event);
+    }
 }
@@ -0,0 +1,144 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service.ibatis;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.esofthead.mycollab.cache.LocalCacheManager;
+import com.esofthead.mycollab.common.TooltipContent;
+import com.esofthead.mycollab.module.project.ProjectTooltipGenerator;
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.project.dao.MessageMapperExt;
+import com.esofthead.mycollab.module.project.dao.MilestoneMapperExt;
+import com.esofthead.mycollab.module.project.dao.ProjectMapperExt;
+import com.esofthead.mycollab.module.project.dao.TaskMapperExt;
+import com.esofthead.mycollab.module.project.service.MessageService;
+import com.esofthead.mycollab.module.project.service.MilestoneService;
+import com.esofthead.mycollab.module.project.service.ProjectService;
+import com.esofthead.mycollab.module.project.service.ProjectTaskService;
+import com.esofthead.mycollab.module.project.service.ProjectTooltipService;
+import com.esofthead.mycollab.module.tracker.dao.BugMapperExt;
+import com.esofthead.mycollab.module.tracker.service.BugService;
+
+/**
+ * The rendered tooltips are cached in the account cache, in the group of the
+ * service of their item type, so they are removed with the other cached values
+ * of the service when an item is changed.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Service
+public class ProjectTooltipServiceImpl implements ProjectTooltipService {
+
+	private static final Map<String, String> cacheGroups = new HashMap<>();
+
+	static {
+		cacheGroups.put(ProjectTypeConstants.PROJECT,
+				ProjectService.class.getName());
+		cacheGroups.put(ProjectTypeConstants.BUG, BugService.class.getName());
+		cacheGroups.put(ProjectTypeConstants.TASK,
+				ProjectTaskService.class.getName());
+		cacheGroups.put(ProjectTypeConstants.MILESTONE,
+				MilestoneService.class.getName());
+		cacheGroups.put(ProjectTypeConstants.MESSAGE,
+				MessageService.class.getName());
+	}
+
+	@Autowired
+	private ProjectMapperExt projectMapperExt;
+
+	@Autowired
+	private BugMapperExt bugMapperExt;
+
+	@Autowired
+	private TaskMapperExt taskMapperExt;
+
+	@Autowired
+	private MilestoneMapperExt milestoneMapperExt;
+
+	@Autowired
+	private MessageMapperExt messageMapperExt;
+
+	@Override
+	public boolean isSupportedType(String type) {
+		return cacheGroups.containsKey(type);
+	}
+
+	@Override
+	public TooltipContent getTooltip(String type, int typeId, int sAccountId,
+			String siteURL, Locale locale, TimeZone timeZone) {
+		String group = cacheGroups.get(type);
+		if (group == null) {
+			return null;
+		}
+
+		String cacheId = Integer.toString(sAccountId);
+		String key = "tooltip-" + type + "-" + typeId + "-" + locale + "-"
+				+ timeZone.getID() + "-" + siteURL;
+		Object cachedValue = LocalCacheManager.getCache(cacheId).get(key);
+		if (cachedValue instanceof TooltipContent) {
+			return (TooltipContent) cachedValue;
+		}
+
+		long generation = LocalCacheManager.getCacheGroupGeneration(cacheId,
+				group);
+		String html = renderTooltip(type, typeId, sAccountId, siteURL, locale,
+				timeZone);
+		if (html == null) {
+			return null;
+		}
+
+		TooltipContent content = new TooltipContent(html,
+				System.currentTimeMillis());
+		LocalCacheManager.putCacheItem(cacheId, group, key, content,
+				generation);
+		return content;
+	}
+
+	private String renderTooltip(String type, int typeId, int sAccountId,
+			String siteURL, Locale locale, TimeZone timeZone) {
+		if (ProjectTypeConstants.PROJECT.equals(type)) {
+			return ProjectTooltipGenerator.generateToolTipProject(locale,
+					projectMapperExt.findProjectTooltipById(typeId, sAccountId),
+					siteURL, timeZone);
+		} else if (ProjectTypeConstants.BUG.equals(type)) {
+			return ProjectTooltipGenerator.generateToolTipBug(locale,
+					bugMapperExt.findBugTooltipById(typeId, sAccountId),
+					siteURL, timeZone);
+		} else if (ProjectTypeConstants.TASK.equals(type)) {
+			return ProjectTooltipGenerator.generateToolTipTask(locale,
+					taskMapperExt.findTaskTooltipById(typeId, sAccountId),
+					siteURL, timeZone);
+		} else if (ProjectTypeConstants.MILESTONE.equals(type)) {
+			return ProjectTooltipGenerator.generateToolTipMilestone(locale,
+					milestoneMapperExt.findTooltipById(typeId, sAccountId),
+					siteURL, timeZone);
+		} else {
+			return ProjectTooltipGenerator.generateToolTipMessage(locale,
+					messageMapperExt.findMessageTooltipById(typeId, sAccountId),
+					siteURL, timeZone);
+		}
+	}
+}
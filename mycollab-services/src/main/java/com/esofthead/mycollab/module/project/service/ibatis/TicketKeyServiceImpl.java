@@ -0,0 +1,144 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service.ibatis;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.esofthead.mycollab.configuration.SiteConfiguration;
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.project.dao.TicketKeyMapperExt;
+import com.esofthead.mycollab.module.project.service.TicketKeyService;
+
+/**
+ * With the default block size of 1, keys are taken from the sequence row in the
+ * transaction of the caller, so the row stays locked until the item is saved
+ * and keys have no gaps. A larger block size makes the server reserve blocks
+ * of keys in their own transactions and hand them out from memory, items of a
+ * project are then created in parallel but keys of a rolled back transaction
+ * or of a stopped server are lost.
+ * 
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ * 
+ */
+@Service
+@Transactional
+public class TicketKeyServiceImpl implements TicketKeyService {
+
+	@Autowired
+	private TicketKeyMapperExt ticketKeyMapperExt;
+
+	@Autowired
+	private DataSourceTransactionManager txManager;
+
+	private final ConcurrentMap<String, KeyBlock> leasedBlocks = new ConcurrentHashMap<>();
+
+	@Override
+	public void initKeys(int projectId) {
+		ticketKeyMapperExt.initBugLastKey(projectId);
+		ticketKeyMapperExt.initTaskLastKey(projectId);
+	}
+
+	@Override
+	public int allocateKey(int projectId, String type) {
+		return allocateKeys(projectId, type, 1);
+	}
+
+	@Override
+	public int allocateKeys(int projectId, String type, int count) {
+		if (count < 1) {
+			throw new MyCollabException("Invalid number of keys " + count);
+		}
+
+		int blockSize = getBlockSize();
+		if (blockSize <= 1) {
+			return increaseLastKey(projectId, type, count) - count + 1;
+		} else if (count >= blockSize) {
+			return leaseKeys(projectId, type, count);
+		}
+
+		String blockKey = projectId + "-" + type;
+		KeyBlock block = leasedBlocks.get(blockKey);
+		if (block == null) {
+			KeyBlock newBlock = new KeyBlock();
+			block = leasedBlocks.putIfAbsent(blockKey, newBlock);
+			if (block == null) {
+				block = newBlock;
+			}
+		}
+
+		synchronized (block) {
+			if (block.nextKey + count - 1 > block.lastKey) {
+				block.nextKey = leaseKeys(projectId, type, blockSize);
+				block.lastKey = block.nextKey + blockSize - 1;
+			}
+			int firstKey = block.nextKey;
+			block.nextKey += count;
+			return firstKey;
+		}
+	}
+
+	int getBlockSize() {
+		return SiteConfiguration.getTicketKeyBlockSize();
+	}
+
+	private int leaseKeys(final int projectId, final String type,
+			final int count) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				txManager);
+		transactionTemplate
+				.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate.execute(new TransactionCallback<Integer>() {
+			@Override
+			public Integer doInTransaction(TransactionStatus status) {
+				return increaseLastKey(projectId, type, count) - count + 1;
+			}
+		});
+	}
+
+	private int increaseLastKey(int projectId, String type, int count) {
+		if (ticketKeyMapperExt.increaseLastKey(projectId, type, count) == 0) {
+			// the project is not created by the project service
+			if (ProjectTypeConstants.BUG.equals(type)) {
+				ticketKeyMapperExt.initBugLastKey(projectId);
+			} else if (ProjectTypeConstants.TASK.equals(type)) {
+				ticketKeyMapperExt.initTaskLastKey(projectId);
+			} else {
+				throw new MyCollabException("Do not support key of type "
+						+ type);
+			}
+			ticketKeyMapperExt.increaseLastKey(projectId, type, count);
+		}
+		return ticketKeyMapperExt.getLastKey(projectId, type);
+	}
+
+	private static class KeyBlock {
+		private int nextKey = 1;
+		private int lastKey = 0;
+	}
+}
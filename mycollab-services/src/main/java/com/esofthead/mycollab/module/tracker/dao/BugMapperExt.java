@@ -21,7 +21,7 @@ import java.util.List;
 import org.apache.ibatis.annotations.Param;
 
 import com.esofthead.mycollab.common.domain.GroupItem;
-import com.esofthead.mycollab.core.persistence.ISearchableDAO;
+import com.esofthead.mycollab.core.persistence.ISeekableDAO;
 import com.esofthead.mycollab.module.tracker.domain.BugStatusGroupItem;
 import com.esofthead.mycollab.module.tracker.domain.SimpleBug;
 import com.esofthead.mycollab.module.tracker.domain.criteria.BugSearchCriteria;
@@ -32,10 +32,19 @@ import com.esofthead.mycollab.module.tracker.domain.criteria.BugSearchCriteria;
  * @since 1.0
  * 
  */
-public interface BugMapperExt extends ISearchableDAO<BugSearchCriteria> {
+public interface BugMapperExt extends ISeekableDAO<BugSearchCriteria> {
 
 	SimpleBug getBugById(int bugid);
 
+	/**
+	 * 
+	 * @param bugId
+	 * @param sAccountId
+	 * @return the bug with the fields shown in its tooltip only
+	 */
+	SimpleBug findBugTooltipById(@Param("bugId") int bugId,
+			@Param("sAccountId") int sAccountId);
+
 	SimpleBug findByProjectAndBugKey(@Param("bugkey") int bugKey,
 			@Param("prjShortName") String projectShortName,
 			@Param("sAccountId") int sAccountId);
@@ -64,5 +73,4 @@ public interface BugMapperExt extends ISearchableDAO<BugSearchCriteria> {
 	List<BugStatusGroupItem> getBugStatusGroupItemBaseComponent(
 			@Param("searchCriteria") BugSearchCriteria criteria);
 
-	Integer getMaxKey(int projectId);
 }
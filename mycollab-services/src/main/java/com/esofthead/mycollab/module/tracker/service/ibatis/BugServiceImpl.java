@@ -20,13 +20,12 @@ import com.esofthead.mycollab.cache.CacheUtils;
 import com.esofthead.mycollab.common.ModuleNameConstants;
 import com.esofthead.mycollab.common.domain.GroupItem;
 import com.esofthead.mycollab.common.interceptor.aspect.*;
-import com.esofthead.mycollab.core.MyCollabException;
 import com.esofthead.mycollab.core.cache.CacheKey;
 import com.esofthead.mycollab.core.persistence.ICrudGenericDAO;
 import com.esofthead.mycollab.core.persistence.ISearchableDAO;
 import com.esofthead.mycollab.core.persistence.service.DefaultService;
+import com.esofthead.mycollab.core.utils.RichTextSanitizer;
 import com.esofthead.mycollab.esb.CamelProxyBuilderUtil;
-import com.esofthead.mycollab.lock.DistributionLockUtil;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.esb.DeleteProjectBugCommand;
 import com.esofthead.mycollab.module.project.esb.ProjectEndPoints;
@@ -41,12 +40,10 @@ import com.esofthead.mycollab.module.tracker.service.BugService;
 import com.esofthead.mycollab.schedule.email.project.BugRelayEmailNotificationAction;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
 
 @Service
 @Transactional
@@ -66,6 +63,12 @@ public class BugServiceImpl extends
     @Autowired
     protected BugMapperExt bugMapperExt;
 
+    @Autowired
+    private ProjectStatisticService projectStatisticService;
+
+    @Autowired
+    private TicketKeyService ticketKeyService;
+
     @Override
     public ICrudGenericDAO<Integer, BugWithBLOBs> getCrudMapper() {
         return bugMapper;
@@ -76,46 +79,49 @@ public class BugServiceImpl extends
         return bugMapperExt;
     }
 
-    @Transactional(isolation = Isolation.READ_UNCOMMITTED)
+    @Override
+    protected String getSeekField() {
+        return "lastupdatedtime";
+    }
+
     @Override
     public int saveWithSession(BugWithBLOBs record, String username) {
-        Lock lock = DistributionLockUtil.getLock("bug-"
-                + record.getSaccountid());
-        try {
-            if (lock.tryLock(120, TimeUnit.SECONDS)) {
-                Integer maxKey = bugMapperExt.getMaxKey(record.getProjectid());
-                record.setBugkey((maxKey == null) ? 1 : (maxKey + 1));
-
-                CacheUtils.cleanCaches(record.getSaccountid(),
-                        ProjectService.class, ProjectGenericTaskService.class,
-                        ProjectMemberService.class,
-                        ProjectActivityStreamService.class);
-
-                return super.saveWithSession(record, username);
-            } else {
-                throw new MyCollabException("Timeout operation");
-            }
-        } catch (InterruptedException e) {
-            throw new MyCollabException(e);
-        } finally {
-            lock.unlock();
-        }
+        record.setBugkey(ticketKeyService.allocateKey(record.getProjectid(),
+                ProjectTypeConstants.BUG));
+
+        CacheUtils.cleanCaches(record.getSaccountid(),
+                ProjectService.class, ProjectGenericTaskService.class,
+                ProjectMemberService.class,
+                ProjectActivityStreamService.class, MilestoneService.class);
+
+        int bugId = super.saveWithSession(record, username);
+        RichTextSanitizer.prepare(record.getDescription(), record.getEnvironment());
+        projectStatisticService.updateBugStatistic(null, record);
+        return bugId;
     }
 
     @Override
     public int updateWithSession(BugWithBLOBs record, String username) {
         CacheUtils.cleanCaches(record.getSaccountid(), ProjectService.class,
                 ProjectActivityStreamService.class,
-                ItemTimeLoggingService.class);
-        return super.updateWithSession(record, username);
+                ItemTimeLoggingService.class, MilestoneService.class);
+        BugWithBLOBs oldBug = bugMapper.selectByPrimaryKey(record.getId());
+        int result = super.updateWithSession(record, username);
+        RichTextSanitizer.prepare(record.getDescription(), record.getEnvironment());
+        projectStatisticService.updateBugStatistic(oldBug, record);
+        return result;
     }
 
     @Override
     public int updateSelectiveWithSession(BugWithBLOBs record, String username) {
         CacheUtils.cleanCaches(record.getSaccountid(), ProjectService.class,
                 ProjectActivityStreamService.class,
-                ItemTimeLoggingService.class);
-        return super.updateSelectiveWithSession(record, username);
+                ItemTimeLoggingService.class, MilestoneService.class);
+        BugWithBLOBs oldBug = bugMapper.selectByPrimaryKey(record.getId());
+        int result = super.updateSelectiveWithSession(record, username);
+        RichTextSanitizer.prepare(record.getDescription(), record.getEnvironment());
+        projectStatisticService.updateBugStatistic(oldBug, record);
+        return result;
     }
 
     @Override
@@ -124,14 +130,36 @@ public class BugServiceImpl extends
         CacheUtils.cleanCaches(accountId, ProjectService.class,
                 ProjectGenericTaskService.class, ProjectMemberService.class,
                 ProjectActivityStreamService.class,
-                ItemTimeLoggingService.class);
+                ItemTimeLoggingService.class, MilestoneService.class);
         DeleteProjectBugCommand deleteProjectBugCommand = CamelProxyBuilderUtil
                 .build(ProjectEndPoints.PROJECT_BUG_REMOVE_ENDPOINT,
                         DeleteProjectBugCommand.class);
         SimpleBug bug = findById(primaryKey, accountId);
         deleteProjectBugCommand.bugRemoved(username, accountId,
                 bug.getProjectid(), primaryKey);
-        return super.removeWithSession(primaryKey, username, accountId);
+        int result = super.removeWithSession(primaryKey, username, accountId);
+        projectStatisticService.updateBugStatistic(bug, null);
+        return result;
+    }
+
+    @Override
+    public void massRemoveWithSession(List<Integer> primaryKeys, String username,
+                                      int accountId) {
+        CacheUtils.cleanCaches(accountId, ProjectService.class,
+                ProjectGenericTaskService.class, ProjectMemberService.class,
+                ProjectActivityStreamService.class,
+                ItemTimeLoggingService.class, MilestoneService.class);
+        List<BugWithBLOBs> oldBugs = new ArrayList<>(primaryKeys.size());
+        for (Integer primaryKey : primaryKeys) {
+            BugWithBLOBs oldBug = bugMapper.selectByPrimaryKey(primaryKey);
+            if (oldBug != null) {
+                oldBugs.add(oldBug);
+            }
+        }
+        super.massRemoveWithSession(primaryKeys, username, accountId);
+        for (BugWithBLOBs oldBug : oldBugs) {
+            projectStatisticService.updateBugStatistic(oldBug, null);
+        }
     }
 
     @Override
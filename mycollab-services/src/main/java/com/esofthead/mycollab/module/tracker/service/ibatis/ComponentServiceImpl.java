@@ -38,7 +38,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional
 @Traceable(nameField = "componentname", extraFieldName = "projectid")
-@Auditable()
+@Auditable(narrowProjection = true)
 @Watchable(userFieldName = "userlead", extraTypeId = "projectid")
 @NotifyAgent(ComponentRelayEmailNotificationAction.class)
 public class ComponentServiceImpl extends
@@ -36,7 +36,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional
 @Traceable(nameField = "versionname", extraFieldName = "projectid")
-@Auditable()
+@Auditable(narrowProjection = true)
 @Watchable(extraTypeId = "projectid")
 @NotifyAgent(VersionRelayEmailNotificationAction.class)
 public class VersionServiceImpl extends
@@ -18,6 +18,7 @@ package com.esofthead.mycollab.module.user.domain;
 
 import com.esofthead.mycollab.core.arguments.NotBindable;
 import com.esofthead.mycollab.core.utils.StringUtils;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
 
 /**
@@ -37,6 +38,9 @@ public class SimpleUser extends User {
 	@NotBindable
 	private PermissionMap permissionMaps;
 
+	@NotBindable
+	private CompiledPermissions permissions;
+
 	private Boolean isAccountOwner;
 	private String subdomain;
 	private Integer accountId;
@@ -59,6 +63,14 @@ public class SimpleUser extends User {
 		this.permissionMaps = permissionMaps;
 	}
 
+	public CompiledPermissions getPermissions() {
+		return permissions;
+	}
+
+	public void setPermissions(CompiledPermissions permissions) {
+		this.permissions = permissions;
+	}
+
 	public String getRoleName() {
 		return roleName;
 	}
@@ -23,6 +23,7 @@ import com.esofthead.mycollab.core.persistence.service.IDefaultService;
 import com.esofthead.mycollab.module.user.domain.Role;
 import com.esofthead.mycollab.module.user.domain.SimpleRole;
 import com.esofthead.mycollab.module.user.domain.criteria.RoleSearchCriteria;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
 
 /**
@@ -39,6 +40,18 @@ public interface RoleService extends
 	@Cacheable
 	SimpleRole findById(int roleId, @CacheKey int sAccountId);
 
+	/**
+	 * 
+	 * @param roleId
+	 * @param sAccountId
+	 * @return permissions of the role compiled against
+	 *         {@link com.esofthead.mycollab.security.RolePermissionCollections#PERMISSION_INDEX}
+	 *         , or null if the role has no permission
+	 */
+	@Cacheable
+	CompiledPermissions findCompiledPermissions(int roleId,
+			@CacheKey int sAccountId);
+
 	@Cacheable
 	Integer getSystemRoleId(String systemRoleName, @CacheKey Integer sAccountId);
 }
@@ -36,7 +36,9 @@ import com.esofthead.mycollab.module.user.domain.RolePermissionExample;
 import com.esofthead.mycollab.module.user.domain.SimpleRole;
 import com.esofthead.mycollab.module.user.domain.criteria.RoleSearchCriteria;
 import com.esofthead.mycollab.module.user.service.RoleService;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
+import com.esofthead.mycollab.security.RolePermissionCollections;
 
 /**
  * 
@@ -92,6 +94,23 @@ public class RoleServiceDBImpl extends
 		return roleMapperExt.findById(roleId);
 	}
 
+	@Override
+	public CompiledPermissions findCompiledPermissions(int roleId,
+			int sAccountId) {
+		RolePermissionExample ex = new RolePermissionExample();
+		ex.createCriteria().andRoleidEqualTo(roleId);
+		List<RolePermission> rolePermissions = rolePermissionMapper
+				.selectByExampleWithBLOBs(ex);
+		if (CollectionUtils.isEmpty(rolePermissions)) {
+			return null;
+		}
+
+		PermissionMap permissionMap = PermissionMap
+				.fromJsonString(rolePermissions.get(0).getRoleval());
+		return CompiledPermissions.compile(
+				RolePermissionCollections.PERMISSION_INDEX, permissionMap);
+	}
+
 	@Override
 	public Integer getSystemRoleId(String systemRoleName,
 			@CacheKey Integer sAccountId) {
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.esofthead.mycollab.cache.CacheUtils;
@@ -45,13 +46,10 @@ import com.esofthead.mycollab.esb.CamelProxyBuilderUtil;
 import com.esofthead.mycollab.module.billing.RegisterStatusConstants;
 import com.esofthead.mycollab.module.billing.service.BillingPlanCheckerService;
 import com.esofthead.mycollab.module.file.service.UserAvatarService;
-import com.esofthead.mycollab.module.user.dao.RolePermissionMapper;
 import com.esofthead.mycollab.module.user.dao.UserAccountInvitationMapper;
 import com.esofthead.mycollab.module.user.dao.UserAccountMapper;
 import com.esofthead.mycollab.module.user.dao.UserMapper;
 import com.esofthead.mycollab.module.user.dao.UserMapperExt;
-import com.esofthead.mycollab.module.user.domain.RolePermission;
-import com.esofthead.mycollab.module.user.domain.RolePermissionExample;
 import com.esofthead.mycollab.module.user.domain.SimpleUser;
 import com.esofthead.mycollab.module.user.domain.User;
 import com.esofthead.mycollab.module.user.domain.UserAccount;
@@ -61,8 +59,9 @@ import com.esofthead.mycollab.module.user.domain.UserExample;
 import com.esofthead.mycollab.module.user.domain.criteria.UserSearchCriteria;
 import com.esofthead.mycollab.module.user.esb.UserEndpoints;
 import com.esofthead.mycollab.module.user.esb.UserRemovedCommand;
+import com.esofthead.mycollab.module.user.service.RoleService;
 import com.esofthead.mycollab.module.user.service.UserService;
-import com.esofthead.mycollab.security.PermissionMap;
+import com.esofthead.mycollab.security.CompiledPermissions;
 
 /**
  * 
@@ -88,7 +87,7 @@ public class UserServiceDBImpl extends
 	private UserAccountMapper userAccountMapper;
 
 	@Autowired
-	private RolePermissionMapper rolePermissionMapper;
+	private RoleService roleService;
 
 	@Autowired
 	private UserAvatarService userAvatarService;
@@ -297,8 +296,13 @@ public class UserServiceDBImpl extends
 		userMapperExt.removeKeysWithSession(primaryKeys);
 	}
 
-	@SuppressWarnings({ "rawtypes", "unchecked" })
+	/**
+	 * Runs without a transaction, the cache aspect does not store the
+	 * compiled permissions of the user role when they are read in a
+	 * transaction.
+	 */
 	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public SimpleUser authentication(String username, String password,
 			String subDomain, boolean isPasswordEncrypt) {
 		UserSearchCriteria criteria = new UserSearchCriteria();
@@ -332,15 +336,12 @@ public class UserServiceDBImpl extends
 				if (user.getRoleid() != null) {
 					LOG.debug("User " + username
 							+ " is not admin. Getting his role");
-					RolePermissionExample ex = new RolePermissionExample();
-					ex.createCriteria().andRoleidEqualTo(user.getRoleid());
-					List roles = rolePermissionMapper
-							.selectByExampleWithBLOBs(ex);
-					if (CollectionUtils.isNotEmpty(roles)) {
-						RolePermission rolePer = (RolePermission) roles.get(0);
-						PermissionMap permissionMap = PermissionMap
-								.fromJsonString(rolePer.getRoleval());
-						user.setPermissionMaps(permissionMap);
+					CompiledPermissions permissions = roleService
+							.findCompiledPermissions(user.getRoleid(),
+									user.getAccountId());
+					if (permissions != null) {
+						user.setPermissions(permissions);
+						user.setPermissionMaps(permissions.getPermissionMap());
 						LOG.debug("Find role match to user " + username);
 					} else {
 						LOG.debug("We can not find any role associate to user "
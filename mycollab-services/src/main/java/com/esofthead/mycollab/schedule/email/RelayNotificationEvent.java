@@ -0,0 +1,54 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.schedule.email;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when a relay email notification of an item is saved, so the
+ * notification dispatcher can send it without waiting for the next schedule
+ * sweep.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class RelayNotificationEvent extends ApplicationEvent {
+    private static final long serialVersionUID = 1L;
+
+    private final Integer accountId;
+    private final String type;
+    private final String typeId;
+
+    public RelayNotificationEvent(Object source, Integer accountId, String type, String typeId) {
+        super(source);
+        this.accountId = accountId;
+        this.type = type;
+        this.typeId = typeId;
+    }
+
+    public Integer getAccountId() {
+        return accountId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getTypeId() {
+        return typeId;
+    }
+}
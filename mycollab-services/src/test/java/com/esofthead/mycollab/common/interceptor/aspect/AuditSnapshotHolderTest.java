@@ -0,0 +1,76 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AuditSnapshotHolderTest {
+
+	@After
+	public void tearDown() {
+		AuditSnapshotHolder.clear();
+	}
+
+	@Test
+	public void testTakeSnapshotByBeanIdentity() {
+		String bean1 = new String("bean");
+		String bean2 = new String("bean");
+		AuditSnapshotHolder.store(bean1, "old1");
+		AuditSnapshotHolder.store(bean2, "old2");
+
+		Assert.assertEquals("old1", AuditSnapshotHolder.take(bean1));
+		Assert.assertEquals("old2", AuditSnapshotHolder.take(bean2));
+		Assert.assertNull(AuditSnapshotHolder.take(bean1));
+		Assert.assertEquals(0, AuditSnapshotHolder.getPendingCount());
+	}
+
+	@Test
+	public void testSnapshotsAreBounded() {
+		long dropped = AuditSnapshotHolder.getDroppedCount();
+		Object first = new Object();
+		AuditSnapshotHolder.store(first, "first");
+		for (int i = 0; i < AuditSnapshotHolder.MAX_SNAPSHOTS_PER_THREAD; i++) {
+			AuditSnapshotHolder.store(new Object(), i);
+		}
+
+		Assert.assertEquals(AuditSnapshotHolder.MAX_SNAPSHOTS_PER_THREAD,
+				AuditSnapshotHolder.getPendingCount());
+		Assert.assertEquals(dropped + 1, AuditSnapshotHolder.getDroppedCount());
+		Assert.assertNull(AuditSnapshotHolder.take(first));
+	}
+
+	@Test
+	public void testSnapshotIsBoundToThread() throws InterruptedException {
+		final Object bean = new Object();
+		AuditSnapshotHolder.store(bean, "old");
+		final Object[] otherThreadValue = new Object[1];
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				otherThreadValue[0] = AuditSnapshotHolder.take(bean);
+			}
+		});
+		thread.start();
+		thread.join();
+
+		Assert.assertNull(otherThreadValue[0]);
+		AuditSnapshotHolder.discard(bean);
+		Assert.assertEquals(0, AuditSnapshotHolder.getPendingCount());
+	}
+}
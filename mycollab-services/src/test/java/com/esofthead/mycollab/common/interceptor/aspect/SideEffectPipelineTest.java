@@ -0,0 +1,289 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.interceptor.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.esofthead.mycollab.common.dao.ActivityStreamMapper;
+import com.esofthead.mycollab.common.dao.AuditLogMapper;
+import com.esofthead.mycollab.common.dao.MonitorItemMapper;
+import com.esofthead.mycollab.common.dao.RelayEmailNotificationMapper;
+import com.esofthead.mycollab.common.domain.AuditLog;
+import com.esofthead.mycollab.common.domain.RelayEmailNotificationWithBLOBs;
+import com.esofthead.mycollab.configuration.SideEffectConfiguration;
+import com.esofthead.mycollab.schedule.email.RelayNotificationEvent;
+
+public class SideEffectPipelineTest {
+	private static final String WRITER_THREAD = "side-effect-writer";
+
+	@Mock
+	private SqlSessionFactory sqlSessionFactory;
+
+	@Mock
+	private SqlSession session;
+
+	@Mock
+	private AuditLogMapper auditLogMapper;
+
+	@Mock
+	private RelayEmailNotificationMapper relayMapper;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private SideEffectConfiguration configuration;
+
+	@InjectMocks
+	private SideEffectPipeline pipeline = new SideEffectPipeline() {
+		@Override
+		SideEffectConfiguration loadConfiguration() {
+			return configuration;
+		}
+	};
+
+	/**
+	 * Sizes of the committed batches
+	 */
+	private final List<Integer> batchSizes = Collections
+			.synchronizedList(new ArrayList<Integer>());
+
+	private int currentBatchSize;
+
+	/**
+	 * The writer thread waits on it before writing a batch
+	 */
+	private final CountDownLatch writerGate = new CountDownLatch(1);
+
+	private final CountDownLatch writerBlocked = new CountDownLatch(1);
+
+	private volatile boolean isWriterGated;
+
+	@Before
+	public void setUp() {
+		MockitoAnnotations.initMocks(this);
+		pipeline.setApplicationEventPublisher(eventPublisher);
+		when(configuration.getQueueCapacity()).thenReturn(100);
+		when(configuration.getFlushSize()).thenReturn(5);
+		when(configuration.getFlushLatency()).thenReturn(0L);
+		when(configuration.getOfferTimeout()).thenReturn(10L);
+
+		when(sqlSessionFactory.openSession(ExecutorType.BATCH, false))
+				.thenAnswer(new Answer<SqlSession>() {
+					@Override
+					public SqlSession answer(InvocationOnMock invocation)
+							throws Throwable {
+						if (isWriterGated
+								&& WRITER_THREAD.equals(Thread.currentThread()
+										.getName())) {
+							writerBlocked.countDown();
+							writerGate.await(10, TimeUnit.SECONDS);
+						}
+						return session;
+					}
+				});
+		when(session.getMapper(AuditLogMapper.class)).thenReturn(
+				auditLogMapper);
+		when(session.getMapper(RelayEmailNotificationMapper.class))
+				.thenReturn(relayMapper);
+		when(session.getMapper(ActivityStreamMapper.class)).thenReturn(
+				mock(ActivityStreamMapper.class));
+		when(session.getMapper(MonitorItemMapper.class)).thenReturn(
+				mock(MonitorItemMapper.class));
+		doAnswer(new Answer<Integer>() {
+			@Override
+			public Integer answer(InvocationOnMock invocation) {
+				currentBatchSize++;
+				return 1;
+			}
+		}).when(auditLogMapper).insertAndReturnKey(any(AuditLog.class));
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) {
+				batchSizes.add(currentBatchSize);
+				currentBatchSize = 0;
+				return null;
+			}
+		}).when(session).commit();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		writerGate.countDown();
+		pipeline.destroy();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static SideEffectEvent newEvent() {
+		SideEffectEvent event = new SideEffectEvent();
+		event.setAuditLog(new AuditLog());
+		return event;
+	}
+
+	private static SideEffectEvent newNotificationEvent() {
+		RelayEmailNotificationWithBLOBs notification = new RelayEmailNotificationWithBLOBs();
+		notification.setSaccountid(1);
+		notification.setType("Project-Bug");
+		notification.setTypeid("1");
+		SideEffectEvent event = newEvent();
+		event.setRelayNotification(notification);
+		return event;
+	}
+
+	private void startPipeline(boolean isAsync) throws Exception {
+		when(configuration.isAsync()).thenReturn(isAsync);
+		pipeline.afterPropertiesSet();
+	}
+
+	@Test
+	public void testWriteEventsInBatches() throws Exception {
+		isWriterGated = true;
+		startPipeline(true);
+		pipeline.publish(newEvent());
+		assertThat(writerBlocked.await(10, TimeUnit.SECONDS)).isTrue();
+		for (int i = 0; i < 11; i++) {
+			pipeline.publish(newEvent());
+		}
+		assertThat(pipeline.getQueueDepth()).isEqualTo(11);
+
+		writerGate.countDown();
+		pipeline.destroy();
+
+		assertThat(batchSizes).containsExactly(1, 5, 5, 1);
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(12);
+		assertThat(pipeline.getFlushCount()).isEqualTo(4);
+		assertThat(pipeline.getCallerWrites()).isEqualTo(0);
+	}
+
+	@Test
+	public void testWriteInCallerThreadWhenQueueIsFull() throws Exception {
+		when(configuration.getQueueCapacity()).thenReturn(1);
+		isWriterGated = true;
+		startPipeline(true);
+		pipeline.publish(newEvent());
+		assertThat(writerBlocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+		pipeline.publish(newEvent());
+		pipeline.publish(newEvent());
+		assertThat(pipeline.getQueueDepth()).isEqualTo(1);
+		assertThat(pipeline.getCallerWrites()).isEqualTo(1);
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(1);
+
+		writerGate.countDown();
+		pipeline.destroy();
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(3);
+		assertThat(pipeline.getPublishedEvents()).isEqualTo(3);
+	}
+
+	@Test
+	public void testPublishEventsAfterCommit() throws Exception {
+		startPipeline(false);
+		TransactionSynchronizationManager.initSynchronization();
+		pipeline.publish(newNotificationEvent());
+
+		verify(sqlSessionFactory, never()).openSession(ExecutorType.BATCH,
+				false);
+		verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+				.getSynchronizations()) {
+			synchronization.afterCommit();
+			synchronization
+					.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(1);
+		verify(eventPublisher).publishEvent(any(RelayNotificationEvent.class));
+		assertThat(TransactionSynchronizationManager.getResource(pipeline))
+				.isNull();
+	}
+
+	@Test
+	public void testDropEventsOfRolledBackTransaction() throws Exception {
+		startPipeline(false);
+		TransactionSynchronizationManager.initSynchronization();
+		pipeline.publish(newNotificationEvent());
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+				.getSynchronizations()) {
+			synchronization
+					.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+		}
+
+		verify(sqlSessionFactory, never()).openSession(ExecutorType.BATCH,
+				false);
+		verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(0);
+		assertThat(TransactionSynchronizationManager.getResource(pipeline))
+				.isNull();
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+		startPipeline(false);
+		assertThat(pipeline.isAsync()).isFalse();
+
+		pipeline.publish(newEvent());
+		pipeline.publish(new SideEffectEvent());
+		doThrow(new RuntimeException("Database is down")).when(auditLogMapper)
+				.insertAndReturnKey(any(AuditLog.class));
+		pipeline.publish(newEvent());
+
+		assertThat(pipeline.getPublishedEvents()).isEqualTo(2);
+		assertThat(pipeline.getWrittenEvents()).isEqualTo(1);
+		assertThat(pipeline.getFailedEvents()).isEqualTo(1);
+		assertThat(pipeline.getFlushCount()).isEqualTo(2);
+		assertThat(pipeline.getQueueDepth()).isEqualTo(0);
+		assertThat(pipeline.getCallerWrites()).isEqualTo(0);
+		assertThat(pipeline.getLastFlushLatency()).isGreaterThanOrEqualTo(0);
+		assertThat(pipeline.getMaxFlushLatency()).isGreaterThanOrEqualTo(
+				pipeline.getLastFlushLatency());
+		assertThat(pipeline.getAverageFlushLatency()).isLessThanOrEqualTo(
+				pipeline.getMaxFlushLatency());
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.common.service.ibatis;
+
+import com.esofthead.mycollab.common.domain.AuditChangeItem;
+import com.esofthead.mycollab.common.service.ibatis.AuditLogServiceImpl.AuditLogUtil;
+import com.esofthead.mycollab.core.utils.JsonDeSerializer;
+import com.esofthead.mycollab.module.project.domain.SimpleTask;
+import com.esofthead.mycollab.module.project.domain.Task;
+import com.esofthead.mycollab.module.tracker.domain.BugWithBLOBs;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.GregorianCalendar;
+import java.util.List;
+
+public class AuditLogUtilTest {
+
+	private static List<AuditChangeItem> parse(String changeSet) {
+		return JsonDeSerializer.fromJson(changeSet,
+				new TypeToken<List<AuditChangeItem>>() {
+				}.getType());
+	}
+
+	@Test
+	public void testNoChange() {
+		BugWithBLOBs oldBug = new BugWithBLOBs();
+		oldBug.setSummary("summary");
+		BugWithBLOBs newBug = new BugWithBLOBs();
+		newBug.setSummary("summary");
+		newBug.setDescription("");
+
+		Assert.assertEquals("[]", AuditLogUtil.getChangeSet(oldBug, newBug));
+	}
+
+	@Test
+	public void testChangeSetOfBug() {
+		BugWithBLOBs oldBug = new BugWithBLOBs();
+		oldBug.setSummary("summary");
+		oldBug.setDescription("<p>It's \"broken\"</p>\n");
+		oldBug.setDuedate(new GregorianCalendar(2015, 1, 1, 10, 0, 0).getTime());
+		BugWithBLOBs newBug = new BugWithBLOBs();
+		newBug.setSummary("summary");
+		newBug.setDescription("<p>a & b = c</p>\t\\");
+		newBug.setDuedate(new GregorianCalendar(2015, 1, 2, 10, 0, 0).getTime());
+
+		String changeSet = AuditLogUtil.getChangeSet(oldBug, newBug);
+		List<AuditChangeItem> items = parse(changeSet);
+		Assert.assertEquals(2, items.size());
+		Assert.assertEquals("description", items.get(0).getField());
+		Assert.assertEquals("<p>It's \"broken\"</p>\n", items.get(0).getOldvalue());
+		Assert.assertEquals("<p>a & b = c</p>\t\\", items.get(0).getNewvalue());
+		Assert.assertEquals("duedate", items.get(1).getField());
+		Assert.assertTrue(items.get(1).getOldvalue().matches(
+				"2015-02-01T10:00:00[+-]\\d\\d:\\d\\d"));
+
+		// same json as the Gson serialization of the change items
+		Assert.assertEquals(JsonDeSerializer.toJson(items), changeSet);
+	}
+
+	@Test
+	public void testChangeSetBetweenTaskAndSimpleTask() {
+		Task oldTask = new Task();
+		oldTask.setTaskname("task");
+		oldTask.setPercentagecomplete(10d);
+		oldTask.setAssignuser("admin");
+
+		SimpleTask newTask = new SimpleTask();
+		newTask.setTaskname("task");
+		newTask.setPercentagecomplete(20d);
+		newTask.setAssignUserFullName("Administrator");
+
+		List<AuditChangeItem> items = parse(AuditLogUtil.getChangeSet(oldTask,
+				newTask));
+		Assert.assertEquals(2, items.size());
+		Assert.assertEquals("assignuser", items.get(0).getField());
+		Assert.assertEquals("admin", items.get(0).getOldvalue());
+		Assert.assertEquals("", items.get(0).getNewvalue());
+		Assert.assertEquals("percentagecomplete", items.get(1).getField());
+		Assert.assertEquals("20.0", items.get(1).getNewvalue());
+	}
+}
@@ -0,0 +1,168 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import com.esofthead.mycollab.configuration.StorageConfiguration;
+import com.esofthead.mycollab.module.ecm.domain.Content;
+import com.esofthead.mycollab.module.ecm.service.ResourceService;
+
+public class AvatarRenditionPipelineTest {
+	@Mock
+	private ResourceService resourceService;
+
+	@InjectMocks
+	private AvatarRenditionPipeline pipeline;
+
+	private Map<String, BufferedImage> storedRenditions;
+
+	private CountDownLatch smallerRenditionsLatch;
+
+	@Before
+	public void setUp() {
+		MockitoAnnotations.initMocks(this);
+		storedRenditions = new ConcurrentHashMap<>();
+		smallerRenditionsLatch = new CountDownLatch(0);
+		doAnswer(new Answer<Void>() {
+			@Override
+			public Void answer(InvocationOnMock invocation) throws Throwable {
+				Content content = (Content) invocation.getArguments()[0];
+				if (!content.getPath().endsWith(
+						"_" + StorageConfiguration.AVATAR_SIZES[0] + ".png")) {
+					smallerRenditionsLatch.await(10, TimeUnit.SECONDS);
+				}
+				storedRenditions.put(content.getPath(), ImageIO
+						.read((InputStream) invocation.getArguments()[2]));
+				return null;
+			}
+		}).when(resourceService).saveContent(any(Content.class), anyString(),
+				any(InputStream.class), any(Integer.class));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		pipeline.destroy();
+	}
+
+	private static BufferedImage createImage(int size) {
+		BufferedImage image = new BufferedImage(size, size,
+				BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		graphics.setColor(Color.RED);
+		graphics.fillRect(0, 0, size / 2, size);
+		graphics.setColor(Color.BLUE);
+		graphics.fillRect(size / 2, 0, size / 2, size);
+		graphics.dispose();
+		return image;
+	}
+
+	@Test
+	public void testStoreAllRenditions() throws Exception {
+		BufferedImage largestRendition = pipeline.storeLargestRendition(
+				"user1", "avatar1", createImage(400));
+		pipeline.storeSmallerRenditions("user1", "avatar1", largestRendition,
+				null).get();
+
+		assertThat(storedRenditions).hasSize(
+				StorageConfiguration.AVATAR_SIZES.length);
+		for (int size : StorageConfiguration.AVATAR_SIZES) {
+			BufferedImage rendition = storedRenditions
+					.get(AvatarRenditionPipeline.getRenditionPath("avatar1",
+							size));
+			assertThat(rendition).isNotNull();
+			assertThat(rendition.getWidth()).isEqualTo(size);
+			assertThat(rendition.getHeight()).isEqualTo(size);
+			// the left half stays red and the right half stays blue
+			assertThat(new Color(rendition.getRGB(1, size / 2)).getRed())
+					.isGreaterThan(200);
+			assertThat(new Color(rendition.getRGB(size - 2, size / 2))
+					.getBlue()).isGreaterThan(200);
+		}
+	}
+
+	@Test
+	public void testRemoveOldAvatarAfterRenditions() throws Exception {
+		BufferedImage largestRendition = pipeline.storeLargestRendition(
+				"user1", "avatar2", createImage(200));
+		pipeline.storeSmallerRenditions("user1", "avatar2", largestRendition,
+				"avatar1").get();
+
+		InOrder inOrder = inOrder(resourceService);
+		inOrder.verify(resourceService,
+				times(StorageConfiguration.AVATAR_SIZES.length)).saveContent(
+				any(Content.class), eq("user1"), any(InputStream.class),
+				any(Integer.class));
+		for (int size : StorageConfiguration.AVATAR_SIZES) {
+			inOrder.verify(resourceService).removeResource(
+					AvatarRenditionPipeline.getRenditionPath("avatar1", size),
+					"user1", null);
+		}
+	}
+
+	@Test
+	public void testUploadReturnsBeforeSmallerRenditions() throws Exception {
+		smallerRenditionsLatch = new CountDownLatch(1);
+		BufferedImage image = createImage(1024);
+
+		BufferedImage largestRendition = pipeline.storeLargestRendition(
+				"user1", "avatar1", image);
+		Future<?> renditions = pipeline.storeSmallerRenditions("user1",
+				"avatar1", largestRendition, null);
+
+		assertThat(storedRenditions.keySet()).containsExactly(
+				AvatarRenditionPipeline.getRenditionPath("avatar1",
+						StorageConfiguration.AVATAR_SIZES[0]));
+		assertThat(renditions.isDone()).isFalse();
+
+		smallerRenditionsLatch.countDown();
+		renditions.get();
+		assertThat(storedRenditions).hasSize(
+				StorageConfiguration.AVATAR_SIZES.length);
+		verify(resourceService, times(0)).removeResource(anyString(),
+				anyString(), any(Integer.class));
+	}
+}
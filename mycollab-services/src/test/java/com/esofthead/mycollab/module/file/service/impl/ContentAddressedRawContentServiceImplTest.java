@@ -0,0 +1,225 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContentAddressedRawContentServiceImplTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File baseFolder;
+
+	private ContentAddressedRawContentServiceImpl contentService;
+
+	@Before
+	public void setUp() throws IOException {
+		baseFolder = folder.newFolder("content");
+		contentService = new ContentAddressedRawContentServiceImpl(baseFolder);
+	}
+
+	private void save(String path, String content) {
+		contentService.saveContent(path, new ByteArrayInputStream(
+				content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private String read(String path) throws IOException {
+		try (InputStream input = contentService.getContentStream(path)) {
+			return IOUtils.toString(input, StandardCharsets.UTF_8);
+		}
+	}
+
+	private int countBlobs() {
+		return FileUtils.listFiles(
+				new File(folder.getRoot(), "content"
+						+ ContentAddressedRawContentServiceImpl.BLOB_FOLDER_SUFFIX),
+				null, true).size();
+	}
+
+	private Object getFileKey(String path) throws IOException {
+		return Files.readAttributes(new File(baseFolder, path).toPath(),
+				BasicFileAttributes.class).fileKey();
+	}
+
+	@Test
+	public void testStoreIdenticalContentOnce() throws IOException {
+		save("1/project/bug-1/report.txt", "same attachment");
+		save("1/project/bug-2/report.txt", "same attachment");
+		save("1/project/bug-3/other.txt", "other attachment");
+
+		assertThat(read("1/project/bug-1/report.txt")).isEqualTo(
+				"same attachment");
+		assertThat(read("1/project/bug-2/report.txt")).isEqualTo(
+				"same attachment");
+		assertThat(countBlobs()).isEqualTo(2);
+		assertThat(getFileKey("1/project/bug-1/report.txt")).isEqualTo(
+				getFileKey("1/project/bug-2/report.txt"));
+	}
+
+	@Test
+	public void testOverwriteDoesNotChangeOtherPaths() throws IOException {
+		save("1/a.txt", "first");
+		save("1/b.txt", "first");
+		save("1/a.txt", "second");
+
+		assertThat(read("1/a.txt")).isEqualTo("second");
+		assertThat(read("1/b.txt")).isEqualTo("first");
+	}
+
+	@Test
+	public void testKeepBlobsOutOfContentFolder() throws IOException {
+		save("1/a.txt", "content");
+
+		assertThat(baseFolder.list()).containsOnly("1");
+		assertThat(countBlobs()).isEqualTo(1);
+	}
+
+	@Test
+	public void testMoveLegacyBlobFolder() throws IOException {
+		File legacyBlob = new File(baseFolder, ".blobs/ab/cd/abcd");
+		FileUtils.writeStringToFile(legacyBlob, "legacy",
+				StandardCharsets.UTF_8);
+		FileUtils.deleteDirectory(new File(folder.getRoot(), "content"
+				+ ContentAddressedRawContentServiceImpl.BLOB_FOLDER_SUFFIX));
+
+		ContentAddressedRawContentServiceImpl restartedService = new ContentAddressedRawContentServiceImpl(
+				baseFolder);
+		assertThat(new File(baseFolder, ".blobs").exists()).isFalse();
+		assertThat(countBlobs()).isEqualTo(1);
+		assertThat(restartedService.getSize("")).isEqualTo(0);
+	}
+
+	@Test
+	public void testConcurrentSavesOfSamePath() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> saves = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				final String content = "content " + (i % 4);
+				saves.add(executor.submit(new Callable<Void>() {
+					@Override
+					public Void call() {
+						save("1/a.txt", content);
+						return null;
+					}
+				}));
+			}
+			for (Future<?> save : saves) {
+				save.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(read("1/a.txt")).startsWith("content ");
+		assertThat(contentService.getSize("1")).isEqualTo(
+				"content 0".length());
+		assertThat(contentService.getSize("")).isEqualTo(
+				"content 0".length());
+	}
+
+	@Test
+	public void testMaintainFolderSizes() {
+		save("1/project/a.txt", "12345");
+		save("1/project/sub/b.txt", "1234567890");
+		save("2/c.txt", "123");
+		assertThat(contentService.getSize("1")).isEqualTo(15);
+		assertThat(contentService.getSize("/1/project/")).isEqualTo(15);
+		assertThat(contentService.getSize("1/project/a.txt")).isEqualTo(5);
+		assertThat(contentService.getSize("")).isEqualTo(18);
+
+		save("1/project/a.txt", "1");
+		assertThat(contentService.getSize("1")).isEqualTo(11);
+
+		contentService.removePath("1/project/sub");
+		assertThat(contentService.getSize("1")).isEqualTo(1);
+		assertThat(contentService.getSize("1/project/sub")).isEqualTo(0);
+
+		contentService.movePath("1/project", "2/project");
+		assertThat(contentService.getSize("1")).isEqualTo(0);
+		assertThat(contentService.getSize("2")).isEqualTo(4);
+		assertThat(contentService.getSize("2/project")).isEqualTo(1);
+
+		contentService.renamePath("2/c.txt", "2/d.txt");
+		assertThat(contentService.getSize("2")).isEqualTo(4);
+		assertThat(contentService.getSize("")).isEqualTo(4);
+	}
+
+	@Test
+	public void testCountFolderSizesAtStart() {
+		save("1/project/a.txt", "12345");
+		save("1/project/b.txt", "12345");
+
+		ContentAddressedRawContentServiceImpl restartedService = new ContentAddressedRawContentServiceImpl(
+				baseFolder);
+		assertThat(restartedService.getSize("1")).isEqualTo(10);
+		assertThat(restartedService.getSize("")).isEqualTo(10);
+	}
+
+	@Test
+	public void testWalkFolderSizesOfSharedFolder() {
+		ContentAddressedRawContentServiceImpl node1 = new ContentAddressedRawContentServiceImpl(
+				baseFolder, false);
+		ContentAddressedRawContentServiceImpl node2 = new ContentAddressedRawContentServiceImpl(
+				baseFolder, false);
+		node1.saveContent("1/project/a.txt", new ByteArrayInputStream(
+				"12345".getBytes(StandardCharsets.UTF_8)));
+		assertThat(node2.getSize("1")).isEqualTo(5);
+
+		node2.removePath("1/project/a.txt");
+		assertThat(node1.getSize("1")).isEqualTo(0);
+	}
+
+	@Test
+	public void testCollectUnreferencedBlobs() throws IOException {
+		save("1/a.txt", "shared");
+		save("1/b.txt", "shared");
+		save("1/c.txt", "single");
+		assertThat(countBlobs()).isEqualTo(2);
+
+		contentService.removePath("1/a.txt");
+		contentService.removePath("1/c.txt");
+		assertThat(contentService.collectGarbage()).isEqualTo(1);
+		assertThat(countBlobs()).isEqualTo(1);
+		assertThat(read("1/b.txt")).isEqualTo("shared");
+
+		contentService.removePath("1/b.txt");
+		assertThat(contentService.collectGarbage()).isEqualTo(1);
+		assertThat(countBlobs()).isEqualTo(0);
+	}
+}
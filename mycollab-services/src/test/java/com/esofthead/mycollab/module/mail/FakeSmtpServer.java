@@ -0,0 +1,147 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Minimal SMTP server for tests, it accepts every message and only counts
+ * connections and received messages. It can reset a connection to simulate a
+ * server which drops a pooled connection.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final AtomicInteger messageCount = new AtomicInteger();
+	private final AtomicReference<String> resetCommand = new AtomicReference<>();
+
+	public FakeSmtpServer() throws IOException {
+		serverSocket = new ServerSocket(0);
+		executor.execute(new Runnable() {
+			@Override
+			public void run() {
+				acceptLoop();
+			}
+		});
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	public int getMessageCount() {
+		return messageCount.get();
+	}
+
+	/**
+	 * Resets the connection which next receives <code>command</code> instead
+	 * of replying to it. For DATA the connection is reset after the message
+	 * content is received.
+	 */
+	public void resetOnNextCommand(String command) {
+		resetCommand.set(command);
+	}
+
+	private boolean isReset(Socket socket, String command) throws IOException {
+		if (resetCommand.compareAndSet(command, null)) {
+			// close with RST so the client fails with an IOException
+			socket.setSoLinger(true, 0);
+			return true;
+		}
+		return false;
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				final Socket socket = serverSocket.accept();
+				connectionCount.incrementAndGet();
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						handle(socket);
+					}
+				});
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try (Socket s = socket) {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(
+					s.getInputStream(), StandardCharsets.US_ASCII));
+			OutputStream out = s.getOutputStream();
+			reply(out, "220 localhost fake SMTP");
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String command = line.length() >= 4 ? line.substring(0, 4)
+						.toUpperCase() : line.toUpperCase();
+				if (!"DATA".equals(command) && isReset(s, command)) {
+					return;
+				}
+				if ("EHLO".equals(command) || "HELO".equals(command)) {
+					reply(out, "250 localhost");
+				} else if ("DATA".equals(command)) {
+					reply(out, "354 End data with <CR><LF>.<CR><LF>");
+					while ((line = reader.readLine()) != null
+							&& !".".equals(line)) {
+					}
+					if (isReset(s, command)) {
+						return;
+					}
+					messageCount.incrementAndGet();
+					reply(out, "250 OK");
+				} else if ("QUIT".equals(command)) {
+					reply(out, "221 Bye");
+					return;
+				} else {
+					reply(out, "250 OK");
+				}
+			}
+		} catch (IOException e) {
+			// client closed the connection
+		}
+	}
+
+	private static void reply(OutputStream out, String line) throws IOException {
+		out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		executor.shutdownNow();
+	}
+}
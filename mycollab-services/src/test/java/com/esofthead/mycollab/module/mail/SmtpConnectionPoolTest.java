@@ -0,0 +1,148 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.mail;
+
+import com.esofthead.mycollab.common.domain.MailRecipientField;
+import com.esofthead.mycollab.core.MyCollabException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.mail.Message;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SmtpConnectionPoolTest {
+	private static final int MESSAGES = 200;
+	private static final int WORKERS = 4;
+
+	private FakeSmtpServer server;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new FakeSmtpServer();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		server.close();
+	}
+
+	@Test
+	public void testSendManyMessagesOverFewConnections() throws Exception {
+		SmtpConnectionPool pool = new SmtpConnectionPool("localhost",
+				server.getPort(), "", "", false, WORKERS);
+		final DefaultMailer mailer = new DefaultMailer(pool);
+		final List<MailRecipientField> recipients = Arrays
+				.asList(new MailRecipientField("user@example.com", "User"));
+
+		ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < MESSAGES; i++) {
+			final int index = i;
+			futures.add(workers.submit(new Runnable() {
+				@Override
+				public void run() {
+					mailer.sendHTMLMail("noreply@example.com", "MyCollab",
+							recipients, null, null, "Subject " + index,
+							"<p>Message " + index + "</p>");
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		workers.shutdown();
+		pool.close();
+
+		Assert.assertEquals(MESSAGES, server.getMessageCount());
+		Assert.assertEquals(MESSAGES, pool.getSentMessages());
+		Assert.assertTrue(server.getConnectionCount() <= WORKERS);
+		Assert.assertEquals(server.getConnectionCount(),
+				pool.getOpenedConnections());
+	}
+
+	@Test
+	public void testConnectionIsRecycledAfterMessageLimit() throws Exception {
+		SmtpConnectionPool pool = new SmtpConnectionPool("localhost",
+				server.getPort(), "", "", false, 1);
+		DefaultMailer mailer = new DefaultMailer(pool);
+		List<MailRecipientField> recipients = Arrays
+				.asList(new MailRecipientField("user@example.com", "User"));
+		for (int i = 0; i < SmtpConnectionPool.MAX_MESSAGES_PER_CONNECTION + 1; i++) {
+			mailer.sendHTMLMail("noreply@example.com", "MyCollab", recipients,
+					null, null, "Subject", "<p>Message</p>");
+		}
+		pool.close();
+
+		Assert.assertEquals(2, pool.getOpenedConnections());
+		Assert.assertEquals(0, pool.getIdleConnections());
+	}
+
+	@Test
+	public void testRetryWhenConnectionIsLostBeforeData() throws Exception {
+		SmtpConnectionPool pool = new SmtpConnectionPool("localhost",
+				server.getPort(), "", "", false, 1);
+		pool.send(createMessage(pool, "First"));
+		Assert.assertEquals(1, pool.getIdleConnections());
+
+		server.resetOnNextCommand("MAIL");
+		pool.send(createMessage(pool, "Second"));
+		pool.close();
+
+		Assert.assertEquals(2, server.getMessageCount());
+		Assert.assertEquals(2, pool.getSentMessages());
+		Assert.assertEquals(2, pool.getOpenedConnections());
+		Assert.assertEquals(2, server.getConnectionCount());
+	}
+
+	@Test
+	public void testNoRetryWhenConnectionIsLostAfterData() throws Exception {
+		SmtpConnectionPool pool = new SmtpConnectionPool("localhost",
+				server.getPort(), "", "", false, 1);
+		server.resetOnNextCommand("DATA");
+		try {
+			pool.send(createMessage(pool, "Subject"));
+			Assert.fail("Message should not be sent again");
+		} catch (MyCollabException e) {
+			// the server may have queued the message already
+		}
+		pool.close();
+
+		Assert.assertEquals(0, pool.getSentMessages());
+		Assert.assertEquals(1, pool.getOpenedConnections());
+		Assert.assertEquals(0, pool.getIdleConnections());
+	}
+
+	private static MimeMessage createMessage(SmtpConnectionPool pool,
+			String subject) throws Exception {
+		MimeMessage message = new MimeMessage(pool.getSession());
+		message.setFrom(new InternetAddress("noreply@example.com"));
+		message.setRecipient(Message.RecipientType.TO, new InternetAddress(
+				"user@example.com"));
+		message.setSubject(subject);
+		message.setContent("<p>" + subject + "</p>", "text/html");
+		return message;
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * This file is part of mycollab-services.
+ *
+ * mycollab-services is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-services is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-services.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.project.service.ibatis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import com.esofthead.mycollab.module.project.ProjectTypeConstants;
+import com.esofthead.mycollab.module.project.dao.TicketKeyMapperExt;
+
+public class TicketKeyServiceImplTest {
+	private static final int BLOCK_SIZE = 10;
+
+	@Mock
+	private TicketKeyMapperExt ticketKeyMapperExt;
+
+	@Mock
+	private DataSourceTransactionManager txManager;
+
+	@InjectMocks
+	private TicketKeyServiceImpl ticketKeyService = new TicketKeyServiceImpl() {
+		@Override
+		int getBlockSize() {
+			return BLOCK_SIZE;
+		}
+	};
+
+	private int lastKey;
+
+	@Before
+	public void setUp() {
+		MockitoAnnotations.initMocks(this);
+		lastKey = 3;
+		when(ticketKeyMapperExt.increaseLastKey(eq(1), anyString(), anyInt()))
+				.thenAnswer(new Answer<Integer>() {
+					@Override
+					public Integer answer(InvocationOnMock invocation) {
+						lastKey += (Integer) invocation.getArguments()[2];
+						return 1;
+					}
+				});
+		when(ticketKeyMapperExt.getLastKey(eq(1), anyString())).thenAnswer(
+				new Answer<Integer>() {
+					@Override
+					public Integer answer(InvocationOnMock invocation) {
+						return lastKey;
+					}
+				});
+	}
+
+	@Test
+	public void testAllocateKeysAcrossBlockBoundary() {
+		List<Integer> keys = new ArrayList<>();
+		for (int i = 0; i < BLOCK_SIZE + 2; i++) {
+			keys.add(ticketKeyService.allocateKey(1, ProjectTypeConstants.BUG));
+		}
+
+		List<Integer> expectedKeys = new ArrayList<>();
+		for (int key = 4; key < 4 + BLOCK_SIZE + 2; key++) {
+			expectedKeys.add(key);
+		}
+		assertThat(keys).isEqualTo(expectedKeys);
+		verify(ticketKeyMapperExt, times(2)).increaseLastKey(1,
+				ProjectTypeConstants.BUG, BLOCK_SIZE);
+		assertThat(lastKey).isEqualTo(3 + 2 * BLOCK_SIZE);
+	}
+
+	@Test
+	public void testKeysWhichDoNotFitInBlockStartNewBlock() {
+		for (int i = 0; i < BLOCK_SIZE - 2; i++) {
+			ticketKeyService.allocateKey(1, ProjectTypeConstants.BUG);
+		}
+
+		// the two keys left in the first block are skipped
+		assertThat(ticketKeyService.allocateKeys(1, ProjectTypeConstants.BUG, 3))
+				.isEqualTo(4 + BLOCK_SIZE);
+		assertThat(ticketKeyService.allocateKey(1, ProjectTypeConstants.BUG))
+				.isEqualTo(4 + BLOCK_SIZE + 3);
+		assertThat(lastKey).isEqualTo(3 + 2 * BLOCK_SIZE);
+	}
+}
@@ -0,0 +1,255 @@
+/**
+ * This file is part of mycollab-servlet.
+ *
+ * mycollab-servlet is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-servlet is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-servlet.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.servlet;
+
+import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.core.utils.MimeTypesUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.hash.Hashing;
+import org.apache.commons.io.IOUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the class path assets in memory with their gzip and deflate variants,
+ * so an asset is read and compressed only at its first request. The cache is
+ * bounded by the total size of the cached variants. Paths without an asset are
+ * not cached, so requests of random paths can not evict the real assets.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public class AssetCache {
+    private static final long MAX_CACHE_BYTES = 32 * 1024 * 1024;
+
+    /**
+     * Smaller assets are not worth compressing.
+     */
+    private static final int MIN_COMPRESSIBLE_SIZE = 256;
+
+    private static final String[] RESOURCE_FOLDERS = {"assets", "VAADIN/themes/mycollab"};
+
+    private final ClassLoader classLoader;
+
+    private final Cache<String, CachedAsset> assets = CacheBuilder.newBuilder().maximumWeight(MAX_CACHE_BYTES)
+            .weigher(new Weigher<String, CachedAsset>() {
+                @Override
+                public int weigh(String path, CachedAsset asset) {
+                    return path.length() + asset.getSize();
+                }
+            }).build();
+
+    public AssetCache(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @param path path of the asset in one of the asset folders
+     * @return null if there is no asset of this path
+     */
+    public CachedAsset getAsset(String path) {
+        CachedAsset asset = assets.getIfPresent(path);
+        if (asset == null) {
+            try {
+                asset = loadAsset(path);
+            } catch (IOException e) {
+                throw new MyCollabException("Error while loading asset " + path, e);
+            }
+            if (asset != null) {
+                assets.put(path, asset);
+            }
+        }
+        return asset;
+    }
+
+    private CachedAsset loadAsset(String path) throws IOException {
+        URL resourceUrl = null;
+        for (int i = 0; i < RESOURCE_FOLDERS.length && resourceUrl == null; i++) {
+            resourceUrl = classLoader.getResource(RESOURCE_FOLDERS[i] + path);
+        }
+        if (resourceUrl == null) {
+            return null;
+        }
+
+        URLConnection connection = resourceUrl.openConnection();
+        byte[] content;
+        try (InputStream input = connection.getInputStream()) {
+            content = IOUtils.toByteArray(input);
+        }
+
+        String contentType = MimeTypesUtil.detectMimeType(path);
+        byte[] gzipContent = null;
+        byte[] deflateContent = null;
+        if (content.length >= MIN_COMPRESSIBLE_SIZE && isCompressible(contentType)) {
+            gzipContent = smallerOrNull(content, compress(content, true));
+            deflateContent = smallerOrNull(content, compress(content, false));
+        }
+        String fingerprint = Hashing.murmur3_128().hashBytes(content).toString().substring(0, 16);
+        return new CachedAsset(content, gzipContent, deflateContent, contentType, connection.getLastModified(),
+                fingerprint);
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/") || contentType.contains("javascript") || contentType.contains("json")
+                || contentType.contains("xml");
+    }
+
+    private static byte[] compress(byte[] content, boolean gzip) throws IOException {
+        ByteArrayOutputStream outStream = new ByteArrayOutputStream(content.length / 2);
+        try (OutputStream compressStream = gzip ? new GZIPOutputStream(outStream) : new DeflaterOutputStream
+                (outStream)) {
+            compressStream.write(content);
+        }
+        return outStream.toByteArray();
+    }
+
+    private static byte[] smallerOrNull(byte[] content, byte[] compressedContent) {
+        return (compressedContent.length < content.length) ? compressedContent : null;
+    }
+
+    /**
+     * Content of an asset in one encoding.
+     */
+    public static class Variant {
+        private final String encoding;
+        private final byte[] content;
+        private final String eTag;
+
+        Variant(String encoding, byte[] content, String eTag) {
+            this.encoding = encoding;
+            this.content = content;
+            this.eTag = eTag;
+        }
+
+        /**
+         * @return null for the uncompressed content
+         */
+        public String getEncoding() {
+            return encoding;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    public static class CachedAsset {
+        private final Variant identity;
+        private final Variant gzip;
+        private final Variant deflate;
+        private final String contentType;
+        private final long lastModified;
+        private final int size;
+
+        CachedAsset(byte[] content, byte[] gzipContent, byte[] deflateContent, String contentType,
+                    long lastModified, String fingerprint) {
+            this.identity = new Variant(null, content, "\"" + fingerprint + "\"");
+            this.gzip = (gzipContent == null) ? null : new Variant("gzip", gzipContent, "\"" + fingerprint +
+                    "-gzip\"");
+            this.deflate = (deflateContent == null) ? null : new Variant("deflate", deflateContent, "\"" +
+                    fingerprint + "-deflate\"");
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            this.size = content.length + ((gzipContent == null) ? 0 : gzipContent.length)
+                    + ((deflateContent == null) ? 0 : deflateContent.length);
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        /**
+         * @return whether the asset has a compressed variant, its responses
+         * then depend on the Accept-Encoding header
+         */
+        public boolean isCompressed() {
+            return gzip != null || deflate != null;
+        }
+
+        /**
+         * Chooses the variant of the highest quality value accepted by the
+         * client, gzip is preferred to deflate at equal quality.
+         *
+         * @param acceptEncoding value of the Accept-Encoding header, may be
+         *                       null
+         */
+        public Variant getVariant(String acceptEncoding) {
+            if (acceptEncoding == null || !isCompressed()) {
+                return identity;
+            }
+
+            float gzipQuality = 0, deflateQuality = 0, anyQuality = 0;
+            for (String coding : acceptEncoding.split(",")) {
+                String[] params = coding.split(";");
+                String name = params[0].trim().toLowerCase();
+                float quality = 1;
+                for (int i = 1; i < params.length; i++) {
+                    String param = params[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            quality = Float.parseFloat(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+
+                if ("gzip".equals(name) || "x-gzip".equals(name)) {
+                    gzipQuality = quality;
+                } else if ("deflate".equals(name)) {
+                    deflateQuality = quality;
+                } else if ("*".equals(name)) {
+                    anyQuality = quality;
+                }
+            }
+            if (acceptEncoding.indexOf("gzip") < 0) {
+                gzipQuality = anyQuality;
+            }
+            if (acceptEncoding.indexOf("deflate") < 0) {
+                deflateQuality = anyQuality;
+            }
+
+            if (gzip != null && gzipQuality > 0 && (deflate == null || gzipQuality >= deflateQuality)) {
+                return gzip;
+            } else if (deflate != null && deflateQuality > 0) {
+                return deflate;
+            }
+            return identity;
+        }
+    }
+}
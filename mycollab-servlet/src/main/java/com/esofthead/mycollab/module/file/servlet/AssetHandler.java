@@ -16,8 +16,10 @@
  */
 package com.esofthead.mycollab.module.file.servlet;
 
-import com.esofthead.mycollab.core.utils.MimeTypesUtil;
+import com.esofthead.mycollab.core.MyCollabVersion;
 import com.esofthead.mycollab.servlet.GenericHttpServlet;
+import com.esofthead.mycollab.servlet.StaticFileResponder;
+import com.esofthead.mycollab.servlet.StaticFileResponder.CachePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,10 +27,7 @@ import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 
 /**
  * @author MyCollab Ltd.
@@ -40,53 +39,31 @@ public class AssetHandler extends GenericHttpServlet {
     private static final Logger LOG = LoggerFactory
             .getLogger(AssetHandler.class);
 
+    private final AssetCache assetCache = new AssetCache(AssetHandler.class.getClassLoader());
+
     @Override
     protected void onHandleRequest(HttpServletRequest request,
                                    HttpServletResponse response) throws ServletException, IOException {
         String path = request.getPathInfo();
-        String resourcePath = "assets" + path;
-
-        InputStream inputStream = AssetHandler.class
-                .getClassLoader().getResourceAsStream(resourcePath);
-
-        if (inputStream == null) {
-            resourcePath = "VAADIN/themes/mycollab" + path;
-            inputStream = AssetHandler.class.getClassLoader()
-                    .getResourceAsStream(resourcePath);
-        }
+        AssetCache.CachedAsset asset = (path == null) ? null : assetCache.getAsset(path);
 
-        if (inputStream != null) {
-            LOG.debug("Get resource {} successfully ", resourcePath);
-            response.setHeader("Content-Type",
-                    MimeTypesUtil.detectMimeType(path));
-            response.setHeader("Content-Length",
-                    String.valueOf(inputStream.available()));
-
-            BufferedInputStream input = null;
-            BufferedOutputStream output = null;
-
-            try {
-                input = new BufferedInputStream(inputStream);
-                output = new BufferedOutputStream(response.getOutputStream());
-                byte[] buffer = new byte[8192];
-                int length;
-                while ((length = input.read(buffer)) > 0) {
-                    output.write(buffer, 0, length);
-                }
-            } finally {
-                if (output != null)
-                    try {
-                        output.close();
-                    } catch (IOException logOrIgnore) {
-                    }
-                if (input != null)
-                    try {
-                        input.close();
-                    } catch (IOException logOrIgnore) {
-                    }
+        if (asset != null) {
+            LOG.debug("Get resource {} successfully ", path);
+            AssetCache.Variant variant = asset.getVariant(request.getHeader("Accept-Encoding"));
+            if (asset.isCompressed()) {
+                response.setHeader("Vary", "Accept-Encoding");
+            }
+            if (variant.getEncoding() != null) {
+                response.setHeader("Content-Encoding", variant.getEncoding());
             }
+            // links of MyCollabAssets carry the version, its assets do not change
+            CachePolicy cachePolicy = MyCollabVersion.getVersion().equals(request.getParameter("v")) ?
+                    CachePolicy.IMMUTABLE : CachePolicy.PUBLIC;
+            StaticFileResponder.serveBytes(request, response, variant.getContent(), variant.getETag(),
+                    asset.getLastModified(), asset.getContentType(), cachePolicy);
         } else {
             LOG.error("Can not find resource has path {}", path);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
         }
     }
 
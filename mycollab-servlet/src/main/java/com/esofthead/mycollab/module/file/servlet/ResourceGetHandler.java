@@ -16,9 +16,13 @@
  */
 package com.esofthead.mycollab.module.file.servlet;
 
+import com.esofthead.mycollab.configuration.FileStorageConfiguration;
+import com.esofthead.mycollab.configuration.StorageManager;
 import com.esofthead.mycollab.core.utils.MimeTypesUtil;
 import com.esofthead.mycollab.module.ecm.service.ResourceService;
 import com.esofthead.mycollab.servlet.GenericHttpServlet;
+import com.esofthead.mycollab.servlet.StaticFileResponder;
+import com.esofthead.mycollab.servlet.StaticFileResponder.CachePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,8 +31,7 @@ import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -51,41 +54,28 @@ public class ResourceGetHandler extends GenericHttpServlet {
 	protected void onHandleRequest(HttpServletRequest request,
 			HttpServletResponse response) throws ServletException, IOException {
 		String path = request.getPathInfo();
-		InputStream inputStream = resourceService.getContentStream(path);
+		String contentType = MimeTypesUtil.detectMimeType(path);
 
-		if (inputStream != null) {
-			LOG.debug("Get resource {} successfully ", path);
-			response.setHeader("Content-Type",
-					MimeTypesUtil.detectMimeType(path));
-			response.setHeader("Content-Length",
-					String.valueOf(inputStream.available()));
-
-			BufferedInputStream input = null;
-			BufferedOutputStream output = null;
-
-			try {
-				input = new BufferedInputStream(inputStream);
-				output = new BufferedOutputStream(response.getOutputStream());
-				byte[] buffer = new byte[8192];
-				int length = 0;
-				while ((length = input.read(buffer)) > 0) {
-					output.write(buffer, 0, length);
-				}
-			} finally {
-				if (output != null)
-					try {
-						output.close();
-					} catch (IOException logOrIgnore) {
-					}
-				if (input != null)
-					try {
-						input.close();
-					} catch (IOException logOrIgnore) {
-					}
+		if (StorageManager.isFileStorage()) {
+			File file = ((FileStorageConfiguration) StorageManager
+					.getConfiguration()).getResourceFile(path);
+			if (file != null) {
+				LOG.debug("Get resource {} successfully ", path);
+				StaticFileResponder.serveFile(request, response, file,
+						contentType, CachePolicy.PRIVATE);
+				return;
 			}
 		} else {
-			LOG.error("Can not find resource has path {}", path);
+			InputStream inputStream = resourceService.getContentStream(path);
+			if (inputStream != null) {
+				LOG.debug("Get resource {} successfully ", path);
+				StaticFileResponder.serveStream(request, response,
+						inputStream, contentType, CachePolicy.PRIVATE);
+				return;
+			}
 		}
 
+		LOG.error("Can not find resource has path {}", path);
+		response.sendError(HttpServletResponse.SC_NOT_FOUND);
 	}
 }
@@ -19,15 +19,22 @@ package com.esofthead.mycollab.module.file.servlet;
 import com.esofthead.mycollab.configuration.FileStorageConfiguration;
 import com.esofthead.mycollab.configuration.StorageManager;
 import com.esofthead.mycollab.core.MyCollabException;
+import com.esofthead.mycollab.core.utils.ImageUtil;
 import com.esofthead.mycollab.servlet.GenericHttpServlet;
+import com.esofthead.mycollab.servlet.StaticFileResponder;
+import com.esofthead.mycollab.servlet.StaticFileResponder.CachePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.imageio.ImageIO;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
 
 /**
  * 
@@ -75,42 +82,32 @@ public class UserAvatarHttpServletRequestHandler extends
 		FileStorageConfiguration fileConfiguration = (FileStorageConfiguration) StorageManager
 				.getConfiguration();
 		avatarFile = fileConfiguration.getAvatarFile(username, size);
-		InputStream avatarInputStream;
 		if (avatarFile != null) {
-			avatarInputStream = new FileInputStream(avatarFile);
+			// avatar ids change at each upload
+			StaticFileResponder.serveFile(request, response, avatarFile,
+					"image/png", CachePolicy.IMMUTABLE);
+		} else if ((avatarFile = fileConfiguration.getNearestAvatarFile(
+				username, size)) != null) {
+			// the rendition of this size is not created yet, it is scaled by
+			// width as the renditions are
+			BufferedImage nearestImage = ImageIO.read(avatarFile);
+			BufferedImage image = ImageUtil.scaleImage(nearestImage,
+					(float) size / nearestImage.getWidth());
+			StaticFileResponder.serveBytes(request, response,
+					ImageUtil.convertImageToByteArray(image),
+					avatarFile.lastModified(), "image/png",
+					CachePolicy.PRIVATE);
 		} else {
-			String userAvatarPath = "assets/icon/default_user_avatar_" + size
-					+ ".png";
-			avatarInputStream = UserAvatarHttpServletRequestHandler.class
-					.getClassLoader().getResourceAsStream(userAvatarPath);
-		}
-
-		response.setHeader("Content-Type", "image/png");
-		response.setHeader("Content-Length",
-				String.valueOf(avatarInputStream.available()));
-
-		BufferedInputStream input = null;
-		BufferedOutputStream output = null;
-
-		try {
-			input = new BufferedInputStream(avatarInputStream);
-			output = new BufferedOutputStream(response.getOutputStream());
-			byte[] buffer = new byte[8192];
-			int length;
-			while ((length = input.read(buffer)) > 0) {
-				output.write(buffer, 0, length);
+			URL defaultAvatarUrl = UserAvatarHttpServletRequestHandler.class
+					.getClassLoader().getResource(
+							"assets/icons/default_user_avatar_" + size
+									+ ".png");
+			if (defaultAvatarUrl != null) {
+				StaticFileResponder.serveResource(request, response,
+						defaultAvatarUrl, "image/png", CachePolicy.PUBLIC);
+			} else {
+				response.sendError(HttpServletResponse.SC_NOT_FOUND);
 			}
-		} finally {
-			if (output != null)
-				try {
-					output.close();
-				} catch (IOException logOrIgnore) {
-				}
-			if (input != null)
-				try {
-					input.close();
-				} catch (IOException logOrIgnore) {
-				}
 		}
 	}
 }
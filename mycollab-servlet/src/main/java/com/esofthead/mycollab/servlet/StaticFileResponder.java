@@ -0,0 +1,367 @@
+/**
+ * This file is part of mycollab-servlet.
+ *
+ * mycollab-servlet is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-servlet is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-servlet.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.servlet;
+
+import org.apache.commons.io.IOUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes static content to the response of servlets. Content with a known
+ * size and modification time gets a strong ETag, conditional requests are
+ * answered with 304 Not Modified and single or multiple byte ranges are
+ * served. Files are written with {@link FileChannel#transferTo(long, long,
+ * WritableByteChannel)} instead of being copied through a heap buffer.
+ *
+ * @author MyCollab Ltd.
+ * @since 5.0.4
+ */
+public final class StaticFileResponder {
+
+    /**
+     * How long the content can be cached by browsers and proxies.
+     */
+    public enum CachePolicy {
+        /**
+         * Content of the url never changes, for instance an avatar rendition,
+         * the avatar id changes at each upload.
+         */
+        IMMUTABLE("public, max-age=31536000"),
+
+        /**
+         * Content shared by all users which changes only with a new version.
+         */
+        PUBLIC("public, max-age=86400"),
+
+        /**
+         * Content of users which can change at any time, it must be
+         * revalidated before each use.
+         */
+        PRIVATE("private, no-cache");
+
+        private final String headerValue;
+
+        CachePolicy(String headerValue) {
+            this.headerValue = headerValue;
+        }
+
+        public String getHeaderValue() {
+            return headerValue;
+        }
+    }
+
+    /**
+     * A request with more ranges is answered with the whole content.
+     */
+    private static final int MAX_RANGES = 20;
+
+    private static final String MULTIPART_BOUNDARY = "MYCOLLAB_BYTE_RANGES";
+
+    private StaticFileResponder() {
+    }
+
+    public static void serveFile(HttpServletRequest request, HttpServletResponse response, File file,
+                                 String contentType, CachePolicy cachePolicy) throws IOException {
+        try (FileInputStream input = new FileInputStream(file); FileChannel channel = input.getChannel()) {
+            serve(request, response, new FileBody(channel), channel.size(), file.lastModified(), contentType,
+                    cachePolicy);
+        }
+    }
+
+    public static void serveBytes(HttpServletRequest request, HttpServletResponse response, byte[] content,
+                                  long lastModified, String contentType, CachePolicy cachePolicy) throws IOException {
+        serve(request, response, new BytesBody(content), content.length, lastModified, contentType, cachePolicy);
+    }
+
+    /**
+     * Serves content whose ETag is computed by the caller, for instance from
+     * a hash of the content.
+     */
+    public static void serveBytes(HttpServletRequest request, HttpServletResponse response, byte[] content,
+                                  String eTag, long lastModified, String contentType, CachePolicy cachePolicy)
+            throws IOException {
+        serve(request, response, new BytesBody(content), content.length, eTag, lastModified, contentType,
+                cachePolicy);
+    }
+
+    /**
+     * Serves a class path resource, resources packaged in a jar are read in
+     * memory before being served.
+     */
+    public static void serveResource(HttpServletRequest request, HttpServletResponse response, URL resourceUrl,
+                                     String contentType, CachePolicy cachePolicy) throws IOException {
+        if ("file".equals(resourceUrl.getProtocol())) {
+            try {
+                serveFile(request, response, new File(resourceUrl.toURI()), contentType, cachePolicy);
+                return;
+            } catch (URISyntaxException e) {
+                // served from the stream of the url
+            }
+        }
+
+        URLConnection connection = resourceUrl.openConnection();
+        byte[] content;
+        try (InputStream input = connection.getInputStream()) {
+            content = IOUtils.toByteArray(input);
+        }
+        serveBytes(request, response, content, connection.getLastModified(), contentType, cachePolicy);
+    }
+
+    /**
+     * Serves content of unknown size and modification time, the response has
+     * neither validators nor range support.
+     */
+    public static void serveStream(HttpServletRequest request, HttpServletResponse response, InputStream input,
+                                   String contentType, CachePolicy cachePolicy) throws IOException {
+        try {
+            response.setContentType(contentType);
+            response.setHeader("Cache-Control", cachePolicy.getHeaderValue());
+            if (!isHeadRequest(request)) {
+                IOUtils.copyLarge(input, response.getOutputStream());
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void serve(HttpServletRequest request, HttpServletResponse response, Body body, long length,
+                              long lastModified, String contentType, CachePolicy cachePolicy) throws IOException {
+        String eTag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        serve(request, response, body, length, eTag, lastModified, contentType, cachePolicy);
+    }
+
+    private static void serve(HttpServletRequest request, HttpServletResponse response, Body body, long length,
+                              String eTag, long lastModified, String contentType, CachePolicy cachePolicy)
+            throws IOException {
+        response.setHeader("ETag", eTag);
+        if (lastModified > 0) {
+            response.setDateHeader("Last-Modified", lastModified);
+        }
+        response.setHeader("Cache-Control", cachePolicy.getHeaderValue());
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (isNotModified(request, eTag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        List<long[]> ranges = getRequestedRanges(request, eTag, lastModified, length);
+        if (ranges == null) {
+            response.setContentType(contentType);
+            response.setHeader("Content-Length", String.valueOf(length));
+            if (!isHeadRequest(request)) {
+                body.writeTo(response.getOutputStream(), 0, length);
+            }
+        } else if (ranges.isEmpty()) {
+            response.setHeader("Content-Range", "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType(contentType);
+            response.setHeader("Content-Range", getContentRange(range, length));
+            response.setHeader("Content-Length", String.valueOf(range[1] - range[0] + 1));
+            if (!isHeadRequest(request)) {
+                body.writeTo(response.getOutputStream(), range[0], range[1] - range[0] + 1);
+            }
+        } else {
+            List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+            long contentLength = 0;
+            for (long[] range : ranges) {
+                byte[] partHeader = ("\r\n--" + MULTIPART_BOUNDARY + "\r\nContent-Type: " + contentType
+                        + "\r\nContent-Range: " + getContentRange(range, length) + "\r\n\r\n")
+                        .getBytes(StandardCharsets.ISO_8859_1);
+                partHeaders.add(partHeader);
+                contentLength += partHeader.length + range[1] - range[0] + 1;
+            }
+            byte[] end = ("\r\n--" + MULTIPART_BOUNDARY + "--\r\n").getBytes(StandardCharsets.ISO_8859_1);
+            contentLength += end.length;
+
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setContentType("multipart/byteranges; boundary=" + MULTIPART_BOUNDARY);
+            response.setHeader("Content-Length", String.valueOf(contentLength));
+            if (!isHeadRequest(request)) {
+                OutputStream output = response.getOutputStream();
+                for (int i = 0; i < ranges.size(); i++) {
+                    long[] range = ranges.get(i);
+                    output.write(partHeaders.get(i));
+                    body.writeTo(output, range[0], range[1] - range[0] + 1);
+                }
+                output.write(end);
+            }
+        }
+    }
+
+    private static boolean isHeadRequest(HttpServletRequest request) {
+        return "HEAD".equals(request.getMethod());
+    }
+
+    private static String getContentRange(long[] range, long length) {
+        return "bytes " + range[0] + "-" + range[1] + "/" + length;
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String eTag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String requestedTag : ifNoneMatch.split(",")) {
+                requestedTag = requestedTag.trim();
+                if (requestedTag.startsWith("W/")) {
+                    requestedTag = requestedTag.substring(2);
+                }
+                if ("*".equals(requestedTag) || eTag.equals(requestedTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince = getDateHeader(request, "If-Modified-Since");
+        return lastModified > 0 && ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * @return null if the whole content must be served, an empty list if none
+     * of the ranges can be satisfied, otherwise the first and last positions
+     * of the ranges
+     */
+    private static List<long[]> getRequestedRanges(HttpServletRequest request, String eTag, long lastModified,
+                                                   long length) {
+        String rangeHeader = request.getHeader("Range");
+        if (rangeHeader == null || !rangeHeader.startsWith("bytes=")) {
+            return null;
+        }
+
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!eTag.equals(ifRange)) {
+                    return null;
+                }
+            } else if (lastModified <= 0 || getDateHeader(request, "If-Range") / 1000 != lastModified / 1000) {
+                return null;
+            }
+        }
+
+        String[] rangeSpecs = rangeHeader.substring("bytes=".length()).split(",");
+        if (rangeSpecs.length > MAX_RANGES) {
+            return null;
+        }
+
+        List<long[]> ranges = new ArrayList<>(rangeSpecs.length);
+        long rangesLength = 0;
+        try {
+            for (String rangeSpec : rangeSpecs) {
+                rangeSpec = rangeSpec.trim();
+                int separatorIndex = rangeSpec.indexOf('-');
+                if (separatorIndex < 0) {
+                    return null;
+                }
+
+                long first, last;
+                if (separatorIndex == 0) {
+                    long suffixLength = Long.parseLong(rangeSpec.substring(1));
+                    if (suffixLength == 0) {
+                        continue;
+                    }
+                    first = Math.max(0, length - suffixLength);
+                    last = length - 1;
+                } else {
+                    first = Long.parseLong(rangeSpec.substring(0, separatorIndex));
+                    last = (separatorIndex == rangeSpec.length() - 1) ? length - 1 : Long.parseLong(rangeSpec
+                            .substring(separatorIndex + 1));
+                    if (last < first) {
+                        return null;
+                    }
+                    last = Math.min(last, length - 1);
+                }
+
+                if (first < length) {
+                    ranges.add(new long[]{first, last});
+                    rangesLength += last - first + 1;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        // overlapping ranges must not make the response larger than the content
+        return (rangesLength > length) ? null : ranges;
+    }
+
+    private static long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private interface Body {
+        void writeTo(OutputStream output, long offset, long length) throws IOException;
+    }
+
+    private static class FileBody implements Body {
+        private final FileChannel channel;
+
+        FileBody(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void writeTo(OutputStream output, long offset, long length) throws IOException {
+            WritableByteChannel target = Channels.newChannel(output);
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    throw new EOFException("File is shorter than " + end + " bytes");
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    private static class BytesBody implements Body {
+        private final byte[] content;
+
+        BytesBody(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public void writeTo(OutputStream output, long offset, long length) throws IOException {
+            output.write(content, (int) offset, (int) length);
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.esofthead.mycollab.servlet;
 
+import com.esofthead.mycollab.common.TooltipContent;
 import com.esofthead.mycollab.configuration.LocaleHelper;
 import com.esofthead.mycollab.core.utils.TimezoneMapper;
 import com.esofthead.mycollab.module.crm.CrmTooltipGenerator;
@@ -26,12 +27,9 @@ import com.esofthead.mycollab.module.page.domain.Page;
 import com.esofthead.mycollab.module.project.ProjectTooltipGenerator;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.domain.*;
-import com.esofthead.mycollab.module.project.domain.SimpleTask;
 import com.esofthead.mycollab.module.project.service.*;
-import com.esofthead.mycollab.module.tracker.domain.SimpleBug;
 import com.esofthead.mycollab.module.tracker.domain.SimpleComponent;
 import com.esofthead.mycollab.module.tracker.domain.SimpleVersion;
-import com.esofthead.mycollab.module.tracker.service.BugService;
 import com.esofthead.mycollab.module.tracker.service.ComponentService;
 import com.esofthead.mycollab.module.tracker.service.VersionService;
 import com.esofthead.mycollab.module.user.CommonTooltipGenerator;
@@ -78,49 +76,24 @@ public class TooltipGeneratorServletRequestHandler extends
 			String localeParam = request.getParameter("locale");
 			Locale locale = LocaleHelper.toLocale(localeParam);
 
+			ProjectTooltipService tooltipService = ApplicationContextUtil
+					.getSpringBean(ProjectTooltipService.class);
+			if (tooltipService.isSupportedType(type)) {
+				TooltipContent tooltip = tooltipService.getTooltip(type,
+						Integer.parseInt(typeId), sAccountId, siteURL, locale,
+						timeZone);
+				writeTooltip(request, response, tooltip);
+				return;
+			}
+
 			String html = "";
-			if (ProjectTypeConstants.PROJECT.equals(type)) {
-				ProjectService service = ApplicationContextUtil
-						.getSpringBean(ProjectService.class);
-				SimpleProject project = service.findById(
-						Integer.parseInt(typeId), sAccountId);
-				html = ProjectTooltipGenerator.generateToolTipProject(locale,
-						project, siteURL, timeZone);
-			} else if (ProjectTypeConstants.MESSAGE.equals(type)) {
-				MessageService service = ApplicationContextUtil
-						.getSpringBean(MessageService.class);
-				SimpleMessage message = service.findById(
-						Integer.parseInt(typeId), sAccountId);
-				html = ProjectTooltipGenerator.generateToolTipMessage(locale,
-						message, siteURL, timeZone);
-			} else if (ProjectTypeConstants.MILESTONE.equals(type)) {
-				MilestoneService service = ApplicationContextUtil
-						.getSpringBean(MilestoneService.class);
-				SimpleMilestone mileStone = service.findById(
-						Integer.parseInt(typeId), sAccountId);
-				html = ProjectTooltipGenerator.generateToolTipMilestone(locale,
-						mileStone, siteURL, timeZone);
-			} else if (ProjectTypeConstants.TASK_LIST.equals(type)) {
+			if (ProjectTypeConstants.TASK_LIST.equals(type)) {
 				ProjectTaskListService service = ApplicationContextUtil
 						.getSpringBean(ProjectTaskListService.class);
 				SimpleTaskList taskList = service.findById(
 						Integer.parseInt(typeId), sAccountId);
 				html = ProjectTooltipGenerator.generateToolTipTaskList(locale,
 						taskList, siteURL, timeZone);
-			} else if (ProjectTypeConstants.BUG.equals(type)) {
-				BugService service = ApplicationContextUtil
-						.getSpringBean(BugService.class);
-				SimpleBug bug = service.findById(Integer.parseInt(typeId),
-						sAccountId);
-				html = ProjectTooltipGenerator.generateToolTipBug(locale, bug,
-						siteURL, timeZone);
-			} else if (ProjectTypeConstants.TASK.equals(type)) {
-				ProjectTaskService service = ApplicationContextUtil
-						.getSpringBean(ProjectTaskService.class);
-				SimpleTask task = service.findById(Integer.parseInt(typeId),
-						sAccountId);
-				html = ProjectTooltipGenerator.generateToolTipTask(locale,
-						task, siteURL, timeZone);
 			} else if (ProjectTypeConstants.RISK.equals(type)) {
 				RiskService service = ApplicationContextUtil
 						.getSpringBean(RiskService.class);
@@ -251,4 +224,53 @@ public class TooltipGeneratorServletRequestHandler extends
 			return;
 		}
 	}
+
+	/**
+	 * Writes the tooltip with its validators, or only the not modified status
+	 * if the browser has the same tooltip.
+	 */
+	private static void writeTooltip(HttpServletRequest request,
+			HttpServletResponse response, TooltipContent tooltip)
+			throws IOException {
+		response.setCharacterEncoding("UTF-8");
+		response.setContentType("text/html;charset=UTF-8");
+		if (tooltip == null) {
+			response.getWriter().println((String) null);
+			return;
+		}
+
+		response.setHeader("Cache-Control", "private, no-cache");
+		response.setHeader("ETag", tooltip.getEtag());
+		response.setDateHeader("Last-Modified", tooltip.getLastModified());
+		if (isNotModified(request, tooltip)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		response.getWriter().println(tooltip.getHtml());
+	}
+
+	private static boolean isNotModified(HttpServletRequest request,
+			TooltipContent tooltip) {
+		String ifNoneMatch = request.getHeader("If-None-Match");
+		if (ifNoneMatch != null) {
+			for (String etag : ifNoneMatch.split(",")) {
+				etag = etag.trim();
+				if (etag.startsWith("W/")) {
+					etag = etag.substring(2);
+				}
+				if (etag.equals("*") || etag.equals(tooltip.getEtag())) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		try {
+			long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+			return ifModifiedSince >= 0
+					&& tooltip.getLastModified() / 1000 <= ifModifiedSince / 1000;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
 }
@@ -0,0 +1,145 @@
+/**
+ * This file is part of mycollab-servlet.
+ *
+ * mycollab-servlet is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-servlet is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-servlet.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.module.file.servlet;
+
+import com.esofthead.mycollab.servlet.StaticFileResponder;
+import com.esofthead.mycollab.servlet.StaticFileResponder.CachePolicy;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AssetCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private byte[] cssContent;
+    private ClassLoader classLoader;
+    private AssetCache assetCache;
+
+    @Before
+    public void setUp() throws IOException {
+        StringBuilder css = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            css.append(".item-").append(i).append(" { margin: 0 auto; padding: 4px 8px; color: #333; }\n");
+        }
+        cssContent = css.toString().getBytes(StandardCharsets.UTF_8);
+        writeFile("assets/css/app.css", cssContent);
+
+        byte[] imageContent = new byte[4096];
+        new Random(1).nextBytes(imageContent);
+        writeFile("assets/icons/logo.png", imageContent);
+        writeFile("VAADIN/themes/mycollab/theme.css", cssContent);
+
+        classLoader = new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()}, null);
+        assetCache = new AssetCache(classLoader);
+    }
+
+    private void writeFile(String path, byte[] content) throws IOException {
+        File file = new File(folder.getRoot(), path);
+        file.getParentFile().mkdirs();
+        try (OutputStream output = new FileOutputStream(file)) {
+            output.write(content);
+        }
+    }
+
+    @Test
+    public void testLoadAssetOnce() {
+        AssetCache.CachedAsset asset = assetCache.getAsset("/css/app.css");
+        assertThat(asset).isNotNull();
+        assertThat(asset.getContentType()).isEqualTo("text/css");
+        assertThat(assetCache.getAsset("/css/app.css")).isSameAs(asset);
+    }
+
+    @Test
+    public void testFindAssetInThemeFolder() {
+        assertThat(assetCache.getAsset("/theme.css")).isNotNull();
+        assertThat(assetCache.getAsset("/missing.css")).isNull();
+    }
+
+    @Test
+    public void testMissingAssetIsNotCached() throws IOException {
+        assertThat(assetCache.getAsset("/css/later.css")).isNull();
+
+        writeFile("assets/css/later.css", cssContent);
+        assertThat(assetCache.getAsset("/css/later.css")).isNotNull();
+    }
+
+    @Test
+    public void testNegotiateEncoding() throws IOException {
+        AssetCache.CachedAsset asset = assetCache.getAsset("/css/app.css");
+        assertThat(asset.isCompressed()).isTrue();
+
+        assertThat(asset.getVariant(null).getEncoding()).isNull();
+        assertThat(asset.getVariant(null).getContent()).isEqualTo(cssContent);
+        assertThat(asset.getVariant("identity").getEncoding()).isNull();
+        assertThat(asset.getVariant("gzip, deflate").getEncoding()).isEqualTo("gzip");
+        assertThat(asset.getVariant("deflate").getEncoding()).isEqualTo("deflate");
+        assertThat(asset.getVariant("gzip;q=0, deflate").getEncoding()).isEqualTo("deflate");
+        assertThat(asset.getVariant("gzip;q=0.5, deflate;q=0.8").getEncoding()).isEqualTo("deflate");
+        assertThat(asset.getVariant("*").getEncoding()).isEqualTo("gzip");
+
+        AssetCache.Variant gzip = asset.getVariant("gzip");
+        AssetCache.Variant deflate = asset.getVariant("deflate");
+        assertThat(gzip.getContent().length).isLessThan(cssContent.length / 4);
+        assertThat(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(gzip.getContent()))))
+                .isEqualTo(cssContent);
+        assertThat(IOUtils.toByteArray(new InflaterInputStream(new ByteArrayInputStream(deflate.getContent()))))
+                .isEqualTo(cssContent);
+        assertThat(gzip.getETag()).isNotEqualTo(deflate.getETag()).isNotEqualTo(asset.getVariant(null).getETag());
+    }
+
+    @Test
+    public void testDoNotCompressImages() {
+        AssetCache.CachedAsset asset = assetCache.getAsset("/icons/logo.png");
+        assertThat(asset.isCompressed()).isFalse();
+        assertThat(asset.getVariant("gzip").getEncoding()).isNull();
+    }
+
+    @Test
+    public void testServeCompressedVariant() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assets/css/app.css");
+        request.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AssetCache.CachedAsset asset = assetCache.getAsset("/css/app.css");
+        AssetCache.Variant variant = asset.getVariant(request.getHeader("Accept-Encoding"));
+        StaticFileResponder.serveBytes(request, response, variant.getContent(), variant.getETag(),
+                asset.getLastModified(), asset.getContentType(), CachePolicy.IMMUTABLE);
+
+        byte[] sentBytes = response.getContentAsByteArray();
+        assertThat(sentBytes.length).isLessThan(cssContent.length / 4);
+        assertThat(IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(sentBytes))))
+                .isEqualTo(cssContent);
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * This file is part of mycollab-servlet.
+ *
+ * mycollab-servlet is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * mycollab-servlet is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with mycollab-servlet.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.esofthead.mycollab.servlet;
+
+import com.esofthead.mycollab.servlet.StaticFileResponder.CachePolicy;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StaticFileResponderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+    private byte[] content;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Before
+    public void setUp() throws IOException {
+        content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) ('a' + i % 26);
+        }
+        file = folder.newFile("document.txt");
+        try (FileOutputStream output = new FileOutputStream(file)) {
+            output.write(content);
+        }
+        request = new MockHttpServletRequest("GET", "/file/document.txt");
+        response = new MockHttpServletResponse();
+    }
+
+    private void serve() throws IOException {
+        StaticFileResponder.serveFile(request, response, file, "text/plain", CachePolicy.PRIVATE);
+    }
+
+    private String getETag() throws IOException {
+        MockHttpServletResponse fullResponse = new MockHttpServletResponse();
+        StaticFileResponder.serveFile(new MockHttpServletRequest("GET", "/file/document.txt"), fullResponse, file,
+                "text/plain", CachePolicy.PRIVATE);
+        return fullResponse.getHeader("ETag");
+    }
+
+    @Test
+    public void testServeWholeFile() throws IOException {
+        serve();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("text/plain");
+        assertThat(response.getHeader("Content-Length")).isEqualTo("100");
+        assertThat(response.getHeader("Accept-Ranges")).isEqualTo("bytes");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(CachePolicy.PRIVATE.getHeaderValue());
+        assertThat(response.getHeader("ETag")).startsWith("\"").endsWith("\"");
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void testHeadRequestHasNoBody() throws IOException {
+        request.setMethod("HEAD");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Length")).isEqualTo("100");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    public void testNotModifiedByETag() throws IOException {
+        request.addHeader("If-None-Match", "\"other\", " + getETag());
+        serve();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    public void testModifiedWhenETagDiffers() throws IOException {
+        request.addHeader("If-None-Match", "\"other\"");
+        request.addHeader("If-Modified-Since", file.lastModified());
+        serve();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void testNotModifiedSinceDate() throws IOException {
+        request.addHeader("If-Modified-Since", file.lastModified() + 1000);
+        serve();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    public void testSingleRange() throws IOException {
+        request.addHeader("Range", "bytes=10-19");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 10-19/100");
+        assertThat(response.getHeader("Content-Length")).isEqualTo("10");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 10, 20));
+    }
+
+    @Test
+    public void testSuffixAndOpenRanges() throws IOException {
+        request.addHeader("Range", "bytes=-5");
+        serve();
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 95-99/100");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 95, 100));
+
+        request = new MockHttpServletRequest("GET", "/file/document.txt");
+        response = new MockHttpServletResponse();
+        request.addHeader("Range", "bytes=90-");
+        serve();
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 90-99/100");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 90, 100));
+    }
+
+    @Test
+    public void testMultipleRanges() throws IOException {
+        request.addHeader("Range", "bytes=0-4, 50-54");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        byte[] body = response.getContentAsByteArray();
+        assertThat(response.getHeader("Content-Length")).isEqualTo(String.valueOf(body.length));
+
+        String boundary = response.getContentType().substring(response.getContentType().indexOf('=') + 1);
+        String expected = "\r\n--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 0-4/100\r\n\r\n"
+                + new String(content, 0, 5, StandardCharsets.ISO_8859_1)
+                + "\r\n--" + boundary + "\r\nContent-Type: text/plain\r\nContent-Range: bytes 50-54/100\r\n\r\n"
+                + new String(content, 50, 5, StandardCharsets.ISO_8859_1)
+                + "\r\n--" + boundary + "--\r\n";
+        assertThat(new String(body, StandardCharsets.ISO_8859_1)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws IOException {
+        request.addHeader("Range", "bytes=100-200");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */100");
+    }
+
+    @Test
+    public void testInvalidRangeServesWholeFile() throws IOException {
+        request.addHeader("Range", "bytes=20-10");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void testRangeOfChangedFileServesWholeFile() throws IOException {
+        request.addHeader("Range", "bytes=10-19");
+        request.addHeader("If-Range", "\"other\"");
+        serve();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void testRangeOfBytes() throws IOException {
+        request.addHeader("Range", "bytes=10-19");
+        StaticFileResponder.serveBytes(request, response, content, file.lastModified(), "text/plain",
+                CachePolicy.IMMUTABLE);
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("ETag")).isEqualTo(getETag());
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(CachePolicy.IMMUTABLE.getHeaderValue());
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 10, 20));
+    }
+}
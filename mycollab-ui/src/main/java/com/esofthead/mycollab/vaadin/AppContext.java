@@ -41,7 +41,9 @@ import com.esofthead.mycollab.module.user.domain.UserPreference;
 import com.esofthead.mycollab.module.user.service.BillingAccountService;
 import com.esofthead.mycollab.module.user.service.UserPreferenceService;
 import com.esofthead.mycollab.security.AccessPermissionFlag;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.security.PermissionMap;
+import com.esofthead.mycollab.security.RolePermissionCollections;
 import com.esofthead.mycollab.spring.ApplicationContextUtil;
 import com.esofthead.mycollab.vaadin.ui.GoogleAnalyticsService;
 import com.esofthead.mycollab.vaadin.ui.MyCollabSession;
@@ -368,12 +370,21 @@ public class AppContext implements Serializable {
      * @return
      */
     public static boolean canBeYes(String permissionItem) {
+        return canBeYes(RolePermissionCollections.PERMISSION_INDEX
+                .slotOf(permissionItem));
+    }
+
+    /**
+     * @param permissionSlot slot constant of {@link RolePermissionCollections}
+     * @return
+     */
+    public static boolean canBeYes(int permissionSlot) {
         if (isAdmin()) {
             return true;
         }
 
-        PermissionMap permissionMap = getInstance().session.getPermissionMaps();
-        return (permissionMap == null) ? false : permissionMap.canBeYes(permissionItem);
+        CompiledPermissions permissions = getInstance().session.getPermissions();
+        return (permissions != null) && permissions.canBeYes(permissionSlot);
     }
 
     /**
@@ -381,12 +392,21 @@ public class AppContext implements Serializable {
      * @return
      */
     public static boolean canBeFalse(String permissionItem) {
+        return canBeFalse(RolePermissionCollections.PERMISSION_INDEX
+                .slotOf(permissionItem));
+    }
+
+    /**
+     * @param permissionSlot slot constant of {@link RolePermissionCollections}
+     * @return
+     */
+    public static boolean canBeFalse(int permissionSlot) {
         if (isAdmin()) {
             return true;
         }
 
-        PermissionMap permissionMap = getInstance().session.getPermissionMaps();
-        return (permissionMap == null) ? false : permissionMap.canBeFalse(permissionItem);
+        CompiledPermissions permissions = getInstance().session.getPermissions();
+        return (permissions != null) && permissions.canBeFalse(permissionSlot);
     }
 
     /**
@@ -394,12 +414,21 @@ public class AppContext implements Serializable {
      * @return
      */
     public static boolean canRead(String permissionItem) {
+        return canRead(RolePermissionCollections.PERMISSION_INDEX
+                .slotOf(permissionItem));
+    }
+
+    /**
+     * @param permissionSlot slot constant of {@link RolePermissionCollections}
+     * @return
+     */
+    public static boolean canRead(int permissionSlot) {
         if (isAdmin()) {
             return true;
         }
 
-        PermissionMap permissionMap = getInstance().session.getPermissionMaps();
-        return (permissionMap == null) ? false : permissionMap.canRead(permissionItem);
+        CompiledPermissions permissions = getInstance().session.getPermissions();
+        return (permissions != null) && permissions.canRead(permissionSlot);
     }
 
     /**
@@ -407,11 +436,21 @@ public class AppContext implements Serializable {
      * @return
      */
     public static boolean canWrite(String permissionItem) {
+        return canWrite(RolePermissionCollections.PERMISSION_INDEX
+                .slotOf(permissionItem));
+    }
+
+    /**
+     * @param permissionSlot slot constant of {@link RolePermissionCollections}
+     * @return
+     */
+    public static boolean canWrite(int permissionSlot) {
         if (isAdmin()) {
             return true;
         }
-        PermissionMap permissionMap = getInstance().session.getPermissionMaps();
-        return (permissionMap == null) ? false : permissionMap.canWrite(permissionItem);
+
+        CompiledPermissions permissions = getInstance().session.getPermissions();
+        return (permissions != null) && permissions.canWrite(permissionSlot);
     }
 
     /**
@@ -419,11 +458,21 @@ public class AppContext implements Serializable {
      * @return
      */
     public static boolean canAccess(String permissionItem) {
+        return canAccess(RolePermissionCollections.PERMISSION_INDEX
+                .slotOf(permissionItem));
+    }
+
+    /**
+     * @param permissionSlot slot constant of {@link RolePermissionCollections}
+     * @return
+     */
+    public static boolean canAccess(int permissionSlot) {
         if (isAdmin()) {
             return true;
         }
-        PermissionMap permissionMap = getInstance().session.getPermissionMaps();
-        return (permissionMap == null) ? false : permissionMap.canAccess(permissionItem);
+
+        CompiledPermissions permissions = getInstance().session.getPermissions();
+        return (permissions != null) && permissions.canAccess(permissionSlot);
     }
 
     /**
@@ -455,7 +504,7 @@ public class AppContext implements Serializable {
      */
     public static String formatDateTime(Date date) {
         return DateTimeUtils.formatDate(date, AppContext.getUserDateFormat().getDateTimeFormat(),
-                (TimeZone) MyCollabSession.getVariable(USER_TIMEZONE));
+                getUserLocale(), (TimeZone) MyCollabSession.getVariable(USER_TIMEZONE));
     }
 
     /**
@@ -464,7 +513,7 @@ public class AppContext implements Serializable {
      */
     public static String formatDate(Date date) {
         return DateTimeUtils.formatDate(date, AppContext.getUserDateFormat().getDateFormat(),
-                (TimeZone) MyCollabSession.getVariable(USER_TIMEZONE));
+                getUserLocale(), (TimeZone) MyCollabSession.getVariable(USER_TIMEZONE));
     }
 
     /**
@@ -481,7 +530,8 @@ public class AppContext implements Serializable {
     }
 
     public static String formatDayMonth(Date date) {
-        return DateTimeUtils.formatDate(date, AppContext.getUserDateFormat().getDayMonthFormat());
+        return DateTimeUtils.formatDate(date, AppContext.getUserDateFormat().getDayMonthFormat(),
+                getUserLocale(), (TimeZone) MyCollabSession.getVariable(USER_TIMEZONE));
     }
 
     /**
@@ -88,7 +88,7 @@ public abstract class AbstractListItemComp<S extends SearchCriteria, B> extends
         Button deleteBtn = new Button(
                 AppContext.getMessage(GenericI18Enum.BUTTON_DELETE));
         deleteBtn.setEnabled(AppContext
-                .canAccess(RolePermissionCollections.CRM_ACCOUNT));
+                .canAccess(RolePermissionCollections.CRM_ACCOUNT_SLOT));
 
         tableActionControls = createActionControls();
 
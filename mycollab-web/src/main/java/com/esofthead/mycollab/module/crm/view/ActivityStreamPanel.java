@@ -173,35 +173,35 @@ public class ActivityStreamPanel extends CssLayout {
 		private boolean checkReadPermisson(String type) {
 			if (CrmTypeConstants.ACCOUNT.equals(type)
 					&& !AppContext
-							.canRead(RolePermissionCollections.CRM_ACCOUNT)) {
+							.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.CONTACT.equals(type)
 					&& !AppContext
-							.canRead(RolePermissionCollections.CRM_CONTACT)) {
+							.canRead(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.CAMPAIGN.equals(type)
 					&& !AppContext
-							.canRead(RolePermissionCollections.CRM_CAMPAIGN)) {
+							.canRead(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.LEAD.equals(type)
-					&& !AppContext.canRead(RolePermissionCollections.CRM_LEAD)) {
+					&& !AppContext.canRead(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.OPPORTUNITY.equals(type)
 					&& !AppContext
-							.canRead(RolePermissionCollections.CRM_OPPORTUNITY)) {
+							.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.CASE.equals(type)
-					&& !AppContext.canRead(RolePermissionCollections.CRM_CASE)) {
+					&& !AppContext.canRead(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.TASK.equals(type)
-					&& !AppContext.canRead(RolePermissionCollections.CRM_TASK)) {
+					&& !AppContext.canRead(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.MEETING.equals(type)
 					&& !AppContext
-							.canRead(RolePermissionCollections.CRM_MEETING)) {
+							.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 				return false;
 			} else if (CrmTypeConstants.CALL.equals(type)
-					&& !AppContext.canRead(RolePermissionCollections.CRM_CALL)) {
+					&& !AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 				return false;
 			}
 			return true;
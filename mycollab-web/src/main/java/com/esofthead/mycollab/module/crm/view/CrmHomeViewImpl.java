@@ -65,28 +65,28 @@ public class CrmHomeViewImpl extends AbstractLazyPageView implements
 
 		VerticalLayout myAssignmentsLayout = new VerticalLayout();
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			opportunityChartDashlet = ViewManager
 					.getCacheComponent(IOpportunityPipelineFunnelChartDashlet.class);
 			myAssignmentsLayout.addComponent(opportunityChartDashlet);
 		}
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 			accountDashlet = new AccountListDashlet();
 			myAssignmentsLayout.addComponent(accountDashlet);
 		}
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 			meetingDashlet = new MeetingListDashlet();
 			myAssignmentsLayout.addComponent(meetingDashlet);
 		}
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_CALL)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 			callDashlet = new CallListDashlet();
 			myAssignmentsLayout.addComponent(callDashlet);
 		}
 
-		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 			leadDashlet = new LeadListDashlet();
 			myAssignmentsLayout.addComponent(leadDashlet);
 		}
@@ -61,7 +61,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(CrmCommonI18nEnum.TOOLBAR_ACCOUNTS_HEADER),
 				listener);
 		accountList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_ACCOUNT));
+				.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT));
 		accountList.setStyleName("link");
 		addComponent(accountList);
 
@@ -70,7 +70,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(CrmCommonI18nEnum.TOOLBAR_CONTACTS_HEADER),
 				listener);
 		contactList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_CONTACT));
+				.canRead(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT));
 		contactList.setStyleName("link");
 		addComponent(contactList);
 
@@ -79,7 +79,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(CrmCommonI18nEnum.TOOLBAR_CAMPAIGNS_HEADER),
 				listener);
 		campaignList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_CAMPAIGN));
+				.canRead(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT));
 		campaignList.setStyleName("link");
 		addComponent(campaignList);
 
@@ -87,7 +87,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(CrmCommonI18nEnum.TOOLBAR_LEADS_HEADER),
 				listener);
 		leadList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_LEAD));
+				.canRead(RolePermissionCollections.CRM_LEAD_SLOT_SLOT));
 		leadList.setStyleName("link");
 		addComponent(leadList);
 
@@ -96,7 +96,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(CrmCommonI18nEnum.TOOLBAR_OPPORTUNTIES_HEADER),
 				listener);
 		opportunityList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_OPPORTUNITY));
+				.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT));
 		opportunityList.setStyleName("link");
 		addComponent(opportunityList);
 
@@ -104,16 +104,16 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(CrmCommonI18nEnum.TOOLBAR_CASES_HEADER),
 				listener);
 		caseList.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_CASE));
+				.canRead(RolePermissionCollections.CRM_CASE_SLOT_SLOT));
 		caseList.setStyleName("link");
 		addComponent(caseList);
 
 		final Button activitiesList = new Button(
 				AppContext.getMessage(CrmCommonI18nEnum.TOOLBAR_ACTIVITIES_HEADER), listener);
 		final boolean isActivityEnable = AppContext
-				.canRead(RolePermissionCollections.CRM_MEETING)
-				|| AppContext.canRead(RolePermissionCollections.CRM_TASK)
-				|| AppContext.canRead(RolePermissionCollections.CRM_CALL);
+				.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)
+				|| AppContext.canRead(RolePermissionCollections.CRM_TASK_SLOT_SLOT)
+				|| AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT);
 		activitiesList.setEnabled(isActivityEnable);
 		activitiesList.setStyleName("link");
 		addComponent(activitiesList);
@@ -125,7 +125,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(CrmCommonI18nEnum.TOOLBAR_DOCUMENT_HEADER),
 				listener);
 		fileBtn.setEnabled(AppContext
-				.canRead(RolePermissionCollections.CRM_DOCUMENT));
+				.canRead(RolePermissionCollections.CRM_DOCUMENT_SLOT_SLOT));
 		fileBtn.setStyleName("link");
 		addComponent(fileBtn);
 
@@ -147,7 +147,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(AccountI18nEnum.BUTTON_NEW_ACCOUNT),
 				listener, false);
 		newAccountBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_ACCOUNT));
+				.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT));
 		newAccountBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.ACCOUNT));
 		addBtnLayout.addComponent(newAccountBtn);
 
@@ -155,7 +155,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(ContactI18nEnum.BUTTON_NEW_CONTACT),
 				listener, false);
 		newContactBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CONTACT));
+				.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT));
 		newContactBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.CONTACT));
 		addBtnLayout.addComponent(newContactBtn);
 
@@ -163,7 +163,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(CampaignI18nEnum.BUTTON_NEW_CAMPAIGN),
 				listener, false);
 		newCampaignBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CAMPAIGN));
+				.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT));
 		newCampaignBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.CAMPAIGN));
 		addBtnLayout.addComponent(newCampaignBtn);
 
@@ -172,7 +172,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 						.getMessage(OpportunityI18nEnum.BUTTON_NEW_OPPORTUNITY),
 				listener, false);
 		newOpportunityBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_OPPORTUNITY));
+				.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT));
 		newOpportunityBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.OPPORTUNITY));
 		addBtnLayout.addComponent(newOpportunityBtn);
 
@@ -180,7 +180,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(LeadI18nEnum.BUTTON_NEW_LEAD), listener,
 				false);
 		newLeadBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_LEAD));
+				.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT));
 		newLeadBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.LEAD));
 		addBtnLayout.addComponent(newLeadBtn);
 
@@ -188,7 +188,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(CaseI18nEnum.BUTTON_NEW_CASE), listener,
 				false);
 		newCaseBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CASE));
+				.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT));
 		newCaseBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.CASE));
 		addBtnLayout.addComponent(newCaseBtn);
 
@@ -196,7 +196,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(TaskI18nEnum.BUTTON_NEW_TASK), listener,
 				false);
 		newTaskBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_TASK));
+				.canWrite(RolePermissionCollections.CRM_TASK_SLOT_SLOT));
 		newTaskBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.TASK));
 		addBtnLayout.addComponent(newTaskBtn);
 
@@ -204,7 +204,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(CallI18nEnum.BUTTON_NEW_CALL), listener,
 				false);
 		newCallBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CALL));
+				.canWrite(RolePermissionCollections.CRM_CALL_SLOT_SLOT));
 		newCallBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.CALL));
 		addBtnLayout.addComponent(newCallBtn);
 
@@ -212,7 +212,7 @@ public class CrmToolbar extends HorizontalLayout implements PageView {
 				AppContext.getMessage(MeetingI18nEnum.BUTTON_NEW_MEETING),
 				listener, false);
 		newMeetingBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_MEETING));
+				.canWrite(RolePermissionCollections.CRM_MEETING_SLOT_SLOT));
 		newMeetingBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.MEETING));
 		addBtnLayout.addComponent(newMeetingBtn);
 
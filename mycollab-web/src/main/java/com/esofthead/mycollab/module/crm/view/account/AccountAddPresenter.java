@@ -78,7 +78,7 @@ public class AccountAddPresenter extends CrmGenericPresenter<AccountAddView> {
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
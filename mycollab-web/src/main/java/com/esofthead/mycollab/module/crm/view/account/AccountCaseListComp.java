@@ -101,7 +101,7 @@ public class AccountCaseListComp extends
         final Button createBtn = new Button();
         createBtn.setSizeUndefined();
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CASE));
+                .canWrite(RolePermissionCollections.CRM_CASE_SLOT));
         createBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setCaption(AppContext
                 .getMessage(CaseI18nEnum.BUTTON_NEW_CASE));
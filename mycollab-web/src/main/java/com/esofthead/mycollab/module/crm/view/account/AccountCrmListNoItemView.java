@@ -72,6 +72,6 @@ public class AccountCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT);
+        return AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT);
     }
 }
@@ -65,7 +65,7 @@ public class AccountLeadListComp extends
         final SplitButton controlsBtn = new SplitButton();
         controlsBtn.setSizeUndefined();
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_LEAD));
+                .canWrite(RolePermissionCollections.CRM_LEAD_SLOT));
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         controlsBtn.setCaption(AppContext
                 .getMessage(LeadI18nEnum.BUTTON_NEW_LEAD));
@@ -143,7 +143,7 @@ public class AccountListPresenter
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
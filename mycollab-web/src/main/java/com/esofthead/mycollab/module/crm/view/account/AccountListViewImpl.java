@@ -87,7 +87,7 @@ public class AccountListViewImpl extends
     protected DefaultMassItemActionHandlersContainer createActionControls() {
         DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-        if (AppContext.canAccess(RolePermissionCollections.CRM_ACCOUNT)) {
+        if (AppContext.canAccess(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
             container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
                     "delete", AppContext
@@ -116,7 +116,7 @@ public class AccountListViewImpl extends
                 "export", "export.csv",
                 AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-        if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
             container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
                     "update", AppContext
@@ -147,7 +147,7 @@ public class AccountListViewImpl extends
             }
         });
         importBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_ACCOUNT));
+                .canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT));
         this.addExtraButton(importBtn);
     }
 }
@@ -120,7 +120,7 @@ public class AccountOpportunityListComp
                 });
         createBtn.setSizeUndefined();
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY));
+                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT));
         createBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
 
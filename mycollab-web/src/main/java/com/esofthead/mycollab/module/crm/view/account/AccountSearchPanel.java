@@ -80,7 +80,7 @@ public class AccountSearchPanel extends DefaultGenericSearchPanel<AccountSearchC
         createAccountBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createAccountBtn.setIcon(FontAwesome.PLUS);
         createAccountBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_ACCOUNT));
+                .canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT));
         this.addHeaderRight(createAccountBtn);
     }
 
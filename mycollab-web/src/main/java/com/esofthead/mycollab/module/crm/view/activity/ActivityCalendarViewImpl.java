@@ -212,19 +212,19 @@ public class ActivityCalendarViewImpl extends AbstractCssPageView implements
         actionBtnLayout.addOption(todoBtn);
         todoBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.TASK));
         todoBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_TASK));
+                .canWrite(RolePermissionCollections.CRM_TASK_SLOT));
 
         Button callBtn = new ButtonLink("New Call", listener);
         actionBtnLayout.addOption(callBtn);
         callBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.CALL));
         callBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CALL));
+                .canWrite(RolePermissionCollections.CRM_CALL_SLOT));
 
         ButtonLink meetingBtn = new ButtonLink("New Meeting", listener);
         actionBtnLayout.addOption(meetingBtn);
         meetingBtn.setIcon(CrmAssetsManager.getAsset(CrmTypeConstants.MEETING));
         meetingBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_MEETING));
+                .canWrite(RolePermissionCollections.CRM_MEETING_SLOT));
 
         calendarActionBtn.setContent(actionBtnLayout);
 
@@ -553,7 +553,7 @@ public class ActivityCalendarViewImpl extends AbstractCssPageView implements
                 @Override
                 public void rangeSelect(RangeSelectEvent event) {
                     if (AppContext
-                            .canWrite(RolePermissionCollections.CRM_MEETING)) {
+                            .canWrite(RolePermissionCollections.CRM_MEETING_SLOT)) {
                         UI.getCurrent().addWindow(
                                 new QuickCreateEventWindow(event.getStart(),
                                         event.getEnd()));
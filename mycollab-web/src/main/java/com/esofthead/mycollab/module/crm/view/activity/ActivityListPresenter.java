@@ -84,9 +84,9 @@ public class ActivityListPresenter
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canRead(RolePermissionCollections.CRM_MEETING)
-                || AppContext.canRead(RolePermissionCollections.CRM_TASK)
-                || AppContext.canRead(RolePermissionCollections.CRM_CALL)) {
+        if (AppContext.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)
+                || AppContext.canRead(RolePermissionCollections.CRM_TASK_SLOT_SLOT)
+                || AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
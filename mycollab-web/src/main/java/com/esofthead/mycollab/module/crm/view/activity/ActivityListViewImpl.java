@@ -79,9 +79,9 @@ public class ActivityListViewImpl extends
 	@Override
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
-		if (AppContext.canAccess(RolePermissionCollections.CRM_CALL)
-				|| AppContext.canAccess(RolePermissionCollections.CRM_MEETING)
-				|| AppContext.canAccess(RolePermissionCollections.CRM_TASK)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_CALL_SLOT_SLOT)
+				|| AppContext.canAccess(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)
+				|| AppContext.canAccess(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
 
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
@@ -71,7 +71,7 @@ public class ActivityRelatedItemListComp extends
 					});
 			newTaskBtn.setIcon(FontAwesome.PLUS);
 			newTaskBtn.setEnabled(AppContext
-					.canWrite(RolePermissionCollections.CRM_TASK));
+					.canWrite(RolePermissionCollections.CRM_TASK_SLOT));
 			newTaskBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
 			buttonLayout.addComponent(newTaskBtn);
 
@@ -86,7 +86,7 @@ public class ActivityRelatedItemListComp extends
 					});
 			newCallBtn.setIcon(FontAwesome.PLUS);
 			newCallBtn.setEnabled(AppContext
-					.canWrite(RolePermissionCollections.CRM_CALL));
+					.canWrite(RolePermissionCollections.CRM_CALL_SLOT));
 			newCallBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
 			buttonLayout.addComponent(newCallBtn);
 
@@ -101,7 +101,7 @@ public class ActivityRelatedItemListComp extends
 					});
 			newMeetingBtn.setIcon(FontAwesome.PLUS);
 			newMeetingBtn.setEnabled(AppContext
-					.canWrite(RolePermissionCollections.CRM_MEETING));
+					.canWrite(RolePermissionCollections.CRM_MEETING_SLOT));
 			newMeetingBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
 			buttonLayout.addComponent(newMeetingBtn);
 
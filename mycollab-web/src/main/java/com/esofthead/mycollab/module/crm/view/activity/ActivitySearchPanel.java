@@ -56,8 +56,8 @@ public class ActivitySearchPanel extends DefaultGenericSearchPanel<ActivitySearc
         final SplitButton controlsBtn = new SplitButton();
         controlsBtn.setSizeUndefined();
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CALL)
-                || AppContext.canWrite(RolePermissionCollections.CRM_MEETING));
+                .canWrite(RolePermissionCollections.CRM_CALL_SLOT_SLOT)
+                || AppContext.canWrite(RolePermissionCollections.CRM_MEETING_SLOT_SLOT));
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         controlsBtn.setIcon(FontAwesome.PLUS);
         controlsBtn.setCaption("New Task");
@@ -89,7 +89,7 @@ public class ActivitySearchPanel extends DefaultGenericSearchPanel<ActivitySearc
                 });
         btnControlsLayout.addOption(createMeetingBtn);
         createMeetingBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_MEETING));
+                .canWrite(RolePermissionCollections.CRM_MEETING_SLOT_SLOT));
         final Button createCallBtn = new Button("New Call",
                 new Button.ClickListener() {
                     private static final long serialVersionUID = 1L;
@@ -102,7 +102,7 @@ public class ActivitySearchPanel extends DefaultGenericSearchPanel<ActivitySearc
                     }
                 });
         createCallBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CALL));
+                .canWrite(RolePermissionCollections.CRM_CALL_SLOT_SLOT));
         btnControlsLayout.addOption(createCallBtn);
 
         addHeaderRight(controlsBtn);
@@ -77,7 +77,7 @@ public class AssignmentAddPresenter extends
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_TASK)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
             CrmToolbar toolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             toolbar.gotoItem(AppContext
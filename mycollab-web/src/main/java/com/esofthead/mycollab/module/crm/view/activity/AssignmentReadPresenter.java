@@ -164,7 +164,7 @@ public class AssignmentReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_TASK)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_TASK_SLOT_SLOT)) {
 			CrmToolbar toolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			toolbar.gotoItem(AppContext
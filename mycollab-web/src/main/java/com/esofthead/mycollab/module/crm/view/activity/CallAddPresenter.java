@@ -84,7 +84,7 @@ public class CallAddPresenter extends CrmGenericPresenter<CallAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CALL)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 			CrmToolbar toolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			toolbar.gotoItem(AppContext
@@ -163,7 +163,7 @@ public class CallReadPresenter extends CrmGenericPresenter<CallReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CALL)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CALL_SLOT_SLOT)) {
 			CrmToolbar toolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			toolbar.gotoItem(AppContext
@@ -83,7 +83,7 @@ public class MeetingAddPresenter extends CrmGenericPresenter<MeetingAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_MEETING)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 			CrmToolbar toolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			toolbar.gotoItem(AppContext
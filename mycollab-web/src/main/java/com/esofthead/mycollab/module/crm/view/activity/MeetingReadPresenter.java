@@ -167,7 +167,7 @@ public class MeetingReadPresenter extends CrmGenericPresenter<MeetingReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_MEETING_SLOT_SLOT)) {
 			CrmToolbar toolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			toolbar.gotoItem(AppContext
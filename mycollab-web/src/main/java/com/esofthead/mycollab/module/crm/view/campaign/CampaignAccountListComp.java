@@ -84,7 +84,7 @@ public class CampaignAccountListComp extends
         final SplitButton controlsBtn = new SplitButton();
         controlsBtn.setSizeUndefined();
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_ACCOUNT));
+                .canWrite(RolePermissionCollections.CRM_ACCOUNT_SLOT));
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         controlsBtn.setCaption(AppContext
                 .getMessage(AccountI18nEnum.BUTTON_NEW_ACCOUNT));
@@ -78,7 +78,7 @@ public class CampaignAddPresenter extends CrmGenericPresenter<CampaignAddView> {
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
@@ -60,7 +60,7 @@ public class CampaignContactListComp extends
 		final SplitButton controlsBtn = new SplitButton();
 		controlsBtn.setSizeUndefined();
 		controlsBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CONTACT));
+				.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT));
 		controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
 		controlsBtn.setCaption(AppContext
 				.getMessage(ContactI18nEnum.BUTTON_NEW_CONTACT));
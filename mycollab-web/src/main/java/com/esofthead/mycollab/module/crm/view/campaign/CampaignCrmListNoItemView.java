@@ -72,6 +72,6 @@ public class CampaignCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN);
+        return AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT);
     }
 }
@@ -100,7 +100,7 @@ public class CampaignListPresenter
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
@@ -71,7 +71,7 @@ public class CampaignListViewImpl extends
             }
         });
 		importBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CAMPAIGN));
+				.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT));
 		this.addExtraButton(importBtn);
 
 	}
@@ -115,7 +115,7 @@ public class CampaignListViewImpl extends
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-		if (AppContext.canAccess(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -144,7 +144,7 @@ public class CampaignListViewImpl extends
 				"export", "export.csv",
 				AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
 					"update", AppContext
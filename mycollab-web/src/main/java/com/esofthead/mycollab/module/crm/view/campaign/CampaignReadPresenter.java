@@ -326,7 +326,7 @@ public class CampaignReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CAMPAIGN_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
@@ -81,7 +81,7 @@ public class CampaignSearchPanel extends DefaultGenericSearchPanel<CampaignSearc
         createCampaignBtn.setIcon(FontAwesome.PLUS);
         createCampaignBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createCampaignBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CAMPAIGN));
+                .canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT));
         addHeaderRight(createCampaignBtn);
     }
 
@@ -78,7 +78,7 @@ public class CaseAddPresenter extends CrmGenericPresenter<CaseAddView> {
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_CASE)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
@@ -82,7 +82,7 @@ public class CaseContactListComp extends
 		final SplitButton controlsBtn = new SplitButton();
 		controlsBtn.setSizeUndefined();
 		controlsBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CONTACT));
+				.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT));
 		controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
 		controlsBtn.setCaption(AppContext
 				.getMessage(ContactI18nEnum.BUTTON_NEW_CONTACT));
@@ -119,7 +119,7 @@ public class CaseContactListComp extends
 		controlsBtn.setContent(buttonControlsLayout);
 
 		controlsBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CONTACT));
+				.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT));
 
 		controlsBtnWrap.addComponent(controlsBtn);
 		controlsBtnWrap.setComponentAlignment(controlsBtn,
@@ -70,6 +70,6 @@ public class CaseCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_CASE);
+        return AppContext.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT);
     }
 }
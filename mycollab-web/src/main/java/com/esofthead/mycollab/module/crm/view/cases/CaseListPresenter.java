@@ -115,7 +115,7 @@ public class CaseListPresenter extends CrmGenericListPresenter<CaseListView, Cas
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
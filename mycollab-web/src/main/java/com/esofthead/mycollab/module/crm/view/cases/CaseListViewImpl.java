@@ -73,7 +73,7 @@ public class CaseListViewImpl extends
             }
         });
 		importBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CASE));
+				.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT));
 
 		this.addExtraButton(importBtn);
 
@@ -117,7 +117,7 @@ public class CaseListViewImpl extends
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-		if (AppContext.canAccess(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -146,7 +146,7 @@ public class CaseListViewImpl extends
 				"export", "export.csv",
 				AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
 					"update", AppContext
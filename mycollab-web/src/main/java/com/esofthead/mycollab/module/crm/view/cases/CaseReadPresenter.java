@@ -240,7 +240,7 @@ public class CaseReadPresenter extends CrmGenericPresenter<CaseReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CASE)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CASE_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
@@ -75,7 +75,7 @@ public class CaseSearchPanel extends DefaultGenericSearchPanel<CaseSearchCriteri
         createCaseBtn.setIcon(FontAwesome.PLUS);
         createCaseBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createCaseBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CASE));
+                .canWrite(RolePermissionCollections.CRM_CASE_SLOT));
         this.addHeaderRight(createCaseBtn);
     }
 
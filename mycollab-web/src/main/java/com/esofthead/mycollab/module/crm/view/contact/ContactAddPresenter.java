@@ -79,7 +79,7 @@ public class ContactAddPresenter extends CrmGenericPresenter<ContactAddView> {
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
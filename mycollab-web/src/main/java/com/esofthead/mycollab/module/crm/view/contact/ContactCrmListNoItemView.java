@@ -72,6 +72,6 @@ public class ContactCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_CONTACT);
+        return AppContext.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT);
     }
 }
@@ -73,7 +73,7 @@ public class ContactListViewImpl extends
             }
         });
 		importBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_CONTACT));
+				.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT));
 		this.addExtraButton(importBtn);
 	}
 
@@ -116,7 +116,7 @@ public class ContactListViewImpl extends
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-		if (AppContext.canAccess(RolePermissionCollections.CRM_CONTACT)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -145,7 +145,7 @@ public class ContactListViewImpl extends
 				"export", "export.csv",
 				AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-		if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
 					"update", AppContext
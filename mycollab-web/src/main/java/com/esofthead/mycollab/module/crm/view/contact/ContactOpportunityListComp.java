@@ -101,7 +101,7 @@ public class ContactOpportunityListComp
         controlsBtn.setContent(buttonControlsLayout);
 
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY));
+                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT));
 
         controlsBtnWrap.addComponent(controlsBtn);
         controlsBtnWrap.setComponentAlignment(controlsBtn, Alignment.MIDDLE_RIGHT);
@@ -246,7 +246,7 @@ public class ContactReadPresenter extends CrmGenericPresenter<ContactReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_CONTACT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_CONTACT_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
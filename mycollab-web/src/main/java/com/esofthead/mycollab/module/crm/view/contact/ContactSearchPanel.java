@@ -80,7 +80,7 @@ public class ContactSearchPanel extends
         createBtn.setIcon(FontAwesome.PLUS);
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CONTACT));
+                .canWrite(RolePermissionCollections.CRM_CONTACT_SLOT));
         this.addHeaderRight(createBtn);
     }
 
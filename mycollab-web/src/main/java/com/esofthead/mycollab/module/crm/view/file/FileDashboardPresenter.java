@@ -42,7 +42,7 @@ public class FileDashboardPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_DOCUMENT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_DOCUMENT_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
@@ -77,7 +77,7 @@ public class LeadAddPresenter extends CrmGenericPresenter<LeadAddView> {
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
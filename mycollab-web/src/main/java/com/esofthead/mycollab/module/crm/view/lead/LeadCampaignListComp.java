@@ -82,7 +82,7 @@ public class LeadCampaignListComp
         final SplitButton controlsBtn = new SplitButton();
         controlsBtn.setSizeUndefined();
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CAMPAIGN));
+                .canWrite(RolePermissionCollections.CRM_CAMPAIGN_SLOT));
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         controlsBtn.setCaption(AppContext
                 .getMessage(CampaignI18nEnum.BUTTON_NEW_CAMPAIGN));
@@ -73,6 +73,6 @@ public class LeadCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_LEAD);
+        return AppContext.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT);
     }
 }
@@ -72,7 +72,7 @@ public class LeadListViewImpl extends
             }
         });
 		importBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_LEAD));
+				.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT));
 
 		this.addExtraButton(importBtn);
 
@@ -113,7 +113,7 @@ public class LeadListViewImpl extends
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-		if (AppContext.canAccess(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -142,7 +142,7 @@ public class LeadListViewImpl extends
 				"export", "export.csv",
 				AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-		if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
 					"update", AppContext
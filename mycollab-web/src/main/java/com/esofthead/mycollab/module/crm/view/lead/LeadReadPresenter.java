@@ -250,7 +250,7 @@ public class LeadReadPresenter extends CrmGenericPresenter<LeadReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_LEAD_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
@@ -75,7 +75,7 @@ public class LeadSearchPanel extends DefaultGenericSearchPanel<LeadSearchCriteri
         createLeadBtn.setIcon(FontAwesome.PLUS);
         createLeadBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createLeadBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_LEAD));
+                .canWrite(RolePermissionCollections.CRM_LEAD_SLOT));
         this.addHeaderRight(createLeadBtn);
     }
 
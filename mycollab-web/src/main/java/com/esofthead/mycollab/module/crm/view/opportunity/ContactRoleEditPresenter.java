@@ -43,7 +43,7 @@ public class ContactRoleEditPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
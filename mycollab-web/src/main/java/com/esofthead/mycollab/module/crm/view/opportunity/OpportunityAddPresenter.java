@@ -79,7 +79,7 @@ public class OpportunityAddPresenter extends
 
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
-        if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY)) {
+        if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
             CrmToolbar crmToolbar = ViewManager
                     .getCacheComponent(CrmToolbar.class);
             crmToolbar.gotoItem(AppContext
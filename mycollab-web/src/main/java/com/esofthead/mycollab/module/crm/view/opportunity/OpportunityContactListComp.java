@@ -108,7 +108,7 @@ public class OpportunityContactListComp
         final SplitButton controlsBtn = new SplitButton();
         controlsBtn.setSizeUndefined();
         controlsBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_CONTACT));
+                .canWrite(RolePermissionCollections.CRM_CONTACT_SLOT));
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
         controlsBtn.setCaption("Add/Edit Contacts' Role");
         controlsBtn.setIcon(FontAwesome.PLUS);
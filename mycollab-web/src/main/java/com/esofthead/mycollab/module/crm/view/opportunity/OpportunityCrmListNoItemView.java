@@ -72,6 +72,6 @@ public class OpportunityCrmListNoItemView extends CrmListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY);
+        return AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT);
     }
 }
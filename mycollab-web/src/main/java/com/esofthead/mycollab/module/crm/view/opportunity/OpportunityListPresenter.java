@@ -101,7 +101,7 @@ public class OpportunityListPresenter
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
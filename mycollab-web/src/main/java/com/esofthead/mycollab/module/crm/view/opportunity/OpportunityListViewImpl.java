@@ -74,7 +74,7 @@ public class OpportunityListViewImpl extends
             }
         });
 		importBtn.setEnabled(AppContext
-				.canWrite(RolePermissionCollections.CRM_OPPORTUNITY));
+				.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT));
 		this.addExtraButton(importBtn);
 
 	}
@@ -122,7 +122,7 @@ public class OpportunityListViewImpl extends
 	protected DefaultMassItemActionHandlersContainer createActionControls() {
 		DefaultMassItemActionHandlersContainer container = new DefaultMassItemActionHandlersContainer();
 
-		if (AppContext.canAccess(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canAccess(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.DELETE_ACTION,
                     FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -151,7 +151,7 @@ public class OpportunityListViewImpl extends
 				"export", "export.csv",
 				AppContext.getMessage(GenericI18Enum.BUTTON_EXPORT_CSV));
 
-		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			container.addActionItem(MassItemActionHandler.MASS_UPDATE_ACTION,
                     FontAwesome.DATABASE,
 					"update", AppContext
@@ -278,7 +278,7 @@ public class OpportunityReadPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_OPPORTUNITY_SLOT_SLOT)) {
 			CrmToolbar crmToolbar = ViewManager
 					.getCacheComponent(CrmToolbar.class);
 			crmToolbar.gotoItem(AppContext
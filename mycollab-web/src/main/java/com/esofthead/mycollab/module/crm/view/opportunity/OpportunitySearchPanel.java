@@ -83,7 +83,7 @@ public class OpportunitySearchPanel extends
         createAccountBtn.setIcon(FontAwesome.PLUS);
         createAccountBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createAccountBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY));
+                .canWrite(RolePermissionCollections.CRM_OPPORTUNITY_SLOT));
         addHeaderRight(createAccountBtn);
     }
 
@@ -202,7 +202,7 @@ public class ResourcesDisplayComponent extends MVerticalLayout {
         createBtn.addStyleName(UIConstants.THEME_BROWN_LINK);
         createBtn.setDescription("Create new folder");
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS));
+                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT));
         navButton.addButton(createBtn);
 
         Button uploadBtn = new Button("Upload", new ClickListener() {
@@ -219,7 +219,7 @@ public class ResourcesDisplayComponent extends MVerticalLayout {
         uploadBtn.setDescription("Upload");
 
         uploadBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS));
+                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT));
         navButton.addButton(uploadBtn);
 
         Button downloadBtn = new Button("Download");
@@ -249,7 +249,7 @@ public class ResourcesDisplayComponent extends MVerticalLayout {
         downloadBtn.addStyleName(UIConstants.THEME_BROWN_LINK);
         downloadBtn.setDescription("Download");
         downloadBtn.setEnabled(AppContext
-                .canRead(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS));
+                .canRead(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT));
         navButton.addButton(downloadBtn);
 
         Button moveToBtn = new Button("Move", new Button.ClickListener() {
@@ -271,7 +271,7 @@ public class ResourcesDisplayComponent extends MVerticalLayout {
         moveToBtn.setIcon(FontAwesome.ARROWS);
         moveToBtn.addStyleName(UIConstants.THEME_BROWN_LINK);
         moveToBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS));
+                .canWrite(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT));
         moveToBtn.setDescription("Move to");
         navButton.addButton(moveToBtn);
 
@@ -295,7 +295,7 @@ public class ResourcesDisplayComponent extends MVerticalLayout {
         deleteBtn.addStyleName(UIConstants.THEME_RED_LINK);
         deleteBtn.setDescription("Delete resource");
         deleteBtn.setEnabled(AppContext
-                .canAccess(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS));
+                .canAccess(RolePermissionCollections.PUBLIC_DOCUMENT_ACCESS_SLOT));
 
         navButton.addButton(deleteBtn);
         groupBtns.addComponent(navButton);
@@ -18,17 +18,15 @@ package com.esofthead.mycollab.module.project;
 
 import com.esofthead.mycollab.vaadin.ui.MyCollabSession;
 import com.esofthead.mycollab.core.MyCollabException;
-import com.esofthead.mycollab.module.project.dao.ProjectRolePermissionMapper;
 import com.esofthead.mycollab.module.project.domain.*;
 import com.esofthead.mycollab.module.project.service.ProjectMemberService;
-import com.esofthead.mycollab.security.PermissionMap;
+import com.esofthead.mycollab.module.project.service.ProjectRoleService;
+import com.esofthead.mycollab.security.CompiledPermissions;
 import com.esofthead.mycollab.spring.ApplicationContextUtil;
 import com.esofthead.mycollab.vaadin.AppContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 import static com.esofthead.mycollab.vaadin.ui.MyCollabSession.CURRENT_PROJECT;
 import static com.esofthead.mycollab.vaadin.ui.MyCollabSession.PROJECT_MEMBER;
 
@@ -58,21 +56,17 @@ public class CurrentProjectVariables {
 				AppContext.getUsername(), project.getId(),
 				AppContext.getAccountId());
 		if (prjMember != null) {
-			if (!prjMember.isAdmin()) {
-				ProjectRolePermissionExample ex = new ProjectRolePermissionExample();
-				ex.createCriteria()
-						.andRoleidEqualTo(prjMember.getProjectroleid())
-						.andProjectidEqualTo(
-								CurrentProjectVariables.getProjectId());
-				ProjectRolePermissionMapper rolePermissionMapper = ApplicationContextUtil
-						.getSpringBean(ProjectRolePermissionMapper.class);
-				List<ProjectRolePermission> rolePermissions = rolePermissionMapper
-						.selectByExampleWithBLOBs(ex);
-				if (!rolePermissions.isEmpty()) {
-					ProjectRolePermission rolePer = rolePermissions.get(0);
-					PermissionMap permissionMap = PermissionMap
-							.fromJsonString(rolePer.getRoleval());
-					prjMember.setPermissionMaps(permissionMap);
+			if (!prjMember.isAdmin()
+					&& prjMember.getProjectroleid() != null) {
+				ProjectRoleService projectRoleService = ApplicationContextUtil
+						.getSpringBean(ProjectRoleService.class);
+				CompiledPermissions permissions = projectRoleService
+						.findCompiledPermissions(project.getId(),
+								prjMember.getProjectroleid(),
+								AppContext.getAccountId());
+				if (permissions != null) {
+					prjMember.setPermissions(permissions);
+					prjMember.setPermissionMaps(permissions.getPermissionMap());
 				}
 			}
 
@@ -108,14 +102,19 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canRead(String permissionItem) {
+		return canRead(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canRead(int permissionSlot) {
 		if (isAdmin()) {
 			return true;
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			return (permissionMap != null) && permissionMap.canRead(permissionItem);
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			return (permissions != null) && permissions.canRead(permissionSlot);
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
 			return false;
@@ -123,6 +122,11 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canWrite(String permissionItem) {
+		return canWrite(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canWrite(int permissionSlot) {
 		if (isProjectArchived()) {
 			return false;
 		}
@@ -132,9 +136,9 @@ public class CurrentProjectVariables {
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			return (permissionMap != null) && permissionMap.canWrite(permissionItem);
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			return (permissions != null) && permissions.canWrite(permissionSlot);
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
 			return false;
@@ -142,6 +146,11 @@ public class CurrentProjectVariables {
 	}
 
 	public static boolean canAccess(String permissionItem) {
+		return canAccess(ProjectRolePermissionCollections.PERMISSION_INDEX
+				.slotOf(permissionItem));
+	}
+
+	public static boolean canAccess(int permissionSlot) {
 		if (isProjectArchived()) {
 			return false;
 		}
@@ -151,9 +160,9 @@ public class CurrentProjectVariables {
 		}
 
 		try {
-			PermissionMap permissionMap = getProjectMember()
-					.getPermissionMaps();
-			return (permissionMap != null) && permissionMap.canAccess(permissionItem);
+			CompiledPermissions permissions = getProjectMember()
+					.getPermissions();
+			return (permissions != null) && permissions.canAccess(permissionSlot);
 		} catch (Exception e) {
 			LOG.error("Error while checking permission", e);
 			return false;
@@ -19,10 +19,11 @@ package com.esofthead.mycollab.module.project.reporting;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 import com.esofthead.mycollab.module.project.service.ItemTimeLoggingService;
 import com.esofthead.mycollab.reporting.ExportItemsStreamResource;
-import com.esofthead.mycollab.reporting.GroupIteratorDataSource;
 import com.esofthead.mycollab.reporting.ReportExportType;
+import com.esofthead.mycollab.reporting.StreamingDataSource;
 import com.esofthead.mycollab.vaadin.AppContext;
 import net.sf.dynamicreports.report.builder.column.TextColumnBuilder;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.Date;
 
@@ -38,6 +39,7 @@ import static net.sf.dynamicreports.report.builder.DynamicReports.*;
 public class ExportTimeLoggingStreamResource extends ExportItemsStreamResource {
 	private ItemTimeLoggingService searchService;
 	private ItemTimeLoggingSearchCriteria searchCriteria;
+	private StreamingDataSource dataSource;
 
 	public ExportTimeLoggingStreamResource(String title,
 			ReportExportType outputForm, ItemTimeLoggingService searchService,
@@ -69,10 +71,22 @@ public class ExportTimeLoggingStreamResource extends ExportItemsStreamResource {
 
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	protected void fillReport() throws Exception {
-		reportBuilder.setDataSource(new GroupIteratorDataSource(searchService,
-				searchCriteria));
+		dataSource = new StreamingDataSource() {
+			@Override
+			protected void streamItems(ResultHandler handler) {
+				searchService.streamTimeLoggings(searchCriteria, handler);
+			}
+		};
+		reportBuilder.setDataSource(dataSource);
 	}
-}
\ No newline at end of file
+
+	@Override
+	protected void closeReport() {
+		if (dataSource != null) {
+			dataSource.close();
+			dataSource = null;
+		}
+	}
+}
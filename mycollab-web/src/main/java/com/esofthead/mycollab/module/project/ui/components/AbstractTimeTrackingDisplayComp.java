@@ -20,6 +20,7 @@ import com.esofthead.mycollab.common.TableViewField;
 import com.esofthead.mycollab.core.arguments.Order;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
 import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 import com.esofthead.mycollab.module.project.service.ItemTimeLoggingService;
 import com.esofthead.mycollab.module.project.view.time.TimeTrackingTableDisplay;
@@ -48,6 +49,7 @@ public abstract class AbstractTimeTrackingDisplayComp extends VerticalLayout {
 	protected List<TableViewField> visibleFields;
 	protected TableClickListener tableClickListener;
 	protected ItemTimeLoggingService itemTimeLoggingService;
+	protected TimeLoggingSummary summary;
 
 	public AbstractTimeTrackingDisplayComp(List<TableViewField> fields,
 			TableClickListener tableClickListener) {
@@ -60,10 +62,19 @@ public abstract class AbstractTimeTrackingDisplayComp extends VerticalLayout {
 				.getSpringBean(ItemTimeLoggingService.class);
 	}
 
+	/**
+	 * 
+	 * @param searchCriteria
+	 * @param orderBy
+	 * @param summary
+	 *            summary of the time loggings of <code>searchCriteria</code>,
+	 *            the hours of every group are read from its buckets
+	 */
 	@SuppressWarnings({"unchecked"})
 	public void queryData(ItemTimeLoggingSearchCriteria searchCriteria,
-			Order orderBy) {
+			Order orderBy, TimeLoggingSummary summary) {
 		this.removeAllComponents();
+		this.summary = summary;
 
 		List<SimpleItemTimeLogging> timeLoggingEntries = itemTimeLoggingService
 				.findPagableListByCriteria(new SearchRequest<>(
@@ -108,6 +119,14 @@ public abstract class AbstractTimeTrackingDisplayComp extends VerticalLayout {
 
 	protected abstract void displayGroupItems(List<SimpleItemTimeLogging> list);
 
+	/**
+	 * 
+	 * @param timeEntry
+	 * @return hours of the group of <code>timeEntry</code> in the summary
+	 */
+	protected abstract TimeLoggingSummary.Hours getGroupHours(
+			SimpleItemTimeLogging timeEntry);
+
 	protected static class ProjectComparator
 			implements
 				Comparator<SimpleItemTimeLogging> {
@@ -168,7 +187,8 @@ public abstract class AbstractTimeTrackingDisplayComp extends VerticalLayout {
 
 		public TimeLoggingBockLayout(List<TableViewField> visibleFields,
 				TableClickListener tableClickListener,
-				List<SimpleItemTimeLogging> timeLoggingEntries) {
+				List<SimpleItemTimeLogging> timeLoggingEntries,
+				TimeLoggingSummary.Hours hours) {
 			TimeTrackingTableDisplay table = new TimeTrackingTableDisplay(
 					visibleFields);
 			table.addStyleName(UIConstants.FULL_BORDER_TABLE);
@@ -178,9 +198,9 @@ public abstract class AbstractTimeTrackingDisplayComp extends VerticalLayout {
 			addComponent(table);
 
 			double billable = 0, nonbillable = 0;
-			for (SimpleItemTimeLogging item : timeLoggingEntries) {
-				billable += item.getIsbillable() ? item.getLogvalue() : 0;
-				nonbillable += !item.getIsbillable() ? item.getLogvalue() : 0;
+			if (hours != null) {
+				billable = hours.getBillableHours();
+				nonbillable = hours.getNonBillableHours();
 			}
 
 			Label labelTotalHours = new Label(
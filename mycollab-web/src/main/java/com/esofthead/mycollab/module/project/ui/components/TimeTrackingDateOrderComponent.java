@@ -23,6 +23,7 @@ import java.util.List;
 import com.esofthead.mycollab.common.TableViewField;
 import com.esofthead.mycollab.core.utils.DateTimeUtils;
 import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.vaadin.ui.UIConstants;
 import com.esofthead.mycollab.vaadin.ui.table.IPagedBeanTable.TableClickListener;
 import com.google.common.collect.Ordering;
@@ -64,13 +65,15 @@ public class TimeTrackingDateOrderComponent
 	protected void displayGroupItems(
 			List<SimpleItemTimeLogging> timeLoggingEntries) {
 		if (timeLoggingEntries.size() > 0) {
-			Label label = new Label(DATE_FORMAT.format(timeLoggingEntries
-					.get(0).getLogforday()));
+			SimpleItemTimeLogging firstItem = timeLoggingEntries.get(0);
+			Label label = new Label(DATE_FORMAT.format(firstItem
+					.getLogforday()));
 			label.addStyleName(UIConstants.TEXT_LOG_DATE);
 			addComponent(label);
 
 			addComponent(new TimeLoggingBockLayout(visibleFields,
-					tableClickListener, timeLoggingEntries));
+					tableClickListener, timeLoggingEntries,
+					getGroupHours(firstItem)));
 		}
 	}
 
@@ -81,6 +84,14 @@ public class TimeTrackingDateOrderComponent
 				.compound(new UserComparator());
 	}
 
+	@Override
+	protected TimeLoggingSummary.Hours getGroupHours(
+			SimpleItemTimeLogging timeEntry) {
+		// days of the summary are dates without time
+		return summary.getHoursByDay().get(
+				DateTimeUtils.trimHMSOfDate(timeEntry.getLogforday()));
+	}
+
 	@Override
 	String getGroupCriteria(SimpleItemTimeLogging timeEntry) {
 		return DateTimeUtils.formatDate(timeEntry.getLogforday(), "yyyy/MM/dd");
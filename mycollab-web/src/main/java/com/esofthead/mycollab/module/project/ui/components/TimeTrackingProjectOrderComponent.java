@@ -20,6 +20,7 @@ import com.esofthead.mycollab.common.TableViewField;
 import com.esofthead.mycollab.module.project.ProjectLinkBuilder;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.ui.ProjectAssetsManager;
 import com.esofthead.mycollab.vaadin.ui.LabelLink;
 import com.esofthead.mycollab.vaadin.ui.table.IPagedBeanTable.TableClickListener;
@@ -69,7 +70,8 @@ public class TimeTrackingProjectOrderComponent
 
 			addComponent(link);
 			addComponent(new TimeLoggingBockLayout(visibleFields,
-					tableClickListener, timeLoggingEntries));
+					tableClickListener, timeLoggingEntries,
+					getGroupHours(firstItem)));
 		}
 	}
 
@@ -79,6 +81,12 @@ public class TimeTrackingProjectOrderComponent
 				.compound(new DateComparator()).compound(new UserComparator());
 	}
 
+	@Override
+	protected TimeLoggingSummary.Hours getGroupHours(
+			SimpleItemTimeLogging timeEntry) {
+		return summary.getHoursByProject().get(timeEntry.getProjectid());
+	}
+
 	@Override
 	String getGroupCriteria(SimpleItemTimeLogging timeEntry) {
 		return timeEntry.getProjectShortName();
@@ -20,6 +20,7 @@ import java.util.List;
 
 import com.esofthead.mycollab.common.TableViewField;
 import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.view.settings.component.ProjectUserLink;
 import com.esofthead.mycollab.vaadin.ui.table.IPagedBeanTable.TableClickListener;
 import com.google.common.collect.Ordering;
@@ -62,7 +63,8 @@ public class TimeTrackingUserOrderComponent extends AbstractTimeTrackingDisplayC
 					firstItem.getLogUserFullName()));
 
 			addComponent(new TimeLoggingBockLayout(visibleFields,
-					tableClickListener, timeLoggingEntries));
+					tableClickListener, timeLoggingEntries,
+					getGroupHours(firstItem)));
 		}
 	}
 
@@ -73,6 +75,12 @@ public class TimeTrackingUserOrderComponent extends AbstractTimeTrackingDisplayC
 				.compound(new DateComparator());
 	}
 
+	@Override
+	protected TimeLoggingSummary.Hours getGroupHours(
+			SimpleItemTimeLogging timeEntry) {
+		return summary.getHoursByUser().get(timeEntry.getLoguser());
+	}
+
 	@Override
 	String getGroupCriteria(SimpleItemTimeLogging timeEntry) {
 		return timeEntry.getLoguser();
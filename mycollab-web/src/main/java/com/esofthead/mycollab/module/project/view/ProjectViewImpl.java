@@ -267,7 +267,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                         }
                     });
             createPhaseBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.MILESTONES));
+                    .canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT_SLOT));
             createPhaseBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.MILESTONE));
             popupButtonsControl.addOption(createPhaseBtn);
 
@@ -282,7 +282,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                                             null));
                         }
                     });
-            createTaskBtn.setEnabled(CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.TASKS));
+            createTaskBtn.setEnabled(CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
             createTaskBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.TASK));
             popupButtonsControl.addOption(createTaskBtn);
 
@@ -296,7 +296,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                         }
                     });
             createBugBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.BUGS));
+                    .canWrite(ProjectRolePermissionCollections.BUGS_SLOT_SLOT));
             createBugBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.BUG));
             popupButtonsControl.addOption(createBugBtn);
 
@@ -309,7 +309,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                             EventBusFactory.getInstance().post(new RiskEvent.GotoAdd(this, null));
                         }
                     });
-            createRiskBtn.setEnabled(CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.RISKS));
+            createRiskBtn.setEnabled(CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.RISKS_SLOT_SLOT));
             createRiskBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.RISK));
             popupButtonsControl.addOption(createRiskBtn);
 
@@ -324,7 +324,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                         }
                     });
             createProblemBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.PROBLEMS));
+                    .canWrite(ProjectRolePermissionCollections.PROBLEMS_SLOT_SLOT));
             createProblemBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.PROBLEM));
             popupButtonsControl.addOption(createProblemBtn);
 
@@ -340,7 +340,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                         }
                     });
             editProjectBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.PROJECT));
+                    .canWrite(ProjectRolePermissionCollections.PROJECT_SLOT_SLOT));
             editProjectBtn.setIcon(FontAwesome.EDIT);
             popupButtonsControl.addOption(editProjectBtn);
 
@@ -383,12 +383,12 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                         }
                     });
             archiveProjectBtn.setEnabled(CurrentProjectVariables
-                    .canAccess(ProjectRolePermissionCollections.PROJECT));
+                    .canAccess(ProjectRolePermissionCollections.PROJECT_SLOT_SLOT));
             archiveProjectBtn.setIcon(FontAwesome.ARCHIVE);
             popupButtonsControl.addOption(archiveProjectBtn);
 
             if (CurrentProjectVariables
-                    .canAccess(ProjectRolePermissionCollections.PROJECT)) {
+                    .canAccess(ProjectRolePermissionCollections.PROJECT_SLOT_SLOT)) {
                 Button deleteProjectBtn = new Button(
                         AppContext
                                 .getMessage(ProjectCommonI18nEnum.BUTTON_DELETE_PROJECT),
@@ -424,7 +424,7 @@ public class ProjectViewImpl extends AbstractCssPageView implements ProjectView
                             }
                         });
                 deleteProjectBtn.setEnabled(CurrentProjectVariables
-                        .canAccess(ProjectRolePermissionCollections.PROJECT));
+                        .canAccess(ProjectRolePermissionCollections.PROJECT_SLOT_SLOT));
                 deleteProjectBtn.setIcon(FontAwesome.TRASH_O);
                 popupButtonsControl.addOption(deleteProjectBtn);
             }
@@ -24,6 +24,7 @@ import com.esofthead.mycollab.eventmanager.EventBusFactory;
 import com.esofthead.mycollab.module.project.ProjectTypeConstants;
 import com.esofthead.mycollab.module.project.domain.SimpleItemTimeLogging;
 import com.esofthead.mycollab.module.project.domain.SimpleProject;
+import com.esofthead.mycollab.module.project.domain.TimeLoggingSummary;
 import com.esofthead.mycollab.module.project.domain.criteria.ItemTimeLoggingSearchCriteria;
 import com.esofthead.mycollab.module.project.events.ProjectEvent;
 import com.esofthead.mycollab.module.project.i18n.TimeTrackingI18nEnum;
@@ -436,41 +437,21 @@ public class TimeTrackingSummaryViewImpl extends AbstractPageView implements
 					getProjectIds()));
 		}
 
-		searchCriteria.setIsBillable(new BooleanSearchField(true));
-		Double billableHour = this.itemTimeLoggingService
-				.getTotalHoursByCriteria(searchCriteria);
-		if (billableHour == null || billableHour < 0) {
-			billableHour = 0d;
-		}
-
-		searchCriteria.setIsBillable(new BooleanSearchField(false));
-		Double nonBillableHours = this.itemTimeLoggingService
-				.getTotalHoursByCriteria(searchCriteria);
-		if (nonBillableHours == null || nonBillableHours < 0) {
-			nonBillableHours = 0d;
-		}
-
-		searchCriteria.setIsBillable(null);
-		final Double totalHour = this.itemTimeLoggingService
-				.getTotalHoursByCriteria(searchCriteria);
-
-		if (totalHour == null || totalHour < 0) {
-			totalHoursLoggingLabel.setValue("Total hours logging: 0 Hrs");
-		} else {
-			totalHoursLoggingLabel
-					.setValue(AppContext
-							.getMessage(
-									TimeTrackingI18nEnum.TASK_LIST_RANGE_WITH_TOTAL_HOUR,
-									fromDate, toDate, totalHour, billableHour,
-									nonBillableHours));
-		}
+		searchCriteria.setSaccountid(new NumberSearchField(AppContext
+				.getAccountId()));
+		TimeLoggingSummary summary = this.itemTimeLoggingService
+				.getTimeLoggingSummary(searchCriteria);
+		totalHoursLoggingLabel.setValue(AppContext.getMessage(
+				TimeTrackingI18nEnum.TASK_LIST_RANGE_WITH_TOTAL_HOUR, fromDate,
+				toDate, summary.getTotalHours(), summary.getBillableHours(),
+				summary.getNonBillableHours()));
 
 		timeTrackingWrapper.removeAllComponents();
 
 		AbstractTimeTrackingDisplayComp timeDisplayComp = buildTimeTrackingComp();
 		timeTrackingWrapper.addComponent(timeDisplayComp);
 		timeDisplayComp.queryData(searchCriteria,
-				(Order) this.orderField.getValue());
+				(Order) this.orderField.getValue(), summary);
 	}
 
 	private TableClickListener tableClickListener = new TableClickListener() {
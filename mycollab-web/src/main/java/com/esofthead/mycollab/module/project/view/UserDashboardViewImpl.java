@@ -152,7 +152,7 @@ public class UserDashboardViewImpl extends AbstractLazyPageView implements
                 true, false));
         headerContentTop.with(headerLabel).withAlign(headerLabel, Alignment.TOP_LEFT);
 
-        if (AppContext.canBeYes(RolePermissionCollections.CREATE_NEW_PROJECT)) {
+        if (AppContext.canBeYes(RolePermissionCollections.CREATE_NEW_PROJECT_SLOT_SLOT)) {
              Button createProjectBtn = new Button(
                     AppContext
                             .getMessage(ProjectCommonI18nEnum.BUTTON_NEW_PROJECT),
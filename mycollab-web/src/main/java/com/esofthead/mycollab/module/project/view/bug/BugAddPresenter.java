@@ -90,7 +90,7 @@ public class BugAddPresenter extends AbstractPresenter<BugAddView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.BUGS)) {
+                .canWrite(ProjectRolePermissionCollections.BUGS_SLOT)) {
             BugContainer bugContainer = (BugContainer) container;
             bugContainer.removeAllComponents();
             bugContainer.addComponent(view.getWidget());
@@ -96,7 +96,7 @@ public class BugDashboardViewImpl extends AbstractLazyPageView implements
                     }
                 });
         createBugBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.BUGS));
+                .canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
         createBugBtn.setIcon(FontAwesome.PLUS);
         final SplitButton controlsBtn = new SplitButton(createBugBtn);
         controlsBtn.addStyleName(UIConstants.THEME_GREEN_LINK);
@@ -114,7 +114,7 @@ public class BugDashboardViewImpl extends AbstractLazyPageView implements
                     }
                 });
         createComponentBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.COMPONENTS));
+                .canWrite(ProjectRolePermissionCollections.COMPONENTS_SLOT));
         createComponentBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.BUG_COMPONENT));
         btnControlsLayout.addOption(createComponentBtn);
 
@@ -129,7 +129,7 @@ public class BugDashboardViewImpl extends AbstractLazyPageView implements
                     }
                 });
         createVersionBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.VERSIONS));
+                .canWrite(ProjectRolePermissionCollections.VERSIONS_SLOT));
         createVersionBtn.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.BUG_VERSION));
         btnControlsLayout.addOption(createVersionBtn);
 
@@ -74,6 +74,6 @@ public class BugListNoItemView extends ProjectListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.BUGS);
+        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.BUGS_SLOT_SLOT);
     }
 }
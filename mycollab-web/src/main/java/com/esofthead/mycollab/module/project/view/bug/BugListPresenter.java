@@ -65,7 +65,7 @@ public class BugListPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.BUGS)) {
+				.canRead(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			BugContainer trackerContainer = (BugContainer) container;
 			trackerContainer.removeAllComponents();
 			trackerContainer.addComponent(view.getWidget());
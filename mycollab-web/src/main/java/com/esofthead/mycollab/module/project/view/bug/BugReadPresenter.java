@@ -122,7 +122,7 @@ public class BugReadPresenter extends AbstractPresenter<BugReadView> {
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.BUGS)) {
+				.canRead(ProjectRolePermissionCollections.BUGS_SLOT)) {
 			if (data.getParams() instanceof Integer) {
 				BugService bugService = ApplicationContextUtil
 						.getSpringBean(BugService.class);
@@ -269,7 +269,7 @@ public class BugReadViewImpl extends AbstractPreviewItemComp<SimpleBug>
             this.bugWorkflowControl.addComponent(navButton);
         }
         this.bugWorkflowControl.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.BUGS));
+                .canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
     }
 
     @Override
@@ -423,7 +423,7 @@ public class BugReadViewImpl extends AbstractPreviewItemComp<SimpleBug>
                     }
                 });
         assignBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.BUGS));
+                .canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
         assignBtn.setIcon(FontAwesome.SHARE);
 
         assignBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
@@ -82,7 +82,7 @@ public class BugSearchPanel extends DefaultGenericSearchPanel<BugSearchCriteria>
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.BUGS));
+                .canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
         addHeaderRight(createBtn);
     }
 
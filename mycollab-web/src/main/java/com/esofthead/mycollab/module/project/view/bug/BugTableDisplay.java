@@ -183,7 +183,7 @@ public class BugTableDisplay extends
                         });
 
                 bugSettingBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.BUGS));
+                        .canWrite(ProjectRolePermissionCollections.BUGS_SLOT));
 
                 bugSettingBtn.addClickListener(new Button.ClickListener() {
                     private static final long serialVersionUID = 1L;
@@ -384,7 +384,7 @@ public class BugTableDisplay extends
         ContextMenuItem deleteMenuItem = contextMenu.addItem("Delete");
         deleteMenuItem.setData(new MenuItemData("action", "delete"));
         deleteMenuItem.setEnabled(CurrentProjectVariables
-                .canAccess(ProjectRolePermissionCollections.BUGS));
+                .canAccess(ProjectRolePermissionCollections.BUGS_SLOT));
     }
 
     private static class MenuItemData {
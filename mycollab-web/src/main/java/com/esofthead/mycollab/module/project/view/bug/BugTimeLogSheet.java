@@ -46,7 +46,7 @@ public class BugTimeLogSheet extends TimeLogComp<SimpleBug> {
 	@Override
 	protected boolean hasEditPermission() {
 		return CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.BUGS);
+				.canWrite(ProjectRolePermissionCollections.BUGS_SLOT);
 	}
 
 	@Override
@@ -150,7 +150,7 @@ public class BugTimeLogSheet extends TimeLogComp<SimpleBug> {
 		@Override
 		protected boolean isEnableAdd() {
 			return CurrentProjectVariables
-					.canWrite(ProjectRolePermissionCollections.BUGS);
+					.canWrite(ProjectRolePermissionCollections.BUGS_SLOT);
 		}
 	}
 
@@ -103,7 +103,7 @@ public class ComponentAddPresenter extends AbstractPresenter<ComponentAddView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.COMPONENTS)) {
+				.canWrite(ProjectRolePermissionCollections.COMPONENTS_SLOT)) {
 			com.esofthead.mycollab.module.project.view.bug.ComponentContainer componentContainer = (com.esofthead.mycollab.module.project.view.bug.ComponentContainer) container;
 			componentContainer.removeAllComponents();
 			componentContainer.addComponent(view.getWidget());
@@ -76,6 +76,6 @@ public class ComponentListNoItemView extends ProjectListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.COMPONENTS);
+        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.COMPONENTS_SLOT_SLOT);
     }
 }
@@ -91,7 +91,7 @@ public class ComponentListPresenter
 	protected void onGo(com.vaadin.ui.ComponentContainer container,
 			ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.COMPONENTS)) {
+				.canRead(ProjectRolePermissionCollections.COMPONENTS_SLOT)) {
 			ComponentContainer trackerContainer = (ComponentContainer) container;
 			trackerContainer.removeAllComponents();
 			trackerContainer.addComponent(view.getWidget());
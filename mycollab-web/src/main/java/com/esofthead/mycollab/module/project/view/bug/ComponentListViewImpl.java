@@ -206,7 +206,7 @@ public class ComponentListViewImpl extends AbstractPageView implements
 
 		this.tableActionControls = new DefaultMassItemActionHandlersContainer();
 		if (CurrentProjectVariables
-				.canAccess(ProjectRolePermissionCollections.COMPONENTS)) {
+				.canAccess(ProjectRolePermissionCollections.COMPONENTS_SLOT)) {
 			tableActionControls.addActionItem(
 					MassItemActionHandler.DELETE_ACTION, FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -142,7 +142,7 @@ public class ComponentReadPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.COMPONENTS)) {
+				.canRead(ProjectRolePermissionCollections.COMPONENTS_SLOT)) {
 			if (data.getParams() instanceof Integer) {
 				ComponentService componentService = ApplicationContextUtil
 						.getSpringBean(ComponentService.class);
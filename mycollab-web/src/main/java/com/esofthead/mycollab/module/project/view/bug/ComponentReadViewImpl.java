@@ -216,7 +216,7 @@ public class ComponentReadViewImpl extends
         componentPreviewForm.insertToControlBlock(quickActionStatusBtn);
 
         if (!CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.COMPONENTS)) {
+                .canWrite(ProjectRolePermissionCollections.COMPONENTS_SLOT)) {
             quickActionStatusBtn.setEnabled(false);
         }
         return topPanel;
@@ -80,7 +80,7 @@ public class ComponentSearchPanel extends DefaultGenericSearchPanel<ComponentSea
                     }
                 });
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.COMPONENTS));
+                .canWrite(ProjectRolePermissionCollections.COMPONENTS_SLOT));
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
         this.addHeaderRight(createBtn);
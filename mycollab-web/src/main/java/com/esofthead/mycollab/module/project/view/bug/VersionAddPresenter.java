@@ -99,7 +99,7 @@ public class VersionAddPresenter extends AbstractPresenter<VersionAddView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.VERSIONS)) {
+				.canWrite(ProjectRolePermissionCollections.VERSIONS_SLOT)) {
 			VersionContainer versionContainer = (VersionContainer) container;
 			versionContainer.addComponent(view.getWidget());
 
@@ -76,6 +76,6 @@ public class VersionListNoItemView extends ProjectListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.VERSIONS);
+        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.VERSIONS_SLOT_SLOT);
     }
 }
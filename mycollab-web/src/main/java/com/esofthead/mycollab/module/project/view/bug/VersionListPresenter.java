@@ -85,7 +85,7 @@ public class VersionListPresenter extends ProjectGenericListPresenter<VersionLis
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.VERSIONS)) {
+				.canRead(ProjectRolePermissionCollections.VERSIONS_SLOT)) {
 			VersionContainer versionContainer = (VersionContainer) container;
 			versionContainer.removeAllComponents();
 			versionContainer.addComponent(view.getWidget());
@@ -186,7 +186,7 @@ public class VersionListViewImpl extends AbstractPageView implements
 		tableActionControls = new DefaultMassItemActionHandlersContainer();
 
 		if (CurrentProjectVariables
-				.canAccess(ProjectRolePermissionCollections.VERSIONS)) {
+				.canAccess(ProjectRolePermissionCollections.VERSIONS_SLOT)) {
 			tableActionControls.addActionItem(
 					MassItemActionHandler.DELETE_ACTION, FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -137,7 +137,7 @@ public class VersionReadPresenter extends AbstractPresenter<VersionReadView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.VERSIONS)) {
+				.canRead(ProjectRolePermissionCollections.VERSIONS_SLOT)) {
 			if (data.getParams() instanceof Integer) {
 				VersionService componentService = ApplicationContextUtil
 						.getSpringBean(VersionService.class);
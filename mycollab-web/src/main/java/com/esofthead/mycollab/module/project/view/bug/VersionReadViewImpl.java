@@ -204,7 +204,7 @@ public class VersionReadViewImpl extends AbstractPreviewItemComp<Version>
         versionPreviewForm.insertToControlBlock(quickActionStatusBtn);
 
         if (!CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.VERSIONS)) {
+                .canWrite(ProjectRolePermissionCollections.VERSIONS_SLOT)) {
             quickActionStatusBtn.setEnabled(false);
         }
 
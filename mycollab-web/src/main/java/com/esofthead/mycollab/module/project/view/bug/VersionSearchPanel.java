@@ -79,7 +79,7 @@ public class VersionSearchPanel extends DefaultGenericSearchPanel<VersionSearchC
                     }
                 });
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.VERSIONS));
+                .canWrite(ProjectRolePermissionCollections.VERSIONS_SLOT));
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
         this.addHeaderRight(createBtn);
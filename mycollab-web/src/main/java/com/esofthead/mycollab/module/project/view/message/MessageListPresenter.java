@@ -79,7 +79,7 @@ public class MessageListPresenter extends AbstractPresenter<MessageListView>
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MESSAGES)) {
+				.canRead(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 			ProjectBreadcrumb breadCrumb = ViewManager
 					.getCacheComponent(ProjectBreadcrumb.class);
 			breadCrumb.gotoMessageList();
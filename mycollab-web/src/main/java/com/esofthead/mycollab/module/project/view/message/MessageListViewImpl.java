@@ -210,7 +210,7 @@ public class MessageListViewImpl extends AbstractPageView implements
             deleteBtn.setIcon(FontAwesome.TRASH_O);
             deleteBtn.addStyleName(UIConstants.BUTTON_ICON_ONLY);
             deleteBtn.setEnabled(CurrentProjectVariables
-                    .canAccess(ProjectRolePermissionCollections.MESSAGES));
+                    .canAccess(ProjectRolePermissionCollections.MESSAGES_SLOT_SLOT));
 
             final MHorizontalLayout rightHeader = new MHorizontalLayout();
             rightHeader.setDefaultComponentAlignment(Alignment.MIDDLE_RIGHT);
@@ -454,11 +454,11 @@ public class MessageListViewImpl extends AbstractPageView implements
                             }
                         });
                 createMessageBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.MESSAGES));
+                        .canWrite(ProjectRolePermissionCollections.MESSAGES_SLOT_SLOT));
                 createMessageBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
                 createMessageBtn.setIcon(FontAwesome.PLUS);
                 createMessageBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.MESSAGES));
+                        .canWrite(ProjectRolePermissionCollections.MESSAGES_SLOT_SLOT));
 
                 this.messagePanelBody.addComponent(createMessageBtn);
                 this.messagePanelBody.setComponentAlignment(createMessageBtn,
@@ -507,7 +507,7 @@ public class MessageListViewImpl extends AbstractPageView implements
 
         @Override
         protected boolean hasPermission() {
-            return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.MESSAGES);
+            return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.MESSAGES_SLOT_SLOT);
         }
     }
 
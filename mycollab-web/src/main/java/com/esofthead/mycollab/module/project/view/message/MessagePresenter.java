@@ -46,7 +46,7 @@ public class MessagePresenter extends AbstractPresenter<MessageContainer> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MESSAGES)) {
+				.canRead(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 			ProjectView projectViewContainer = (ProjectView) container;
 			projectViewContainer.gotoSubView(ProjectTypeConstants.MESSAGE);
 
@@ -97,7 +97,7 @@ public class MessageReadPresenter extends AbstractPresenter<MessageReadView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MESSAGES)) {
+				.canRead(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
 			MessageContainer messageContainer = (MessageContainer) container;
 			messageContainer.navigateToContainer(ProjectTypeConstants.MESSAGE);
 			messageContainer.removeAllComponents();
@@ -165,7 +165,7 @@ public class MessageReadViewImpl extends AbstractPageView implements
             deleteBtn.setIcon(FontAwesome.TRASH_O);
             deleteBtn.addStyleName(UIConstants.THEME_RED_LINK);
             deleteBtn.setEnabled(CurrentProjectVariables
-                    .canAccess(ProjectRolePermissionCollections.MESSAGES));
+                    .canAccess(ProjectRolePermissionCollections.MESSAGES_SLOT));
 
             stickyCheck = new CheckBox(AppContext.getMessage(MessageI18nEnum.FORM_IS_STICK), message.getIsstick());
             stickyCheck.addValueChangeListener(new ValueChangeListener() {
@@ -174,7 +174,7 @@ public class MessageReadViewImpl extends AbstractPageView implements
                 @Override
                 public void valueChange(ValueChangeEvent event) {
                     if (CurrentProjectVariables
-                            .canWrite(ProjectRolePermissionCollections.MESSAGES)) {
+                            .canWrite(ProjectRolePermissionCollections.MESSAGES_SLOT)) {
                         message.setIsstick(stickyCheck.getValue());
                         message.setSaccountid(AppContext.getAccountId());
                         final MessageService messageService = ApplicationContextUtil
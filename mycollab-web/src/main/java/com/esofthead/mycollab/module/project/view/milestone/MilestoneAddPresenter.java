@@ -94,7 +94,7 @@ public class MilestoneAddPresenter extends AbstractPresenter<MilestoneAddView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.MILESTONES)) {
+                .canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT)) {
             MilestoneContainer milestoneContainer = (MilestoneContainer) container;
             milestoneContainer.navigateToContainer(ProjectTypeConstants.MILESTONE);
             milestoneContainer.removeAllComponents();
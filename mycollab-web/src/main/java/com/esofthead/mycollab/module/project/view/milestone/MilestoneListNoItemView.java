@@ -75,7 +75,7 @@ public class MilestoneListNoItemView extends ProjectListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.MILESTONES);
+        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT_SLOT);
     }
 
 }
@@ -64,7 +64,7 @@ public class MilestoneListPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MILESTONES)) {
+				.canRead(ProjectRolePermissionCollections.MILESTONES_SLOT)) {
 			MilestoneContainer milestoneContainer = (MilestoneContainer) container;
 			milestoneContainer.navigateToContainer(ProjectTypeConstants.MILESTONE);
 			milestoneContainer.removeAllComponents();
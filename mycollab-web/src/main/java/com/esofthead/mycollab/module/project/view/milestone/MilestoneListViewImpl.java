@@ -80,7 +80,7 @@ public class MilestoneListViewImpl extends AbstractLazyPageView implements Miles
         constructBody();
 
         this.createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.MILESTONES));
+                .canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT));
 
         int totalClosedMilestones = 0, totalInprogressMilestones = 0, totalFutureMilestones = 0;
 
@@ -140,7 +140,7 @@ public class MilestoneListViewImpl extends AbstractLazyPageView implements Miles
         createBtn.setIcon(FontAwesome.PLUS);
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.MILESTONES));
+                .canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT));
         layout.addComponent(createBtn);
         layout.setComponentAlignment(createBtn, Alignment.MIDDLE_RIGHT);
 
@@ -247,7 +247,7 @@ public class MilestoneListViewImpl extends AbstractLazyPageView implements Miles
                     }
                 });
         editButton.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.MILESTONES));
+                .canWrite(ProjectRolePermissionCollections.MILESTONES_SLOT));
         editButton.setIcon(FontAwesome.EDIT);
         filterBtnLayout.addOption(editButton);
 
@@ -289,7 +289,7 @@ public class MilestoneListViewImpl extends AbstractLazyPageView implements Miles
                 });
         deleteBtn.setIcon(FontAwesome.TRASH_O);
         deleteBtn.setEnabled(CurrentProjectVariables
-                .canAccess(ProjectRolePermissionCollections.MILESTONES));
+                .canAccess(ProjectRolePermissionCollections.MILESTONES_SLOT));
         filterBtnLayout.addOption(deleteBtn);
 
         taskSettingPopupBtn.setIcon(FontAwesome.COG);
@@ -173,7 +173,7 @@ public class MilestoneReadPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.MILESTONES)) {
+				.canRead(ProjectRolePermissionCollections.MILESTONES_SLOT)) {
 			MilestoneContainer milestoneContainer = (MilestoneContainer) container;
 			milestoneContainer.navigateToContainer(ProjectTypeConstants.MILESTONE);
 			if (data.getParams() instanceof Integer) {
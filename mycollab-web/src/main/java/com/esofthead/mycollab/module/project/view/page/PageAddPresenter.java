@@ -77,7 +77,7 @@ public class PageAddPresenter extends AbstractPresenter<PageAddView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.PAGES)) {
+                .canWrite(ProjectRolePermissionCollections.PAGES_SLOT)) {
             PageContainer pageContainer = (PageContainer) container;
             pageContainer.navigateToContainer(ProjectTypeConstants.PAGE);
             pageContainer.removeAllComponents();
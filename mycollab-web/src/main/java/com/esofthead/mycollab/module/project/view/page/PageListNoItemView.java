@@ -94,6 +94,6 @@ public class PageListNoItemView extends ProjectListNoItemView {
 
     @Override
     protected boolean hasPermission() {
-        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.PAGES);
+        return CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.PAGES_SLOT_SLOT);
     }
 }
\ No newline at end of file
@@ -50,7 +50,7 @@ public class PageListPresenter extends AbstractPresenter<PageListView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canRead(ProjectRolePermissionCollections.PAGES)) {
+                .canRead(ProjectRolePermissionCollections.PAGES_SLOT)) {
             PageContainer pageContainer = (PageContainer) container;
             pageContainer.navigateToContainer(ProjectTypeConstants.PAGE);
             pageContainer.removeAllComponents();
@@ -213,7 +213,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
         newGroupBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         newGroupBtn.setIcon(FontAwesome.PLUS);
         newGroupBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.PAGES));
+                .canWrite(ProjectRolePermissionCollections.PAGES_SLOT));
         headerLayout.with(newGroupBtn).withAlign(newGroupBtn,
                 Alignment.MIDDLE_RIGHT);
 
@@ -231,7 +231,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
         newPageBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         newPageBtn.setIcon(FontAwesome.PLUS);
         newPageBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.PAGES));
+                .canWrite(ProjectRolePermissionCollections.PAGES_SLOT));
 
         headerText.setStyleName(UIConstants.HEADER_TEXT);
         headerLayout.with(newPageBtn).withAlign(newPageBtn,
@@ -308,7 +308,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
         editBtn.setIcon(FontAwesome.EDIT);
         editBtn.setStyleName("link");
         editBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.PAGES));
+                .canWrite(ProjectRolePermissionCollections.PAGES_SLOT));
         controlBtns.addComponent(editBtn);
 
         Button deleteBtn = new Button(
@@ -348,7 +348,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
                     }
                 });
         deleteBtn.setEnabled(CurrentProjectVariables
-                .canAccess(ProjectRolePermissionCollections.PAGES));
+                .canAccess(ProjectRolePermissionCollections.PAGES_SLOT));
         deleteBtn.setIcon(FontAwesome.TRASH_O);
         deleteBtn.setStyleName("link");
         controlBtns.addComponent(deleteBtn);
@@ -413,7 +413,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
                     }
                 });
         editBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.PAGES));
+                .canWrite(ProjectRolePermissionCollections.PAGES_SLOT));
         editBtn.setIcon(FontAwesome.EDIT);
         editBtn.setStyleName("link");
         controlBtns.addComponent(editBtn);
@@ -455,7 +455,7 @@ public class PageListViewImpl extends AbstractPageView implements PageListView {
                     }
                 });
         deleteBtn.setEnabled(CurrentProjectVariables
-                .canAccess(ProjectRolePermissionCollections.PAGES));
+                .canAccess(ProjectRolePermissionCollections.PAGES_SLOT));
         deleteBtn.setIcon(FontAwesome.TRASH_O);
         deleteBtn.setStyleName("link");
         controlBtns.addComponent(deleteBtn);
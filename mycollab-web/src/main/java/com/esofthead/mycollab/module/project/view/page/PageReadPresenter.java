@@ -104,7 +104,7 @@ public class PageReadPresenter extends AbstractPresenter<PageReadView> {
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.PAGES)) {
+				.canRead(ProjectRolePermissionCollections.PAGES_SLOT)) {
 			PageContainer pageContainer = (PageContainer) container;
 			pageContainer.navigateToContainer(ProjectTypeConstants.PAGE);
 			pageContainer.removeAllComponents();
@@ -89,7 +89,7 @@ public class ProjectMemberEditPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.USERS)) {
+				.canWrite(ProjectRolePermissionCollections.USERS_SLOT)) {
 			ProjectUserContainer userGroupContainer = (ProjectUserContainer) container;
 			userGroupContainer.removeAllComponents();
 			userGroupContainer.addComponent(view.getWidget());
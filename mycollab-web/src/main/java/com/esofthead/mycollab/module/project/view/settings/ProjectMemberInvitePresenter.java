@@ -102,7 +102,7 @@ public class ProjectMemberInvitePresenter extends
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.USERS)) {
+                .canWrite(ProjectRolePermissionCollections.USERS_SLOT)) {
             ProjectUserContainer userGroupContainer = (ProjectUserContainer) container;
             userGroupContainer.removeAllComponents();
             userGroupContainer.addComponent(view.getWidget());
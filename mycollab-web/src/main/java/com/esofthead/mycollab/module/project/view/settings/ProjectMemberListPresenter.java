@@ -48,7 +48,7 @@ public class ProjectMemberListPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.USERS)) {
+				.canRead(ProjectRolePermissionCollections.USERS_SLOT)) {
 			ProjectUserContainer userGroupContainer = (ProjectUserContainer) container;
 			userGroupContainer.removeAllComponents();
 			userGroupContainer.addComponent(view.getWidget());
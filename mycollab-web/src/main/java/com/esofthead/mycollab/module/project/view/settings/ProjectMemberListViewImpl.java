@@ -82,7 +82,7 @@ public class ProjectMemberListViewImpl extends AbstractPageView implements
                     }
                 });
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.USERS));
+                .canWrite(ProjectRolePermissionCollections.USERS_SLOT));
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
 
@@ -162,7 +162,7 @@ public class ProjectMemberListViewImpl extends AbstractPageView implements
 
         blockContent.addComponent(deleteBtn);
         deleteBtn.setVisible(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.USERS));
+                .canWrite(ProjectRolePermissionCollections.USERS_SLOT));
         blockContent.setComponentAlignment(deleteBtn, Alignment.TOP_RIGHT);
 
         LabelLink memberLink = new LabelLink(member.getMemberFullName(),
@@ -185,7 +185,7 @@ public class ProjectMemberReadPresenter extends
 			}
 		}
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.USERS)
+				.canRead(ProjectRolePermissionCollections.USERS_SLOT)
 				|| isCurrentUserAccess) {
 			ProjectMemberService prjMemberService = ApplicationContextUtil
 					.getSpringBean(ProjectMemberService.class);
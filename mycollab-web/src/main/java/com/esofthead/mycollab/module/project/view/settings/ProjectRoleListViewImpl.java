@@ -152,11 +152,11 @@ public class ProjectRoleListViewImpl extends AbstractPageView implements
 		final Button deleteBtn = new Button(
 				AppContext.getMessage(GenericI18Enum.BUTTON_DELETE));
 		deleteBtn.setEnabled(CurrentProjectVariables
-				.canAccess(ProjectRolePermissionCollections.ROLES));
+				.canAccess(ProjectRolePermissionCollections.ROLES_SLOT));
 
 		this.tableActionControls = new DefaultMassItemActionHandlersContainer();
 		if (CurrentProjectVariables
-				.canAccess(ProjectRolePermissionCollections.ROLES)) {
+				.canAccess(ProjectRolePermissionCollections.ROLES_SLOT)) {
 			tableActionControls.addActionItem(
 					MassItemActionHandler.DELETE_ACTION, FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -77,7 +77,7 @@ public class ProjectRoleSearchPanel extends DefaultGenericSearchPanel<ProjectRol
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
         createBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.ROLES));
+                .canWrite(ProjectRolePermissionCollections.ROLES_SLOT));
         this.addHeaderRight(createBtn);
     }
 
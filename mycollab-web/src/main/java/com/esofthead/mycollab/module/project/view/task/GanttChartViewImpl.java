@@ -19,6 +19,7 @@ package com.esofthead.mycollab.module.project.view.task;
 import com.esofthead.mycollab.common.i18n.GenericI18Enum;
 import com.esofthead.mycollab.common.i18n.OptionI18nEnum;
 import com.esofthead.mycollab.core.arguments.NumberSearchField;
+import com.esofthead.mycollab.core.arguments.RangeDateTimeSearchField;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
 import com.esofthead.mycollab.core.arguments.SetSearchField;
 import com.esofthead.mycollab.core.utils.DateTimeUtils;
@@ -74,6 +75,9 @@ public class GanttChartViewImpl extends AbstractPageView implements
 
     private Gantt gantt;
     private LinkedHashMap<Step, SimpleTask> stepMap;
+    private TreeMap<Integer, SimpleTask> loadedTasks;
+    private Date loadedFrom;
+    private Date loadedTo;
     private NativeSelect reso;
 
     private TaskTableDisplay taskTable;
@@ -208,28 +212,69 @@ public class GanttChartViewImpl extends AbstractPageView implements
         calendar.setTimeInMillis(endDate);
         task.setEnddate(calendar.getTime());
 
-        taskService.updateWithSession(task, AppContext.getUsername());
+        taskService.rescheduleTasks(Collections.singletonList(task),
+                AppContext.getUsername(), AppContext.getAccountId());
         taskTable.setCurrentDataList(stepMap.values());
     }
 
     public void displayGanttChart() {
+        loadedTasks = new TreeMap<>();
+        loadedFrom = null;
+        loadedTo = null;
         updateStepList();
     }
 
+    /**
+     * Loads the tasks of the part of the timeline that has not been loaded
+     * yet, so widening the timeline only queries the newly shown dates.
+     */
+    private void loadVisibleTasks() {
+        Date startDate = gantt.getStartDate();
+        Date endDate = gantt.getEndDate();
+        if (loadedFrom == null) {
+            loadTasks(startDate, endDate);
+            loadedFrom = startDate;
+            loadedTo = endDate;
+            return;
+        }
+
+        if (startDate.before(loadedFrom)) {
+            loadTasks(startDate, loadedFrom);
+            loadedFrom = startDate;
+        }
+        if (endDate.after(loadedTo)) {
+            loadTasks(loadedTo, endDate);
+            loadedTo = endDate;
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private void updateStepList() {
+    private void loadTasks(Date from, Date to) {
         TaskSearchCriteria criteria = new TaskSearchCriteria();
         criteria.setProjectid(new NumberSearchField(CurrentProjectVariables
                 .getProjectId()));
+        criteria.setScheduleRange(new RangeDateTimeSearchField(from, to));
         List<SimpleTask> taskList = taskService.findPagableListByCriteria(new SearchRequest<>(criteria, 0, Integer
                 .MAX_VALUE));
+        for (SimpleTask task : taskList) {
+            if (!loadedTasks.containsKey(task.getId())) {
+                loadedTasks.put(task.getId(), task);
+            }
+        }
+    }
+
+    private void updateStepList() {
+        if (loadedTasks == null) {
+            loadedTasks = new TreeMap<>();
+        }
+        loadVisibleTasks();
 
         gantt.removeSteps();
         stepMap = new LinkedHashMap<>();
 
 		/* Add steps */
-        if (!taskList.isEmpty()) {
-            for (SimpleTask task : taskList) {
+        if (!loadedTasks.isEmpty()) {
+            for (SimpleTask task : loadedTasks.values()) {
                 Date startDate = task.getStartdate();
                 Date endDate = task.getEnddate();
 
@@ -238,7 +283,9 @@ public class GanttChartViewImpl extends AbstractPageView implements
                 }
 
                 if (startDate != null) {
-                    if (startDate.after(gantt.getStartDate())) {
+                    if (startDate.after(gantt.getEndDate())) {
+                        continue;
+                    } else if (startDate.after(gantt.getStartDate())) {
                         endDate = getMinDate(gantt.getEndDate(), endDate);
                     } else {
                         if (endDate == null || endDate.before(gantt.getStartDate())) {
@@ -83,7 +83,7 @@ public class TaskAddPresenter extends AbstractPresenter<TaskAddView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.TASKS)) {
+                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT)) {
             TaskContainer taskContainer = (TaskContainer) container;
             taskContainer.navigateToContainer(ProjectTypeConstants.TASK);
             taskContainer.removeAllComponents();
@@ -150,7 +150,7 @@ class TaskDisplayComponent extends CssLayout {
                     }
                 });
         this.createTaskBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.TASKS));
+                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
         this.createTaskBtn.setIcon(FontAwesome.PLUS);
         this.createTaskBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
 
@@ -82,7 +82,7 @@ public class TaskGroupAddPresenter extends AbstractPresenter<TaskGroupAddView> {
     @Override
     protected void onGo(ComponentContainer container, ScreenData<?> data) {
         if (CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.TASKS)) {
+                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT)) {
             TaskContainer taskContainer = (TaskContainer) container;
             taskContainer.removeAllComponents();
 
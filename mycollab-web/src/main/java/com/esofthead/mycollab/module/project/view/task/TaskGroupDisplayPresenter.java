@@ -59,7 +59,7 @@ public class TaskGroupDisplayPresenter
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.TASKS)) {
+				.canRead(ProjectRolePermissionCollections.TASKS_SLOT)) {
 			ProjectBreadcrumb breadCrumb = ViewManager
 					.getCacheComponent(ProjectBreadcrumb.class);
 			breadCrumb.gotoTaskDashboard();
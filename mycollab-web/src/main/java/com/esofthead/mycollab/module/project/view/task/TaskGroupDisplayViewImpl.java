@@ -89,7 +89,7 @@ public class TaskGroupDisplayViewImpl extends AbstractLazyPageView implements Ta
                 AppContext.getMessage(TaskGroupI18nEnum.FILTER_ACTIVE_TASKS));
 
         this.taskSelection.setEnabled(CurrentProjectVariables
-                .canRead(ProjectRolePermissionCollections.TASKS));
+                .canRead(ProjectRolePermissionCollections.TASKS_SLOT));
         this.taskSelection.addStyleName("link");
         this.taskSelection.addStyleName("hdr-text");
 
@@ -173,7 +173,7 @@ public class TaskGroupDisplayViewImpl extends AbstractLazyPageView implements Ta
         this.taskGroupSelection = new PopupButton(
                 AppContext.getMessage(TaskGroupI18nEnum.FILTER_ACTIVE_TASK_GROUPS_TITLE));
         this.taskGroupSelection.setEnabled(CurrentProjectVariables
-                .canRead(ProjectRolePermissionCollections.TASKS));
+                .canRead(ProjectRolePermissionCollections.TASKS_SLOT));
         this.taskGroupSelection.addStyleName("link");
         this.taskGroupSelection.addStyleName("hdr-text");
         taskGroupSelection.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.TASK_LIST));
@@ -242,7 +242,7 @@ public class TaskGroupDisplayViewImpl extends AbstractLazyPageView implements Ta
                     }
                 });
         newTaskListBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.TASKS));
+                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
         newTaskListBtn.setIcon(FontAwesome.PLUS);
         newTaskListBtn.setDescription(AppContext
                 .getMessage(TaskI18nEnum.BUTTON_NEW_TASKGROUP));
@@ -260,7 +260,7 @@ public class TaskGroupDisplayViewImpl extends AbstractLazyPageView implements Ta
             }
         });
         reOrderBtn.setEnabled(CurrentProjectVariables
-                .canWrite(ProjectRolePermissionCollections.TASKS));
+                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
         reOrderBtn.setIcon(FontAwesome.SORT);
         reOrderBtn.setStyleName(UIConstants.THEME_BLUE_LINK);
         reOrderBtn.setDescription(AppContext
@@ -167,7 +167,7 @@ public class TaskGroupDisplayWidget extends
                     });
             readBtn.setIcon(FontAwesome.HACKER_NEWS);
             readBtn.setEnabled(CurrentProjectVariables
-                    .canRead(ProjectRolePermissionCollections.TASKS));
+                    .canRead(ProjectRolePermissionCollections.TASKS_SLOT));
             actionBtnLayout.addOption(readBtn);
 
             final Button editBtn = new Button(
@@ -185,7 +185,7 @@ public class TaskGroupDisplayWidget extends
                         }
                     });
             editBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.TASKS));
+                    .canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
             editBtn.setIcon(FontAwesome.EDIT);
             actionBtnLayout.addOption(editBtn);
 
@@ -213,7 +213,7 @@ public class TaskGroupDisplayWidget extends
                     });
             toogleBtn.setIcon(FontAwesome.TOGGLE_UP);
             toogleBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.TASKS));
+                    .canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
             actionBtnLayout.addOption(toogleBtn);
 
             final Button deleteBtn = new Button(
@@ -262,7 +262,7 @@ public class TaskGroupDisplayWidget extends
                     });
             deleteBtn.setIcon(FontAwesome.TRASH_O);
             deleteBtn.setEnabled(CurrentProjectVariables
-                    .canAccess(ProjectRolePermissionCollections.TASKS));
+                    .canAccess(ProjectRolePermissionCollections.TASKS_SLOT));
             actionBtnLayout.addOption(deleteBtn);
         }
 
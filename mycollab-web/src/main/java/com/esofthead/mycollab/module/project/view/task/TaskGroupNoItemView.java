@@ -82,7 +82,7 @@ public class TaskGroupNoItemView extends AbstractPageView {
 					}
 				});
 		createTaskGroupBtn.setEnabled(CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS));
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT));
 
 		HorizontalLayout links = new HorizontalLayout();
 
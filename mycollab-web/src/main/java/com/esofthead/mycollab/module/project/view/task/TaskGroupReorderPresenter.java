@@ -80,7 +80,7 @@ public class TaskGroupReorderPresenter extends
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS)) {
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT)) {
 			TaskContainer taskContainer = (TaskContainer) container;
 			taskContainer.removeAllComponents();
 
@@ -174,7 +174,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                         }
                     });
             editButton.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.TASKS));
+                    .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
             editButton.setIcon(FontAwesome.EDIT);
             filterBtnLayout.addOption(editButton);
 
@@ -202,7 +202,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                         });
                 closeBtn.setIcon(FontAwesome.CHECK_CIRCLE_O);
                 closeBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.TASKS));
+                        .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                 filterBtnLayout.addOption(closeBtn);
             } else {
                 Button reOpenBtn = new Button("ReOpen",
@@ -225,7 +225,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                         });
                 reOpenBtn.setIcon(FontAwesome.UNLOCK);
                 reOpenBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.TASKS));
+                        .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                 filterBtnLayout.addOption(reOpenBtn);
             }
 
@@ -252,7 +252,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                             });
                     pendingBtn.setIcon(FontAwesome.HDD_O);
                     pendingBtn.setEnabled(CurrentProjectVariables
-                            .canWrite(ProjectRolePermissionCollections.TASKS));
+                            .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                     filterBtnLayout.addOption(pendingBtn);
                 }
             } else {
@@ -277,7 +277,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                         });
                 reOpenBtn.setIcon(FontAwesome.UNLOCK);
                 reOpenBtn.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.TASKS));
+                        .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                 filterBtnLayout.addOption(reOpenBtn);
             }
 
@@ -317,7 +317,7 @@ public class TaskListDisplay extends DefaultBeanPagedList<ProjectTaskService, Ta
                         }
                     });
             deleteBtn.setIcon(FontAwesome.TRASH_O);
-            deleteBtn.setEnabled(CurrentProjectVariables.canAccess(ProjectRolePermissionCollections.TASKS));
+            deleteBtn.setEnabled(CurrentProjectVariables.canAccess(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
             filterBtnLayout.addOption(deleteBtn);
             return filterBtnLayout;
         }
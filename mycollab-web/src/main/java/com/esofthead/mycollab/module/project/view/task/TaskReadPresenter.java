@@ -182,7 +182,7 @@ public class TaskReadPresenter extends AbstractPresenter<TaskReadView> {
 	protected void onGo(final ComponentContainer container,
 			final ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.TASKS)) {
+				.canRead(ProjectRolePermissionCollections.TASKS_SLOT)) {
 			final TaskContainer taskContainer = (TaskContainer) container;
 			taskContainer.removeAllComponents();
 
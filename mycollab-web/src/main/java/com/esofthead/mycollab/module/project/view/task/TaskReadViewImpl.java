@@ -226,7 +226,7 @@ public class TaskReadViewImpl extends AbstractPreviewItemComp<SimpleTask>
         quickActionStatusBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         taskPreviewForm.insertToControlBlock(quickActionStatusBtn);
 
-        if (!CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.TASKS)) {
+        if (!CurrentProjectVariables.canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT)) {
             quickActionStatusBtn.setEnabled(false);
         }
 
@@ -413,7 +413,7 @@ public class TaskReadViewImpl extends AbstractPreviewItemComp<SimpleTask>
             addNewTaskBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
             addNewTaskBtn.setIcon(FontAwesome.PLUS);
             addNewTaskBtn.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.TASKS));
+                    .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
 
             contentLayout.addComponent(addNewTaskBtn);
 
@@ -439,7 +439,7 @@ public class TaskReadViewImpl extends AbstractPreviewItemComp<SimpleTask>
 
             final CheckBox checkBox = new CheckBox("", subTask.isCompleted());
             checkBox.setEnabled(CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.TASKS));
+                    .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
 
             final Label taskLink = new Label(buildTaskLink(subTask), ContentMode.HTML);
             if (subTask.isCompleted()) {
@@ -57,7 +57,7 @@ public class TaskSearchPresenter extends AbstractPresenter<TaskSearchView>
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
 		if (CurrentProjectVariables
-				.canRead(ProjectRolePermissionCollections.TASKS)) {
+				.canRead(ProjectRolePermissionCollections.TASKS_SLOT)) {
             ProjectBreadcrumb breadCrumb = ViewManager
                     .getCacheComponent(ProjectBreadcrumb.class);
             breadCrumb.gotoTaskSearch();
@@ -182,7 +182,7 @@ public class TaskTableDisplay extends
                             }
                         });
                 editButton.setEnabled(CurrentProjectVariables
-                        .canWrite(ProjectRolePermissionCollections.TASKS));
+                        .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                 editButton.setIcon(FontAwesome.EDIT);
                 filterBtnLayout.addOption(editButton);
 
@@ -212,7 +212,7 @@ public class TaskTableDisplay extends
                             });
                     closeBtn.setIcon(FontAwesome.CHECK_CIRCLE_O);
                     closeBtn.setEnabled(CurrentProjectVariables
-                            .canWrite(ProjectRolePermissionCollections.TASKS));
+                            .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                     filterBtnLayout.addOption(closeBtn);
                 } else {
                     Button reOpenBtn = new Button("ReOpen",
@@ -236,7 +236,7 @@ public class TaskTableDisplay extends
                             });
                     reOpenBtn.setIcon(FontAwesome.UNLOCK);
                     reOpenBtn.setEnabled(CurrentProjectVariables
-                            .canWrite(ProjectRolePermissionCollections.TASKS));
+                            .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                     filterBtnLayout.addOption(reOpenBtn);
                 }
 
@@ -264,7 +264,7 @@ public class TaskTableDisplay extends
                                 });
                         pendingBtn.setIcon(FontAwesome.HDD_O);
                         pendingBtn.setEnabled(CurrentProjectVariables
-                                .canWrite(ProjectRolePermissionCollections.TASKS));
+                                .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                         filterBtnLayout.addOption(pendingBtn);
                     }
                 } else {
@@ -290,7 +290,7 @@ public class TaskTableDisplay extends
                             });
                     reOpenBtn.setIcon(FontAwesome.UNLOCK);
                     reOpenBtn.setEnabled(CurrentProjectVariables
-                            .canWrite(ProjectRolePermissionCollections.TASKS));
+                            .canWrite(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                     filterBtnLayout.addOption(reOpenBtn);
                 }
 
@@ -336,7 +336,7 @@ public class TaskTableDisplay extends
                             }
                         });
                 deleteBtn.setIcon(FontAwesome.TRASH_O);
-                deleteBtn.setEnabled(CurrentProjectVariables.canAccess(ProjectRolePermissionCollections.TASKS));
+                deleteBtn.setEnabled(CurrentProjectVariables.canAccess(ProjectRolePermissionCollections.TASKS_SLOT_SLOT));
                 filterBtnLayout.addOption(deleteBtn);
 
                 taskSettingPopupBtn.setContent(filterBtnLayout);
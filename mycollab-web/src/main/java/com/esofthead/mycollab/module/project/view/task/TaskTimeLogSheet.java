@@ -76,7 +76,7 @@ public class TaskTimeLogSheet extends TimeLogComp<SimpleTask> {
 	@Override
 	protected boolean hasEditPermission() {
 		return CurrentProjectVariables
-				.canWrite(ProjectRolePermissionCollections.TASKS);
+				.canWrite(ProjectRolePermissionCollections.TASKS_SLOT);
 	}
 
 	@Override
@@ -147,7 +147,7 @@ public class TaskTimeLogSheet extends TimeLogComp<SimpleTask> {
 		@Override
 		protected boolean isEnableAdd() {
 			return CurrentProjectVariables
-					.canWrite(ProjectRolePermissionCollections.TASKS);
+					.canWrite(ProjectRolePermissionCollections.TASKS_SLOT);
 		}
 	}
 
@@ -60,7 +60,7 @@ public class ProjectDashboardPresenter extends
 
         if (data instanceof ProjectScreenData.Edit) {
             if (CurrentProjectVariables
-                    .canWrite(ProjectRolePermissionCollections.PROJECT)) {
+                    .canWrite(ProjectRolePermissionCollections.PROJECT_SLOT)) {
                 ProjectAddPresenter presenter = PresenterResolver
                         .getPresenter(ProjectAddPresenter.class);
                 presenter.go(view, data);
@@ -76,7 +76,7 @@ public class ProjectDashboardPresenter extends
             presenter.go(view, data);
         } else {
             if (CurrentProjectVariables
-                    .canRead(ProjectRolePermissionCollections.PROJECT)) {
+                    .canRead(ProjectRolePermissionCollections.PROJECT_SLOT)) {
                 ProjectSummaryPresenter presenter = PresenterResolver
                         .getPresenter(ProjectSummaryPresenter.class);
                 presenter.go(view, data);
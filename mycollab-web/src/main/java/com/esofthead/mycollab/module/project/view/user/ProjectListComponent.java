@@ -101,7 +101,7 @@ public class ProjectListComponent extends MVerticalLayout {
         headerPopupButton.setIcon(ProjectAssetsManager.getAsset(ProjectTypeConstants.PROJECT));
         headerBar.with(headerPopupButton).expand(headerPopupButton);
 
-        if (AppContext.canBeYes(RolePermissionCollections.CREATE_NEW_PROJECT)) {
+        if (AppContext.canBeYes(RolePermissionCollections.CREATE_NEW_PROJECT_SLOT_SLOT)) {
             final MButton createProjectBtn = new MButton("+",
                     new Button.ClickListener() {
                         private static final long serialVersionUID = 1L;
@@ -101,7 +101,7 @@ public class RoleAddPresenter extends AbstractPresenter<RoleAddView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canWrite(RolePermissionCollections.ACCOUNT_ROLE)) {
+		if (AppContext.canWrite(RolePermissionCollections.ACCOUNT_ROLE_SLOT_SLOT)) {
 			RoleContainer roleContainer = (RoleContainer) container;
 			roleContainer.removeAllComponents();
 			roleContainer.addComponent(view.getWidget());
@@ -117,7 +117,7 @@ public class RoleListPresenter extends
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.ACCOUNT_ROLE)) {
+		if (AppContext.canRead(RolePermissionCollections.ACCOUNT_ROLE_SLOT_SLOT)) {
 			RoleContainer roleContainer = (RoleContainer) container;
 			roleContainer.removeAllComponents();
 			roleContainer.addComponent(view.getWidget());
@@ -114,10 +114,10 @@ public class RoleListViewImpl extends AbstractPageView implements RoleListView {
 		final Button deleteBtn = new Button(
 				AppContext.getMessage(GenericI18Enum.BUTTON_DELETE));
 		deleteBtn.setEnabled(AppContext
-				.canAccess(RolePermissionCollections.ACCOUNT_ROLE));
+				.canAccess(RolePermissionCollections.ACCOUNT_ROLE_SLOT_SLOT));
 
 		this.tableActionControls = new DefaultMassItemActionHandlersContainer();
-		if (AppContext.canAccess(RolePermissionCollections.ACCOUNT_ROLE)) {
+		if (AppContext.canAccess(RolePermissionCollections.ACCOUNT_ROLE_SLOT_SLOT)) {
 			tableActionControls.addActionItem(
 					MassItemActionHandler.DELETE_ACTION, FontAwesome.TRASH_O,
 					"delete", AppContext
@@ -116,7 +116,7 @@ public class RoleReadPresenter extends AbstractPresenter<RoleReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.ACCOUNT_ROLE)) {
+		if (AppContext.canRead(RolePermissionCollections.ACCOUNT_ROLE_SLOT_SLOT)) {
 			RoleService roleService = ApplicationContextUtil
 					.getSpringBean(RoleService.class);
 			SimpleRole role = roleService.findById((Integer) data.getParams(),
@@ -73,7 +73,7 @@ public class RoleSearchPanel extends DefaultGenericSearchPanel<RoleSearchCriteri
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.ACCOUNT_ROLE));
+                .canWrite(RolePermissionCollections.ACCOUNT_ROLE_SLOT));
         this.addHeaderRight(createBtn);
     }
 
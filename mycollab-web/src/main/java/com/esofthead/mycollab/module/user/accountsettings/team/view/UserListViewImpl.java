@@ -79,7 +79,7 @@ public class UserListViewImpl extends AbstractPageView implements UserListView {
                     }
                 });
         createBtn.setEnabled(AppContext
-                .canWrite(RolePermissionCollections.ACCOUNT_USER));
+                .canWrite(RolePermissionCollections.ACCOUNT_USER_SLOT));
         createBtn.setStyleName(UIConstants.THEME_GREEN_LINK);
         createBtn.setIcon(FontAwesome.PLUS);
 
@@ -108,7 +108,7 @@ public class UserListViewImpl extends AbstractPageView implements UserListView {
 
         MHorizontalLayout layoutButtonDelete = new MHorizontalLayout().withWidth("100%");
         layoutButtonDelete.setVisible(AppContext
-                .canWrite(RolePermissionCollections.ACCOUNT_USER));
+                .canWrite(RolePermissionCollections.ACCOUNT_USER_SLOT));
 
         Button deleteBtn = new Button();
         deleteBtn.addClickListener(new Button.ClickListener() {
@@ -115,7 +115,7 @@ public class UserReadPresenter extends AbstractPresenter<UserReadView> {
 
 	@Override
 	protected void onGo(ComponentContainer container, ScreenData<?> data) {
-		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT)) {
+		if (AppContext.canRead(RolePermissionCollections.CRM_ACCOUNT_SLOT_SLOT)) {
 			String username = (String) data.getParams();
 
 			UserService userService = ApplicationContextUtil
@@ -125,6 +125,7 @@ public abstract class ExportItemsStreamResource implements StreamResource.Stream
 							new ShellEvent.NotifyErrorEvent(
 									ExportItemsStreamResource.this, e));
 				} finally {
+					closeReport();
 					try {
 						outStream.close();
 					} catch (IOException e) {
@@ -141,6 +142,13 @@ public abstract class ExportItemsStreamResource implements StreamResource.Stream
 
 	abstract protected void fillReport() throws Exception;
 
+	/**
+	 * Releases the report data source, it is called after the report is
+	 * exported or when the export fails.
+	 */
+	protected void closeReport() {
+	}
+
 	protected JasperReportBuilder createReport() {
 		JasperReportBuilder reportBuilder = report();
 		if (outputForm == ReportExportType.PDF) {
@@ -22,6 +22,7 @@ import com.esofthead.mycollab.common.domain.NullCustomViewStore;
 import com.esofthead.mycollab.common.service.CustomViewStoreService;
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
 import com.esofthead.mycollab.core.arguments.SearchRequest;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.utils.XStreamJsonDeSerializer;
 import com.esofthead.mycollab.spring.ApplicationContextUtil;
 import com.esofthead.mycollab.vaadin.AppContext;
@@ -250,6 +251,9 @@ public abstract class AbstractPagedBeanTable<S extends SearchCriteria, B>
 
 	protected void pageChange(final int currentPage) {
 		if (this.searchRequest != null) {
+			this.searchRequest
+					.setSeekCursor((currentPage == this.currentPage + 1) ? nextPageCursor()
+							: null);
 			this.currentPage = currentPage;
 			this.searchRequest.setCurrentPage(currentPage);
 			this.doSearch();
@@ -262,6 +266,29 @@ public abstract class AbstractPagedBeanTable<S extends SearchCriteria, B>
 		}
 	}
 
+	private SeekCursor nextPageCursor() {
+		if (this.currentListData == null || this.currentListData.isEmpty()) {
+			return null;
+		}
+
+		B lastItem = null;
+		for (B item : this.currentListData) {
+			lastItem = item;
+		}
+		return this.buildSeekCursor(lastItem);
+	}
+
+	/**
+	 * 
+	 * @param lastItem
+	 *            the last item of the current page
+	 * @return the cursor to query the next page by key, or null if the next
+	 *         page must be queried by offset
+	 */
+	protected SeekCursor buildSeekCursor(B lastItem) {
+		return null;
+	}
+
 	public void fireSelectItemEvent(final B item) {
 		if (this.selectableHandlers != null) {
 			for (final SelectableItemHandler<B> handler : this.selectableHandlers) {
@@ -412,6 +439,7 @@ public abstract class AbstractPagedBeanTable<S extends SearchCriteria, B>
 				/ this.searchRequest.getNumberOfItems() + 1;
 		if (this.searchRequest.getCurrentPage() > this.totalPage) {
 			this.searchRequest.setCurrentPage(this.totalPage);
+			this.searchRequest.setSeekCursor(null);
 		}
 
 		if (this.totalPage > 1) {
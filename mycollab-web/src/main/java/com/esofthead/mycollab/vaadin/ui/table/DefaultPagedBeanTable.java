@@ -18,6 +18,7 @@ package com.esofthead.mycollab.vaadin.ui.table;
 
 import com.esofthead.mycollab.common.TableViewField;
 import com.esofthead.mycollab.core.arguments.SearchCriteria;
+import com.esofthead.mycollab.core.arguments.SeekCursor;
 import com.esofthead.mycollab.core.persistence.service.ISearchableService;
 
 import java.util.List;
@@ -67,4 +68,10 @@ public class DefaultPagedBeanTable<SearchService extends ISearchableService<S>,
 		return searchService.findPagableListByCriteria(searchRequest);
 	}
 
+	@Override
+	protected SeekCursor buildSeekCursor(T lastItem) {
+		return searchService.buildSeekCursor(searchRequest.getSearchCriteria(),
+				lastItem);
+	}
+
 }